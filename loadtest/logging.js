@@ -0,0 +1,52 @@
+// 로깅 설정별 요청 지연 비교 (k6)
+//
+// 기본 설정(동기 파일 로그, show-sql, DEBUG/TRACE) 과 prod 프로필(비동기 appender, 요청 요약 한 줄) 의 응답 시간 차이를 잰다.
+//   1) 기본 프로필로 서버 실행 후
+//      k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<파트너 액세스 토큰> loadtest/logging.js
+//   2) SPRING_PROFILES_ACTIVE=prod 로 재기동 후 같은 명령 실행
+//   3) 두 결과의 http_req_duration p50/p95/p99, http_reqs(처리량) 비교
+//      서버 쪽은 logs/sinsaflower.log 크기 증가량(요청당 로그 바이트)과 /actuator/metrics/process.cpu.usage 확인
+//
+// 인증 필터(JWT 검증), JPA 조회(SQL 로그), 컨트롤러/서비스 로그를 모두 지나는 읽기 API 와
+// 인증 없이 호출되는 중복 확인 API 를 섞어 보낸다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const headers = { Authorization: `Bearer ${TOKEN}` };
+
+export const options = {
+  scenarios: {
+    my_orders: {
+      executor: 'constant-arrival-rate',
+      exec: 'myOrders',
+      rate: 300,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 100,
+      maxVUs: 500,
+    },
+    validation: {
+      executor: 'constant-arrival-rate',
+      exec: 'checkLoginId',
+      rate: 200,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 50,
+      maxVUs: 300,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function myOrders() {
+  const res = http.get(`${BASE_URL}/api/orders/my?page=0&size=20`, { headers });
+  check(res, { 'my orders 200': (r) => r.status === 200 });
+}
+
+export function checkLoginId() {
+  const res = http.get(`${BASE_URL}/api/members/validation/check-login-id/bench${__VU}x${__ITER}`);
+  check(res, { 'check login id 200': (r) => r.status === 200 });
+}
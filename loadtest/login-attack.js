@@ -0,0 +1,66 @@
+// 로그인 공격 모의 부하 테스트 (k6)
+//
+// 한 계정에 틀린 비밀번호로 계속 로그인하는 credential stuffing 을 흉내내어,
+// 로그인 잠금(login-attempt) 이 BCrypt 비교를 막아 서버 CPU 가 묶이지 않는지 확인한다.
+//   1) LOGIN_ATTEMPT_ENABLED=false (login-attempt.enabled=false) 로 서버 실행 후
+//      k6 run -e BASE_URL=http://localhost:8080 -e LOGIN_ID=<존재하는 로그인 ID> loadtest/login-attack.js
+//   2) 잠금을 켜고 재기동 후 같은 명령 실행
+//   3) 두 결과 비교
+//      - 서버: /actuator/metrics/process.cpu.usage, system.load.average.1m (잠금 시 공격 시작 직후 한 번 오른 뒤 평소 수준 유지)
+//      - 클라이언트: login_locked(429 비율), http_req_duration{scenario:normal_users} p95 (공격 중에도 일반 사용자 응답 유지)
+//      - 잠금 현황: GET /api/admin/login-lockouts (관리자 토큰)
+//
+// 같은 IP 에서 보내므로 IP 잠금도 함께 걸린다. 일반 사용자 시나리오는 NORMAL_LOGIN_ID/NORMAL_PASSWORD 로 지정하고,
+// IP 잠금에 걸리지 않도록 다른 클라이언트에서 실행하거나 max-failures-per-ip 를 높여서 실행한다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LOGIN_ID = __ENV.LOGIN_ID || 'partner123';
+const headers = { 'Content-Type': 'application/json' };
+
+const locked = new Rate('login_locked');
+
+export const options = {
+  scenarios: {
+    attack: {
+      executor: 'constant-arrival-rate',
+      exec: 'attack',
+      rate: 500,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+    },
+    normal_users: {
+      executor: 'constant-arrival-rate',
+      exec: 'normalLogin',
+      rate: 5,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 10,
+      maxVUs: 50,
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:normal_users}': ['p(95)<500'],
+  },
+};
+
+export function attack() {
+  const body = JSON.stringify({ loginId: LOGIN_ID, password: `wrong-${__VU}-${__ITER}` });
+  const res = http.post(`${BASE_URL}/api/auth/login`, body, { headers, tags: { scenario: 'attack' } });
+  locked.add(res.status === 429);
+  check(res, { 'attack rejected': (r) => r.status === 429 || r.status === 400 });
+}
+
+export function normalLogin() {
+  if (!__ENV.NORMAL_LOGIN_ID) {
+    return;
+  }
+  const body = JSON.stringify({ loginId: __ENV.NORMAL_LOGIN_ID, password: __ENV.NORMAL_PASSWORD });
+  const res = http.post(`${BASE_URL}/api/auth/login`, body, { headers });
+  check(res, { 'normal login 200': (r) => r.status === 200 });
+}
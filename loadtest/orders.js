@@ -0,0 +1,74 @@
+// 주문 API 부하 테스트 (k6)
+//
+// 플랫폼 스레드 / 가상 스레드 비교:
+//   1) VIRTUAL_THREADS_ENABLED=false 로 서버 실행 후
+//      k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<파트너 액세스 토큰> loadtest/orders.js
+//   2) VIRTUAL_THREADS_ENABLED=true 로 재기동 후 같은 명령 실행
+//   3) 두 결과의 http_req_duration p95/p99, http_reqs(처리량), http_req_failed(503 포함) 비교
+//      서버 쪽은 /actuator/metrics/hikaricp.connections.pending, db.concurrency.waiting 확인
+//
+// REGION_ID, PRODUCT_ID 는 테스트 DB에 있는 값으로 지정
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const headers = { Authorization: `Bearer ${TOKEN}` };
+
+export const options = {
+  scenarios: {
+    my_orders: {
+      executor: 'ramping-vus',
+      exec: 'myOrders',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: 200 },
+        { duration: '1m', target: 600 },
+        { duration: '30s', target: 0 },
+      ],
+    },
+    create_order: {
+      executor: 'constant-arrival-rate',
+      exec: 'createOrder',
+      rate: 50,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 100,
+      maxVUs: 400,
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:my_orders}': ['p(95)<500'],
+    'http_req_duration{scenario:create_order}': ['p(95)<1000'],
+  },
+};
+
+export function myOrders() {
+  const res = http.get(`${BASE_URL}/api/orders/my?page=0&size=20`, { headers });
+  check(res, { 'my orders 200': (r) => r.status === 200 });
+}
+
+export function createOrder() {
+  const deliveryDate = new Date(Date.now() + 3 * 24 * 60 * 60 * 1000).toISOString().slice(0, 10);
+  const orderData = {
+    shopName: '부하테스트',
+    phone: '010-0000-0000',
+    productName: '근조화환',
+    quantity: 1,
+    price: 100000,
+    payment: 100000,
+    orderCustomerName: '테스트',
+    orderCustomerMobile: '010-0000-0000',
+    receiverName: '수령자',
+    deliveryDate,
+    deliveryPlace: '서울 테스트장례식장',
+    regionId: __ENV.REGION_ID ? Number(__ENV.REGION_ID) : null,
+    productId: __ENV.PRODUCT_ID ? Number(__ENV.PRODUCT_ID) : null,
+  };
+  const body = {
+    orderData: http.file(JSON.stringify(orderData), 'orderData.json', 'application/json'),
+  };
+  const res = http.post(`${BASE_URL}/api/orders`, body, { headers });
+  check(res, { 'create order 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
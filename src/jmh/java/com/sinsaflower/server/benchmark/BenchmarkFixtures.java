@@ -0,0 +1,61 @@
+package com.sinsaflower.server.benchmark;
+
+import com.sinsaflower.server.domain.delivery.entity.Region;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.OrderMessage;
+import com.sinsaflower.server.domain.order.entity.OrderOption;
+import com.sinsaflower.server.domain.order.entity.OrderSender;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 주문 데이터 (옵션 2, 메시지 2, 발송자 1, 같은 지역 공유)
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static List<Order> orders(int count) {
+        Region region = Region.builder().id(1L).sido("강원").sigungu("속초시").zipcode("217").isActive(true).build();
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Order order = Order.builder()
+                    .id((long) i)
+                    .orderNumber(String.format("%06d", i))
+                    .region(region)
+                    .shopName("다경플라워")
+                    .phone("010-1234-5678")
+                    .productName("근조3단")
+                    .quantity(1)
+                    .price(new BigDecimal("100000"))
+                    .payment(new BigDecimal("100000"))
+                    .orderCustomerName("주문자")
+                    .orderCustomerMobile("010-0000-0000")
+                    .receiverName("고인 OOO")
+                    .deliveryDate(LocalDate.of(2025, 7, 31))
+                    .deliveryHours("14")
+                    .deliveryMinutes("30")
+                    .deliveryPlace("강릉시 사천면 방동길 38")
+                    .orderStatus(Order.OrderStatus.CONFIRMED)
+                    .build();
+            order.setCreatedAt(LocalDateTime.of(2025, 7, 22, 18, 43));
+            order.setUpdatedAt(order.getCreatedAt());
+            for (int j = 0; j < 2; j++) {
+                order.getOrderOptions().add(OrderOption.builder().id((long) j).order(order)
+                        .optionName("리본").checked(true).price(new BigDecimal("5000")).build());
+                order.getOrderMessages().add(OrderMessage.builder().id((long) j).order(order)
+                        .text("삼가 고인의 명복을 빕니다").sortOrder(j).build());
+            }
+            order.getOrderSenders().add(OrderSender.builder().id(1L).order(order)
+                    .name("홍길동").sortOrder(0).isMain(true).build());
+            orders.add(order);
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,98 @@
+package com.sinsaflower.server.benchmark;
+
+import com.sinsaflower.server.domain.dispatch.service.DispatchIndex;
+import com.sinsaflower.server.domain.dispatch.service.DispatchPolicy;
+import com.sinsaflower.server.domain.dispatch.service.DispatchQuery;
+import com.sinsaflower.server.domain.member.entity.MemberRank;
+import com.sinsaflower.server.global.config.DispatchProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문-파트너 배정 벤치마크
+ * 파트너 1만 명이 시/군/구 200곳 중 5곳에서 카테고리 10종의 가격을 가진 색인을 만들고
+ * 단건 후보 조회(상위 5개)와 주문 5만 건 일괄 배정 시간을 잰다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DispatchBenchmark {
+
+    private static final int PARTNERS = 10_000;
+    private static final int ORDERS = 50_000;
+    private static final int REGIONS = 200;
+    private static final int REGIONS_PER_PARTNER = 5;
+    private static final int CATEGORIES = 10;
+    private static final MemberRank[] RANKS = MemberRank.values();
+
+    private DispatchIndex index;
+    private DispatchPolicy policy;
+    private List<DispatchQuery> orders;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        DispatchIndex.Builder builder = DispatchIndex.builder();
+        for (long memberId = 1; memberId <= PARTNERS; memberId++) {
+            boolean night = random.nextInt(4) == 0;
+            LocalTime start = random.nextBoolean() ? LocalTime.of(8 + random.nextInt(3), 0) : null;
+            LocalTime end = start == null ? null : LocalTime.of(18 + random.nextInt(5), 0);
+            builder.partner(memberId, RANKS[random.nextInt(RANKS.length)], night, start, end);
+        }
+        for (long memberId = 1; memberId <= PARTNERS; memberId++) {
+            for (int r = 0; r < REGIONS_PER_PARTNER; r++) {
+                int region = random.nextInt(REGIONS);
+                builder.activityRegion(memberId, sido(region), sigungu(region));
+                for (int category = 0; category < CATEGORIES; category++) {
+                    builder.price(memberId, sido(region), sigungu(region), category(category), 30 + random.nextInt(70));
+                }
+            }
+        }
+        index = builder.build();
+        policy = DispatchPolicy.from(new DispatchProperties());
+
+        orders = new ArrayList<>(ORDERS);
+        for (long orderId = 1; orderId <= ORDERS; orderId++) {
+            int region = random.nextInt(REGIONS);
+            orders.add(new DispatchQuery(orderId, sido(region), sigungu(region),
+                    category(random.nextInt(CATEGORIES)), random.nextInt(24 * 60)));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Object topCandidates() {
+        DispatchQuery query = orders.get(cursor++ % ORDERS);
+        return index.topCandidates(query, 5, policy, partner -> 0);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object assignBatch() {
+        return index.assign(orders, 20, policy, new int[index.size()]);
+    }
+
+    private static String sido(int region) {
+        return "시도" + region / 20;
+    }
+
+    private static String sigungu(int region) {
+        return "시군구" + region;
+    }
+
+    private static String category(int category) {
+        return "카테고리" + category;
+    }
+}
@@ -0,0 +1,104 @@
+package com.sinsaflower.server.benchmark;
+
+import com.sinsaflower.server.domain.order.dto.OrderListResponse;
+import com.sinsaflower.server.domain.order.dto.OrderResponse;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.OrderOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 응답 변환 벤치마크 (100건 페이지 기준, 결과는 행 단위)
+ * legacy* 는 변경 전 변환 방식(DateTimeFormatter.ofPattern, String.format, stream)을 그대로 옮긴 기준값이다.
+ * 비교 지표: gc.alloc.rate.norm (행당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMappingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private List<Order> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orders = BenchmarkFixtures.orders(PAGE_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void listResponse(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(OrderListResponse.from(order));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void legacyListResponse(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(LegacyMapping.listFields(order));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void orderResponse(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(OrderResponse.from(order));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void legacyOrderResponse(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(LegacyMapping.detailFields(order));
+        }
+    }
+
+    /**
+     * 변경 전 변환 코드의 할당 패턴 (응답 객체 자체는 동일하므로 달라진 부분만 재현)
+     */
+    static final class LegacyMapping {
+
+        static Object[] listFields(Order order) {
+            return new Object[]{
+                    OrderListResponse.builder().build(),
+                    order.getCreatedAt().toLocalDate().format(DateTimeFormatter.ofPattern("yy-MM-dd")),
+                    order.getCreatedAt().format(DateTimeFormatter.ofPattern("HH:mm")),
+                    order.getDeliveryDate().format(DateTimeFormatter.ofPattern("yy-MM-dd")),
+                    String.format("%s:%s", order.getDeliveryHours(), order.getDeliveryMinutes())
+            };
+        }
+
+        static Object[] detailFields(Order order) {
+            BigDecimal optionTotal = order.getOrderOptions().stream()
+                    .filter(OrderOption::getChecked)
+                    .map(OrderOption::getPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            return new Object[]{
+                    OrderResponse.builder().build(),
+                    order.getOrderOptions().stream().map(OrderResponse.OrderOptionResponse::from).toList(),
+                    order.getOrderMessages().stream().map(OrderResponse.OrderMessageResponse::from).toList(),
+                    order.getOrderSenders().stream().map(OrderResponse.OrderSenderResponse::from).toList(),
+                    order.getPayment().add(optionTotal),
+                    order.getRegion().getSido() + " " + order.getRegion().getSigungu()
+            };
+        }
+    }
+}
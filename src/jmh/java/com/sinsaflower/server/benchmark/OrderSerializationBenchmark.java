@@ -0,0 +1,101 @@
+package com.sinsaflower.server.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.sinsaflower.server.domain.order.dto.OrderResponse;
+import com.sinsaflower.server.global.dto.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100건 주문 페이지 직렬화 벤치마크 (처리량)
+ * 응답 크기(bytes on the wire)는 Setup 에서 형식별로 한 번 출력한다.
+ * 출력은 실제 응답처럼 스트림에 바로 쓰고 버린다(중간 byte[]/String 없음).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final long TOTAL_ELEMENTS = 5000;
+
+    private ObjectMapper reflectiveJson;
+    private ObjectMapper blackbirdJson;
+    private ObjectMapper blackbirdSmile;
+    private ObjectMapper blackbirdCbor;
+
+    private ApiResponse<PageImpl<OrderResponse>> rawPage;
+    private ApiResponse<PagedModel<OrderResponse>> compactPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<OrderResponse> content = BenchmarkFixtures.orders(PAGE_SIZE).stream().map(OrderResponse::from).toList();
+        PageImpl<OrderResponse> page = new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), TOTAL_ELEMENTS);
+        rawPage = ApiResponse.success(page);
+        compactPage = ApiResponse.success(new PagedModel<>(page));
+
+        reflectiveJson = mapper(new ObjectMapper(), false);
+        blackbirdJson = mapper(new ObjectMapper(), true);
+        blackbirdSmile = mapper(new ObjectMapper(new SmileFactory()), true);
+        blackbirdCbor = mapper(new ObjectMapper(new CBORFactory()), true);
+
+        System.out.printf("%n[bytes] raw page json=%d, compact json=%d, compact smile=%d, compact cbor=%d%n",
+                reflectiveJson.writeValueAsBytes(rawPage).length,
+                blackbirdJson.writeValueAsBytes(compactPage).length,
+                blackbirdSmile.writeValueAsBytes(compactPage).length,
+                blackbirdCbor.writeValueAsBytes(compactPage).length);
+    }
+
+    @Benchmark
+    public void rawPageReflectiveJson() throws IOException {
+        reflectiveJson.writeValue(OutputStream.nullOutputStream(), rawPage);
+    }
+
+    @Benchmark
+    public void compactPageReflectiveJson() throws IOException {
+        reflectiveJson.writeValue(OutputStream.nullOutputStream(), compactPage);
+    }
+
+    @Benchmark
+    public void compactPageBlackbirdJson() throws IOException {
+        blackbirdJson.writeValue(OutputStream.nullOutputStream(), compactPage);
+    }
+
+    @Benchmark
+    public void compactPageBlackbirdSmile() throws IOException {
+        blackbirdSmile.writeValue(OutputStream.nullOutputStream(), compactPage);
+    }
+
+    @Benchmark
+    public void compactPageBlackbirdCbor() throws IOException {
+        blackbirdCbor.writeValue(OutputStream.nullOutputStream(), compactPage);
+    }
+
+    private static ObjectMapper mapper(ObjectMapper mapper, boolean blackbird) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (blackbird) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        return mapper;
+    }
+}
@@ -0,0 +1,91 @@
+package com.sinsaflower.server.benchmark;
+
+import com.sinsaflower.server.domain.order.service.OrderPartitionService;
+import com.sinsaflower.server.domain.settlement.service.SettlementEngine;
+import com.sinsaflower.server.global.config.OrderPartitionProperties;
+import com.sinsaflower.server.global.config.SettlementProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월 정산 벤치마크 (1회 실행 시간)
+ * H2 인메모리 DB에 회원 2,000명, 한 달 배송완료 주문 100만 건을 만들고 전체 정산을 실행한다.
+ * 실제 PostgreSQL 보다 I/O 비용이 없으므로 집계/기록 경로의 CPU 비용과 parallelism 효과를 비교하는 용도.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SettlementBenchmark {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 1);
+    private static final int MEMBERS = 2_000;
+    private static final int ORDERS = 1_000_000;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private JdbcTemplate jdbcTemplate;
+    private SettlementEngine settlementEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:settlement_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE TABLE member (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE member_business_profile (id BIGINT PRIMARY KEY, member_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE member_bank_account (id BIGINT PRIMARY KEY, business_profile_id BIGINT, " +
+                "bank_name VARCHAR(50), account_number VARCHAR(50), account_owner VARCHAR(50), " +
+                "is_primary BOOLEAN, is_active BOOLEAN)");
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, member_id BIGINT, payment NUMERIC(10, 0), " +
+                "origin_price NUMERIC(10, 0), price NUMERIC(10, 0), delivery_date DATE, order_status VARCHAR(20), " +
+                "is_deleted BOOLEAN, created_at TIMESTAMP(6))");
+        // 운영의 idx_orders_settlement 대응 (H2 는 부분 인덱스 미지원)
+        jdbcTemplate.execute("CREATE INDEX idx_orders_settlement ON orders (member_id, delivery_date)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V8__settlement_tables.sql"))
+                .execute(dataSource);
+
+        jdbcTemplate.update("INSERT INTO member SELECT X FROM SYSTEM_RANGE(1, " + MEMBERS + ")");
+        jdbcTemplate.update("INSERT INTO member_business_profile SELECT X, X FROM SYSTEM_RANGE(1, " + MEMBERS + ")");
+        jdbcTemplate.update("INSERT INTO member_bank_account SELECT X, X, '국민은행', '123-456-' || X, '예금주', true, true " +
+                "FROM SYSTEM_RANGE(1, " + MEMBERS + ")");
+        jdbcTemplate.update("INSERT INTO orders SELECT X, MOD(X, " + MEMBERS + ") + 1, 50000 + MOD(X, 20) * 1000, " +
+                "CASE WHEN MOD(X, 4) = 0 THEN NULL ELSE 40000 END, 45000, " +
+                "DATEADD('DAY', MOD(X, 31), DATE '2024-01-01'), 'DELIVERED', false, TIMESTAMP '2023-12-01 10:00:00' " +
+                "FROM SYSTEM_RANGE(1, " + ORDERS + ")");
+
+        SettlementProperties properties = new SettlementProperties();
+        properties.setParallelism(parallelism);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        settlementEngine = new SettlementEngine(jdbcTemplate, transactionManager, properties,
+                new OrderPartitionService(jdbcTemplate, transactionManager, new OrderPartitionProperties()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Benchmark
+    public void settleMonth() {
+        // 매 실행마다 기존 결과를 지우고 처음부터 정산
+        settlementEngine.execute(MONTH, settlementEngine.prepare(MONTH, true).getAsLong());
+    }
+}
@@ -53,7 +53,7 @@ public class AdminController {
     })
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<AdminResponse>> getMyInfo(
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("관리자 정보 조회 요청: {} (ID: {})", currentUser.getUsername(), currentUser.getUserId());
+        log.debug("관리자 정보 조회 요청: {} (ID: {})", currentUser.getUsername(), currentUser.getUserId());
         
         Optional<AdminResponse> response = adminService.findById(currentUser.getUserId());
         if (response.isPresent()) {
@@ -78,7 +78,7 @@ public class AdminController {
     })
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<List<MemberResponse>>> getPendingMembers(
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("승인 대기 중인 멤버 목록 조회 요청 by {} (ID: {})", currentUser.getUsername(), currentUser.getUserId());
+        log.debug("승인 대기 중인 멤버 목록 조회 요청 by {} (ID: {})", currentUser.getUsername(), currentUser.getUserId());
         
         List<MemberResponse> pendingMembers = memberService.getPendingMembers();
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("승인 대기 중인 멤버 목록 조회가 완료되었습니다.", pendingMembers));
@@ -100,7 +100,7 @@ public class AdminController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<MemberResponse>> approveMember(
             @Parameter(description = "멤버 ID", required = true) @PathVariable Long memberId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("멤버 승인 요청 - 멤버: {} by {} (ID: {})", memberId, currentUser.getUsername(), currentUser.getUserId());
+        log.debug("멤버 승인 요청 - 멤버: {} by {} (ID: {})", memberId, currentUser.getUsername(), currentUser.getUserId());
         
         MemberResponse response = adminService.approveMember(memberId);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("멤버 승인이 완료되었습니다.", response));
@@ -129,7 +129,7 @@ public class AdminController {
                 """) 
             Map<String, String> request,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("멤버 거부 요청 - 멤버: {} by {} (ID: {})", memberId, currentUser.getUsername(), currentUser.getUserId());
+        log.debug("멤버 거부 요청 - 멤버: {} by {} (ID: {})", memberId, currentUser.getUsername(), currentUser.getUserId());
         
         String reason = request.get("reason");
         if (reason == null || reason.trim().isEmpty()) {
@@ -163,7 +163,7 @@ public class AdminController {
                 }
                 """) 
             Map<String, String> request) {
-        log.info("초기 관리자 생성 요청");
+        log.debug("초기 관리자 생성 요청");
         
         String loginId = request.get("loginId");
         String password = request.get("password");
@@ -187,7 +187,7 @@ public class AdminController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Page<MemberResponse>>> getAllMembers(
             Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("모든 회원 조회 요청 by admin: {}", currentUser.getUsername());
+        log.debug("모든 회원 조회 요청 by admin: {}", currentUser.getUsername());
         
         Page<MemberResponse> response = memberService.getAllActiveMembers(pageable);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 목록 조회가 완료되었습니다.", response));
@@ -202,7 +202,7 @@ public class AdminController {
             @PathVariable MemberStatus status,
             Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("상태별 회원 조회 요청: {} by admin: {}", status, currentUser.getUsername());
+        log.debug("상태별 회원 조회 요청: {} by admin: {}", status, currentUser.getUsername());
         
         Page<MemberResponse> response = memberService.getMembersByStatus(status, pageable);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 목록 조회가 완료되었습니다.", response));
@@ -217,7 +217,7 @@ public class AdminController {
             @RequestParam String name,
             Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("회원 검색 요청: {} by admin: {}", name, currentUser.getUsername());
+        log.debug("회원 검색 요청: {} by admin: {}", name, currentUser.getUsername());
         
         Page<MemberResponse> response = memberService.searchMembersByName(name, pageable);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 검색이 완료되었습니다.", response));
@@ -231,7 +231,7 @@ public class AdminController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<MemberResponse>> suspendMember(
             @PathVariable Long memberId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("회원 정지 요청: {} by admin: {}", memberId, currentUser.getUsername());
+        log.debug("회원 정지 요청: {} by admin: {}", memberId, currentUser.getUsername());
         
         MemberResponse response = adminService.suspendMember(memberId);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 정지가 완료되었습니다.", response));
@@ -245,7 +245,7 @@ public class AdminController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<MemberResponse>> unsuspendMember(
             @PathVariable Long memberId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("회원 정지 해제 요청: {} by admin: {}", memberId, currentUser.getUsername());
+        log.debug("회원 정지 해제 요청: {} by admin: {}", memberId, currentUser.getUsername());
         
         MemberResponse response = adminService.unsuspendMember(memberId);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 정지 해제가 완료되었습니다.", response));
@@ -259,7 +259,7 @@ public class AdminController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Void>> deleteMember(
             @PathVariable Long memberId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("회원 삭제 요청: {} by admin: {}", memberId, currentUser.getUsername());
+        log.debug("회원 삭제 요청: {} by admin: {}", memberId, currentUser.getUsername());
         
         adminService.deleteMember(memberId, currentUser.getUsername());
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 삭제가 완료되었습니다."));
@@ -272,7 +272,7 @@ public class AdminController {
     @Operation(summary = "회원 통계 조회", description = "관리자가 회원 통계를 조회합니다.")
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Map<String, Long>>> getMemberStatistics(
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("회원 통계 조회 요청 by admin: {}", currentUser.getUsername());
+        log.debug("회원 통계 조회 요청 by admin: {}", currentUser.getUsername());
         
         Map<String, Long> statistics = adminService.getMemberStatistics();
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success("회원 통계 조회가 완료되었습니다.", statistics));
@@ -0,0 +1,41 @@
+package com.sinsaflower.server.domain.admin.controller;
+
+import com.sinsaflower.server.domain.admin.dto.DashboardResponse;
+import com.sinsaflower.server.domain.admin.service.DashboardAggregator;
+import com.sinsaflower.server.global.dto.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자 대시보드 컨트롤러
+ * 회원/관리자/주문 집계를 한 번에 제공
+ */
+@RestController
+@RequestMapping("/api/admin/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "대시보드 (관리자)", description = "관리자 대시보드 집계 API")
+public class DashboardController {
+
+    private final DashboardAggregator dashboardAggregator;
+
+    /**
+     * 대시보드 집계 조회
+     */
+    @GetMapping
+    @Operation(summary = "대시보드 집계 조회",
+               description = "회원/관리자/주문 통계를 동시에 집계해 반환합니다. 일부 항목이 실패하면 partial=true 와 failedMetrics 로 표시합니다.")
+    public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard() {
+        DashboardResponse dashboard = dashboardAggregator.getDashboard();
+        String message = dashboard.isPartial()
+                ? "대시보드 집계가 일부 항목을 제외하고 완료되었습니다."
+                : "대시보드 집계가 성공적으로 완료되었습니다.";
+        return ResponseEntity.ok(ApiResponse.success(message, dashboard));
+    }
+}
@@ -0,0 +1,57 @@
+package com.sinsaflower.server.domain.admin.controller;
+
+import com.sinsaflower.server.domain.admin.dto.LoginLockoutResponse;
+import com.sinsaflower.server.global.dto.ApiResponse;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.sinsaflower.server.global.security.LoginAttemptTracker;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 로그인 잠금 관리 컨트롤러
+ * 로그인 실패가 반복돼 잠긴 로그인 ID/IP 조회와 수동 해제 (서버별 메모리 상태이므로 요청을 받은 서버 기준)
+ */
+@RestController
+@RequestMapping("/api/admin/login-lockouts")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "로그인 잠금 (관리자)", description = "로그인 실패 잠금 현황 조회/해제 API")
+public class LoginLockoutController {
+
+    private final LoginAttemptTracker loginAttemptTracker;
+
+    /**
+     * 잠금 현황 조회
+     */
+    @GetMapping
+    @Operation(summary = "로그인 잠금 현황 조회", description = "잠겼거나 최근 로그인 실패가 있는 로그인 ID/IP 와 추적 상태 요약을 조회합니다.")
+    public ResponseEntity<ApiResponse<LoginLockoutResponse>> getLockouts(
+            @Parameter(description = "최대 항목 수", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        LoginLockoutResponse response = new LoginLockoutResponse(
+                loginAttemptTracker.getSummary(), loginAttemptTracker.getLockouts(Math.min(limit, 1000)));
+        return ResponseEntity.ok(ApiResponse.success("로그인 잠금 현황 조회가 완료되었습니다.", response));
+    }
+
+    /**
+     * 잠금 해제
+     */
+    @DeleteMapping
+    @Operation(summary = "로그인 잠금 해제", description = "로그인 ID 또는 IP 의 실패 기록과 잠금을 삭제합니다.")
+    public ResponseEntity<ApiResponse<Integer>> unlock(
+            @Parameter(description = "로그인 ID", example = "partner123") @RequestParam(required = false) String loginId,
+            @Parameter(description = "클라이언트 IP", example = "203.0.113.10") @RequestParam(required = false) String ip) {
+        if (loginId == null && ip == null) {
+            throw new InvalidRequestException("로그인 ID 또는 IP 중 하나는 필수입니다.");
+        }
+        int removed = loginAttemptTracker.unlock(loginId, ip);
+        return ResponseEntity.ok(ApiResponse.success("로그인 잠금 해제가 완료되었습니다.", removed));
+    }
+}
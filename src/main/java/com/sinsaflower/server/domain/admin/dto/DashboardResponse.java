@@ -0,0 +1,23 @@
+package com.sinsaflower.server.domain.admin.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponse {
+
+    private Map<String, Long> members;      // 회원 수 (pending, active, suspended, total)
+    private Map<String, Long> admins;       // 관리자 수 (active, inactive, suspended)
+    private Map<String, Long> orders;       // 주문 수 (상태별, todayDelivery)
+    private List<String> failedMetrics;     // 실패/시간 초과 항목 (section.key), 해당 값은 null
+    private boolean partial;                // 일부 항목 실패 여부
+    private LocalDateTime generatedAt;      // 집계 시각
+    private long elapsedMillis;             // 집계 소요 시간 (ms)
+}
@@ -0,0 +1,16 @@
+package com.sinsaflower.server.domain.admin.dto;
+
+import com.sinsaflower.server.global.security.LoginAttemptTracker.Lockout;
+import com.sinsaflower.server.global.security.LoginAttemptTracker.Summary;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 로그인 잠금 현황
+ */
+@Schema(description = "로그인 잠금 현황")
+public record LoginLockoutResponse(
+        @Schema(description = "추적 항목 수, 잠금으로 거절한 시도 수, 항목 수 상한으로 내보낸 항목 수") Summary summary,
+        @Schema(description = "잠겼거나 최근 실패가 있는 로그인 ID/IP (잠금, 실패 수 많은 순)") List<Lockout> lockouts) {
+}
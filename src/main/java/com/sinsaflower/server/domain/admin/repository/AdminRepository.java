@@ -17,6 +17,9 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
 
     // 기본 조회
     Optional<Admin> findByLoginId(String loginId);
+
+    // 삭제되지 않은 관리자 조회
+    Optional<Admin> findByIdAndIsDeletedFalse(Long id);
     
     // 활성 관리자만 조회
     Optional<Admin> findByLoginIdAndStatus(String loginId, AdminStatus status);
@@ -10,13 +10,18 @@ import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
 import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
 import com.sinsaflower.server.domain.member.repository.MemberRepository;
 import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.global.exception.ConcurrentUpdateException;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
 import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import com.sinsaflower.server.global.security.AccountStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,12 +36,13 @@ public class AdminService {
     private final MemberRepository memberRepository;
     private final MemberBusinessProfileRepository memberBusinessProfileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 관리자 로그인
      */
     public Optional<AdminResponse> login(AdminLoginRequest request) {
-        log.info("관리자 로그인 시도: {}", request.getLoginId());
+        log.debug("관리자 로그인 시도: {}", request.getLoginId());
         
         Optional<Admin> adminOpt = adminRepository.findByLoginIdAndStatus(
             request.getLoginId(), Admin.AdminStatus.ACTIVE);
@@ -72,8 +78,7 @@ public class AdminService {
      * 관리자 정보 조회
      */
     public Optional<AdminResponse> findById(Long adminId) {
-        return adminRepository.findById(adminId)
-            .filter(admin -> !admin.getIsDeleted())
+        return adminRepository.findByIdAndIsDeletedFalse(adminId)
             .map(AdminResponse::from);
     }
 
@@ -91,7 +96,7 @@ public class AdminService {
      */
     @Transactional
     public AdminResponse createAdmin(String loginId, String password, String name, String role) {
-        log.info("관리자 생성 요청: {}", loginId);
+        log.debug("관리자 생성 요청: {}", loginId);
 
         // 중복 확인
         if (adminRepository.existsByLoginId(loginId)) {
@@ -117,14 +122,14 @@ public class AdminService {
      */
     @Transactional
     public AdminResponse updateAdminStatus(Long adminId, Admin.AdminStatus status) {
-        log.info("관리자 상태 변경 요청: {} -> {}", adminId, status);
+        log.debug("관리자 상태 변경 요청: {} -> {}", adminId, status);
 
-        Admin admin = adminRepository.findById(adminId)
-            .filter(a -> !a.getIsDeleted())
+        Admin admin = adminRepository.findByIdAndIsDeletedFalse(adminId)
             .orElseThrow(() -> new IllegalArgumentException("관리자를 찾을 수 없습니다: " + adminId));
 
         admin.setStatus(status);
         Admin updatedAdmin = adminRepository.save(admin);
+        eventPublisher.publishEvent(AccountStatusChangedEvent.admin(adminId));
 
         log.info("관리자 상태 변경 완료: {} -> {}", adminId, status);
         return AdminResponse.from(updatedAdmin);
@@ -135,14 +140,14 @@ public class AdminService {
      */
     @Transactional
     public void deleteAdmin(Long adminId, String deletedBy) {
-        log.info("관리자 삭제 요청: {} by {}", adminId, deletedBy);
+        log.debug("관리자 삭제 요청: {} by {}", adminId, deletedBy);
 
-        Admin admin = adminRepository.findById(adminId)
-            .filter(a -> !a.getIsDeleted())
+        Admin admin = adminRepository.findByIdAndIsDeletedFalse(adminId)
             .orElseThrow(() -> new IllegalArgumentException("관리자를 찾을 수 없습니다: " + adminId));
 
         admin.softDelete(deletedBy);
         adminRepository.save(admin);
+        eventPublisher.publishEvent(AccountStatusChangedEvent.admin(adminId));
 
         log.info("관리자 삭제 완료: {}", adminId);
     }
@@ -163,7 +168,7 @@ public class AdminService {
      */
     @Transactional
     public MemberResponse approveMember(Long memberId) {
-        log.info("멤버 승인 처리 시작: {}", memberId);
+        log.debug("멤버 승인 처리 시작: {}", memberId);
 
         // 멤버 조회
         Member member = memberRepository.findById(memberId)
@@ -177,6 +182,7 @@ public class AdminService {
             .orElseThrow(() -> new IllegalArgumentException("멤버 상세 정보를 찾을 수 없습니다."));
 
         businessProfile.approve("관리자"); // 관리자 1명이므로 고정값
+        eventPublisher.publishEvent(AccountStatusChangedEvent.partner(memberId));
 
         log.info("멤버 승인 처리 완료: {}", member.getLoginId());
         return MemberResponse.from(member);
@@ -187,7 +193,7 @@ public class AdminService {
      */
     @Transactional
     public MemberResponse rejectMember(Long memberId, String reason) {
-        log.info("멤버 승인 거부 처리 시작: {}", memberId);
+        log.debug("멤버 승인 거부 처리 시작: {}", memberId);
 
         // 멤버 조회
         Member member = memberRepository.findById(memberId)
@@ -237,14 +243,11 @@ public class AdminService {
      */
     @Transactional
     public MemberResponse suspendMember(Long memberId) {
-        log.info("회원 정지 요청: {}", memberId);
+        log.debug("회원 정지 요청: {}", memberId);
 
-        Member member = memberRepository.findById(memberId)
-                .filter(m -> !m.getIsDeleted())
-                .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다: " + memberId));
-
-        member.suspend();
-        Member suspendedMember = memberRepository.save(member);
+        transitionMemberStatus(memberId, MemberStatus.ACTIVE, MemberStatus.SUSPENDED, "활성 상태의 회원만 정지할 수 있습니다.");
+        eventPublisher.publishEvent(AccountStatusChangedEvent.partner(memberId));
+        Member suspendedMember = findActiveMember(memberId);
 
         log.info("회원 정지 완료: {}", memberId);
         return MemberResponse.from(suspendedMember);
@@ -255,32 +258,50 @@ public class AdminService {
      */
     @Transactional
     public MemberResponse unsuspendMember(Long memberId) {
-        log.info("회원 정지 해제 요청: {}", memberId);
-
-        Member member = memberRepository.findById(memberId)
-                .filter(m -> !m.getIsDeleted())
-                .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다: " + memberId));
+        log.debug("회원 정지 해제 요청: {}", memberId);
 
-        member.unsuspend();
-        Member unsuspendedMember = memberRepository.save(member);
+        transitionMemberStatus(memberId, MemberStatus.SUSPENDED, MemberStatus.ACTIVE, "정지 상태의 회원만 정지 해제할 수 있습니다.");
+        eventPublisher.publishEvent(AccountStatusChangedEvent.partner(memberId));
+        Member unsuspendedMember = findActiveMember(memberId);
 
         log.info("회원 정지 해제 완료: {}", memberId);
         return MemberResponse.from(unsuspendedMember);
     }
 
+    /**
+     * 회원 상태 조건부 전이 (현재 상태가 expected 일 때만 갱신)
+     * 읽은 뒤 다른 관리자 요청이 먼저 상태를 바꿨으면 현재 회원 정보와 함께 409 로 응답한다.
+     */
+    private void transitionMemberStatus(Long memberId, MemberStatus expected, MemberStatus next, String invalidMessage) {
+        Member member = findActiveMember(memberId);
+        if (member.getStatus() != expected) {
+            throw new InvalidRequestException(invalidMessage);
+        }
+        if (memberRepository.transitionStatus(memberId, expected, next, LocalDateTime.now()) == 0) {
+            Member latest = findActiveMember(memberId);
+            throw new ConcurrentUpdateException("회원 상태가 이미 " + latest.getStatus().getDescription() + "(으)로 변경되었습니다.",
+                    MemberResponse.from(latest));
+        }
+    }
+
+    private Member findActiveMember(Long memberId) {
+        return memberRepository.findByIdAndIsDeletedFalse(memberId)
+                .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다: " + memberId));
+    }
+
     /**
      * 회원 삭제 (소프트 삭제)
      */
     @Transactional
     public void deleteMember(Long memberId, String deletedBy) {
-        log.info("회원 삭제 요청: {} by {}", memberId, deletedBy);
+        log.debug("회원 삭제 요청: {} by {}", memberId, deletedBy);
 
-        Member member = memberRepository.findById(memberId)
-                .filter(m -> !m.getIsDeleted())
+        Member member = memberRepository.findByIdAndIsDeletedFalse(memberId)
                 .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다: " + memberId));
 
         member.softDelete(deletedBy);
         memberRepository.save(member);
+        eventPublisher.publishEvent(AccountStatusChangedEvent.partner(memberId));
 
         log.info("회원 삭제 완료: {}", memberId);
     }
@@ -293,7 +314,7 @@ public class AdminService {
                 "pending", memberRepository.countByStatus(MemberStatus.PENDING),
                 "active", memberRepository.countByStatus(MemberStatus.ACTIVE),
                 "suspended", memberRepository.countByStatus(MemberStatus.SUSPENDED),
-                "total", memberRepository.count() - memberRepository.countByStatus(MemberStatus.DELETED)
+                "total", memberRepository.countByIsDeletedFalse()
         );
     }
 } 
\ No newline at end of file
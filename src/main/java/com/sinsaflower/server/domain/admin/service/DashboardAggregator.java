@@ -0,0 +1,195 @@
+package com.sinsaflower.server.domain.admin.service;
+
+import com.sinsaflower.server.domain.admin.dto.DashboardResponse;
+import com.sinsaflower.server.domain.admin.entity.Admin.AdminStatus;
+import com.sinsaflower.server.domain.admin.repository.AdminRepository;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.config.DashboardProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 대시보드 집계기
+ * 서로 독립적인 집계 쿼리를 제한된 실행기에서 동시에 실행하고 쿼리별 제한 시간을 둔다.
+ * 제한 시간은 실행기에서 쿼리가 시작될 때부터 재며, 읽기 전용 트랜잭션 타임아웃으로 JDBC 쿼리 타임아웃에도 적용해
+ * 시간을 넘긴 쿼리는 DB 에서 취소되고 커넥션이 반환된다.
+ * 실패한 항목은 null 과 failedMetrics 로 표시하고 나머지 결과는 그대로 반환한다.
+ * 모든 항목이 성공한 결과만 cache-ttl-millis 동안 재사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardAggregator {
+
+    private static final String MEMBERS = "members";
+    private static final String ADMINS = "admins";
+    private static final String ORDERS = "orders";
+
+    private final MemberRepository memberRepository;
+    private final AdminRepository adminRepository;
+    private final OrderRepository orderRepository;
+    private final DashboardProperties dashboardProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private TransactionTemplate queryTemplate;
+
+    // 캐시 갱신은 한 요청만 수행 (가상 스레드 고정을 피하려고 synchronized 대신 ReentrantLock)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, dashboardProperties.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 트랜잭션 타임아웃은 초 단위이므로 올림 (안의 쿼리마다 남은 시간이 Statement 쿼리 타임아웃으로 적용됨)
+        queryTemplate = new TransactionTemplate(transactionManager);
+        queryTemplate.setReadOnly(true);
+        queryTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(
+                dashboardProperties.getQueryTimeoutMillis() + 999)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 대시보드 집계 (캐시된 결과가 유효하면 재사용)
+     */
+    public DashboardResponse getDashboard() {
+        Snapshot current = snapshot;
+        if (current != null && current.isFresh()) {
+            return current.response();
+        }
+
+        refreshLock.lock();
+        try {
+            current = snapshot;
+            if (current != null && current.isFresh()) {
+                return current.response();
+            }
+            DashboardResponse response = aggregate();
+            if (!response.isPartial()) {
+                snapshot = new Snapshot(response, System.nanoTime()
+                        + TimeUnit.MILLISECONDS.toNanos(dashboardProperties.getCacheTtlMillis()));
+            }
+            return response;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 집계 항목 정의 (모두 서로 독립적인 count 쿼리)
+    private List<Metric> metrics() {
+        LocalDate today = LocalDate.now();
+        return List.of(
+                new Metric(MEMBERS, "pending", () -> memberRepository.countByStatus(MemberStatus.PENDING)),
+                new Metric(MEMBERS, "active", () -> memberRepository.countByStatus(MemberStatus.ACTIVE)),
+                new Metric(MEMBERS, "suspended", () -> memberRepository.countByStatus(MemberStatus.SUSPENDED)),
+                new Metric(MEMBERS, "total", memberRepository::countByIsDeletedFalse),
+                new Metric(ADMINS, "active", () -> adminRepository.countByStatus(AdminStatus.ACTIVE)),
+                new Metric(ADMINS, "inactive", () -> adminRepository.countByStatus(AdminStatus.INACTIVE)),
+                new Metric(ADMINS, "suspended", () -> adminRepository.countByStatus(AdminStatus.SUSPENDED)),
+                new Metric(ORDERS, "pending", () -> orderRepository.countByOrderStatus(OrderStatus.PENDING)),
+                new Metric(ORDERS, "confirmed", () -> orderRepository.countByOrderStatus(OrderStatus.CONFIRMED)),
+                new Metric(ORDERS, "preparing", () -> orderRepository.countByOrderStatus(OrderStatus.PREPARING)),
+                new Metric(ORDERS, "delivered", () -> orderRepository.countByOrderStatus(OrderStatus.DELIVERED)),
+                new Metric(ORDERS, "cancelled", () -> orderRepository.countByOrderStatus(OrderStatus.CANCELLED)),
+                new Metric(ORDERS, "todayDelivery", () -> orderRepository.countByDeliveryDate(today))
+        );
+    }
+
+    private DashboardResponse aggregate() {
+        long startedAt = System.currentTimeMillis();
+        long timeout = dashboardProperties.getQueryTimeoutMillis();
+
+        List<Metric> metrics = metrics();
+        List<CompletableFuture<Long>> futures = new ArrayList<>(metrics.size());
+        for (Metric metric : metrics) {
+            futures.add(submit(metric, timeout));
+        }
+
+        Map<String, Map<String, Long>> sections = new LinkedHashMap<>();
+        sections.put(MEMBERS, new LinkedHashMap<>());
+        sections.put(ADMINS, new LinkedHashMap<>());
+        sections.put(ORDERS, new LinkedHashMap<>());
+        List<String> failed = new ArrayList<>();
+
+        for (int i = 0; i < metrics.size(); i++) {
+            Metric metric = metrics.get(i);
+            Long value;
+            try {
+                value = futures.get(i).join();
+            } catch (Exception e) {
+                value = null;
+                failed.add(metric.section() + "." + metric.key());
+                log.warn("대시보드 집계 실패: {}.{} - {}", metric.section(), metric.key(), e.getMessage());
+            }
+            sections.get(metric.section()).put(metric.key(), value);
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.debug("대시보드 집계 완료: {}개 항목, 실패 {}개 ({}ms)", metrics.size(), failed.size(), elapsed);
+
+        return DashboardResponse.builder()
+                .members(sections.get(MEMBERS))
+                .admins(sections.get(ADMINS))
+                .orders(sections.get(ORDERS))
+                .failedMetrics(failed)
+                .partial(!failed.isEmpty())
+                .generatedAt(LocalDateTime.now())
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    // 실행기 대기 시간은 빼고 쿼리 시작부터 제한 시간을 잼
+    private CompletableFuture<Long> submit(Metric metric, long timeout) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            future.orTimeout(timeout, TimeUnit.MILLISECONDS);
+            try {
+                future.complete(queryTemplate.execute(status -> metric.query().get()));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private record Metric(String section, String key, Supplier<Long> query) {
+    }
+
+    private record Snapshot(DashboardResponse response, long expiresAt) {
+        boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
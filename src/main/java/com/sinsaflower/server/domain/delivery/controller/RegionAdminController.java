@@ -0,0 +1,46 @@
+package com.sinsaflower.server.domain.delivery.controller;
+
+import com.sinsaflower.server.domain.delivery.dto.RegionImportResult;
+import com.sinsaflower.server.domain.delivery.service.RegionImportService;
+import com.sinsaflower.server.global.dto.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 지역 관리자 전용 컨트롤러
+ * 지역 데이터셋 적재 API 제공
+ */
+@RestController
+@RequestMapping("/api/admin/regions")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "지역 관리 (관리자)", description = "관리자 전용 지역 데이터 관리 API")
+public class RegionAdminController {
+
+    private final RegionImportService regionImportService;
+
+    /**
+     * 지역 데이터셋 적재
+     */
+    @PostMapping("/import")
+    @Operation(summary = "지역 데이터셋 적재",
+               description = "번들 지역 데이터셋을 region 테이블에 반영합니다. 직전 적재와 내용이 같으면 건너뛰며, force=true면 다시 비교합니다.")
+    public ResponseEntity<ApiResponse<RegionImportResult>> importRegions(
+            @RequestParam(defaultValue = "false") boolean force) {
+
+        log.debug("지역 데이터셋 적재 요청 (force: {})", force);
+
+        RegionImportResult result = regionImportService.importRegions(force);
+        String message = result.isSkipped()
+                ? "지역 데이터셋이 변경되지 않아 적재를 건너뛰었습니다."
+                : "지역 데이터셋 적재가 완료되었습니다.";
+
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+}
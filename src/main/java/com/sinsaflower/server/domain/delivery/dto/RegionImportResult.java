@@ -0,0 +1,29 @@
+package com.sinsaflower.server.domain.delivery.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegionImportResult {
+
+    private String contentHash;     // 데이터셋 SHA-256
+    private boolean skipped;        // 동일 데이터셋이라 적재를 건너뛰었는지 여부
+    private int rowCount;           // 데이터셋 행 수
+    private int insertedCount;      // 신규 등록 건수
+    private int updatedCount;       // 변경 건수 (우편번호, 활성화 여부)
+    private int deactivatedCount;   // 데이터셋에서 빠져 비활성화된 건수
+    private long elapsedMillis;     // 소요 시간 (ms)
+
+    // 정적 팩토리 메서드
+    public static RegionImportResult skipped(String contentHash, int rowCount, long elapsedMillis) {
+        return RegionImportResult.builder()
+                .contentHash(contentHash)
+                .skipped(true)
+                .rowCount(rowCount)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
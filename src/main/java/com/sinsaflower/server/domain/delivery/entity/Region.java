@@ -32,9 +32,30 @@ public class Region {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    // 표시용 전체 지역명 캐시 (같은 지역을 참조하는 주문 목록 변환 시 재사용, sido/sigungu 변경 시 초기화)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String fullName;
+
     // 표시용 전체 지역명
     public String getFullName() {
-        return sido + " " + sigungu;
+        String name = fullName;
+        if (name == null) {
+            name = sido + " " + sigungu;
+            fullName = name;
+        }
+        return name;
+    }
+
+    public void setSido(String sido) {
+        this.sido = sido;
+        this.fullName = null;
+    }
+
+    public void setSigungu(String sigungu) {
+        this.sigungu = sigungu;
+        this.fullName = null;
     }
 
     // 배송 가능 지역인지 확인
@@ -0,0 +1,43 @@
+package com.sinsaflower.server.domain.delivery.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역 데이터셋 적재 이력
+ * 번들 CSV의 내용 해시를 기록해 동일한 데이터셋은 다시 적재하지 않는다.
+ */
+@Entity
+@Table(name = "region_dataset", indexes = {
+    @Index(name = "idx_region_dataset_hash", columnList = "contentHash")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegionDataset {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 64, nullable = false)
+    private String contentHash; // SHA-256 (hex)
+
+    @Column(length = 200)
+    private String source; // 데이터셋 위치 (classpath:data/regions.csv 등)
+
+    @Column(nullable = false)
+    private Integer rowCount; // 데이터셋 행 수
+
+    private Integer insertedCount; // 신규 등록 건수
+
+    private Integer updatedCount; // 변경 건수
+
+    private Integer deactivatedCount; // 비활성화 건수
+
+    @Column(nullable = false)
+    private LocalDateTime importedAt; // 적재 시각
+}
@@ -0,0 +1,12 @@
+package com.sinsaflower.server.domain.delivery.repository;
+
+import com.sinsaflower.server.domain.delivery.entity.RegionDataset;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface RegionDatasetRepository extends JpaRepository<RegionDataset, Long> {
+
+    // 가장 최근 적재 이력
+    Optional<RegionDataset> findTopByOrderByIdDesc();
+}
@@ -0,0 +1,229 @@
+package com.sinsaflower.server.domain.delivery.service;
+
+import com.sinsaflower.server.domain.delivery.dto.RegionImportResult;
+import com.sinsaflower.server.domain.delivery.entity.RegionDataset;
+import com.sinsaflower.server.domain.delivery.repository.RegionDatasetRepository;
+import com.sinsaflower.server.global.config.RegionImportProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지역 데이터셋 일괄 적재 서비스
+ * 번들 CSV(sido,sigungu,eupmyeondong,zipcode)를 스트리밍으로 읽어 region 테이블과 한 번에 비교하고,
+ * 신규/변경/비활성화 대상을 JDBC 배치로 반영한다. 내용 해시가 직전 적재와 같으면 전체를 건너뛴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegionImportService {
+
+    private static final String SELECT_REGIONS_SQL =
+            "SELECT id, sido, sigungu, eupmyeondong, zipcode, is_active FROM region";
+    private static final String INSERT_REGION_SQL =
+            "INSERT INTO region (sido, sigungu, eupmyeondong, zipcode, is_active) VALUES (?, ?, ?, ?, true)";
+    private static final String UPDATE_REGION_SQL =
+            "UPDATE region SET zipcode = ?, is_active = true WHERE id = ?";
+    private static final String DEACTIVATE_REGION_SQL =
+            "UPDATE region SET is_active = false WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RegionDatasetRepository regionDatasetRepository;
+    private final RegionImportProperties regionImportProperties;
+    private final ResourceLoader resourceLoader;
+    private final PlatformTransactionManager transactionManager;
+
+    // 기동 시 적재와 관리자 요청이 겹치지 않도록 커밋까지 포함해 한 번에 하나만 실행
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 지역 데이터셋 적재 (force가 true면 해시가 같아도 다시 비교)
+     */
+    public RegionImportResult importRegions(boolean force) {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidRequestException("지역 데이터 적재가 이미 진행 중입니다.");
+        }
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> doImport(force));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private RegionImportResult doImport(boolean force) {
+        long startedAt = System.currentTimeMillis();
+        Resource resource = resourceLoader.getResource(regionImportProperties.getLocation());
+        String contentHash = hash(resource);
+
+        Optional<RegionDataset> latest = regionDatasetRepository.findTopByOrderByIdDesc();
+        if (!force && latest.isPresent() && contentHash.equals(latest.get().getContentHash())) {
+            log.info("지역 데이터셋 변경 없음, 적재 생략: {}", contentHash);
+            return RegionImportResult.skipped(contentHash, latest.get().getRowCount(),
+                    System.currentTimeMillis() - startedAt);
+        }
+
+        log.info("지역 데이터 적재 시작: {}", regionImportProperties.getLocation());
+
+        // 기존 지역을 한 번의 쿼리로 읽어 키별로 보관 (남는 항목은 비활성화 대상)
+        Map<String, ExistingRegion> existing = new HashMap<>();
+        for (ExistingRegion region : jdbcTemplate.query(SELECT_REGIONS_SQL, (rs, rowNum) -> new ExistingRegion(
+                rs.getLong("id"),
+                key(rs.getString("sido"), rs.getString("sigungu"), rs.getString("eupmyeondong")),
+                rs.getString("zipcode"),
+                rs.getBoolean("is_active")))) {
+            existing.put(region.key(), region);
+        }
+
+        int batchSize = Math.max(1, regionImportProperties.getBatchSize());
+        List<Object[]> inserts = new ArrayList<>(batchSize);
+        List<Object[]> updates = new ArrayList<>(batchSize);
+        Set<String> seen = new HashSet<>();
+        int rowCount = 0;
+        int insertedCount = 0;
+        int updatedCount = 0;
+
+        try (BufferedReader reader = open(resource)) {
+            reader.readLine(); // 헤더
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                if (columns.length < 4) {
+                    log.warn("지역 데이터 형식 오류, 건너뜀: {}", line);
+                    continue;
+                }
+                String sido = columns[0].trim();
+                String sigungu = columns[1].trim();
+                String eupmyeondong = columns[2].trim();
+                String zipcode = columns[3].trim();
+                String key = key(sido, sigungu, eupmyeondong);
+                if (!seen.add(key)) {
+                    continue;
+                }
+                rowCount++;
+
+                ExistingRegion current = existing.remove(key);
+                if (current == null) {
+                    inserts.add(new Object[]{sido, sigungu, eupmyeondong.isEmpty() ? null : eupmyeondong, zipcode});
+                    if (inserts.size() == batchSize) {
+                        insertedCount += flush(INSERT_REGION_SQL, inserts);
+                    }
+                } else if (!current.active() || !Objects.equals(current.zipcode(), zipcode)) {
+                    updates.add(new Object[]{zipcode, current.id()});
+                    if (updates.size() == batchSize) {
+                        updatedCount += flush(UPDATE_REGION_SQL, updates);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("지역 데이터셋을 읽을 수 없습니다: " + regionImportProperties.getLocation(), e);
+        }
+        insertedCount += flush(INSERT_REGION_SQL, inserts);
+        updatedCount += flush(UPDATE_REGION_SQL, updates);
+
+        // 데이터셋에서 빠진 활성 지역은 삭제하지 않고 비활성화 (주문/가격이 참조 중일 수 있음)
+        List<Object[]> deactivations = new ArrayList<>();
+        for (ExistingRegion region : existing.values()) {
+            if (region.active()) {
+                deactivations.add(new Object[]{region.id()});
+            }
+        }
+        int deactivatedCount = flush(DEACTIVATE_REGION_SQL, deactivations);
+
+        regionDatasetRepository.save(RegionDataset.builder()
+                .contentHash(contentHash)
+                .source(regionImportProperties.getLocation())
+                .rowCount(rowCount)
+                .insertedCount(insertedCount)
+                .updatedCount(updatedCount)
+                .deactivatedCount(deactivatedCount)
+                .importedAt(LocalDateTime.now())
+                .build());
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("지역 데이터 적재 완료: 전체 {}, 신규 {}, 변경 {}, 비활성화 {} ({}ms)",
+                rowCount, insertedCount, updatedCount, deactivatedCount, elapsed);
+
+        return RegionImportResult.builder()
+                .contentHash(contentHash)
+                .skipped(false)
+                .rowCount(rowCount)
+                .insertedCount(insertedCount)
+                .updatedCount(updatedCount)
+                .deactivatedCount(deactivatedCount)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    // 배치 실행 후 버퍼 비우기
+    private int flush(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+        return size;
+    }
+
+    // 데이터셋 내용 해시 (SHA-256)
+    private String hash(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("지역 데이터셋을 읽을 수 없습니다: " + regionImportProperties.getLocation(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BufferedReader open(Resource resource) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') { // UTF-8 BOM 제거
+            reader.reset();
+        }
+        return reader;
+    }
+
+    private static String key(String sido, String sigungu, String eupmyeondong) {
+        return sido + "|" + sigungu + "|" + (eupmyeondong == null ? "" : eupmyeondong);
+    }
+
+    private record ExistingRegion(Long id, String key, String zipcode, boolean active) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.sinsaflower.server.domain.dispatch.controller;
+
+import com.sinsaflower.server.domain.dispatch.dto.DispatchAssignmentResponse;
+import com.sinsaflower.server.domain.dispatch.dto.DispatchBatchRequest;
+import com.sinsaflower.server.domain.dispatch.dto.DispatchCandidateResponse;
+import com.sinsaflower.server.domain.dispatch.service.DispatchService;
+import com.sinsaflower.server.global.dto.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 주문-파트너 배정 컨트롤러 (관리자)
+ * 후보 파트너 조회, 일괄 배정안 생성, 후보 색인 갱신 API 제공
+ */
+@RestController
+@RequestMapping("/api/admin/dispatch")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "주문 배정 (관리자)", description = "주문-파트너 자동 배정 API")
+public class DispatchController {
+
+    private final DispatchService dispatchService;
+
+    /**
+     * 후보 파트너 조회
+     */
+    @GetMapping("/candidates")
+    @Operation(summary = "배정 후보 조회", description = "지역/상품 카테고리/배송 시각에 맞는 파트너를 가격, 등급, 최근 배정 부하, 배송 시간 적합도 점수 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<DispatchCandidateResponse>>> getCandidates(
+            @RequestParam String sido,
+            @RequestParam String sigungu,
+            @RequestParam String category,
+            @RequestParam(required = false) String time,
+            @RequestParam(required = false) Integer k) {
+
+        List<DispatchCandidateResponse> response = dispatchService.getCandidates(sido, sigungu, category, time, k);
+        return ResponseEntity.ok(ApiResponse.success("배정 후보 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 주문 일괄 배정
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "주문 일괄 배정", description = "여러 주문을 파트너별 최대 배정 수를 지키며 배정합니다. 결과는 배정안으로 반환되며 주문에 저장되지 않습니다.")
+    public ResponseEntity<ApiResponse<List<DispatchAssignmentResponse>>> assign(
+            @Valid @RequestBody DispatchBatchRequest request) {
+
+        log.debug("관리자 일괄 배정 요청: {}건", request.getItems().size());
+
+        List<DispatchAssignmentResponse> response = dispatchService.assign(request);
+        return ResponseEntity.ok(ApiResponse.success("주문 일괄 배정이 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 후보 색인 갱신
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "배정 후보 색인 갱신", description = "파트너 가격/지역/배송 시간 정보를 다시 읽어 후보 색인을 갱신합니다.")
+    public ResponseEntity<ApiResponse<Integer>> refresh() {
+        int partners = dispatchService.refresh();
+        return ResponseEntity.ok(ApiResponse.success("배정 후보 색인이 갱신되었습니다.", partners));
+    }
+}
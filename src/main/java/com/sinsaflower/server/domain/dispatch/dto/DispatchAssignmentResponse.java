@@ -0,0 +1,32 @@
+package com.sinsaflower.server.domain.dispatch.dto;
+
+import com.sinsaflower.server.domain.dispatch.service.DispatchAssignment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 배정 결과 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "일괄 배정 결과 응답")
+public class DispatchAssignmentResponse {
+
+    @Schema(description = "주문 ID", example = "10001")
+    private Long orderId;
+
+    @Schema(description = "배정된 파트너 회원 ID (후보가 없으면 null)", example = "1024")
+    private Long memberId;
+
+    @Schema(description = "배정 점수", example = "0.8125")
+    private Double score;
+
+    public static DispatchAssignmentResponse from(DispatchAssignment assignment) {
+        return DispatchAssignmentResponse.builder()
+                .orderId(assignment.orderId())
+                .memberId(assignment.memberId())
+                .score(assignment.memberId() == null ? null : assignment.score())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.sinsaflower.server.domain.dispatch.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 일괄 배정 요청 DTO
+ * 주문에는 상품 카테고리가 없으므로 주문별 카테고리를 함께 받는다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일괄 배정 요청")
+public class DispatchBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "배정할 주문은 1건 이상이어야 합니다")
+    private List<Item> items;
+
+    @Min(value = 1, message = "파트너별 최대 배정 수는 1 이상이어야 합니다")
+    @Schema(description = "파트너별 최대 배정 수 (없으면 기본값)", example = "20")
+    private Integer capacity;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "주문 ID는 필수입니다")
+        @Schema(description = "주문 ID", example = "10001")
+        private Long orderId;
+
+        @NotBlank(message = "상품 카테고리는 필수입니다")
+        @Schema(description = "상품 카테고리명", example = "근조화환")
+        private String categoryName;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sinsaflower.server.domain.dispatch.dto;
+
+import com.sinsaflower.server.domain.dispatch.service.DispatchCandidate;
+import com.sinsaflower.server.domain.member.entity.MemberRank;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 배정 후보 파트너 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "배정 후보 파트너 응답")
+public class DispatchCandidateResponse {
+
+    @Schema(description = "파트너 회원 ID", example = "1024")
+    private Long memberId;
+
+    @Schema(description = "해당 지역/상품 가격 (원)", example = "50000")
+    private Long price;
+
+    @Schema(description = "회원 등급", example = "Gold")
+    private MemberRank rank;
+
+    @Schema(description = "배정 점수 (높을수록 우선)", example = "0.8125")
+    private Double score;
+
+    public static DispatchCandidateResponse from(DispatchCandidate candidate) {
+        return DispatchCandidateResponse.builder()
+                .memberId(candidate.memberId())
+                .price(candidate.priceThousand() * 1000L)
+                .rank(candidate.rank())
+                .score(candidate.score())
+                .build();
+    }
+}
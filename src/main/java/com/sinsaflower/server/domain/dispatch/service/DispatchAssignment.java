@@ -0,0 +1,7 @@
+package com.sinsaflower.server.domain.dispatch.service;
+
+/**
+ * 일괄 배정 결과 (배정할 파트너가 없으면 memberId null)
+ */
+public record DispatchAssignment(Long orderId, Long memberId, double score) {
+}
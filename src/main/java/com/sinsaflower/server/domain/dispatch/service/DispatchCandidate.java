@@ -0,0 +1,9 @@
+package com.sinsaflower.server.domain.dispatch.service;
+
+import com.sinsaflower.server.domain.member.entity.MemberRank;
+
+/**
+ * 배정 후보 (가격은 천원 단위)
+ */
+public record DispatchCandidate(long memberId, int priceThousand, MemberRank rank, double score) {
+}
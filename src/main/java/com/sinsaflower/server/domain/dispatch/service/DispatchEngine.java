@@ -0,0 +1,212 @@
+package com.sinsaflower.server.domain.dispatch.service;
+
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile.ApprovalStatus;
+import com.sinsaflower.server.domain.member.entity.MemberRank;
+import com.sinsaflower.server.domain.offer.entity.OrderOffer.OfferStatus;
+import com.sinsaflower.server.domain.offer.event.OrderOfferAcceptedEvent;
+import com.sinsaflower.server.global.config.DispatchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문-파트너 배정 엔진
+ * 승인된 활성 파트너의 등급/배송 가능 시간, 활동 지역, 지역별 가격을 DispatchIndex 로 적재해 두고
+ * (refresh-interval-millis 마다 교체) 후보 조회와 일괄 배정을 메모리에서 처리한다.
+ * 최근 부하는 당일 수락(배정 확정)된 제안 수로, 색인 갱신과 일괄 배정 때 order_offer 에서 다시 읽고
+ * 그 사이에는 수락 이벤트(커밋 후)마다 더한다. 일괄 배정은 배정안만 만들므로 부하에 반영하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchEngine {
+
+    private static final String SELECT_PARTNERS_SQL =
+            "SELECT m.id, m.rank, bp.can_night_delivery, bp.delivery_start_time, bp.delivery_end_time " +
+            "FROM member m JOIN member_business_profile bp ON bp.member_id = m.id " +
+            "WHERE m.status = '" + MemberStatus.ACTIVE.name() + "' AND m.is_deleted = false " +
+            "AND bp.approval_status = '" + ApprovalStatus.APPROVED.name() + "'";
+    private static final String SELECT_REGIONS_SQL =
+            "SELECT member_id, sido, sigungu FROM member_activity_region WHERE is_active IS NULL OR is_active = true";
+    private static final String SELECT_PRICES_SQL =
+            "SELECT member_id, sido, sigungu, category_name, price FROM member_product_price WHERE is_available = true";
+    private static final String SELECT_ACCEPTED_SQL =
+            "SELECT lease_owner_id, COUNT(*) AS accepted FROM order_offer " +
+            "WHERE status = '" + OfferStatus.ACCEPTED.name() + "' AND accepted_at >= ? GROUP BY lease_owner_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DispatchProperties dispatchProperties;
+
+    private volatile DispatchIndex index;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // 회원 ID 별 당일 배정 확정 수 (reloadLoad 가 통째로 교체)
+    private volatile Map<Long, AtomicInteger> loadByMember = new ConcurrentHashMap<>();
+    private volatile LocalDate loadDate = LocalDate.now();
+
+    /**
+     * 주기적 색인 갱신
+     */
+    @Scheduled(fixedDelayString = "${dispatch.refresh-interval-millis:300000}")
+    public void refreshScheduled() {
+        if (!dispatchProperties.isEnabled()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("배정 후보 색인 갱신 실패 (기존 색인 유지)", e);
+        }
+    }
+
+    /**
+     * DB 에서 색인을 다시 만들어 교체
+     */
+    public DispatchIndex refresh() {
+        refreshLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            DispatchIndex.Builder builder = DispatchIndex.builder();
+
+            jdbcTemplate.query(SELECT_PARTNERS_SQL, rs -> {
+                Time start = rs.getTime("delivery_start_time");
+                Time end = rs.getTime("delivery_end_time");
+                builder.partner(rs.getLong("id"), rank(rs.getString("rank")), rs.getBoolean("can_night_delivery"),
+                        start == null ? null : start.toLocalTime(), end == null ? null : end.toLocalTime());
+            });
+            jdbcTemplate.query(SELECT_REGIONS_SQL, rs -> {
+                builder.activityRegion(rs.getLong("member_id"), rs.getString("sido"), rs.getString("sigungu"));
+            });
+            jdbcTemplate.query(SELECT_PRICES_SQL, rs -> {
+                builder.price(rs.getLong("member_id"), rs.getString("sido"), rs.getString("sigungu"),
+                        rs.getString("category_name"), rs.getInt("price"));
+            });
+
+            DispatchIndex built = builder.build();
+            index = built;
+            reloadLoad();
+            log.info("배정 후보 색인 갱신: 파트너 {}명, 후보 키 {}개 ({}ms)",
+                    built.size(), built.keyCount(), System.currentTimeMillis() - startedAt);
+            return built;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 색인 (아직 없으면 생성)
+     */
+    public DispatchIndex currentIndex() {
+        DispatchIndex current = index;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * 점수 상위 k 개 후보
+     */
+    public List<DispatchCandidate> topCandidates(DispatchQuery query, int k) {
+        resetLoadIfNewDay();
+        DispatchIndex current = currentIndex();
+        return current.topCandidates(query, k, policy(), partner -> load(current.memberId(partner)));
+    }
+
+    /**
+     * 일괄 배정안 (당일 확정 배정 수를 capacity 에 포함하고, 배정안 자체는 부하에 반영하지 않음)
+     */
+    public List<DispatchAssignment> assign(List<DispatchQuery> orders, int capacity) {
+        DispatchIndex current = currentIndex();
+        Map<Long, AtomicInteger> accepted = reloadLoad();
+
+        int[] load = new int[current.size()];
+        accepted.forEach((memberId, count) -> {
+            int partner = current.partnerOf(memberId);
+            if (partner >= 0) {
+                load[partner] = count.get();
+            }
+        });
+        return current.assign(orders, capacity, policy(), load);
+    }
+
+    /**
+     * 제안 수락(배정 확정) 커밋 후 당일 부하에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferAccepted(OrderOfferAcceptedEvent event) {
+        if (event.memberId() != null) {
+            recordAssignment(event.memberId());
+        }
+    }
+
+    /**
+     * 확정된 배정 1건을 당일 부하에 반영
+     */
+    public void recordAssignment(long memberId) {
+        resetLoadIfNewDay();
+        loadByMember.computeIfAbsent(memberId, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    // 당일 수락된 제안 수를 파트너별로 다시 읽어 교체
+    private Map<Long, AtomicInteger> reloadLoad() {
+        LocalDate today = LocalDate.now();
+        Map<Long, AtomicInteger> accepted = new ConcurrentHashMap<>();
+        jdbcTemplate.query(SELECT_ACCEPTED_SQL, rs -> {
+            accepted.put(rs.getLong("lease_owner_id"), new AtomicInteger(rs.getInt("accepted")));
+        }, Timestamp.valueOf(today.atStartOfDay()));
+        loadByMember = accepted;
+        loadDate = today;
+        return accepted;
+    }
+
+    private int load(long memberId) {
+        AtomicInteger count = loadByMember.get(memberId);
+        return count == null ? 0 : count.get();
+    }
+
+    private void resetLoadIfNewDay() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(loadDate)) {
+            loadDate = today;
+            loadByMember = new ConcurrentHashMap<>();
+        }
+    }
+
+    private DispatchPolicy policy() {
+        return DispatchPolicy.from(dispatchProperties);
+    }
+
+    private static MemberRank rank(String value) {
+        if (value == null) {
+            return MemberRank.Bronze;
+        }
+        try {
+            return MemberRank.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return MemberRank.Bronze;
+        }
+    }
+
+    // 배송 시/분 문자열을 자정 기준 분으로 변환 (형식이 맞지 않으면 -1)
+    public static int deliveryMinute(String hours, String minutes) {
+        try {
+            int hour = Integer.parseInt(hours.trim());
+            int minute = minutes == null || minutes.isBlank() ? 0 : Integer.parseInt(minutes.trim());
+            return LocalTime.of(hour, minute).toSecondOfDay() / 60;
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.sinsaflower.server.domain.dispatch.service;
+
+import com.sinsaflower.server.domain.member.entity.MemberRank;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 배정 후보 색인 (불변 스냅샷)
+ * 파트너 속성은 배열(파트너 번호 기준)로, 후보는 "시도|시군구|카테고리" 키별 파트너 번호/가격 배열로 미리 만들어 두고
+ * 조회 시에는 해당 키의 후보만 훑어 점수를 계산한다. 조회 경로에서는 DB 접근이나 엔티티 생성이 없다.
+ */
+public final class DispatchIndex {
+
+    private static final int DAY_MINUTES = 24 * 60;
+    private static final double MARGIN_MINUTES = 120.0;
+    private static final MemberRank[] RANKS = MemberRank.values();
+    private static final DispatchIndex EMPTY = new Builder().build();
+
+    private final long[] memberIds;
+    private final byte[] ranks;
+    private final boolean[] nightDelivery;
+    private final int[] startMinutes;
+    private final int[] endMinutes;
+    private final Map<String, Candidates> candidatesByKey;
+    private final Map<Long, Integer> partnerByMemberId;
+
+    private DispatchIndex(Builder builder) {
+        int size = builder.memberIds.size();
+        this.memberIds = new long[size];
+        this.ranks = new byte[size];
+        this.nightDelivery = new boolean[size];
+        this.startMinutes = new int[size];
+        this.endMinutes = new int[size];
+        this.partnerByMemberId = new HashMap<>(builder.partnerByMemberId);
+        for (int i = 0; i < size; i++) {
+            memberIds[i] = builder.memberIds.get(i);
+            ranks[i] = builder.ranks.get(i);
+            nightDelivery[i] = builder.nightDelivery.get(i);
+            startMinutes[i] = builder.startMinutes.get(i);
+            endMinutes[i] = builder.endMinutes.get(i);
+        }
+
+        this.candidatesByKey = new HashMap<>(builder.prices.size() * 2);
+        builder.prices.forEach((key, rows) -> candidatesByKey.put(key, Candidates.of(rows)));
+    }
+
+    public static DispatchIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static String key(String sido, String sigungu, String categoryName) {
+        return sido + "|" + sigungu + "|" + categoryName;
+    }
+
+    public int size() {
+        return memberIds.length;
+    }
+
+    public int keyCount() {
+        return candidatesByKey.size();
+    }
+
+    public long memberId(int partner) {
+        return memberIds[partner];
+    }
+
+    /**
+     * 회원 ID 의 파트너 번호 (색인에 없으면 -1)
+     */
+    public int partnerOf(long memberId) {
+        Integer partner = partnerByMemberId.get(memberId);
+        return partner == null ? -1 : partner;
+    }
+
+    /**
+     * 점수 상위 k 개 후보 (점수 내림차순)
+     *
+     * @param load 파트너 번호별 최근 배정 수
+     */
+    public List<DispatchCandidate> topCandidates(DispatchQuery query, int k, DispatchPolicy policy, IntUnaryOperator load) {
+        Candidates candidates = candidatesByKey.get(query.key());
+        if (candidates == null || k <= 0) {
+            return List.of();
+        }
+
+        // 크기 k 의 정렬 배열에 삽입 (k 가 작으므로 힙보다 단순하고 할당이 적음)
+        int[] bestPartner = new int[k];
+        int[] bestPrice = new int[k];
+        double[] bestScore = new double[k];
+        int count = 0;
+
+        for (int i = 0; i < candidates.partners.length; i++) {
+            int partner = candidates.partners[i];
+            double timeFit = timeFit(partner, query.deliveryMinute(), policy);
+            if (timeFit < 0) {
+                continue;
+            }
+            double score = score(candidates, i, timeFit, load.applyAsInt(partner), policy);
+            if (count == k && score <= bestScore[k - 1]) {
+                continue;
+            }
+
+            int position = count < k ? count++ : k - 1;
+            while (position > 0 && bestScore[position - 1] < score) {
+                bestPartner[position] = bestPartner[position - 1];
+                bestPrice[position] = bestPrice[position - 1];
+                bestScore[position] = bestScore[position - 1];
+                position--;
+            }
+            bestPartner[position] = partner;
+            bestPrice[position] = candidates.prices[i];
+            bestScore[position] = score;
+        }
+
+        List<DispatchCandidate> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int partner = bestPartner[i];
+            result.add(new DispatchCandidate(memberIds[partner], bestPrice[i], RANKS[ranks[partner]], bestScore[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 일괄 배정 (파트너별 당일 배정 수가 capacity 건이 될 때까지)
+     * 후보가 적은 주문부터 배정하고, 배정할 때마다 해당 파트너의 부하를 올려 다음 주문 점수와 capacity 판정에 반영한다.
+     *
+     * @param load 파트너 번호별 당일 기존 배정 수 (capacity 에 포함되며 배정 결과가 더해짐)
+     * @return 입력 순서와 같은 배정 결과 (후보가 없으면 memberId null)
+     */
+    public List<DispatchAssignment> assign(List<DispatchQuery> orders, int capacity, DispatchPolicy policy, int[] load) {
+        int size = orders.size();
+        Candidates[] candidates = new Candidates[size];
+        Integer[] sequence = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            candidates[i] = candidatesByKey.get(orders.get(i).key());
+            sequence[i] = i;
+        }
+        Arrays.sort(sequence, (a, b) -> {
+            int byCandidates = Integer.compare(candidateCount(candidates[a]), candidateCount(candidates[b]));
+            return byCandidates != 0 ? byCandidates
+                    : Integer.compare(orders.get(a).deliveryMinute(), orders.get(b).deliveryMinute());
+        });
+
+        DispatchAssignment[] result = new DispatchAssignment[size];
+        for (int order : sequence) {
+            DispatchQuery query = orders.get(order);
+            Candidates options = candidates[order];
+            int bestPartner = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+
+            if (options != null) {
+                for (int i = 0; i < options.partners.length; i++) {
+                    int partner = options.partners[i];
+                    if (load[partner] >= capacity) {
+                        continue;
+                    }
+                    double timeFit = timeFit(partner, query.deliveryMinute(), policy);
+                    if (timeFit < 0) {
+                        continue;
+                    }
+                    double score = score(options, i, timeFit, load[partner], policy);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        bestPartner = partner;
+                    }
+                }
+            }
+
+            if (bestPartner < 0) {
+                result[order] = new DispatchAssignment(query.orderId(), null, 0);
+            } else {
+                load[bestPartner]++;
+                result[order] = new DispatchAssignment(query.orderId(), memberIds[bestPartner], bestScore);
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    // 가격(낮을수록), 등급(높을수록), 최근 부하(적을수록), 배송 시간대 적합도의 가중합
+    private double score(Candidates candidates, int i, double timeFit, int load, DispatchPolicy policy) {
+        int partner = candidates.partners[i];
+        int priceRange = candidates.maxPrice - candidates.minPrice;
+        double priceScore = priceRange == 0 ? 1.0 : (double) (candidates.maxPrice - candidates.prices[i]) / priceRange;
+        double rankScore = (double) ranks[partner] / (RANKS.length - 1);
+        double loadScore = 1.0 / (1 + Math.max(0, load));
+        return policy.priceWeight() * priceScore
+                + policy.rankWeight() * rankScore
+                + policy.loadWeight() * loadScore
+                + policy.timeWeight() * timeFit;
+    }
+
+    /**
+     * 배송 시각 적합도 (0.5 ~ 1, 배송 불가면 -1)
+     * 야간 시간대는 야간 배송 가능 파트너만, 배송 가능 시간이 있으면 그 안에서 경계와 멀수록 높게 본다.
+     */
+    private double timeFit(int partner, int minute, DispatchPolicy policy) {
+        if (minute < 0) {
+            return 0.5;
+        }
+        boolean night = minute >= policy.nightStartMinute() || minute < policy.nightEndMinute();
+        if (night && !nightDelivery[partner]) {
+            return -1;
+        }
+
+        int start = startMinutes[partner];
+        int end = endMinutes[partner];
+        if (start < 0 || end < 0) {
+            return 0.5;
+        }
+
+        int margin;
+        if (start <= end) {
+            if (minute < start || minute > end) {
+                return -1;
+            }
+            margin = Math.min(minute - start, end - minute);
+        } else {
+            // 자정을 넘기는 배송 시간
+            if (minute < start && minute > end) {
+                return -1;
+            }
+            margin = minute >= start
+                    ? Math.min(minute - start, DAY_MINUTES - minute + end)
+                    : Math.min(minute + DAY_MINUTES - start, end - minute);
+        }
+        return 0.5 + 0.5 * Math.min(1.0, margin / MARGIN_MINUTES);
+    }
+
+    private static int candidateCount(Candidates candidates) {
+        return candidates == null ? 0 : candidates.partners.length;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time == null ? -1 : time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * 키별 후보 (파트너 번호와 가격(천원), 가격 범위)
+     */
+    private record Candidates(int[] partners, int[] prices, int minPrice, int maxPrice) {
+
+        private static Candidates of(List<int[]> rows) {
+            int[] partners = new int[rows.size()];
+            int[] prices = new int[rows.size()];
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < rows.size(); i++) {
+                partners[i] = rows.get(i)[0];
+                prices[i] = rows.get(i)[1];
+                min = Math.min(min, prices[i]);
+                max = Math.max(max, prices[i]);
+            }
+            return new Candidates(partners, prices, min, max);
+        }
+    }
+
+    /**
+     * 색인 작성기 (파트너를 먼저 등록한 뒤 가격/지역 행 추가)
+     */
+    public static final class Builder {
+
+        private final List<Long> memberIds = new ArrayList<>();
+        private final List<Byte> ranks = new ArrayList<>();
+        private final List<Boolean> nightDelivery = new ArrayList<>();
+        private final List<Integer> startMinutes = new ArrayList<>();
+        private final List<Integer> endMinutes = new ArrayList<>();
+        private final Map<Long, Integer> partnerByMemberId = new HashMap<>();
+        private final Map<Long, Set<String>> regionsByPartner = new HashMap<>();
+        private final Map<String, List<int[]>> prices = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder partner(long memberId, MemberRank rank, boolean canNightDelivery,
+                               LocalTime deliveryStartTime, LocalTime deliveryEndTime) {
+            if (partnerByMemberId.containsKey(memberId)) {
+                return this;
+            }
+            partnerByMemberId.put(memberId, memberIds.size());
+            memberIds.add(memberId);
+            ranks.add((byte) (rank == null ? MemberRank.Bronze : rank).ordinal());
+            nightDelivery.add(canNightDelivery);
+            startMinutes.add(minuteOf(deliveryStartTime));
+            endMinutes.add(minuteOf(deliveryEndTime));
+            return this;
+        }
+
+        /**
+         * 활동 지역 (등록된 파트너는 활동 지역 안의 가격만 후보가 됨)
+         */
+        public Builder activityRegion(long memberId, String sido, String sigungu) {
+            if (partnerByMemberId.containsKey(memberId)) {
+                regionsByPartner.computeIfAbsent(memberId, key -> new HashSet<>()).add(sido + "|" + sigungu);
+            }
+            return this;
+        }
+
+        /**
+         * 지역/카테고리 가격 (천원 단위, 등록되지 않은 파트너는 무시)
+         */
+        public Builder price(long memberId, String sido, String sigungu, String categoryName, int priceThousand) {
+            if (partnerByMemberId.containsKey(memberId)) {
+                prices.computeIfAbsent(key(sido, sigungu, categoryName), key -> new ArrayList<>())
+                        .add(new int[] {partnerByMemberId.get(memberId), priceThousand});
+            }
+            return this;
+        }
+
+        public DispatchIndex build() {
+            // 활동 지역이 있는 파트너는 그 지역의 가격만 남김
+            if (!regionsByPartner.isEmpty()) {
+                prices.forEach((key, rows) -> {
+                    String region = key.substring(0, key.lastIndexOf('|'));
+                    rows.removeIf(row -> {
+                        Set<String> regions = regionsByPartner.get(memberIds.get(row[0]));
+                        return regions != null && !regions.contains(region);
+                    });
+                });
+                prices.values().removeIf(List::isEmpty);
+            }
+            return new DispatchIndex(this);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sinsaflower.server.domain.dispatch.service;
+
+import com.sinsaflower.server.global.config.DispatchProperties;
+
+/**
+ * 점수 가중치와 야간 시간대 (자정 기준 분)
+ */
+public record DispatchPolicy(double priceWeight, double rankWeight, double loadWeight, double timeWeight,
+                             int nightStartMinute, int nightEndMinute) {
+
+    public static DispatchPolicy from(DispatchProperties properties) {
+        return new DispatchPolicy(properties.getPriceWeight(), properties.getRankWeight(),
+                properties.getLoadWeight(), properties.getTimeWeight(),
+                properties.getNightStartHour() * 60, properties.getNightEndHour() * 60);
+    }
+}
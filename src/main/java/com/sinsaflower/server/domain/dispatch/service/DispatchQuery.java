@@ -0,0 +1,14 @@
+package com.sinsaflower.server.domain.dispatch.service;
+
+/**
+ * 배정 조회 조건
+ *
+ * @param orderId        주문 ID (단건 후보 조회는 null)
+ * @param deliveryMinute 배송 시각 (자정 기준 분, 모르면 -1)
+ */
+public record DispatchQuery(Long orderId, String sido, String sigungu, String categoryName, int deliveryMinute) {
+
+    public String key() {
+        return DispatchIndex.key(sido, sigungu, categoryName);
+    }
+}
@@ -0,0 +1,121 @@
+package com.sinsaflower.server.domain.dispatch.service;
+
+import com.sinsaflower.server.domain.dispatch.dto.DispatchAssignmentResponse;
+import com.sinsaflower.server.domain.dispatch.dto.DispatchBatchRequest;
+import com.sinsaflower.server.domain.dispatch.dto.DispatchCandidateResponse;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.config.DispatchProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 주문-파트너 배정 서비스
+ * 요청 검증과 주문 조회를 담당하고, 점수 계산과 배정은 DispatchEngine 의 메모리 색인에서 처리한다.
+ * 배정 결과는 배정안으로 반환만 하며 주문에 저장하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchService {
+
+    private final DispatchEngine dispatchEngine;
+    private final OrderRepository orderRepository;
+    private final DispatchProperties dispatchProperties;
+
+    /**
+     * 지역/상품/배송 시각 기준 후보 파트너 조회
+     */
+    public List<DispatchCandidateResponse> getCandidates(String sido, String sigungu, String categoryName,
+                                                         String time, Integer k) {
+        if (isBlank(sido) || isBlank(sigungu) || isBlank(categoryName)) {
+            throw new InvalidRequestException("시/도, 시/군/구, 상품 카테고리는 필수입니다.");
+        }
+        int limit = k == null ? dispatchProperties.getDefaultTopK() : k;
+        if (limit < 1 || limit > dispatchProperties.getMaxTopK()) {
+            throw new InvalidRequestException("후보 개수는 1 ~ " + dispatchProperties.getMaxTopK() + " 사이여야 합니다.");
+        }
+
+        DispatchQuery query = new DispatchQuery(null, sido, sigungu, categoryName, parseTime(time));
+        return dispatchEngine.topCandidates(query, limit).stream()
+                .map(DispatchCandidateResponse::from)
+                .toList();
+    }
+
+    /**
+     * 주문 일괄 배정 (파트너별 최대 배정 수 준수)
+     */
+    @Transactional(readOnly = true)
+    public List<DispatchAssignmentResponse> assign(DispatchBatchRequest request) {
+        List<DispatchBatchRequest.Item> items = request.getItems();
+        if (items.size() > dispatchProperties.getMaxBatchSize()) {
+            throw new InvalidRequestException("일괄 배정은 최대 " + dispatchProperties.getMaxBatchSize() + "건까지 가능합니다.");
+        }
+        int capacity = request.getCapacity() == null ? dispatchProperties.getDefaultCapacity() : request.getCapacity();
+
+        Set<Long> orderIds = items.stream().map(DispatchBatchRequest.Item::getOrderId).collect(Collectors.toSet());
+        if (orderIds.size() != items.size()) {
+            throw new InvalidRequestException("같은 주문이 중복으로 포함되어 있습니다.");
+        }
+        Map<Long, Order> orders = new HashMap<>();
+        for (Order order : orderRepository.findWithRegionByIdIn(orderIds)) {
+            orders.put(order.getId(), order);
+        }
+
+        List<DispatchQuery> queries = new ArrayList<>(items.size());
+        for (DispatchBatchRequest.Item item : items) {
+            Order order = orders.get(item.getOrderId());
+            if (order == null) {
+                throw new ResourceNotFoundException("주문을 찾을 수 없습니다: " + item.getOrderId());
+            }
+            if (order.getRegion() == null) {
+                throw new InvalidRequestException("배송 지역이 없는 주문입니다: " + item.getOrderId());
+            }
+            queries.add(new DispatchQuery(order.getId(), order.getRegion().getSido(), order.getRegion().getSigungu(),
+                    item.getCategoryName(), DispatchEngine.deliveryMinute(order.getDeliveryHours(), order.getDeliveryMinutes())));
+        }
+
+        List<DispatchAssignment> assignments = dispatchEngine.assign(queries, capacity);
+        long unassigned = assignments.stream().filter(assignment -> assignment.memberId() == null).count();
+        log.info("일괄 배정 완료: 주문 {}건, 미배정 {}건 (파트너별 최대 {}건)", assignments.size(), unassigned, capacity);
+
+        return assignments.stream()
+                .map(DispatchAssignmentResponse::from)
+                .toList();
+    }
+
+    /**
+     * 후보 색인 즉시 갱신
+     */
+    public int refresh() {
+        return dispatchEngine.refresh().size();
+    }
+
+    private int parseTime(String time) {
+        if (isBlank(time)) {
+            return -1;
+        }
+        try {
+            return LocalTime.parse(time).toSecondOfDay() / 60;
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("배송 시각 형식이 올바르지 않습니다. (HH:mm)");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -60,7 +60,7 @@ public class MemberController {
         @Schema(description = "통장사본 파일 (PDF, JPG, PNG)", type = "string", format = "binary")
         MultipartFile bankCertFile
     ) {
-        log.info("파트너 회원가입 요청: {}", request.getLoginId());
+        log.debug("파트너 회원가입 요청: {}", request.getLoginId());
 
         if (request.getBusinessProfile() != null) {
             request.getBusinessProfile().setBusinessCertFile(businessCertFile);
@@ -68,7 +68,7 @@ public class MemberController {
         }
 
         MemberResponse response = memberService.signUp(request);
-        log.info("회원가입 성공: {} (ID: {})", response.getLoginId(), response.getId());
+        log.debug("회원가입 성공: {} (ID: {})", response.getLoginId(), response.getId());
         
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(com.sinsaflower.server.global.dto.ApiResponse.created(MemberConstants.Messages.SIGNUP_SUCCESS, response));
@@ -90,7 +90,7 @@ public class MemberController {
     @GetMapping("/me")
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<MemberResponse>> getMyInfo(
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("내 정보 조회 요청: {} (ID: {})", currentUser.getUsername(), currentUser.getUserId());
+        log.debug("내 정보 조회 요청: {} (ID: {})", currentUser.getUsername(), currentUser.getUserId());
         
         MemberResponse response = memberService.getMemberInfo(currentUser.getUserId());
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success(MemberConstants.Messages.MEMBER_INFO_RETRIEVED, response));
@@ -104,7 +104,7 @@ public class MemberController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Page<MemberResponse>>> searchByName(
             @RequestParam String name,
             Pageable pageable) {
-        log.info("화환명 검색 요청: {}", name);
+        log.debug("화환명 검색 요청: {}", name);
         
         Page<MemberResponse> response = memberService.searchMembersByName(name, pageable);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success(MemberConstants.Messages.MEMBER_LIST_RETRIEVED, response));
@@ -120,7 +120,7 @@ public class MemberController {
             @RequestParam(required = false) String sigungu,
             @RequestParam(required = false) String eupmyeondong,
             Pageable pageable) {
-        log.info("지역 검색 요청: {} {} {}", sido, sigungu, eupmyeondong);
+        log.debug("지역 검색 요청: {} {} {}", sido, sigungu, eupmyeondong);
         
         Page<MemberResponse> response = memberService.searchMembersByRegion(sido, sigungu, eupmyeondong, pageable);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success(MemberConstants.Messages.MEMBER_LIST_RETRIEVED, response));
@@ -134,7 +134,7 @@ public class MemberController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Page<MemberResponse>>> searchByProduct(
             @RequestParam String productName,
             Pageable pageable) {
-        log.info("취급 상품 검색 요청: {}", productName);
+        log.debug("취급 상품 검색 요청: {}", productName);
         
         Page<MemberResponse> response = memberService.searchMembersByProduct(productName, pageable);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success(MemberConstants.Messages.MEMBER_LIST_RETRIEVED, response));
@@ -150,7 +150,7 @@ public class MemberController {
             @RequestParam(required = false) String sido,
             @RequestParam(required = false) String sigungu,
             Pageable pageable) {
-        log.info("복합 검색 요청: name={}, sido={}, sigungu={}, product={}", name, sido, sigungu);
+        log.debug("복합 검색 요청: name={}, sido={}, sigungu={}, product={}", name, sido, sigungu);
         
         return ResponseEntity.ok(
                 com.sinsaflower.server.global.dto.ApiResponse.success(
@@ -169,7 +169,7 @@ public class MemberController {
             @RequestParam String currentPassword,
             @RequestParam String newPassword,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        log.info("비밀번호 변경 요청: {}", currentUser.getUsername());
+        log.debug("비밀번호 변경 요청: {}", currentUser.getUsername());
         
         memberService.changePassword(currentUser.getUserId(), currentPassword, newPassword);
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success(MemberConstants.Messages.PASSWORD_UPDATED));
@@ -3,6 +3,8 @@ package com.sinsaflower.server.domain.member.controller;
 import com.sinsaflower.server.domain.member.dto.DuplicateCheckResponse;
 import com.sinsaflower.server.domain.member.repository.MemberRepository;
 import com.sinsaflower.server.domain.member.repository.MemberBusinessProfileRepository;
+import com.sinsaflower.server.domain.member.service.MemberDuplicateFilter;
+import com.sinsaflower.server.domain.member.service.MemberDuplicateFilter.Field;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 /**
  * 회원 정보 중복 확인 컨트롤러
  * 회원가입 시 필요한 각종 정보의 중복 여부를 확인하는 API 제공
+ * 입력할 때마다 호출되므로 MemberDuplicateFilter 에서 확실히 없는 값은 DB 조회 없이 응답한다.
  */
 @Tag(name = "중복 확인 API", description = "회원가입 시 로그인 ID, 전화번호, 사업자등록번호 등의 중복 여부를 확인하는 API")
 @RestController
@@ -28,6 +31,7 @@ public class MemberValidationController {
 
     private final MemberRepository memberRepository;
     private final MemberBusinessProfileRepository memberBusinessProfileRepository;
+    private final MemberDuplicateFilter memberDuplicateFilter;
 
     @Operation(
         summary = "로그인 ID 중복 확인", 
@@ -45,9 +49,9 @@ public class MemberValidationController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<DuplicateCheckResponse>> checkLoginIdDuplicate(
             @Parameter(description = "확인할 로그인 ID", required = true, example = "partner123") 
             @PathVariable String loginId) {
-        log.info("로그인 ID 중복 확인 요청: {}", loginId);
+        log.debug("로그인 ID 중복 확인 요청: {}", loginId);
         
-        boolean exists = memberRepository.existsByLoginId(loginId);
+        boolean exists = memberDuplicateFilter.exists(Field.LOGIN_ID, loginId, () -> memberRepository.existsByLoginId(loginId));
         DuplicateCheckResponse response = exists ? 
             DuplicateCheckResponse.loginIdDuplicate() : 
             DuplicateCheckResponse.loginIdAvailable();
@@ -74,9 +78,9 @@ public class MemberValidationController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<DuplicateCheckResponse>> checkMobileDuplicate(
             @Parameter(description = "확인할 전화번호", required = true, example = "010-1234-5678") 
             @PathVariable String mobile) {
-        log.info("전화번호 중복 확인 요청: {}", mobile);
+        log.debug("전화번호 중복 확인 요청: {}", mobile);
         
-        boolean exists = memberRepository.existsByMobile(mobile);
+        boolean exists = memberDuplicateFilter.exists(Field.MOBILE, mobile, () -> memberRepository.existsByMobile(mobile));
         DuplicateCheckResponse response = exists ? 
             DuplicateCheckResponse.mobileDuplicate() : 
             DuplicateCheckResponse.mobileAvailable();
@@ -103,9 +107,10 @@ public class MemberValidationController {
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<DuplicateCheckResponse>> checkBusinessNumberDuplicate(
             @Parameter(description = "확인할 사업자등록번호", required = true, example = "123-45-67890") 
             @PathVariable String businessNumber) {
-        log.info("사업자등록번호 중복 확인 요청: {}", businessNumber);
+        log.debug("사업자등록번호 중복 확인 요청: {}", businessNumber);
         
-        boolean exists = memberBusinessProfileRepository.existsByBusinessNumber(businessNumber);
+        boolean exists = memberDuplicateFilter.exists(Field.BUSINESS_NUMBER, businessNumber,
+                () -> memberBusinessProfileRepository.existsByBusinessNumber(businessNumber));
         DuplicateCheckResponse response = exists ? 
             DuplicateCheckResponse.businessNumberDuplicate() : 
             DuplicateCheckResponse.businessNumberAvailable();
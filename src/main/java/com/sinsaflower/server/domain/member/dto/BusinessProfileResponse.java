@@ -1,12 +1,13 @@
 package com.sinsaflower.server.domain.member.dto;
 
 import com.sinsaflower.server.domain.common.Address;
+import com.sinsaflower.server.domain.member.entity.MemberBankAccount;
 import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
 import lombok.Builder;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Builder
 public record BusinessProfileResponse(
@@ -41,9 +42,7 @@ public record BusinessProfileResponse(
                 .businessType(profile.getBusinessType())
                 .businessItem(profile.getBusinessItem())
                 .businessCertFilePath(profile.getBusinessCertFilePath())
-                .bankAccounts(profile.getBankAccounts().stream()
-                        .map(BankAccountResponse::from)
-                        .collect(Collectors.toList()))
+                .bankAccounts(mapBankAccounts(profile.getBankAccounts()))
                 .autoProductRegister(profile.getAutoProductRegister())
                 .canNightDelivery(profile.getCanNightDelivery())
                 .deliveryStartTime(profile.getDeliveryStartTime())
@@ -52,4 +51,13 @@ public record BusinessProfileResponse(
                 .rejectionReason(profile.getRejectionReason())
                 .build();
     }
+
+    // 계좌 목록 변환 (목록 크기만큼 미리 할당)
+    private static List<BankAccountResponse> mapBankAccounts(List<MemberBankAccount> bankAccounts) {
+        List<BankAccountResponse> result = new ArrayList<>(bankAccounts.size());
+        for (MemberBankAccount bankAccount : bankAccounts) {
+            result.add(BankAccountResponse.from(bankAccount));
+        }
+        return result;
+    }
 }
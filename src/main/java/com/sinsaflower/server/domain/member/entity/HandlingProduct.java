@@ -5,6 +5,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 import com.sinsaflower.server.domain.common.BaseTimeEntity;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "handling_product", 
@@ -12,6 +13,7 @@ import com.sinsaflower.server.domain.common.BaseTimeEntity;
            name = "uk_member_product_type", 
            columnNames = {"member_id", "product_type"}
        ))
+@SQLRestriction("is_deleted = false") // 소프트 삭제된 처리 상품은 조회에서 제외
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -75,6 +75,11 @@ public class Member extends BaseTimeEntity {
     @Column(length = 20)
     private MemberRank rank = MemberRank.Bronze;
 
+    // 낙관적 락 버전 (관리자 승인/정지가 겹치면 나중 커밋은 실패)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 비즈니스 메서드
     public void encodePassword(PasswordEncoder passwordEncoder) {
         this.password = passwordEncoder.encode(this.password);
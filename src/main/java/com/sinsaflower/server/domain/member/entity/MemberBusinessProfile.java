@@ -88,6 +88,11 @@ public class MemberBusinessProfile {
     private String approvedBy; // 승인자
     private String rejectionReason; // 거절 사유
 
+    // 낙관적 락 버전 (동시 수정 시 나중 커밋은 실패)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 비즈니스 메서드
     public void approve(String approver) {
         this.approvalStatus = ApprovalStatus.APPROVED;
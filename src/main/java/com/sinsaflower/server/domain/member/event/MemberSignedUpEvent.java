@@ -0,0 +1,7 @@
+package com.sinsaflower.server.domain.member.event;
+
+/**
+ * 회원 가입 이벤트 (MemberDuplicateFilter 가 커밋 시 중복 확인 필터에 값을 추가)
+ */
+public record MemberSignedUpEvent(String loginId, String mobile, String businessNumber) {
+}
@@ -6,6 +6,7 @@ import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,6 +18,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     // 로그인 ID로 회원 조회
     Optional<Member> findByLoginId(String loginId);
+
+    // 삭제되지 않은 회원 조회
+    Optional<Member> findByIdAndIsDeletedFalse(Long id);
     
     // 로그인 ID 중복 확인
     boolean existsByLoginId(String loginId);
@@ -149,9 +153,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Object[]> countMembersByProduct();
     
     // 기본 통계용 쿼리
+    long countByIsDeletedFalse();
+
     @Query("SELECT COUNT(m) FROM Member m WHERE m.status = :status AND m.isDeleted = false")
     long countByStatus(@Param("status") MemberStatus status);
     
+    // 조건부 상태 전이 (현재 상태가 expected 일 때만, 버전 증가로 엔티티 경로의 동시 수정도 실패시킴)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Member m SET m.status = :next, m.version = m.version + 1, m.updatedAt = :now " +
+           "WHERE m.id = :id AND m.status = :expected AND m.isDeleted = false")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expected") MemberStatus expected,
+                         @Param("next") MemberStatus next,
+                         @Param("now") LocalDateTime now);
+
     // 사업자등록번호로 중복 확인 (파트너 회원 전용)
     @Query("SELECT COUNT(m) > 0 FROM Member m LEFT JOIN m.businessProfile mbp WHERE mbp.businessNumber = :businessNumber")
     boolean existsByBusinessNumber(@Param("businessNumber") String businessNumber);
@@ -0,0 +1,103 @@
+package com.sinsaflower.server.domain.member.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom 필터 (false 면 확실히 없음, true 면 있을 수도 있음)
+ * 비트 배열은 AtomicLongArray 라 추가와 조회가 여러 스레드에서 잠금 없이 동시에 일어나도 된다.
+ * 해시는 64비트 해시 두 개로 k 개 위치를 만든다 (h1 + i * h2).
+ */
+final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SECOND_SEED = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.words = new AtomicLongArray((int) (bitSize >>> 6));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 건수와 목표 오탐률로 크기 결정 (maxBits 를 넘으면 maxBits 로 제한)
+     */
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate, long maxBits) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        long limit = Math.min(Math.max(64, maxBits), 64L * Integer.MAX_VALUE);
+        bits = Math.min(Math.max(64, bits), limit);
+        bits = (bits + 63) & ~63L;
+        int hashCount = (int) Math.max(1, Math.min(16, Math.round((double) bits / n * Math.log(2))));
+        return new BloomFilter(bits, hashCount);
+    }
+
+    void put(String value) {
+        long h1 = hash(value, FNV_OFFSET);
+        long h2 = hash(value, FNV_OFFSET ^ SECOND_SEED);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << (index & 63);
+            if ((words.get(word) & mask) == 0) {
+                words.accumulateAndGet(word, mask, (current, bit) -> current | bit);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h1 = hash(value, FNV_OFFSET);
+        long h2 = hash(value, FNV_OFFSET ^ SECOND_SEED);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    long byteSize() {
+        return bitSize >>> 3;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 오탐률
+     */
+    double estimatedFalsePositiveRate() {
+        long set = 0;
+        for (int i = 0; i < words.length(); i++) {
+            set += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) set / bitSize, hashCount);
+    }
+
+    // FNV-1a 후 murmur3 fmix64 로 비트를 섞음 (문자 단위라 바이트 배열을 만들지 않음)
+    private static long hash(String value, long seed) {
+        long h = seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= FNV_PRIME;
+        }
+        h ^= value.length();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,322 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.event.MemberSignedUpEvent;
+import com.sinsaflower.server.global.config.MemberDuplicateFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 회원가입 중복 확인 사전 필터 (로그인 ID, 전화번호, 사업자등록번호별 Bloom 필터)
+ * 필터에 없으면 확실히 사용 가능한 값이므로 DB 를 조회하지 않고, 있을 수도 있는 값만 기존 exists 조회로 확인한다.
+ * 시작 시 전체 값을 커서로 한 번 읽어 적재하고, 가입 트랜잭션은 커밋 직전에 값을 추가한다 (롤백되면 오탐만 늘어남).
+ * 다른 서버에서 가입한 회원은 sync-interval-millis 마다 created_at 기준으로 가져오고,
+ * 삭제된 값은 필터에서 뺄 수 없으므로 rebuild-interval-millis 마다 새로 적재해 교체한다.
+ * 적재 전이거나 비활성이면 항상 DB 를 조회하며, 필터가 틀려도 가입 시 중복 검증/유니크 제약이 최종 판단한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberDuplicateFilter {
+
+    private static final String METRIC_NAME = "member.duplicate_check.prefilter";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM member";
+    private static final String SCAN_MEMBER_SQL = "SELECT login_id, mobile FROM member";
+    private static final String SCAN_BUSINESS_NUMBER_SQL = "SELECT business_number FROM member_business_profile";
+    private static final String SYNC_SQL =
+            "SELECT m.login_id, m.mobile, p.business_number FROM member m " +
+            "LEFT JOIN member_business_profile p ON p.member_id = m.id WHERE m.created_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MemberDuplicateFilterProperties memberDuplicateFilterProperties;
+    private final MeterRegistry meterRegistry;
+
+    // 조회/재적재 필터 교체만 보호 (값 추가는 잠금 밖에서, BloomFilter 는 동시 추가에 안전)
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Map<Field, Map<Result, Counter>> counters = new EnumMap<>(Field.class);
+
+    // 조회용 필터 (적재 전 null)
+    private volatile Filters current;
+    // 재적재 중인 필터 (swapLock 으로 교체, 적재 중 들어온 가입도 함께 추가)
+    private Filters building;
+    // 마지막 동기화 조회 시작 시각 (적재 시 스캔 시작 시각으로 초기화)
+    private volatile LocalDateTime lastSyncedAt;
+
+    @PostConstruct
+    void init() {
+        for (Field field : Field.values()) {
+            Map<Result, Counter> byResult = new EnumMap<>(Result.class);
+            for (Result result : Result.values()) {
+                byResult.put(result, Counter.builder(METRIC_NAME)
+                        .tag("field", field.tag)
+                        .tag("result", result.tag)
+                        .register(meterRegistry));
+            }
+            counters.put(field, byResult);
+        }
+        Gauge.builder(METRIC_NAME + ".bytes", this, MemberDuplicateFilter::byteSize).register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * 중복 여부 (필터에 없으면 DB 조회 없이 false, 있을 수도 있으면 query 결과)
+     */
+    public boolean exists(Field field, String value, BooleanSupplier query) {
+        Filters filters = current;
+        if (!memberDuplicateFilterProperties.isEnabled() || filters == null || value == null) {
+            count(field, Result.BYPASS);
+            return query.getAsBoolean();
+        }
+        if (!filters.get(field).mightContain(value)) {
+            count(field, Result.NEGATIVE);
+            return false;
+        }
+        boolean exists = query.getAsBoolean();
+        count(field, exists ? Result.HIT : Result.FALSE_POSITIVE);
+        return exists;
+    }
+
+    /**
+     * 가입 트랜잭션 커밋 직전에 값 추가 (커밋 후에 추가하면 그 사이 조회가 사용 가능으로 응답할 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMemberSignedUp(MemberSignedUpEvent event) {
+        add(event.loginId(), event.mobile(), event.businessNumber());
+    }
+
+    /**
+     * 시작 시 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        rebuildQuietly();
+    }
+
+    @Scheduled(fixedDelayString = "${member.duplicate-filter.rebuild-interval-millis:21600000}",
+            initialDelayString = "${member.duplicate-filter.rebuild-interval-millis:21600000}")
+    public void rebuildScheduled() {
+        rebuildQuietly();
+    }
+
+    /**
+     * 전체 값을 새 필터에 적재한 뒤 교체 (적재 중에는 기존 필터로 응답)
+     *
+     * @return 적재한 회원 수, 이미 적재 중이면 -1
+     */
+    public long rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime scanStartedAt = LocalDateTime.now();
+            Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+            long members = count != null ? count : 0;
+            // 다음 재적재까지 늘어날 가입을 감안해 실제 건수의 2배로 잡음
+            Filters next = Filters.create(Math.max(memberDuplicateFilterProperties.getExpectedInsertions(), members * 2),
+                    memberDuplicateFilterProperties);
+            swapLock.lock();
+            try {
+                building = next;
+            } finally {
+                swapLock.unlock();
+            }
+
+            JdbcTemplate cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+            cursorTemplate.setFetchSize(memberDuplicateFilterProperties.getFetchSize());
+            // PostgreSQL 은 트랜잭션 안에서만 fetch-size 커서가 동작
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                cursorTemplate.query(SCAN_MEMBER_SQL, (RowCallbackHandler) rs ->
+                        next.add(rs.getString("login_id"), rs.getString("mobile"), null));
+                cursorTemplate.query(SCAN_BUSINESS_NUMBER_SQL, (RowCallbackHandler) rs ->
+                        next.add(null, null, rs.getString("business_number")));
+            });
+
+            swapLock.lock();
+            try {
+                current = next;
+                building = null;
+            } finally {
+                swapLock.unlock();
+            }
+            lastSyncedAt = scanStartedAt;
+            log.info("회원 중복 확인 필터 적재: 회원 {}명, 필드별 {}KB (해시 {}개, 추정 오탐률 로그인 ID {} / 전화번호 {} / 사업자등록번호 {}) {}ms",
+                    members, next.loginId().byteSize() / 1024, next.loginId().hashCount(),
+                    rate(next.loginId()), rate(next.mobile()), rate(next.businessNumber()),
+                    System.currentTimeMillis() - startedAt);
+            return members;
+        } finally {
+            swapLock.lock();
+            try {
+                building = null;
+            } finally {
+                swapLock.unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${member.duplicate-filter.sync-interval-millis:10000}")
+    public void syncScheduled() {
+        if (!memberDuplicateFilterProperties.isEnabled() || current == null) {
+            return;
+        }
+        try {
+            sync();
+        } catch (Exception e) {
+            log.error("회원 중복 확인 필터 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 가입한 회원 값을 필터에 추가 (다른 서버에서 가입한 회원)
+     *
+     * @return 조회한 회원 수
+     */
+    public int sync() {
+        LocalDateTime since = lastSyncedAt;
+        if (since == null) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int[] count = {0};
+        jdbcTemplate.query(SYNC_SQL, (RowCallbackHandler) rs -> {
+            add(rs.getString("login_id"), rs.getString("mobile"), rs.getString("business_number"));
+            count[0]++;
+        }, Timestamp.valueOf(since.minusSeconds(memberDuplicateFilterProperties.getSyncOverlapSeconds())));
+        lastSyncedAt = now;
+        return count[0];
+    }
+
+    // 교체 중인 두 필터를 함께 읽고, 추가는 잠금 밖에서 (읽은 뒤 교체돼도 재적재 필터에 함께 들어감)
+    private void add(String loginId, String mobile, String businessNumber) {
+        Filters active;
+        Filters next;
+        swapLock.lock();
+        try {
+            active = current;
+            next = building;
+        } finally {
+            swapLock.unlock();
+        }
+        if (active != null) {
+            active.add(loginId, mobile, businessNumber);
+        }
+        if (next != null) {
+            next.add(loginId, mobile, businessNumber);
+        }
+    }
+
+    private void rebuildQuietly() {
+        if (!memberDuplicateFilterProperties.isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("회원 중복 확인 필터 적재 실패 (기존 필터 또는 DB 조회로 응답)", e);
+        }
+    }
+
+    private void count(Field field, Result result) {
+        counters.get(field).get(result).increment();
+    }
+
+    private double byteSize() {
+        Filters filters = current;
+        return filters == null ? 0 : filters.loginId().byteSize() + filters.mobile().byteSize() + filters.businessNumber().byteSize();
+    }
+
+    private static String rate(BloomFilter filter) {
+        return String.format("%.4f", filter.estimatedFalsePositiveRate());
+    }
+
+    /**
+     * 중복 확인 대상 필드
+     */
+    public enum Field {
+        LOGIN_ID("login_id"),
+        MOBILE("mobile"),
+        BUSINESS_NUMBER("business_number");
+
+        private final String tag;
+
+        Field(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    // 사전 확인 결과 (negative / (negative + hit + false_positive) 가 DB 조회를 생략한 비율)
+    private enum Result {
+        NEGATIVE("negative"),             // 필터에 없음, DB 조회 생략
+        HIT("hit"),                       // 필터에 있고 DB 에도 있음
+        FALSE_POSITIVE("false_positive"), // 필터에 있지만 DB 에 없음
+        BYPASS("bypass");                 // 적재 전/비활성, DB 조회
+
+        private final String tag;
+
+        Result(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record Filters(BloomFilter loginId, BloomFilter mobile, BloomFilter businessNumber) {
+
+        private static Filters create(long expectedInsertions, MemberDuplicateFilterProperties properties) {
+            long maxBits = properties.getMaxBytesPerFilter() * 8;
+            return new Filters(
+                    BloomFilter.create(expectedInsertions, properties.getFalsePositiveRate(), maxBits),
+                    BloomFilter.create(expectedInsertions, properties.getFalsePositiveRate(), maxBits),
+                    BloomFilter.create(expectedInsertions, properties.getFalsePositiveRate(), maxBits));
+        }
+
+        private BloomFilter get(Field field) {
+            return switch (field) {
+                case LOGIN_ID -> loginId;
+                case MOBILE -> mobile;
+                case BUSINESS_NUMBER -> businessNumber;
+            };
+        }
+
+        private void add(String loginId, String mobile, String businessNumber) {
+            if (loginId != null) {
+                this.loginId.put(loginId);
+            }
+            if (mobile != null) {
+                this.mobile.put(mobile);
+            }
+            if (businessNumber != null) {
+                this.businessNumber.put(businessNumber);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.sinsaflower.server.domain.member.dto.*;
 import com.sinsaflower.server.domain.member.dto.MemberSignupRequest.ActivityRegionRequest;
 import com.sinsaflower.server.domain.member.entity.*;
 import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.event.MemberSignedUpEvent;
 import com.sinsaflower.server.domain.member.repository.*;
 import com.sinsaflower.server.domain.product.entity.MemberProductPrice;
 import com.sinsaflower.server.domain.product.repository.MemberProductPriceRepository;
@@ -13,6 +14,7 @@ import com.sinsaflower.server.global.exception.ResourceNotFoundException;
 import com.sinsaflower.server.global.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -39,13 +41,14 @@ public class MemberService {
     private final NotificationSettingRepository notificationSettingRepository;
     private final FileUploadService fileUploadService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원 가입 처리
      */
     @Transactional
     public MemberResponse signUp(MemberSignupRequest request) {
-        log.info("회원 가입 요청 처리: {}", request.getLoginId());
+        log.debug("회원 가입 요청 처리: {}", request.getLoginId());
 
         // 1. 중복 검증
         validateDuplicateSignup(request);
@@ -67,6 +70,9 @@ public class MemberService {
         // 6. 상품 가격 정보 생성
         createProductPrices(member, request);
 
+        // 7. 중복 확인 필터에 추가 (커밋 시 반영)
+        eventPublisher.publishEvent(new MemberSignedUpEvent(member.getLoginId(), member.getMobile(), businessProfile.getBusinessNumber()));
+
         log.info("회원 가입 완료: {} (ID: {})", member.getLoginId(), member.getId());
         return convertToResponse(member);
     }
@@ -246,7 +252,7 @@ public class MemberService {
         
         if (!allPrices.isEmpty()) {
             productPriceRepository.saveAll(allPrices);
-            log.info("상품 가격 정보 생성 완료: {} 개", allPrices.size());
+            log.debug("상품 가격 정보 생성 완료: {} 개", allPrices.size());
         }
     }
 
@@ -439,10 +445,9 @@ public class MemberService {
      */
     @Transactional
     public void changePassword(Long memberId, String currentPassword, String newPassword) {
-        log.info("비밀번호 변경 요청: {}", memberId);
+        log.debug("비밀번호 변경 요청: {}", memberId);
 
-        Member member = memberRepository.findById(memberId)
-                .filter(m -> !m.getIsDeleted())
+        Member member = memberRepository.findByIdAndIsDeletedFalse(memberId)
                 .orElseThrow(() -> new ResourceNotFoundException(MemberConstants.Messages.MEMBER_NOT_FOUND + ": " + memberId));
 
         member.changePassword(currentPassword, newPassword, passwordEncoder);
@@ -460,9 +465,9 @@ public class MemberService {
         // --- 디버깅 로그 추가 ---
         members.getContent().forEach(member -> {
             if (member.getBusinessProfile() == null) {
-                log.info("Member ID {}: BusinessProfile is NULL after fetch.", member.getId());
+                log.debug("Member ID {}: BusinessProfile is NULL after fetch.", member.getId());
             } else {
-                log.info("Member ID {}: BusinessProfile FOUND. CorpName: {}", member.getId(), member.getBusinessProfile().getCorpName());
+                log.debug("Member ID {}: BusinessProfile FOUND. CorpName: {}", member.getId(), member.getBusinessProfile().getCorpName());
             }
         });
         // ----------------------
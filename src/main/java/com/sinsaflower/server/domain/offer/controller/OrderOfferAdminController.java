@@ -0,0 +1,72 @@
+package com.sinsaflower.server.domain.offer.controller;
+
+import com.sinsaflower.server.domain.offer.dto.OrderOfferResponse;
+import com.sinsaflower.server.domain.offer.entity.OrderOffer.OfferStatus;
+import com.sinsaflower.server.domain.offer.service.OrderOfferService;
+import com.sinsaflower.server.domain.order.util.PagingUtils;
+import com.sinsaflower.server.global.dto.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 주문 제안 관리 컨트롤러 (관리자)
+ * 접수 상태 주문을 지역 파트너에게 제안하고 제안 현황을 조회하는 API 제공
+ */
+@RestController
+@RequestMapping("/api/admin/offers")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "주문 제안 관리 (관리자)", description = "지역 파트너 주문 제안 API")
+public class OrderOfferAdminController {
+
+    private final OrderOfferService orderOfferService;
+
+    /**
+     * 주문 제안 등록
+     */
+    @PostMapping
+    @Operation(summary = "주문 제안 등록", description = "접수 상태의 주문을 배송 지역 파트너에게 제안합니다. 먼저 선점해 수락한 파트너에게 배정됩니다.")
+    public ResponseEntity<ApiResponse<OrderOfferResponse>> openOffer(@RequestParam Long orderId) {
+        log.debug("관리자 주문 제안 등록 요청: 주문 {}", orderId);
+
+        OrderOfferResponse response = orderOfferService.openOffer(orderId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("주문 제안이 등록되었습니다.", response));
+    }
+
+    /**
+     * 주문 제안 조회
+     */
+    @GetMapping("/{offerId}")
+    @Operation(summary = "주문 제안 조회", description = "주문 제안의 상태와 선점 정보를 조회합니다.")
+    public ResponseEntity<ApiResponse<OrderOfferResponse>> getOffer(@PathVariable Long offerId) {
+        OrderOfferResponse response = orderOfferService.getOffer(offerId);
+        return ResponseEntity.ok(ApiResponse.success("주문 제안 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 상태별 주문 제안 목록
+     */
+    @GetMapping
+    @Operation(summary = "주문 제안 목록", description = "상태별 주문 제안 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<Page<OrderOfferResponse>>> getOffers(
+            @RequestParam(defaultValue = "OPEN") OfferStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction) {
+
+        Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
+        Page<OrderOfferResponse> response = orderOfferService.getOffers(status, pageable);
+        return ResponseEntity.ok(ApiResponse.success("주문 제안 목록 조회가 성공적으로 완료되었습니다.", response));
+    }
+}
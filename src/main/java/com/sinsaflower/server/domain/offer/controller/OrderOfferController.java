@@ -0,0 +1,107 @@
+package com.sinsaflower.server.domain.offer.controller;
+
+import com.sinsaflower.server.domain.offer.dto.OfferLeaseResponse;
+import com.sinsaflower.server.domain.offer.dto.OrderOfferResponse;
+import com.sinsaflower.server.domain.offer.service.OrderOfferService;
+import com.sinsaflower.server.domain.order.util.PagingUtils;
+import com.sinsaflower.server.global.dto.ApiResponse;
+import com.sinsaflower.server.global.security.CustomUserDetails;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파트너 주문 선점 컨트롤러
+ * 활동 지역에 제안된 주문을 선점(임대)하고, 임대 시간 안에 연장/수락/반납하는 API 제공
+ */
+@RestController
+@RequestMapping("/api/offers")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "주문 선점 (파트너)", description = "지역 파트너 주문 선점/수락 API")
+public class OrderOfferController {
+
+    private final OrderOfferService orderOfferService;
+
+    /**
+     * 주문 선점
+     */
+    @PostMapping("/claim")
+    @Operation(summary = "주문 선점", description = "활동 지역에 제안된 가장 오래된 주문을 선점합니다. 임대 시간 안에 수락하지 않으면 다른 파트너에게 넘어갑니다.")
+    public ResponseEntity<ApiResponse<OfferLeaseResponse>> claim(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        OfferLeaseResponse response = orderOfferService.claim(userDetails.getUserId());
+        if (response == null) {
+            return ResponseEntity.ok(ApiResponse.success("선점할 수 있는 주문이 없습니다.", null));
+        }
+        return ResponseEntity.ok(ApiResponse.success("주문을 선점했습니다.", response));
+    }
+
+    /**
+     * 임대 연장
+     */
+    @PostMapping("/{offerId}/renew")
+    @Operation(summary = "선점 연장", description = "만료 전인 선점의 임대 시간을 연장합니다.")
+    public ResponseEntity<ApiResponse<LocalDateTime>> renew(
+            @PathVariable Long offerId,
+            @RequestParam String leaseToken,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        LocalDateTime expiresAt = orderOfferService.renew(offerId, userDetails.getUserId(), leaseToken);
+        return ResponseEntity.ok(ApiResponse.success("선점이 연장되었습니다.", expiresAt));
+    }
+
+    /**
+     * 주문 수락
+     */
+    @PostMapping("/{offerId}/accept")
+    @Operation(summary = "주문 수락", description = "선점한 주문을 수락해 배정을 확정합니다. 주문은 주문확인 상태가 됩니다.")
+    public ResponseEntity<ApiResponse<OrderOfferResponse>> accept(
+            @PathVariable Long offerId,
+            @RequestParam String leaseToken,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        OrderOfferResponse response = orderOfferService.accept(offerId, userDetails.getUserId(), leaseToken);
+        return ResponseEntity.ok(ApiResponse.success("주문을 수락했습니다.", response));
+    }
+
+    /**
+     * 선점 반납
+     */
+    @PostMapping("/{offerId}/release")
+    @Operation(summary = "선점 반납", description = "선점한 주문을 반납해 다른 파트너가 선점할 수 있게 합니다.")
+    public ResponseEntity<ApiResponse<Void>> release(
+            @PathVariable Long offerId,
+            @RequestParam String leaseToken,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        orderOfferService.release(offerId, userDetails.getUserId(), leaseToken);
+        return ResponseEntity.ok(ApiResponse.success("선점을 반납했습니다.", null));
+    }
+
+    /**
+     * 수락한 주문 제안 목록
+     */
+    @GetMapping("/accepted")
+    @Operation(summary = "수락한 주문 목록", description = "내가 수락한 주문 제안 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<Page<OrderOfferResponse>>> getAcceptedOffers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Pageable pageable = PagingUtils.createPageable(page, size, "acceptedAt", "desc");
+        Page<OrderOfferResponse> response = orderOfferService.getAcceptedOffers(userDetails.getUserId(), pageable);
+        return ResponseEntity.ok(ApiResponse.success("수락한 주문 목록 조회가 성공적으로 완료되었습니다.", response));
+    }
+}
@@ -0,0 +1,47 @@
+package com.sinsaflower.server.domain.offer.dto;
+
+import com.sinsaflower.server.domain.offer.service.OrderOfferQueue.OfferLease;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 선점(임대) 응답 DTO
+ * 연장/수락/반납 시 leaseToken 을 함께 보내야 한다.
+ */
+@Getter
+@Builder
+@Schema(description = "주문 선점 응답")
+public class OfferLeaseResponse {
+
+    @Schema(description = "제안 ID", example = "1")
+    private Long offerId;
+
+    @Schema(description = "주문 ID", example = "10001")
+    private Long orderId;
+
+    @Schema(description = "배송 시/도", example = "서울")
+    private String sido;
+
+    @Schema(description = "배송 시/군/구", example = "강남구")
+    private String sigungu;
+
+    @Schema(description = "임대 토큰", example = "3f2b6c1e-8a4d-4f0e-9c7b-2d5a1e6f9b30")
+    private String leaseToken;
+
+    @Schema(description = "임대 만료 일시")
+    private LocalDateTime leaseExpiresAt;
+
+    public static OfferLeaseResponse from(OfferLease lease) {
+        return OfferLeaseResponse.builder()
+                .offerId(lease.offerId())
+                .orderId(lease.orderId())
+                .sido(lease.sido())
+                .sigungu(lease.sigungu())
+                .leaseToken(lease.leaseToken())
+                .leaseExpiresAt(lease.leaseExpiresAt())
+                .build();
+    }
+}
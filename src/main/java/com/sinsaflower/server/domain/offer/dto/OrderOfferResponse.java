@@ -0,0 +1,63 @@
+package com.sinsaflower.server.domain.offer.dto;
+
+import com.sinsaflower.server.domain.offer.entity.OrderOffer;
+import com.sinsaflower.server.domain.offer.entity.OrderOffer.OfferStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 제안 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "주문 제안 응답")
+public class OrderOfferResponse {
+
+    @Schema(description = "제안 ID", example = "1")
+    private Long offerId;
+
+    @Schema(description = "주문 ID", example = "10001")
+    private Long orderId;
+
+    @Schema(description = "배송 시/도", example = "서울")
+    private String sido;
+
+    @Schema(description = "배송 시/군/구", example = "강남구")
+    private String sigungu;
+
+    @Schema(description = "제안 상태", example = "OPEN")
+    private OfferStatus status;
+
+    @Schema(description = "선점(수락) 파트너 회원 ID", example = "1024")
+    private Long leaseOwnerId;
+
+    @Schema(description = "임대 만료 일시")
+    private LocalDateTime leaseExpiresAt;
+
+    @Schema(description = "선점된 횟수", example = "1")
+    private Integer leaseCount;
+
+    @Schema(description = "수락 일시")
+    private LocalDateTime acceptedAt;
+
+    @Schema(description = "등록 일시")
+    private LocalDateTime createdAt;
+
+    public static OrderOfferResponse from(OrderOffer offer) {
+        return OrderOfferResponse.builder()
+                .offerId(offer.getId())
+                .orderId(offer.getOrderId())
+                .sido(offer.getSido())
+                .sigungu(offer.getSigungu())
+                .status(offer.getStatus())
+                .leaseOwnerId(offer.getLeaseOwnerId())
+                .leaseExpiresAt(offer.getLeaseExpiresAt())
+                .leaseCount(offer.getLeaseCount())
+                .acceptedAt(offer.getAcceptedAt())
+                .createdAt(offer.getCreatedAt())
+                .build();
+    }
+}
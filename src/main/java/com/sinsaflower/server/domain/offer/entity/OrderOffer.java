@@ -0,0 +1,79 @@
+package com.sinsaflower.server.domain.offer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 제안 (OrderOfferQueue 가 JDBC 로 선점/연장/수락/회수)
+ * 지역 파트너 중 먼저 선점한 파트너가 임대 시간 안에 수락하면 배정이 확정된다.
+ */
+@Entity
+@Table(name = "order_offer")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderOffer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long orderId; // 주문 ID
+
+    @Column(nullable = false)
+    private LocalDateTime orderCreatedAt; // 주문 생성 일시 (파티션 키)
+
+    @Column(length = 50, nullable = false)
+    private String sido; // 배송 시/도
+
+    @Column(length = 50, nullable = false)
+    private String sigungu; // 배송 시/군/구
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OfferStatus status; // 제안 상태
+
+    private Long leaseOwnerId; // 선점(수락) 파트너 회원 ID
+
+    @Column(length = 36)
+    private String leaseToken; // 임대 토큰 (연장/수락/반납 시 확인)
+
+    private LocalDateTime leaseExpiresAt; // 임대 만료 일시
+
+    @Column(nullable = false)
+    private Integer leaseCount; // 선점된 횟수
+
+    private LocalDateTime acceptedAt; // 수락 일시
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 주문 제안 상태 enum
+    public enum OfferStatus {
+        OPEN("대기"),
+        LEASED("선점"),
+        ACCEPTED("수락"),
+        CANCELLED("취소");
+
+        private final String description;
+
+        OfferStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.sinsaflower.server.domain.offer.event;
+
+/**
+ * 주문 제안 수락 이벤트 (트랜잭션 커밋 후 DispatchEngine 이 파트너 당일 부하에 반영)
+ */
+public record OrderOfferAcceptedEvent(Long offerId, Long orderId, Long memberId) {
+}
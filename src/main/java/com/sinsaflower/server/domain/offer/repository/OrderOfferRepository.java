@@ -0,0 +1,20 @@
+package com.sinsaflower.server.domain.offer.repository;
+
+import com.sinsaflower.server.domain.offer.entity.OrderOffer;
+import com.sinsaflower.server.domain.offer.entity.OrderOffer.OfferStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OrderOfferRepository extends JpaRepository<OrderOffer, Long> {
+
+    Optional<OrderOffer> findByOrderId(Long orderId);
+
+    Page<OrderOffer> findByStatus(OfferStatus status, Pageable pageable);
+
+    Page<OrderOffer> findByLeaseOwnerIdAndStatus(Long leaseOwnerId, OfferStatus status, Pageable pageable);
+}
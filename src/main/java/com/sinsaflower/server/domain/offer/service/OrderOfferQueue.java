@@ -0,0 +1,199 @@
+package com.sinsaflower.server.domain.offer.service;
+
+import com.sinsaflower.server.domain.offer.entity.OrderOffer.OfferStatus;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.global.config.OrderOfferProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 주문 제안 큐 (order_offer)
+ * 파트너는 활동 지역의 가장 오래된 OPEN 제안을 FOR UPDATE SKIP LOCKED 로 골라 임대(lease)로 선점하므로
+ * 동시에 선점하는 파트너끼리 서로 기다리지 않고 다른 행을 가져간다.
+ * 연장/수락/반납은 임대 토큰과 만료 시각을 조건으로 한 단건 UPDATE 라 행을 다시 읽거나 잠그지 않는다.
+ * 만료된 임대는 reapExpired 가 OPEN 으로 되돌린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOfferQueue {
+
+    private static final String OPEN = OfferStatus.OPEN.name();
+    private static final String LEASED = OfferStatus.LEASED.name();
+    private static final String ACCEPTED = OfferStatus.ACCEPTED.name();
+    private static final String CANCELLED = OfferStatus.CANCELLED.name();
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_offer (order_id, order_created_at, sido, sigungu, status, lease_count, version, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, '" + OPEN + "', 0, 0, ?, ?)";
+    private static final String REOPEN_SQL =
+            "UPDATE order_offer SET status = '" + OPEN + "', lease_owner_id = NULL, lease_token = NULL, " +
+            "lease_expires_at = NULL, version = version + 1, updated_at = ? WHERE order_id = ? AND status = '" + CANCELLED + "'";
+    private static final String EXISTS_SQL =
+            "SELECT COUNT(*) FROM order_offer WHERE order_id = ?";
+    // 파트너 활동 지역의 가장 오래된 대기 제안 1건 (다른 트랜잭션이 잠근 행은 건너뜀)
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT o.id FROM order_offer o WHERE o.status = '" + OPEN + "' AND EXISTS (" +
+            "SELECT 1 FROM member_activity_region r WHERE r.member_id = ? AND r.sido = o.sido AND r.sigungu = o.sigungu " +
+            "AND (r.is_active IS NULL OR r.is_active = true)) " +
+            "ORDER BY o.id LIMIT 1 FOR UPDATE SKIP LOCKED";
+    private static final String LEASE_SQL =
+            "UPDATE order_offer SET status = '" + LEASED + "', lease_owner_id = ?, lease_token = ?, lease_expires_at = ?, " +
+            "lease_count = lease_count + 1, version = version + 1, updated_at = ? WHERE id = ? AND status = '" + OPEN + "'";
+    private static final String SELECT_LEASE_SQL =
+            "SELECT order_id, sido, sigungu FROM order_offer WHERE id = ?";
+    private static final String RENEW_SQL =
+            "UPDATE order_offer SET lease_expires_at = ?, updated_at = ? " +
+            "WHERE id = ? AND lease_owner_id = ? AND lease_token = ? AND status = '" + LEASED + "' AND lease_expires_at > ?";
+    private static final String RELEASE_SQL =
+            "UPDATE order_offer SET status = '" + OPEN + "', lease_owner_id = NULL, lease_token = NULL, " +
+            "lease_expires_at = NULL, version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND lease_owner_id = ? AND lease_token = ? AND status = '" + LEASED + "'";
+    private static final String ACCEPT_SQL =
+            "UPDATE order_offer SET status = '" + ACCEPTED + "', lease_token = NULL, lease_expires_at = NULL, " +
+            "accepted_at = ?, version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND lease_owner_id = ? AND lease_token = ? AND status = '" + LEASED + "' AND lease_expires_at > ?";
+    private static final String SELECT_ORDER_ID_SQL =
+            "SELECT order_id FROM order_offer WHERE id = ?";
+    private static final String REAP_EXPIRED_SQL =
+            "UPDATE order_offer SET status = '" + OPEN + "', lease_owner_id = NULL, lease_token = NULL, " +
+            "lease_expires_at = NULL, version = version + 1, updated_at = ? " +
+            "WHERE status = '" + LEASED + "' AND lease_expires_at <= ?";
+    // 접수 상태가 아니게 된(취소/진행/삭제) 주문의 남은 제안 취소
+    private static final String CANCEL_STALE_SQL =
+            "UPDATE order_offer SET status = '" + CANCELLED + "', lease_token = NULL, lease_expires_at = NULL, " +
+            "version = version + 1, updated_at = ? " +
+            "WHERE status IN ('" + OPEN + "', '" + LEASED + "') AND NOT EXISTS (" +
+            "SELECT 1 FROM orders od WHERE od.id = order_offer.order_id AND od.created_at = order_offer.order_created_at " +
+            "AND od.order_status = '" + OrderStatus.PENDING.name() + "' AND od.is_deleted = false)";
+    private static final String COUNT_PENDING_SQL =
+            "SELECT COUNT(*) FROM order_offer WHERE status IN ('" + OPEN + "', '" + LEASED + "')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final OrderOfferProperties orderOfferProperties;
+
+    /**
+     * 주문 제안 등록 (취소된 제안이 있으면 다시 대기 상태로)
+     *
+     * @return 이미 대기/선점/수락 상태의 제안이 있으면 false
+     */
+    public boolean open(long orderId, LocalDateTime orderCreatedAt, String sido, String sigungu) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(REOPEN_SQL, now, orderId) == 1) {
+            return true;
+        }
+        Long count = jdbcTemplate.queryForObject(EXISTS_SQL, Long.class, orderId);
+        if (count != null && count > 0) {
+            return false;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, orderId, Timestamp.valueOf(orderCreatedAt), sido, sigungu, now, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 주문을 등록한 경우 (uk_order_offer_order)
+            return false;
+        }
+    }
+
+    /**
+     * 활동 지역의 대기 제안 1건 선점 (없으면 empty)
+     */
+    public Optional<OfferLease> claim(long memberId) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_CLAIMABLE_SQL, Long.class, memberId);
+            if (ids.isEmpty()) {
+                return Optional.empty();
+            }
+            long offerId = ids.get(0);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plusSeconds(orderOfferProperties.getLeaseSeconds());
+            String token = UUID.randomUUID().toString();
+
+            // 행 잠금을 잡은 상태라 OPEN 조건은 항상 맞지만, 잠금 없이 바뀐 경우를 대비해 갱신 건수로 확인
+            int updated = jdbcTemplate.update(LEASE_SQL, memberId, token, Timestamp.valueOf(expiresAt),
+                    Timestamp.valueOf(now), offerId);
+            if (updated == 0) {
+                return Optional.empty();
+            }
+            return jdbcTemplate.query(SELECT_LEASE_SQL, rs -> {
+                rs.next();
+                return Optional.of(new OfferLease(offerId, rs.getLong("order_id"), rs.getString("sido"),
+                        rs.getString("sigungu"), token, expiresAt));
+            }, offerId);
+        });
+    }
+
+    /**
+     * 임대 연장 (만료 전 소유자만, 새 만료 시각 반환)
+     */
+    public Optional<LocalDateTime> renew(long offerId, long memberId, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(orderOfferProperties.getLeaseSeconds());
+        int updated = jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(expiresAt), Timestamp.valueOf(now),
+                offerId, memberId, token, Timestamp.valueOf(now));
+        return updated == 1 ? Optional.of(expiresAt) : Optional.empty();
+    }
+
+    /**
+     * 임대 반납 (다시 대기 상태로)
+     */
+    public boolean release(long offerId, long memberId, String token) {
+        return jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), offerId, memberId, token) == 1;
+    }
+
+    /**
+     * 임대 중인 제안 수락 (만료 전 소유자만, 주문 ID 반환)
+     * 호출하는 쪽 트랜잭션에 참여하므로 주문 배정이 실패하면 함께 롤백된다.
+     */
+    public OptionalLong accept(long offerId, long memberId, String token) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(ACCEPT_SQL, now, now, offerId, memberId, token, now);
+        if (updated == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(jdbcTemplate.queryForObject(SELECT_ORDER_ID_SQL, Long.class, offerId));
+    }
+
+    /**
+     * 만료된 임대를 대기 상태로 되돌리고, 더 이상 접수 상태가 아닌 주문의 제안은 취소
+     *
+     * @return 되돌린 임대 수
+     */
+    public int reapExpired() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int reaped = jdbcTemplate.update(REAP_EXPIRED_SQL, now, now);
+        int cancelled = jdbcTemplate.update(CANCEL_STALE_SQL, now);
+        if (reaped > 0 || cancelled > 0) {
+            log.info("주문 제안 정리: 만료 임대 회수 {}건, 제안 취소 {}건", reaped, cancelled);
+        }
+        return reaped;
+    }
+
+    /**
+     * 처리 대기(OPEN/LEASED) 제안 수
+     */
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 선점 결과
+     */
+    public record OfferLease(long offerId, long orderId, String sido, String sigungu,
+                             String leaseToken, LocalDateTime leaseExpiresAt) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.sinsaflower.server.domain.offer.service;
+
+import com.sinsaflower.server.domain.offer.dto.OfferLeaseResponse;
+import com.sinsaflower.server.domain.offer.dto.OrderOfferResponse;
+import com.sinsaflower.server.domain.offer.entity.OrderOffer.OfferStatus;
+import com.sinsaflower.server.domain.offer.event.OrderOfferAcceptedEvent;
+import com.sinsaflower.server.domain.offer.repository.OrderOfferRepository;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.config.OrderOfferProperties;
+import com.sinsaflower.server.global.exception.DuplicateResourceException;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+/**
+ * 주문 제안 서비스
+ * 접수 상태 주문을 배송 지역 파트너에게 제안하고, 먼저 선점해 임대 시간 안에 수락한 파트너에게 배정을 확정한다.
+ * 수락 시 주문은 Order 의 @Version 으로 동시 변경을 확인하며, 충돌하면 제안 수락까지 함께 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOfferService {
+
+    private final OrderOfferQueue orderOfferQueue;
+    private final OrderOfferRepository orderOfferRepository;
+    private final OrderRepository orderRepository;
+    private final OrderOfferProperties orderOfferProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 만료 임대 주기 회수
+     */
+    @Scheduled(fixedDelayString = "${order.offer.reaper-interval-millis:5000}")
+    public void reapScheduled() {
+        if (!orderOfferProperties.isEnabled()) {
+            return;
+        }
+        try {
+            orderOfferQueue.reapExpired();
+        } catch (Exception e) {
+            log.error("주문 제안 임대 회수 실패", e);
+        }
+    }
+
+    /**
+     * 주문 제안 등록 (접수 상태 주문만, 취소된 제안은 다시 대기 상태로)
+     */
+    @Transactional
+    public OrderOfferResponse openOffer(Long orderId) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderId));
+        if (order.getOrderStatus() != OrderStatus.PENDING) {
+            throw new InvalidRequestException("접수 상태의 주문만 제안할 수 있습니다.");
+        }
+        if (order.getRegion() == null) {
+            throw new InvalidRequestException("배송 지역이 없는 주문은 제안할 수 없습니다.");
+        }
+
+        if (!orderOfferQueue.open(orderId, order.getCreatedAt(), order.getRegion().getSido(), order.getRegion().getSigungu())) {
+            throw new DuplicateResourceException("이미 제안된 주문입니다: " + orderId);
+        }
+
+        log.info("주문 제안 등록: 주문 {} ({} {})", orderId, order.getRegion().getSido(), order.getRegion().getSigungu());
+        return getOfferByOrderId(orderId);
+    }
+
+    /**
+     * 활동 지역의 대기 제안 선점 (없으면 null)
+     */
+    public OfferLeaseResponse claim(Long memberId) {
+        return orderOfferQueue.claim(memberId)
+                .map(OfferLeaseResponse::from)
+                .orElse(null);
+    }
+
+    /**
+     * 임대 연장
+     */
+    public LocalDateTime renew(Long offerId, Long memberId, String leaseToken) {
+        return orderOfferQueue.renew(offerId, memberId, requireToken(leaseToken))
+                .orElseThrow(() -> leaseLost(offerId));
+    }
+
+    /**
+     * 임대 반납
+     */
+    public void release(Long offerId, Long memberId, String leaseToken) {
+        if (!orderOfferQueue.release(offerId, memberId, requireToken(leaseToken))) {
+            throw leaseLost(offerId);
+        }
+        log.info("주문 제안 반납: 제안 {} 회원 {}", offerId, memberId);
+    }
+
+    /**
+     * 제안 수락 (주문을 주문확인 상태로 변경)
+     */
+    @Transactional
+    public OrderOfferResponse accept(Long offerId, Long memberId, String leaseToken) {
+        OptionalLong orderId = orderOfferQueue.accept(offerId, memberId, requireToken(leaseToken));
+        if (orderId.isEmpty()) {
+            throw leaseLost(offerId);
+        }
+
+        Order order = orderRepository.findById(orderId.getAsLong())
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderId.getAsLong()));
+        if (order.getOrderStatus() != OrderStatus.PENDING) {
+            throw new DuplicateResourceException("이미 처리된 주문입니다: " + order.getId());
+        }
+        order.updateStatus(OrderStatus.CONFIRMED);
+        try {
+            orderRepository.saveAndFlush(order);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new DuplicateResourceException("주문이 동시에 변경되었습니다. 다시 시도해 주세요.", e);
+        }
+        eventPublisher.publishEvent(OrderChangedEvent.of(OrderChangedEvent.Type.STATUS_CHANGED, order));
+        eventPublisher.publishEvent(new OrderOfferAcceptedEvent(offerId, order.getId(), memberId));
+
+        log.info("주문 제안 수락: 제안 {} 주문 {} 회원 {}", offerId, order.getId(), memberId);
+        return getOffer(offerId);
+    }
+
+    /**
+     * 제안 조회
+     */
+    @Transactional(readOnly = true)
+    public OrderOfferResponse getOffer(Long offerId) {
+        return orderOfferRepository.findById(offerId)
+                .map(OrderOfferResponse::from)
+                .orElseThrow(() -> new ResourceNotFoundException("주문 제안을 찾을 수 없습니다: " + offerId));
+    }
+
+    /**
+     * 상태별 제안 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderOfferResponse> getOffers(OfferStatus status, Pageable pageable) {
+        return orderOfferRepository.findByStatus(status, pageable)
+                .map(OrderOfferResponse::from);
+    }
+
+    /**
+     * 파트너가 수락한 제안 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderOfferResponse> getAcceptedOffers(Long memberId, Pageable pageable) {
+        return orderOfferRepository.findByLeaseOwnerIdAndStatus(memberId, OfferStatus.ACCEPTED, pageable)
+                .map(OrderOfferResponse::from);
+    }
+
+    private OrderOfferResponse getOfferByOrderId(Long orderId) {
+        return orderOfferRepository.findByOrderId(orderId)
+                .map(OrderOfferResponse::from)
+                .orElseThrow(() -> new ResourceNotFoundException("주문 제안을 찾을 수 없습니다: 주문 " + orderId));
+    }
+
+    private static String requireToken(String leaseToken) {
+        if (leaseToken == null || leaseToken.isBlank()) {
+            throw new InvalidRequestException("임대 토큰은 필수입니다.");
+        }
+        return leaseToken;
+    }
+
+    private static DuplicateResourceException leaseLost(Long offerId) {
+        return new DuplicateResourceException("임대가 만료되었거나 다른 파트너에게 넘어간 제안입니다: " + offerId);
+    }
+}
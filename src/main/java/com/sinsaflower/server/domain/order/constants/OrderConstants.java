@@ -79,6 +79,16 @@ public final class OrderConstants {
         }
     }
 
+    // 배송일 예약 범위
+    // orders 는 created_at 월 단위 파티션이므로, 배송일 조건을 created_at 범위로 환산할 때 이 값을 사용한다
+    public static final class DeliveryDate {
+        public static final int MAX_ADVANCE_DAYS = 365; // 주문일로부터 최대 예약 가능 일수
+        
+        private DeliveryDate() {
+            throw new IllegalStateException("Constants class");
+        }
+    }
+
     // 검색 필드
     public static final class SearchField {
         public static final String PURCHASE_SHOP_NAME = "purchaseShopName";
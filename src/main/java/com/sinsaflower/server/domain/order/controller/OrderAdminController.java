@@ -1,23 +1,35 @@
 package com.sinsaflower.server.domain.order.controller;
 
+import com.sinsaflower.server.domain.order.dto.OrderBulkStatusRequest;
+import com.sinsaflower.server.domain.order.dto.OrderBulkStatusResponse;
 import com.sinsaflower.server.domain.order.dto.OrderResponse;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.service.OrderBulkStatusService;
+import com.sinsaflower.server.domain.order.service.OrderExportService;
 import com.sinsaflower.server.domain.order.service.OrderService;
 import com.sinsaflower.server.domain.order.util.PagingUtils;
 import com.sinsaflower.server.global.dto.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +45,8 @@ import java.util.Map;
 public class OrderAdminController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderBulkStatusService orderBulkStatusService;
 
     /**
      * 주문 상태별 조회 (관리자용)
@@ -46,7 +60,7 @@ public class OrderAdminController {
             @RequestParam(defaultValue = "createdAt") String sort,
             @RequestParam(defaultValue = "desc") String direction) {
 
-        log.info("관리자 상태별 주문 조회 요청: {}", status);
+        log.debug("관리자 상태별 주문 조회 요청: {}", status);
 
         Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
         Page<Order> orders = orderService.getOrdersByStatus(status, pageable);
@@ -55,6 +69,22 @@ public class OrderAdminController {
         return ResponseEntity.ok(ApiResponse.success("상태별 주문 조회가 성공적으로 완료되었습니다.", response));
     }
 
+    /**
+     * 주문 상태 일괄 변경
+     */
+    @PatchMapping("/status")
+    @Operation(summary = "주문 상태 일괄 변경", description = "여러 주문의 상태를 한 번에 변경합니다. 없는 주문이나 현재 상태에서 전환할 수 없는 주문은 " +
+            "건너뛰고 주문별 실패 사유로 응답합니다.")
+    public ResponseEntity<ApiResponse<OrderBulkStatusResponse>> updateOrderStatuses(
+            @RequestBody @Valid OrderBulkStatusRequest request) {
+
+        log.debug("관리자 주문 상태 일괄 변경 요청: {}건 -> {}", request.getOrderIds().size(), request.getOrderStatus());
+
+        OrderBulkStatusResponse response = orderBulkStatusService.updateStatus(request.getOrderIds(), request.getOrderStatus());
+
+        return ResponseEntity.ok(ApiResponse.success("주문 상태 일괄 변경이 완료되었습니다.", response));
+    }
+
     /**
      * 배송일별 주문 조회
      */
@@ -67,7 +97,7 @@ public class OrderAdminController {
             @RequestParam(defaultValue = "createdAt") String sort,
             @RequestParam(defaultValue = "desc") String direction) {
 
-        log.info("관리자 배송일별 주문 조회 요청: {}", date);
+        log.debug("관리자 배송일별 주문 조회 요청: {}", date);
 
         Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
         Page<Order> orders = orderService.getOrdersByDeliveryDate(date, pageable);
@@ -82,7 +112,7 @@ public class OrderAdminController {
     @GetMapping("/today")
     @Operation(summary = "오늘 주문 조회", description = "오늘 등록된 모든 주문을 조회합니다.")
     public ResponseEntity<ApiResponse<List<OrderResponse>>> getTodayOrders() {
-        log.info("관리자 오늘 주문 조회 요청");
+        log.debug("관리자 오늘 주문 조회 요청");
 
         List<Order> orders = orderService.getTodayOrders();
         List<OrderResponse> response = orders.stream()
@@ -98,7 +128,7 @@ public class OrderAdminController {
     @GetMapping("/today-delivery")
     @Operation(summary = "오늘 배송 예정 주문 조회", description = "오늘 배송 예정인 모든 주문을 조회합니다.")
     public ResponseEntity<ApiResponse<List<OrderResponse>>> getTodayDeliveryOrders() {
-        log.info("관리자 오늘 배송 예정 주문 조회 요청");
+        log.debug("관리자 오늘 배송 예정 주문 조회 요청");
 
         List<Order> orders = orderService.getTodayDeliveryOrders();
         List<OrderResponse> response = orders.stream()
@@ -114,10 +144,37 @@ public class OrderAdminController {
     @GetMapping("/statistics")
     @Operation(summary = "주문 통계 조회", description = "전체 주문 상태별 통계를 조회합니다.")
     public ResponseEntity<ApiResponse<Map<String, Long>>> getOrderStatistics() {
-        log.info("관리자 주문 통계 조회 요청");
+        log.debug("관리자 주문 통계 조회 요청");
 
         Map<String, Long> statistics = orderService.getOrderStatistics();
 
         return ResponseEntity.ok(ApiResponse.success("주문 통계 조회가 성공적으로 완료되었습니다.", statistics));
     }
+
+    /**
+     * 기간별 주문 내보내기 (CSV/XLSX 스트리밍)
+     */
+    @GetMapping("/export")
+    @Operation(summary = "주문 내보내기", description = "주문일 기준 기간의 주문을 옵션, 보내는 분, 회원 사업자 정보와 함께 CSV 또는 XLSX 파일로 내려받습니다.")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        log.debug("관리자 주문 내보내기 요청: {} ~ {} ({})", from, to, format);
+
+        // 스트리밍 시작 전에 검증해 오류는 일반 JSON 응답으로 반환
+        OrderExportService.Format exportFormat = OrderExportService.Format.from(format);
+        orderExportService.validateRange(from, to);
+
+        String filename = "orders_" + from.format(DateTimeFormatter.BASIC_ISO_DATE) + "_"
+                + to.format(DateTimeFormatter.BASIC_ISO_DATE) + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out -> orderExportService.export(from, to, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString())
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
 }
@@ -9,6 +9,7 @@ import com.sinsaflower.server.domain.order.service.OrderService;
 import com.sinsaflower.server.domain.order.constants.OrderConstants;
 import com.sinsaflower.server.domain.delivery.entity.Region;
 import com.sinsaflower.server.domain.delivery.repository.RegionRepository;
+import com.sinsaflower.server.global.concurrency.OptimisticLockRetry;
 import com.sinsaflower.server.global.dto.ApiResponse;
 import com.sinsaflower.server.global.security.CustomUserDetails;
 import com.sinsaflower.server.global.exception.ResourceNotFoundException;
@@ -38,6 +39,7 @@ public class OrderController {
 
     private final OrderService orderService;
     private final RegionRepository regionRepository;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     /**
      * 주문 생성 (JSON 데이터 + 이미지 파일)
@@ -54,7 +56,7 @@ public class OrderController {
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
 
-        log.info("Creating order for member: {}", userDetails.getUserId());
+        log.debug("Creating order for member: {}", userDetails.getUserId());
 
         // DTO -> Entity 변환
         Order orderData = request.toEntity();
@@ -102,16 +104,20 @@ public class OrderController {
      * 주문 상태 변경
      */
     @PatchMapping("/{orderId}/status")
-    @Operation(summary = "주문 상태 변경", description = "주문의 상태를 변경합니다.")
+    @Operation(summary = "주문 상태 변경", description = "주문의 상태를 변경합니다. expectedStatus 를 함께 보내면 현재 상태가 그 값일 때만 변경하며, " +
+            "다른 요청이 먼저 변경했으면 409 와 현재 상태를 응답합니다.")
     public ResponseEntity<ApiResponse<OrderResponse>> updateOrderStatus(
             @PathVariable Long orderId,
             @RequestBody Map<String, OrderStatus> request,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         OrderStatus newStatus = request.get("orderStatus");
-        log.info("Updating order status: {} to {} by member: {}", orderId, newStatus, userDetails.getUserId());
+        OrderStatus expectedStatus = request.get("expectedStatus");
+        log.debug("Updating order status: {} to {} by member: {}", orderId, newStatus, userDetails.getUserId());
 
-        Order updatedOrder = orderService.updateOrderStatus(orderId, newStatus);
+        Order updatedOrder = optimisticLockRetry.execute("주문 상태 변경",
+                () -> orderService.updateOrderStatus(orderId, expectedStatus, newStatus),
+                () -> orderService.getStatusSnapshot(orderId));
         OrderResponse response = OrderResponse.from(updatedOrder);
 
         return ResponseEntity.ok(ApiResponse.success(OrderConstants.Messages.ORDER_STATUS_UPDATED, response));
@@ -127,7 +133,7 @@ public class OrderController {
             @RequestBody @Valid OrderCreateRequest request,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("Updating order: {} by member: {}", orderId, userDetails.getUserId());
+        log.debug("Updating order: {} by member: {}", orderId, userDetails.getUserId());
 
         Order updateData = request.toEntity();
         Order updatedOrder = orderService.updateOrder(orderId, updateData);
@@ -146,7 +152,7 @@ public class OrderController {
             @RequestParam("image") MultipartFile imageFile,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("Uploading product image for order: {} by member: {}", orderId, userDetails.getUserId());
+        log.debug("Uploading product image for order: {} by member: {}", orderId, userDetails.getUserId());
 
         Order updatedOrder = orderService.uploadProductImage(orderId, imageFile);
         OrderResponse response = OrderResponse.from(updatedOrder);
@@ -163,7 +169,7 @@ public class OrderController {
             @PathVariable Long orderId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("Deleting product image for order: {} by member: {}", orderId, userDetails.getUserId());
+        log.debug("Deleting product image for order: {} by member: {}", orderId, userDetails.getUserId());
 
         Order updatedOrder = orderService.deleteProductImage(orderId);
         OrderResponse response = OrderResponse.from(updatedOrder);
@@ -180,7 +186,7 @@ public class OrderController {
             @PathVariable Long orderId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("Deleting order: {} by member: {}", orderId, userDetails.getUserId());
+        log.debug("Deleting order: {} by member: {}", orderId, userDetails.getUserId());
 
         orderService.deleteOrder(orderId, userDetails.getUsername());
 
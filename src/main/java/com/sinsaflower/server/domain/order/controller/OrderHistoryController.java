@@ -0,0 +1,56 @@
+package com.sinsaflower.server.domain.order.controller;
+
+import com.sinsaflower.server.domain.order.service.OrderHistoryService;
+import com.sinsaflower.server.global.dto.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지난 주문 이력 컨트롤러 (관리자)
+ * 운영 DB에서 내보낸 오래된 월 파티션 조회 API 제공
+ */
+@RestController
+@RequestMapping("/api/admin/orders/history")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "주문 이력 (관리자)", description = "내보낸 지난 주문 이력 조회 API")
+public class OrderHistoryController {
+
+    private final OrderHistoryService orderHistoryService;
+
+    /**
+     * 조회 가능한 월 목록
+     */
+    @GetMapping("/months")
+    @Operation(summary = "주문 이력 월 목록", description = "운영 DB에서 내보낸 주문 이력 월 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<String>>> getMonths() {
+        List<String> months = orderHistoryService.getExportedMonths();
+        return ResponseEntity.ok(ApiResponse.success("주문 이력 월 목록 조회가 성공적으로 완료되었습니다.", months));
+    }
+
+    /**
+     * 월별 주문 이력 조회
+     */
+    @GetMapping
+    @Operation(summary = "월별 주문 이력 조회", description = "내보낸 월별 주문 이력에서 회원 ID 또는 주문번호로 주문을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<Map<String, String>>>> getOrders(
+            @RequestParam String month,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) String orderNumber,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.debug("주문 이력 조회 요청: {} (회원: {}, 주문번호: {})", month, memberId, orderNumber);
+
+        List<Map<String, String>> orders = orderHistoryService.getOrders(month, memberId, orderNumber, limit);
+        return ResponseEntity.ok(ApiResponse.success("주문 이력 조회가 성공적으로 완료되었습니다.", orders));
+    }
+}
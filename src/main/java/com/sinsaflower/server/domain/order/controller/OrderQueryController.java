@@ -6,6 +6,7 @@ import com.sinsaflower.server.domain.order.dto.OrderSearchRequest;
 import com.sinsaflower.server.domain.order.dto.OrderSummaryResponse;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.service.OrderEventBus;
 import com.sinsaflower.server.domain.order.service.OrderService;
 import com.sinsaflower.server.domain.order.constants.OrderConstants;
 import com.sinsaflower.server.domain.order.util.PagingUtils;
@@ -20,9 +21,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -39,6 +42,7 @@ import java.util.List;
 public class OrderQueryController {
 
     private final OrderService orderService;
+    private final OrderEventBus orderEventBus;
 
     /**
      * 개별 주문 조회
@@ -49,7 +53,7 @@ public class OrderQueryController {
             @PathVariable Long orderId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("주문 조회 요청: {} by member: {}", orderId, userDetails.getUserId());
+        log.debug("주문 조회 요청: {} by member: {}", orderId, userDetails.getUserId());
 
         Order order = orderService.getOrder(orderId);
         OrderResponse response = OrderResponse.from(order);
@@ -57,6 +61,25 @@ public class OrderQueryController {
         return ResponseEntity.ok(ApiResponse.success("주문 조회가 성공적으로 완료되었습니다.", response));
     }
 
+    /**
+     * 내 주문 변경 스트림 (SSE)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "내 주문 변경 스트림",
+            description = "로그인한 회원의 주문 생성/상태 변경/삭제를 Server-Sent Events 로 전달합니다. " +
+                    "/my, /purchase/summary 를 주기적으로 조회하는 대신 사용하며, 재연결 시 Last-Event-ID 이후 이벤트부터 이어서 받습니다. " +
+                    "이어받을 수 없으면 RESET 이벤트를 보내며, 이때는 목록을 다시 조회해야 합니다.")
+    public SseEmitter streamMyOrders(
+            @Parameter(description = "마지막으로 받은 이벤트 ID (EventSource 가 자동으로 보냄)")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @Parameter(description = "마지막으로 받은 이벤트 ID (헤더를 보낼 수 없는 클라이언트용)")
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return orderEventBus.subscribe(userDetails.getUserId(), lastEventId);
+    }
+
     /**
      * 내 주문 목록 조회
      */
@@ -69,7 +92,7 @@ public class OrderQueryController {
             @RequestParam(defaultValue = "desc") String direction,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("내 주문 목록 조회 요청: member {}", userDetails.getUserId());
+        log.debug("내 주문 목록 조회 요청: member {}", userDetails.getUserId());
 
         Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
         Page<Order> orders = orderService.getOrdersByMember(userDetails.getUserId(), pageable);
@@ -91,7 +114,7 @@ public class OrderQueryController {
             @RequestParam(defaultValue = "desc") String direction,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("내 주문 상태별 조회 요청: {} for member: {}", status, userDetails.getUserId());
+        log.debug("내 주문 상태별 조회 요청: {} for member: {}", status, userDetails.getUserId());
 
         Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
         Page<Order> orders = orderService.getOrdersByMemberAndStatus(userDetails.getUserId(), status, pageable);
@@ -138,7 +161,7 @@ public class OrderQueryController {
             
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("발주 리스트 조회 요청: member {}", userDetails.getUserId());
+        log.debug("발주 리스트 조회 요청: member {}", userDetails.getUserId());
 
         // 검색 조건 객체 생성
         OrderSearchRequest searchRequest = OrderSearchRequest.builder()
@@ -192,7 +215,7 @@ public class OrderQueryController {
     public ResponseEntity<ApiResponse<OrderSummaryResponse>> getPurchaseSummary(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("발주 요약 통계 조회 요청: member {}", userDetails.getUserId());
+        log.debug("발주 요약 통계 조회 요청: member {}", userDetails.getUserId());
 
         OrderSummaryResponse summary = orderService.getOrderSummary(userDetails.getUserId());
 
@@ -208,7 +231,7 @@ public class OrderQueryController {
             @PathVariable Long orderId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        log.info("발주서/영수증 조회 요청: order {} by member {}", orderId, userDetails.getUserId());
+        log.debug("발주서/영수증 조회 요청: order {} by member {}", orderId, userDetails.getUserId());
 
         Order order = orderService.getOrder(orderId);
         
@@ -0,0 +1,75 @@
+package com.sinsaflower.server.domain.order.controller;
+
+import com.sinsaflower.server.domain.order.dto.OrderSlaReportResponse;
+import com.sinsaflower.server.domain.order.dto.OrderStatusDailyCount;
+import com.sinsaflower.server.domain.order.dto.OrderStatusHistoryEntry;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.service.OrderStatusHistoryService;
+import com.sinsaflower.server.global.dto.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주문 상태 이력 컨트롤러 (관리자)
+ * 주문별 상태 타임라인, 일자별 전이 건수, 상태 구간 소요 시간(SLA) 리포트 API 제공
+ */
+@RestController
+@RequestMapping("/api/admin/orders")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "주문 상태 이력 (관리자)", description = "주문 상태 전이 이력과 SLA 리포트 API")
+public class OrderStatusHistoryController {
+
+    private final OrderStatusHistoryService orderStatusHistoryService;
+
+    /**
+     * 주문 상태 타임라인
+     */
+    @GetMapping("/{orderId}/status-history")
+    @Operation(summary = "주문 상태 타임라인", description = "주문의 상태 변경 이력을 오래된 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<OrderStatusHistoryEntry>>> getTimeline(@PathVariable Long orderId) {
+        List<OrderStatusHistoryEntry> timeline = orderStatusHistoryService.getTimeline(orderId);
+        return ResponseEntity.ok(ApiResponse.success("주문 상태 이력 조회가 성공적으로 완료되었습니다.", timeline));
+    }
+
+    /**
+     * 일자별 상태 전이 건수
+     */
+    @GetMapping("/status-history/daily")
+    @Operation(summary = "일자별 상태 전이 건수", description = "기간 내 일자별, 상태별 전이 건수를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<OrderStatusDailyCount>>> getDailyCounts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        List<OrderStatusDailyCount> counts = orderStatusHistoryService.getDailyCounts(from, to);
+        return ResponseEntity.ok(ApiResponse.success("일자별 상태 전이 건수 조회가 성공적으로 완료되었습니다.", counts));
+    }
+
+    /**
+     * 상태 구간 소요 시간 리포트
+     */
+    @GetMapping("/sla")
+    @Operation(summary = "주문 SLA 리포트", description = "종료 상태 도달일이 기간 내인 주문의 시작 상태 -> 종료 상태 소요 시간을 " +
+            "지역별 중앙값, 90 백분위, 평균(분)으로 조회합니다. 기본은 주문확인 -> 배송완료입니다.")
+    public ResponseEntity<ApiResponse<OrderSlaReportResponse>> getSlaReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CONFIRMED") OrderStatus fromStatus,
+            @RequestParam(defaultValue = "DELIVERED") OrderStatus toStatus) {
+
+        log.debug("관리자 주문 SLA 리포트 요청: {} -> {} {} ~ {}", fromStatus, toStatus, from, to);
+
+        OrderSlaReportResponse report = orderStatusHistoryService.getSlaReport(from, to, fromStatus, toStatus);
+        return ResponseEntity.ok(ApiResponse.success("주문 SLA 리포트 조회가 성공적으로 완료되었습니다.", report));
+    }
+}
@@ -0,0 +1,25 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주문 상태 일괄 변경 요청")
+public class OrderBulkStatusRequest {
+
+    @NotEmpty(message = "주문 ID 목록은 필수입니다.")
+    @Schema(description = "변경할 주문 ID 목록", example = "[10001, 10002, 10003]")
+    private List<Long> orderIds;
+
+    @NotNull(message = "변경할 주문 상태는 필수입니다.")
+    @Schema(description = "변경할 주문 상태", example = "DELIVERED")
+    private OrderStatus orderStatus;
+}
@@ -0,0 +1,32 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 변경 결과 (변경된 주문 ID 와 주문별 실패 사유)
+ */
+@Schema(description = "주문 상태 일괄 변경 결과")
+public record OrderBulkStatusResponse(
+        @Schema(description = "변경한 주문 상태", example = "DELIVERED") OrderStatus orderStatus,
+        @Schema(description = "요청 주문 수 (중복 제외)", example = "3") int requested,
+        @Schema(description = "변경된 주문 수", example = "2") int updated,
+        @Schema(description = "변경된 주문 ID") List<Long> updatedIds,
+        @Schema(description = "변경하지 못한 주문") List<Failure> failures) {
+
+    @Schema(description = "변경 실패 주문")
+    public record Failure(
+            @Schema(description = "주문 ID", example = "10003") Long orderId,
+            @Schema(description = "실패 사유", example = "INVALID_TRANSITION") Reason reason,
+            @Schema(description = "현재 주문 상태 (없는 주문이면 null)", example = "CANCELLED") OrderStatus currentStatus,
+            @Schema(description = "실패 메시지", example = "취소된 주문은 상태를 변경할 수 없습니다.") String message) {
+    }
+
+    // 실패 사유
+    public enum Reason {
+        NOT_FOUND,
+        INVALID_TRANSITION
+    }
+}
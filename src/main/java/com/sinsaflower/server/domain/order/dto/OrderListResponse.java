@@ -1,11 +1,10 @@
 package com.sinsaflower.server.domain.order.dto;
 
 import com.sinsaflower.server.domain.order.entity.Order;
-import com.sinsaflower.server.domain.order.constants.OrderConstants;
+import com.sinsaflower.server.domain.order.util.OrderFormatUtils;
 import lombok.*;
 
 import java.math.BigDecimal;
-import java.time.format.DateTimeFormatter;
 
 @Getter
 @Setter
@@ -40,10 +39,10 @@ public class OrderListResponse {
         return OrderListResponse.builder()
                 .orderNumber(order.getOrderNumber())
                 .orderType(order.getOrderType()) // 실제 필드 사용
-                .orderDate(formatDate(order.getCreatedAt().toLocalDate()))
-                .orderTime(formatTime(order.getCreatedAt()))
-                .deliveryDate(formatDate(order.getDeliveryDate()))
-                .deliveryTime(buildDeliveryTime(order)) // 배송 시간 조합
+                .orderDate(OrderFormatUtils.formatShortDate(order.getCreatedAt()))
+                .orderTime(OrderFormatUtils.formatTime(order.getCreatedAt()))
+                .deliveryDate(OrderFormatUtils.formatShortDate(order.getDeliveryDate()))
+                .deliveryTime(order.getDeliveryTimeString()) // 배송 시간 조합
                 .sender(getFirstSenderName(order)) // 첫 번째 발송자명
                 .receiver(order.getReceiverName()) // 실제 필드 사용
                 .corpAddress(getCorpAddress(order)) // Member 비즈니스 프로필 주소
@@ -54,33 +53,13 @@ public class OrderListResponse {
                 .payment(order.getPayment())
                 .sms(order.getSms()) // 실제 필드 사용
                 .fax(order.getFax()) // 실제 필드 사용
-                .deliveryStatus(mapOrderStatusToDeliveryStatus(order.getOrderStatus()))
+                .deliveryStatus(order.getOrderStatus() != null ? order.getOrderStatus().getDescription() : "")
                 .consignee(order.getConsignee()) // 실제 필드 사용
                 .isDelivery(order.getIsDelivery()) // 실제 필드 사용
                 .onSite(order.getOnSite()) // 실제 필드 사용
                 .build();
     }
 
-    // 날짜 포맷팅 (yy-MM-dd)
-    private static String formatDate(java.time.LocalDate date) {
-        if (date == null) return "";
-        return date.format(DateTimeFormatter.ofPattern("yy-MM-dd"));
-    }
-
-    // 시간 포맷팅 (HH:mm)
-    private static String formatTime(java.time.LocalDateTime dateTime) {
-        if (dateTime == null) return "";
-        return dateTime.format(DateTimeFormatter.ofPattern("HH:mm"));
-    }
-
-    // 배송 시간 조합 (deliveryYear + deliveryHours + deliveryMinutes)
-    private static String buildDeliveryTime(Order order) {
-        if (order.getDeliveryHours() != null && order.getDeliveryMinutes() != null) {
-            return order.getDeliveryHours() + ":" + order.getDeliveryMinutes();
-        }
-        return OrderConstants.DeliveryTime.DEFAULT_TIME; // 기본값
-    }
-
     // 회사 주소 가져오기 (Member 비즈니스 프로필에서)
     private static String getCorpAddress(Order order) {
         if (order.getMember() != null && 
@@ -98,17 +77,4 @@ public class OrderListResponse {
         }
         return ""; // 발송자가 없으면 빈값
     }
-
-    // OrderStatus를 배송상태로 매핑
-    private static String mapOrderStatusToDeliveryStatus(Order.OrderStatus orderStatus) {
-        if (orderStatus == null) return "";
-        
-        return switch (orderStatus) {
-            case PENDING -> "주문접수";
-            case CONFIRMED -> "주문확인";
-            case PREPARING -> "배송준비";
-            case DELIVERED -> "배송완료";
-            case CANCELLED -> "주문취소";
-        };
-    }
 }
@@ -10,8 +10,8 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -124,21 +124,40 @@ public class OrderResponse {
                 .regionId(order.getRegion() != null ? order.getRegion().getId() : null)
                 .regionName(order.getRegion() != null ? order.getRegion().getFullName() : null)
                 .productId(order.getProduct() != null ? order.getProduct().getId() : null)
-                .options(order.getOrderOptions().stream()
-                        .map(OrderOptionResponse::from)
-                        .collect(Collectors.toList()))
-                .messages(order.getOrderMessages().stream()
-                        .map(OrderMessageResponse::from)
-                        .collect(Collectors.toList()))
-                .senders(order.getOrderSenders().stream()
-                        .map(OrderSenderResponse::from)
-                        .collect(Collectors.toList()))
+                .options(mapOptions(order.getOrderOptions()))
+                .messages(mapMessages(order.getOrderMessages()))
+                .senders(mapSenders(order.getOrderSenders()))
                 .totalAmount(order.getTotalAmount())
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
                 .build();
     }
 
+    // 하위 목록 변환 (목록 크기만큼 미리 할당)
+    private static List<OrderOptionResponse> mapOptions(List<OrderOption> options) {
+        List<OrderOptionResponse> result = new ArrayList<>(options.size());
+        for (OrderOption option : options) {
+            result.add(OrderOptionResponse.from(option));
+        }
+        return result;
+    }
+
+    private static List<OrderMessageResponse> mapMessages(List<OrderMessage> messages) {
+        List<OrderMessageResponse> result = new ArrayList<>(messages.size());
+        for (OrderMessage message : messages) {
+            result.add(OrderMessageResponse.from(message));
+        }
+        return result;
+    }
+
+    private static List<OrderSenderResponse> mapSenders(List<OrderSender> senders) {
+        List<OrderSenderResponse> result = new ArrayList<>(senders.size());
+        for (OrderSender sender : senders) {
+            result.add(OrderSenderResponse.from(sender));
+        }
+        return result;
+    }
+
     // 내부 DTO 클래스들
     @Getter
     @Setter
@@ -0,0 +1,31 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 상태 구간 소요 시간 리포트 (예: 주문확인 -> 배송완료, 지역별)
+ */
+@Schema(description = "주문 상태 구간 소요 시간 리포트")
+public record OrderSlaReportResponse(
+        @Schema(description = "시작 상태", example = "CONFIRMED") OrderStatus fromStatus,
+        @Schema(description = "종료 상태", example = "DELIVERED") OrderStatus toStatus,
+        @Schema(description = "조회 시작일 (종료 상태 도달일 기준)", example = "2024-05-01") LocalDate from,
+        @Schema(description = "조회 종료일 (포함)", example = "2024-05-31") LocalDate to,
+        @Schema(description = "전체") RegionSla total,
+        @Schema(description = "지역별 (건수 내림차순)") List<RegionSla> regions) {
+
+    @Schema(description = "지역별 소요 시간")
+    public record RegionSla(
+            @Schema(description = "지역 ID (지역 없는 주문이면 null)", example = "12") Long regionId,
+            @Schema(description = "시/도", example = "서울") String sido,
+            @Schema(description = "시/군/구", example = "강남구") String sigungu,
+            @Schema(description = "건수", example = "120") long count,
+            @Schema(description = "중앙값 (분)", example = "185.0") double medianMinutes,
+            @Schema(description = "90 백분위 (분)", example = "320.0") double p90Minutes,
+            @Schema(description = "평균 (분)", example = "201.5") double averageMinutes) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 상태 전이 건수
+ */
+@Schema(description = "일자별 상태 전이 건수")
+public record OrderStatusDailyCount(
+        @Schema(description = "일자", example = "2024-05-01") LocalDate date,
+        @Schema(description = "변경된 상태", example = "DELIVERED") OrderStatus orderStatus,
+        @Schema(description = "건수", example = "312") long count) {
+}
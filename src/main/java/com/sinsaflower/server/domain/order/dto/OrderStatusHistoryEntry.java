@@ -0,0 +1,16 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 타임라인 항목
+ */
+@Schema(description = "주문 상태 이력")
+public record OrderStatusHistoryEntry(
+        @Schema(description = "직전 상태 (첫 기록이면 null)", example = "CONFIRMED") OrderStatus previousStatus,
+        @Schema(description = "변경된 상태", example = "PREPARING") OrderStatus orderStatus,
+        @Schema(description = "변경 일시") LocalDateTime changedAt) {
+}
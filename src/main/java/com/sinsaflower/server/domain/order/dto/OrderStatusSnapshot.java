@@ -0,0 +1,19 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 스냅샷 (상태 전이 검증/충돌 응답용, 엔티티를 읽지 않는 조회)
+ */
+@Schema(description = "주문 현재 상태")
+public record OrderStatusSnapshot(
+        @Schema(description = "주문 ID", example = "10001") Long orderId,
+        @Schema(description = "주문 회원 ID", example = "1") Long memberId,
+        @Schema(description = "주문번호", example = "123456") String orderNumber,
+        @Schema(description = "주문 상태", example = "CONFIRMED") OrderStatus orderStatus,
+        @Schema(description = "버전", example = "3") Long version,
+        @Schema(description = "주문 생성 시각") LocalDateTime createdAt) {
+}
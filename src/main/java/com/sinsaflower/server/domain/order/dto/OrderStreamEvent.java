@@ -0,0 +1,23 @@
+package com.sinsaflower.server.domain.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent.Type;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 변경 SSE 이벤트 데이터
+ * eventId 는 SSE id 로도 전송되며, 재연결 시 Last-Event-ID 로 보내면 그 이후 이벤트부터 이어서 받는다.
+ */
+@Schema(description = "주문 변경 SSE 이벤트")
+public record OrderStreamEvent(
+        @Schema(description = "이벤트 ID (단조 증가)", example = "1718000000000001") long eventId,
+        @Schema(description = "변경 유형", example = "STATUS_CHANGED") Type type,
+        @Schema(description = "주문 ID", example = "10001") Long orderId,
+        @JsonIgnore Long memberId,
+        @Schema(description = "주문번호", example = "123456") String orderNumber,
+        @Schema(description = "주문 상태", example = "CONFIRMED") OrderStatus orderStatus,
+        @Schema(description = "발생 일시") LocalDateTime occurredAt) {
+}
@@ -7,13 +7,17 @@ import com.sinsaflower.server.domain.member.entity.Member;
 import com.sinsaflower.server.domain.delivery.entity.Region;
 import com.sinsaflower.server.domain.product.entity.Product;
 import com.sinsaflower.server.domain.order.constants.OrderConstants;
+import com.sinsaflower.server.domain.order.util.OrderFormatUtils;
 import com.sinsaflower.server.global.exception.InvalidRequestException;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "orders", indexes = {
@@ -21,6 +25,7 @@ import java.util.List;
     @Index(name = "idx_order_status", columnList = "orderStatus"),
     @Index(name = "idx_member_id", columnList = "member_id")
 })
+@SQLRestriction("is_deleted = false") // 소프트 삭제된 주문은 모든 조회(findById 포함)에서 제외
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -188,6 +193,11 @@ public class Order extends BaseTimeEntity {
     @Column
     private Long productImageSize; // 파일 크기 (bytes)
 
+    // 낙관적 락 버전 (동시 상태 변경/배정 시 나중 커밋은 실패)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 비즈니스 메서드
     public void addOrderOption(OrderOption orderOption) {
         this.orderOptions.add(orderOption);
@@ -210,22 +220,42 @@ public class Order extends BaseTimeEntity {
         this.orderStatus = newStatus;
     }
     
-    // 상태 전환 유효성 검증
-    private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
+    // 상태 전환 유효성 검증 (엔티티를 읽지 않는 조건부 UPDATE 경로에서도 사용)
+    public static void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
+        String error = transitionError(currentStatus, newStatus);
+        if (error != null) {
+            throw new InvalidRequestException(error);
+        }
+    }
+
+    // newStatus 로 전환할 수 있는 현재 상태 목록 (일괄 변경 UPDATE 의 order_status IN 조건)
+    public static Set<OrderStatus> allowedPreviousStatuses(OrderStatus newStatus) {
+        Set<OrderStatus> allowed = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus currentStatus : OrderStatus.values()) {
+            if (transitionError(currentStatus, newStatus) == null) {
+                allowed.add(currentStatus);
+            }
+        }
+        return allowed;
+    }
+
+    // 상태 전환 불가 사유 (가능하면 null)
+    public static String transitionError(OrderStatus currentStatus, OrderStatus newStatus) {
         // 취소된 주문은 다른 상태로 변경 불가
         if (currentStatus == OrderStatus.CANCELLED) {
-            throw new InvalidRequestException("취소된 주문은 상태를 변경할 수 없습니다.");
+            return "취소된 주문은 상태를 변경할 수 없습니다.";
         }
 
         // 배송 완료된 주문은 취소 불가
         if (currentStatus == OrderStatus.DELIVERED && newStatus == OrderStatus.CANCELLED) {
-            throw new InvalidRequestException("배송 완료된 주문은 취소할 수 없습니다.");
+            return "배송 완료된 주문은 취소할 수 없습니다.";
         }
-        
+
         // 동일한 상태로 변경 시도 방지
         if (currentStatus == newStatus) {
-            throw new InvalidRequestException("이미 " + newStatus.getDescription() + " 상태입니다.");
+            return "이미 " + newStatus.getDescription() + " 상태입니다.";
         }
+        return null;
     }
     
     // 주문 취소 가능 여부 확인
@@ -242,12 +272,13 @@ public class Order extends BaseTimeEntity {
 
     // 총 주문 금액 계산 (기본 상품 + 옵션)
     public BigDecimal getTotalAmount() {
-        BigDecimal optionTotal = orderOptions.stream()
-                .filter(option -> option.getChecked())
-                .map(OrderOption::getPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        return payment.add(optionTotal);
+        BigDecimal total = payment;
+        for (OrderOption option : orderOptions) {
+            if (Boolean.TRUE.equals(option.getChecked()) && option.getPrice() != null) {
+                total = total.add(option.getPrice());
+            }
+        }
+        return total;
     }
 
     // 상품 이미지 설정
@@ -306,6 +337,8 @@ public class Order extends BaseTimeEntity {
         if (this.deliveryDate.isBefore(LocalDate.now())) {
             throw new InvalidRequestException("배송일은 오늘 이후여야 합니다.");
         }
+
+        validateDeliveryDateWindow(this.deliveryDate, LocalDate.now());
         
         if (this.payment == null || this.payment.compareTo(BigDecimal.ZERO) <= 0) {
             throw new InvalidRequestException("결제금액은 0보다 커야 합니다.");
@@ -316,10 +349,28 @@ public class Order extends BaseTimeEntity {
         }
     }
     
+    // 배송일 변경 (주문일 기준 예약 범위 검증)
+    public void changeDeliveryDate(LocalDate newDeliveryDate) {
+        LocalDate orderDate = getCreatedAt() != null ? getCreatedAt().toLocalDate() : LocalDate.now();
+        validateDeliveryDateWindow(newDeliveryDate, orderDate);
+        this.deliveryDate = newDeliveryDate;
+    }
+
+    // 배송일 예약 범위 검증 (주문일부터 최대 MAX_ADVANCE_DAYS 일, DB 제약 ck_orders_delivery_window 와 같음)
+    private void validateDeliveryDateWindow(LocalDate date, LocalDate orderDate) {
+        if (date.isBefore(orderDate)) {
+            throw new InvalidRequestException("배송일은 주문일 이후여야 합니다.");
+        }
+        if (date.isAfter(orderDate.plusDays(OrderConstants.DeliveryDate.MAX_ADVANCE_DAYS))) {
+            throw new InvalidRequestException("배송일은 주문일로부터 "
+                    + OrderConstants.DeliveryDate.MAX_ADVANCE_DAYS + "일 이내여야 합니다.");
+        }
+    }
+    
     // 배송 시간 조합 문자열 생성
     public String getDeliveryTimeString() {
         if (this.deliveryHours != null && this.deliveryMinutes != null) {
-            return String.format("%s:%s", this.deliveryHours, this.deliveryMinutes);
+            return OrderFormatUtils.joinTime(this.deliveryHours, this.deliveryMinutes);
         }
         return OrderConstants.DeliveryTime.DEFAULT_TIME;
     }
@@ -327,7 +378,7 @@ public class Order extends BaseTimeEntity {
     // 행사 시간 조합 문자열 생성
     public String getEventTimeString() {
         if (this.eventHours != null && this.eventMinutes != null) {
-            return String.format("%s:%s", this.eventHours, this.eventMinutes);
+            return OrderFormatUtils.joinTime(this.eventHours, this.eventMinutes);
         }
         return "";
     }
@@ -3,6 +3,8 @@ package com.sinsaflower.server.domain.order.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "order_message", indexes = {
     @Index(name = "idx_order_message_order_id", columnList = "order_id")
@@ -22,6 +24,10 @@ public class OrderMessage {
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
 
+    // 파티션 키 (orders.created_at 과 동일, 저장 시 자동 설정)
+    @Column(name = "order_created_at", updatable = false)
+    private LocalDateTime orderCreatedAt;
+
     // 메시지 정보
     @Column(length = 500, nullable = false)
     private String text; // 메시지 내용
@@ -61,4 +67,11 @@ public class OrderMessage {
     public void updateSortOrder(Integer order) {
         this.sortOrder = order != null ? order : 0;
     }
+
+    @PrePersist
+    protected void onCreate() {
+        if (order != null) {
+            this.orderCreatedAt = order.getCreatedAt();
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.sinsaflower.server.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 주문번호 (전역 중복 방지)
+ * orders 는 월 파티션이라 주문번호 유니크가 (order_number, created_at) 로 완화되므로,
+ * 주문번호는 이 테이블의 기본키로 한 번만 발급된다. 주문이 삭제/보관 이동돼도 행을 지우지 않아 번호가 재사용되지 않는다.
+ * 행은 OrderNumberRegistryRepository.reserve 가 네이티브 INSERT 로 추가한다.
+ */
+@Entity
+@Table(name = "order_number_registry")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OrderNumberRegistry {
+
+    @Id
+    @Column(length = 6)
+    private String orderNumber; // 주문번호
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 발급 일시
+}
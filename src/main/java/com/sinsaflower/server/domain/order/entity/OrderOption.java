@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "order_option", indexes = {
@@ -24,6 +25,10 @@ public class OrderOption {
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
 
+    // 파티션 키 (orders.created_at 과 동일, 저장 시 자동 설정)
+    @Column(name = "order_created_at", updatable = false)
+    private LocalDateTime orderCreatedAt;
+
     // 옵션 정보
     @Column(length = 100, nullable = false)
     private String optionName; // 옵션명 (예: "카드", "추가")
@@ -47,4 +52,11 @@ public class OrderOption {
     public void updatePrice(BigDecimal newPrice) {
         this.price = newPrice != null ? newPrice : BigDecimal.ZERO;
     }
+
+    @PrePersist
+    protected void onCreate() {
+        if (order != null) {
+            this.orderCreatedAt = order.getCreatedAt();
+        }
+    }
 }
@@ -3,6 +3,8 @@ package com.sinsaflower.server.domain.order.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "order_sender", indexes = {
     @Index(name = "idx_order_sender_order_id", columnList = "order_id")
@@ -22,6 +24,10 @@ public class OrderSender {
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
 
+    // 파티션 키 (orders.created_at 과 동일, 저장 시 자동 설정)
+    @Column(name = "order_created_at", updatable = false)
+    private LocalDateTime orderCreatedAt;
+
     // 발송자 정보
     @Column(length = 50, nullable = false)
     private String name; // 발송자명
@@ -56,4 +62,11 @@ public class OrderSender {
     public void updateSortOrder(Integer order) {
         this.sortOrder = order != null ? order : 0;
     }
+
+    @PrePersist
+    protected void onCreate() {
+        if (order != null) {
+            this.orderCreatedAt = order.getCreatedAt();
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.sinsaflower.server.domain.order.event;
+
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 변경 이벤트 (트랜잭션 커밋 후 OrderEventBus 가 구독 중인 회원 연결로 전달)
+ * orderCreatedAt 은 주문 생성 시각(파티션 키), changedAt 은 변경이 DB 에 기록된 시각이다.
+ */
+public record OrderChangedEvent(Type type, Long orderId, Long memberId, String orderNumber, OrderStatus orderStatus,
+                                LocalDateTime orderCreatedAt, LocalDateTime changedAt) {
+
+    public static OrderChangedEvent of(Type type, Order order) {
+        Long memberId = order.getMember() != null ? order.getMember().getId() : null;
+        return new OrderChangedEvent(type, order.getId(), memberId, order.getOrderNumber(), order.getOrderStatus(),
+                order.getCreatedAt(), order.getUpdatedAt());
+    }
+
+    // 주문 변경 유형
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+}
@@ -0,0 +1,11 @@
+package com.sinsaflower.server.domain.order.event;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 변경 이벤트 (UPDATE 한 번에 바뀐 주문들을 한 이벤트로 발행, 커밋 후 전달)
+ */
+public record OrderStatusBulkChangedEvent(OrderStatus orderStatus, List<OrderChangedEvent> changes) {
+}
@@ -0,0 +1,30 @@
+package com.sinsaflower.server.domain.order.repository;
+
+import com.sinsaflower.server.domain.order.entity.OrderNumberRegistry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OrderNumberRegistryRepository extends JpaRepository<OrderNumberRegistry, String> {
+
+    // 주문번호 발급 (이미 발급된 번호면 0건, 기본키가 최종 중복을 막음)
+    // READ COMMITTED 에서는 동시에 같은 번호를 뽑으면 둘 다 NOT EXISTS 를 통과하므로 PostgreSQL 은 reserveOnConflict 를 사용
+    @Modifying
+    @Query(value = "INSERT INTO order_number_registry (order_number, created_at) " +
+                   "SELECT :orderNumber, :createdAt " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM order_number_registry WHERE order_number = :orderNumber)",
+           nativeQuery = true)
+    int reserve(@Param("orderNumber") String orderNumber, @Param("createdAt") LocalDateTime createdAt);
+
+    // 주문번호 발급 (PostgreSQL, 동시에 같은 번호를 등록해도 기본키 오류 없이 늦은 쪽이 0건)
+    @Modifying
+    @Query(value = "INSERT INTO order_number_registry (order_number, created_at) VALUES (:orderNumber, :createdAt) " +
+                   "ON CONFLICT (order_number) DO NOTHING",
+           nativeQuery = true)
+    int reserveOnConflict(@Param("orderNumber") String orderNumber, @Param("createdAt") LocalDateTime createdAt);
+}
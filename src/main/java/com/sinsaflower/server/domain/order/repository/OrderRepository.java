@@ -1,5 +1,6 @@
 package com.sinsaflower.server.domain.order.repository;
 
+import com.sinsaflower.server.domain.order.dto.OrderStatusSnapshot;
 import com.sinsaflower.server.domain.order.entity.Order;
 import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
 import com.sinsaflower.server.domain.member.entity.Member;
@@ -7,11 +8,14 @@ import com.sinsaflower.server.domain.delivery.entity.Region;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,8 +69,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.productName LIKE %:productName% AND o.isDeleted = false ORDER BY o.createdAt DESC")
     List<Order> findByProductNameContaining(@Param("productName") String productName);
 
-    // 복합 검색 조건
+    // 복합 검색 조건 (createdFrom/createdTo: 파티션 프루닝용 created_at 범위, null 불가)
     @Query("SELECT o FROM Order o WHERE " +
+           "o.createdAt >= :createdFrom AND o.createdAt < :createdTo AND " +
            "(:memberIds IS NULL OR o.member.id IN :memberIds) AND " +
            "(:orderStatus IS NULL OR o.orderStatus = :orderStatus) AND " +
            "(:startDate IS NULL OR o.deliveryDate >= :startDate) AND " +
@@ -80,6 +85,8 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             @Param("regionIds") List<Long> regionIds,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
             Pageable pageable
     );
 
@@ -101,9 +108,6 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE cast(o.createdAt as date) = CURRENT_DATE AND o.isDeleted = false ORDER BY o.createdAt DESC")
     List<Order> findTodayDeliveryOrders();
 
-    // 주문번호 중복 확인
-    boolean existsByOrderNumber(String orderNumber);
-
     // Summary 통계용 쿼리들
     
     // 회원별 총 주문 개수
@@ -125,4 +129,22 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT COUNT(o) FROM Order o WHERE o.member.id = :memberId AND " +
            "o.orderStatus IN ('PENDING', 'CONFIRMED', 'PREPARING') AND o.isDeleted = false")
     long countByMemberIdAndInProgress(@Param("memberId") Long memberId);
+
+    // 상태 전이용 스냅샷 조회
+    @Query("SELECT new com.sinsaflower.server.domain.order.dto.OrderStatusSnapshot(o.id, o.member.id, o.orderNumber, o.orderStatus, o.version, o.createdAt) " +
+           "FROM Order o WHERE o.id = :id AND o.isDeleted = false")
+    Optional<OrderStatusSnapshot> findStatusSnapshotById(@Param("id") Long id);
+
+    // 조건부 상태 전이 (현재 상태가 expected 일 때만, 버전 증가로 엔티티 경로의 동시 수정도 실패시킴)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :next, o.version = o.version + 1, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.orderStatus = :expected AND o.isDeleted = false")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expected") OrderStatus expected,
+                         @Param("next") OrderStatus next,
+                         @Param("now") LocalDateTime now);
+
+    // 배정용 주문 조회 (배송 지역 함께 로딩)
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.region WHERE o.id IN :ids AND o.isDeleted = false")
+    List<Order> findWithRegionByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,130 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.global.config.OrderArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 보관 이동 서비스
+ * 소프트 삭제 후 보관 기간(order.archive.retention-days)이 지난 주문과 하위 행을 *_archive 테이블로 옮겨
+ * 운영 테이블과 인덱스 크기를 유지한다. 보관 테이블은 PostgreSQL 마이그레이션(V4)에만 존재한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveService {
+
+    // 주문보다 먼저 옮겨야 하는 하위 테이블 (order_id FK)
+    private static final List<String> CHILD_TABLES = List.of("order_option", "order_message", "order_sender");
+
+    private static final String SELECT_TARGET_SQL =
+            "SELECT id FROM orders WHERE is_deleted = true AND deleted_at < ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final OrderArchiveProperties orderArchiveProperties;
+
+    // 테이블별 컬럼 목록 (보관 테이블과 컬럼 순서가 달라도 이름으로 매칭)
+    private final Map<String, String> columnLists = new ConcurrentHashMap<>();
+
+    /**
+     * 매일 새벽 보관 이동 실행
+     */
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void archiveScheduled() {
+        if (!orderArchiveProperties.isEnabled()) {
+            return;
+        }
+        try {
+            archiveDeletedOrders();
+        } catch (Exception e) {
+            log.error("주문 보관 이동 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 소프트 삭제 주문을 보관 테이블로 이동 (이동한 주문 수 반환)
+     */
+    public int archiveDeletedOrders() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(orderArchiveProperties.getRetentionDays());
+        int batchSize = Math.max(1, orderArchiveProperties.getBatchSize());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        log.info("주문 보관 이동 시작: {} 이전 삭제분", cutoff);
+
+        // 배치마다 커밋해 잠금과 트랜잭션 크기를 제한
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff, batchSize));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        log.info("주문 보관 이동 완료: {}건", total);
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        // SKIP LOCKED: 여러 인스턴스가 동시에 실행돼도 같은 주문을 옮기지 않음
+        List<Long> orderIds = jdbcTemplate.queryForList(SELECT_TARGET_SQL, Long.class, Timestamp.valueOf(cutoff), batchSize);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", orderIds)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+
+        for (String table : CHILD_TABLES) {
+            moveRows(namedJdbcTemplate, table, "order_id", params);
+        }
+        moveRows(namedJdbcTemplate, "orders", "id", params);
+
+        log.debug("주문 보관 이동 배치: {}건", orderIds.size());
+        return orderIds.size();
+    }
+
+    private void moveRows(NamedParameterJdbcTemplate namedJdbcTemplate, String table, String keyColumn,
+                          MapSqlParameterSource params) {
+        String columns = columnLists.computeIfAbsent(table, this::columnList);
+        namedJdbcTemplate.update(
+                "INSERT INTO " + table + "_archive (" + columns + ", archived_at) " +
+                "SELECT " + columns + ", :archivedAt FROM " + table + " WHERE " + keyColumn + " IN (:ids)",
+                params);
+        namedJdbcTemplate.update("DELETE FROM " + table + " WHERE " + keyColumn + " IN (:ids)", params);
+    }
+
+    // 운영 테이블 컬럼 목록 조회
+    private String columnList(String table) {
+        return jdbcTemplate.query("SELECT * FROM " + table + " WHERE 1 = 0", rs -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            StringJoiner joiner = new StringJoiner(", ");
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                joiner.add(metaData.getColumnName(i));
+            }
+            return joiner.toString();
+        });
+    }
+}
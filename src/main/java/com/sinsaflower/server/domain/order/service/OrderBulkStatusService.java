@@ -0,0 +1,149 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.dto.OrderBulkStatusResponse;
+import com.sinsaflower.server.domain.order.dto.OrderBulkStatusResponse.Failure;
+import com.sinsaflower.server.domain.order.dto.OrderBulkStatusResponse.Reason;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent;
+import com.sinsaflower.server.domain.order.event.OrderStatusBulkChangedEvent;
+import com.sinsaflower.server.global.config.OrderBulkStatusProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 주문 상태 일괄 변경 (관리자 일마감 배송완료 처리 등)
+ * 주문을 한 건씩 읽고 저장하지 않고, 전환 규칙을 "허용되는 이전 상태" 목록으로 바꿔 청크마다 UPDATE 한 번으로 처리한다.
+ * PostgreSQL 은 UPDATE ... RETURNING, H2 는 FINAL TABLE 로 실제 바뀐 행만 돌려받으므로 동시에 바뀐 주문을 잘못 보고하지 않는다.
+ * 바뀌지 않은 주문만 다시 조회해 없음/전환 불가 사유를 채우고, 바뀐 주문은 청크마다 이벤트 하나로 발행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBulkStatusService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE orders SET order_status = :next, version = version + 1, updated_at = :now " +
+            "WHERE id IN (:ids) AND order_status IN (:allowed) AND is_deleted = false";
+    private static final String RETURNING_COLUMNS = "id, member_id, order_number, created_at";
+    private static final String SELECT_STATUS_SQL =
+            "SELECT id, order_status FROM orders WHERE id IN (:ids) AND is_deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderBulkStatusProperties orderBulkStatusProperties;
+
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private String updateReturningSql;
+
+    @PostConstruct
+    void init() {
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        updateReturningSql = "PostgreSQL".equalsIgnoreCase(product)
+                ? UPDATE_SQL + " RETURNING " + RETURNING_COLUMNS
+                : "SELECT " + RETURNING_COLUMNS + " FROM FINAL TABLE (" + UPDATE_SQL + ")";
+    }
+
+    /**
+     * 주문 상태 일괄 변경 (중복 ID 는 한 번만 처리, 청크별로 커밋)
+     */
+    public OrderBulkStatusResponse updateStatus(List<Long> orderIds, OrderStatus newStatus) {
+        Set<Long> ids = new LinkedHashSet<>();
+        orderIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        if (ids.isEmpty()) {
+            throw new InvalidRequestException("변경할 주문 ID 가 없습니다.");
+        }
+        if (ids.size() > orderBulkStatusProperties.getMaxIds()) {
+            throw new InvalidRequestException("한 번에 변경할 수 있는 주문은 최대 " + orderBulkStatusProperties.getMaxIds() + "건입니다.");
+        }
+
+        List<String> allowed = Order.allowedPreviousStatuses(newStatus).stream().map(Enum::name).toList();
+        List<Long> requested = List.copyOf(ids);
+        List<Long> updatedIds = new ArrayList<>(requested.size());
+        List<Failure> failures = new ArrayList<>();
+        int chunkSize = Math.max(1, orderBulkStatusProperties.getChunkSize());
+
+        for (int from = 0; from < requested.size(); from += chunkSize) {
+            List<Long> chunk = requested.subList(from, Math.min(from + chunkSize, requested.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> changed = updateChunk(chunk, newStatus, allowed);
+                updatedIds.addAll(changed);
+                if (changed.size() < chunk.size()) {
+                    failures.addAll(describeFailures(chunk, Set.copyOf(changed), newStatus));
+                }
+            });
+        }
+
+        log.info("주문 상태 일괄 변경: {} 요청 {}건, 변경 {}건, 실패 {}건",
+                newStatus, requested.size(), updatedIds.size(), failures.size());
+        return new OrderBulkStatusResponse(newStatus, requested.size(), updatedIds.size(), updatedIds, failures);
+    }
+
+    // 청크 UPDATE 후 바뀐 주문 ID 반환 (이벤트는 커밋 후 전달)
+    private List<Long> updateChunk(List<Long> chunk, OrderStatus newStatus, List<String> allowed) {
+        LocalDateTime changedAt = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("next", newStatus.name())
+                .addValue("now", Timestamp.valueOf(changedAt))
+                .addValue("ids", chunk)
+                .addValue("allowed", allowed);
+        List<OrderChangedEvent> changes = namedJdbcTemplate.query(updateReturningSql, params, (rs, rowNum) -> {
+            long memberId = rs.getLong("member_id");
+            Long member = rs.wasNull() ? null : memberId;
+            return new OrderChangedEvent(OrderChangedEvent.Type.STATUS_CHANGED, rs.getLong("id"), member,
+                    rs.getString("order_number"), newStatus, rs.getTimestamp("created_at").toLocalDateTime(), changedAt);
+        });
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new OrderStatusBulkChangedEvent(newStatus, changes));
+        }
+        return changes.stream().map(OrderChangedEvent::orderId).toList();
+    }
+
+    // 바뀌지 않은 주문의 사유 (없는/삭제된 주문, 현재 상태에서 전환 불가)
+    private List<Failure> describeFailures(List<Long> chunk, Set<Long> changed, OrderStatus newStatus) {
+        List<Long> unchanged = chunk.stream().filter(id -> !changed.contains(id)).toList();
+        Map<Long, OrderStatus> current = new HashMap<>();
+        namedJdbcTemplate.query(SELECT_STATUS_SQL, new MapSqlParameterSource("ids", unchanged), rs -> {
+            current.put(rs.getLong("id"), OrderStatus.valueOf(rs.getString("order_status")));
+        });
+
+        List<Failure> failures = new ArrayList<>(unchanged.size());
+        for (Long orderId : unchanged) {
+            OrderStatus status = current.get(orderId);
+            if (status == null) {
+                failures.add(new Failure(orderId, Reason.NOT_FOUND, null, "주문을 찾을 수 없습니다."));
+                continue;
+            }
+            // 조회 시점에는 전환 가능해 보여도 UPDATE 와 조회 사이에 다른 요청이 바꾼 경우
+            String error = Order.transitionError(status, newStatus);
+            failures.add(new Failure(orderId, Reason.INVALID_TRANSITION, status,
+                    error != null ? error : "다른 요청이 먼저 상태를 변경했습니다."));
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,230 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.dto.OrderStreamEvent;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent;
+import com.sinsaflower.server.domain.order.event.OrderStatusBulkChangedEvent;
+import com.sinsaflower.server.global.config.OrderStreamProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문 변경 이벤트 버스 (프로세스 내)
+ * OrderService 가 발행한 OrderChangedEvent 를 트랜잭션 커밋 후 받아 이벤트 ID 를 붙이고,
+ * 해당 회원의 SSE 연결 버퍼로 나눠 준다. 최근 replay-size 개 이벤트를 링 버퍼에 보관해 Last-Event-ID 재연결 시 이어서 보낸다.
+ * 전송은 가상 스레드 실행기에서 연결별로 버퍼가 비어 있지 않을 때만 돌기 때문에 연결 수만큼 스레드를 점유하지 않는다.
+ * 이벤트 ID 는 기동 시각(마이크로초) 기준으로 시작해 재기동 후에도 증가하며, 재기동 전 ID 로 재연결하면 RESET 을 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventBus {
+
+    private final OrderStreamProperties orderStreamProperties;
+
+    private final Map<Long, Set<OrderStreamConnection>> connections = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // lock 으로 보호 (ID 는 ring[id % length] 에 보관)
+    private OrderStreamEvent[] ring;
+    private long firstEventId;
+    private long lastEventId;
+
+    private ExecutorService sender;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    void init() {
+        ring = new OrderStreamEvent[orderStreamProperties.getReplaySize()];
+        lastEventId = System.currentTimeMillis() * 1000;
+        firstEventId = lastEventId + 1;
+
+        sender = Executors.newVirtualThreadPerTaskExecutor();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = orderStreamProperties.getHeartbeatSeconds();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        connections.values().forEach(set -> List.copyOf(set).forEach(OrderStreamConnection::close));
+        sender.shutdownNow();
+    }
+
+    /**
+     * 커밋된 주문 변경 수신 (트랜잭션 밖에서 발행되면 바로 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.memberId() == null) {
+            return;
+        }
+        publish(event);
+    }
+
+    /**
+     * 커밋된 주문 상태 일괄 변경 수신 (잠금 한 번에 모두 발행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusBulkChanged(OrderStatusBulkChangedEvent event) {
+        lock.lock();
+        try {
+            for (OrderChangedEvent change : event.changes()) {
+                if (change.memberId() != null) {
+                    publish(change);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 회원 주문 변경 구독
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (있으면 그 이후 이벤트부터 전송)
+     */
+    public SseEmitter subscribe(Long memberId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(orderStreamProperties.getTimeoutMillis());
+        subscribe(memberId, lastEventId, emitter);
+        return emitter;
+    }
+
+    OrderStreamConnection subscribe(Long memberId, Long lastEventId, SseEmitter emitter) {
+        OrderStreamConnection connection = new OrderStreamConnection(memberId, emitter,
+                orderStreamProperties.getBufferSize(), sender, this::remove);
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> connection.close());
+
+        evictOldest(memberId);
+
+        lock.lock();
+        try {
+            // 첫 전송으로 응답 헤더를 바로 내보냄
+            connection.heartbeat();
+            if (lastEventId != null) {
+                replay(connection, lastEventId);
+            }
+            if (connection.isClosed()) {
+                return connection;
+            }
+            // 재전송과 등록을 같은 잠금 안에서 해 그 사이 발행된 이벤트가 빠지거나 중복되지 않게 함
+            connections.compute(memberId, (key, set) -> {
+                Set<OrderStreamConnection> target = set != null ? set : ConcurrentHashMap.newKeySet();
+                target.add(connection);
+                return target;
+            });
+        } finally {
+            lock.unlock();
+        }
+        log.debug("주문 스트림 연결: member {} (Last-Event-ID {})", memberId, lastEventId);
+        return connection;
+    }
+
+    /**
+     * 이벤트 발행 (이벤트 ID 반환)
+     */
+    long publish(OrderChangedEvent event) {
+        lock.lock();
+        try {
+            long eventId = ++lastEventId;
+            OrderStreamEvent streamEvent = new OrderStreamEvent(eventId, event.type(), event.orderId(),
+                    event.memberId(), event.orderNumber(), event.orderStatus(), LocalDateTime.now());
+            ring[(int) (eventId % ring.length)] = streamEvent;
+
+            Set<OrderStreamConnection> targets = connections.get(event.memberId());
+            if (targets != null) {
+                for (OrderStreamConnection connection : targets) {
+                    connection.enqueue(streamEvent);
+                }
+            }
+            return eventId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 회원의 열린 연결 수
+     */
+    public int connectionCount(Long memberId) {
+        Set<OrderStreamConnection> set = connections.get(memberId);
+        return set == null ? 0 : set.size();
+    }
+
+    // lock 보유 중 호출
+    private void replay(OrderStreamConnection connection, long since) {
+        long oldest = Math.max(firstEventId, lastEventId - ring.length + 1);
+        if (since == lastEventId) {
+            return;
+        }
+        if (since < oldest - 1 || since > lastEventId) {
+            connection.enqueue(OrderStreamConnection.RESET);
+            return;
+        }
+        Long memberId = connection.memberId();
+        List<OrderStreamEvent> missed = new ArrayList<>();
+        for (long eventId = since + 1; eventId <= lastEventId; eventId++) {
+            OrderStreamEvent event = ring[(int) (eventId % ring.length)];
+            if (memberId.equals(event.memberId())) {
+                missed.add(event);
+            }
+        }
+        // 버퍼보다 많이 밀렸으면 재연결을 반복하지 않도록 다시 조회하게 함
+        if (missed.size() >= orderStreamProperties.getBufferSize() - 1) {
+            connection.enqueue(OrderStreamConnection.RESET);
+            return;
+        }
+        missed.forEach(connection::enqueue);
+    }
+
+    private void evictOldest(Long memberId) {
+        Set<OrderStreamConnection> set = connections.get(memberId);
+        if (set == null || set.size() < orderStreamProperties.getMaxConnectionsPerMember()) {
+            return;
+        }
+        set.stream()
+                .min(Comparator.comparingLong(OrderStreamConnection::openedAt))
+                .ifPresent(OrderStreamConnection::close);
+    }
+
+    private void remove(OrderStreamConnection connection) {
+        connections.computeIfPresent(connection.memberId(), (key, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private void sendHeartbeats() {
+        try {
+            List<OrderStreamConnection> all = new ArrayList<>();
+            connections.values().forEach(all::addAll);
+            all.forEach(OrderStreamConnection::heartbeat);
+        } catch (Exception e) {
+            log.warn("주문 스트림 하트비트 실패", e);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.util.CsvExportWriter;
+import com.sinsaflower.server.domain.order.util.OrderExportWriter;
+import com.sinsaflower.server.domain.order.util.XlsxExportWriter;
+import com.sinsaflower.server.global.config.OrderExportProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 주문 내보내기 서비스 (회계용 월별 CSV/XLSX)
+ * 주문은 읽기 전용 트랜잭션의 JDBC 커서(fetch-size)로 읽고, chunk-size 건마다 옵션/보내는 분을 IN 조회로 붙여
+ * 바로 작성기에 흘려보낸다. 메모리에는 최대 chunk-size 건만 머물기 때문에 기간이 길어도 힙 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportService {
+
+    static final List<String> HEADER = List.of(
+            "주문번호", "주문일시", "주문상태", "상점명", "상품명", "수량", "판매가", "결제금액",
+            "주문자", "주문자 휴대폰", "수령자", "수령자 휴대폰", "배송일", "배송시간", "배송장소", "카드", "요청사항",
+            "옵션", "보내는 분",
+            "회원 아이디", "회원명", "상호", "사업자번호", "대표자", "사업장 주소");
+
+    private static final int OPTION_COLUMN = HEADER.indexOf("옵션");
+    private static final int SENDER_COLUMN = HEADER.indexOf("보내는 분");
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String VALUE_SEPARATOR = " / ";
+
+    private static final String SELECT_ORDERS_SQL =
+            "SELECT o.id, o.order_number, o.created_at, o.order_status, o.shop_name, o.product_name, o.quantity, " +
+            "o.price, o.payment, o.order_customer_name, o.order_customer_mobile, o.receiver_name, o.receiver_mobile, " +
+            "o.delivery_date, o.delivery_hours, o.delivery_minutes, o.delivery_place, o.card, o.request, " +
+            "m.login_id, m.name AS member_name, " +
+            "bp.corp_name, bp.business_number, bp.ceo_name, bp.company_address " +
+            "FROM orders o " +
+            "LEFT JOIN member m ON m.id = o.member_id " +
+            "LEFT JOIN member_business_profile bp ON bp.member_id = o.member_id " +
+            "WHERE o.created_at >= ? AND o.created_at < ? AND o.is_deleted = false " +
+            "ORDER BY o.created_at, o.id";
+
+    // order_created_at 범위는 파티션 프루닝용 (chunk 의 첫/마지막 주문 일시)
+    private static final String SELECT_OPTIONS_SQL =
+            "SELECT order_id, option_name, price FROM order_option " +
+            "WHERE order_id IN (:ids) AND order_created_at BETWEEN :from AND :to AND checked = true " +
+            "ORDER BY order_id, id";
+    private static final String SELECT_SENDERS_SQL =
+            "SELECT order_id, name, relationship FROM order_sender " +
+            "WHERE order_id IN (:ids) AND order_created_at BETWEEN :from AND :to " +
+            "ORDER BY order_id, sort_order";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final OrderExportProperties orderExportProperties;
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return CSV;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 내보내기 기간 검증 (주문일 기준, 양 끝 포함)
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new InvalidRequestException("내보내기 기간(from, to)은 필수입니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= orderExportProperties.getMaxRangeDays()) {
+            throw new InvalidRequestException("내보내기 기간은 최대 " + orderExportProperties.getMaxRangeDays() + "일입니다.");
+        }
+    }
+
+    /**
+     * 기간 내 주문을 출력 스트림에 기록 (기록한 주문 수 반환, 출력 스트림은 닫지 않음)
+     */
+    public long export(LocalDate from, LocalDate to, Format format, OutputStream out) {
+        validateRange(from, to);
+
+        JdbcTemplate cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursorTemplate.setFetchSize(Math.max(1, orderExportProperties.getFetchSize()));
+
+        // 읽기 전용: 복제본 라우팅 대상, PostgreSQL 은 트랜잭션 안에서만 fetch-size 커서가 동작
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        long startedAt = System.currentTimeMillis();
+        Long rows = transactionTemplate.execute(status -> {
+            try (OrderExportWriter writer = createWriter(format, out)) {
+                writer.writeRow(HEADER);
+                ChunkWriter chunkWriter = new ChunkWriter(writer);
+                cursorTemplate.query(SELECT_ORDERS_SQL, (RowCallbackHandler) chunkWriter::add,
+                        Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+                chunkWriter.flush();
+                writer.finish();
+                return chunkWriter.total;
+            } catch (IOException e) {
+                // 클라이언트 연결 끊김 등: 커서를 닫고 트랜잭션 종료
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("주문 내보내기 완료: {} ~ {} {} {}건 ({}ms)", from, to, format, rows, System.currentTimeMillis() - startedAt);
+        return rows == null ? 0 : rows;
+    }
+
+    private OrderExportWriter createWriter(Format format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(out);
+            case XLSX -> new XlsxExportWriter(out, orderExportProperties.getXlsxWindowRows());
+        };
+    }
+
+    /**
+     * 커서에서 받은 주문을 chunk-size 만큼 모았다가 하위 행을 붙여 기록하고 비운다.
+     */
+    private final class ChunkWriter {
+
+        private final OrderExportWriter writer;
+        private final int chunkSize = Math.max(1, orderExportProperties.getChunkSize());
+        private final List<List<Object>> chunk = new ArrayList<>(chunkSize);
+        private final List<Long> ids = new ArrayList<>(chunkSize);
+        private Timestamp chunkFrom;
+        private Timestamp chunkTo;
+        private long total;
+
+        private ChunkWriter(OrderExportWriter writer) {
+            this.writer = writer;
+        }
+
+        private void add(ResultSet rs) throws SQLException {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            if (chunk.isEmpty()) {
+                chunkFrom = createdAt;
+            }
+            chunkTo = createdAt;
+            ids.add(rs.getLong("id"));
+            chunk.add(toRow(rs, createdAt));
+
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("from", chunkFrom)
+                    .addValue("to", chunkTo);
+
+            Map<Long, StringBuilder> options = new HashMap<>();
+            namedJdbcTemplate.query(SELECT_OPTIONS_SQL, params, rs -> {
+                BigDecimal price = rs.getBigDecimal("price");
+                append(options, rs.getLong("order_id"), rs.getString("option_name"),
+                        price == null ? null : price.toPlainString());
+            });
+            Map<Long, StringBuilder> senders = new HashMap<>();
+            namedJdbcTemplate.query(SELECT_SENDERS_SQL, params, rs -> {
+                append(senders, rs.getLong("order_id"), rs.getString("name"), rs.getString("relationship"));
+            });
+
+            try {
+                for (int i = 0; i < chunk.size(); i++) {
+                    List<Object> row = chunk.get(i);
+                    Long id = ids.get(i);
+                    row.set(OPTION_COLUMN, toText(options.get(id)));
+                    row.set(SENDER_COLUMN, toText(senders.get(id)));
+                    writer.writeRow(row);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            total += chunk.size();
+            chunk.clear();
+            ids.clear();
+        }
+    }
+
+    private static List<Object> toRow(ResultSet rs, Timestamp createdAt) throws SQLException {
+        List<Object> row = new ArrayList<>(HEADER.size());
+        row.add(rs.getString("order_number"));
+        row.add(createdAt == null ? null : DATE_TIME_FORMAT.format(createdAt.toLocalDateTime()));
+        row.add(statusDescription(rs.getString("order_status")));
+        row.add(rs.getString("shop_name"));
+        row.add(rs.getString("product_name"));
+        row.add(rs.getInt("quantity"));
+        row.add(rs.getBigDecimal("price"));
+        row.add(rs.getBigDecimal("payment"));
+        row.add(rs.getString("order_customer_name"));
+        row.add(rs.getString("order_customer_mobile"));
+        row.add(rs.getString("receiver_name"));
+        row.add(rs.getString("receiver_mobile"));
+        Date deliveryDate = rs.getDate("delivery_date");
+        row.add(deliveryDate == null ? null : deliveryDate.toLocalDate().toString());
+        row.add(deliveryTime(rs.getString("delivery_hours"), rs.getString("delivery_minutes")));
+        row.add(rs.getString("delivery_place"));
+        row.add(rs.getString("card"));
+        row.add(rs.getString("request"));
+        row.add(null); // 옵션 (chunk 단위로 채움)
+        row.add(null); // 보내는 분 (chunk 단위로 채움)
+        row.add(rs.getString("login_id"));
+        row.add(rs.getString("member_name"));
+        row.add(rs.getString("corp_name"));
+        row.add(rs.getString("business_number"));
+        row.add(rs.getString("ceo_name"));
+        row.add(rs.getString("company_address"));
+        return row;
+    }
+
+    private static String statusDescription(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return OrderStatus.valueOf(status).getDescription();
+        } catch (IllegalArgumentException e) {
+            return status;
+        }
+    }
+
+    private static String deliveryTime(String hours, String minutes) {
+        if (hours == null || hours.isBlank()) {
+            return null;
+        }
+        return minutes == null || minutes.isBlank() ? hours : hours + ":" + minutes;
+    }
+
+    // "이름(부가정보)" 형태로 이어 붙임
+    private static void append(Map<Long, StringBuilder> values, long orderId, String name, String detail) {
+        StringBuilder builder = values.computeIfAbsent(orderId, key -> new StringBuilder());
+        if (!builder.isEmpty()) {
+            builder.append(VALUE_SEPARATOR);
+        }
+        builder.append(name);
+        if (detail != null && !detail.isBlank()) {
+            builder.append('(').append(detail).append(')');
+        }
+    }
+
+    private static String toText(StringBuilder builder) {
+        return builder == null ? null : builder.toString();
+    }
+}
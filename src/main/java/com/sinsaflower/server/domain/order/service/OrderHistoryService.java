@@ -0,0 +1,120 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.util.CsvUtils;
+import com.sinsaflower.server.global.config.OrderPartitionProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 지난 주문 이력 조회 서비스
+ * OrderPartitionService 가 내보낸 월별 orders.csv.gz 를 스트리밍으로 읽어 조건에 맞는 행만 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderHistoryService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final OrderPartitionProperties orderPartitionProperties;
+
+    /**
+     * 내보내기가 끝난 월 목록 (YYYY-MM)
+     */
+    public List<String> getExportedMonths() {
+        Path root = Paths.get(orderPartitionProperties.getExportPath());
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> dirs = Files.list(root)) {
+            return dirs.filter(dir -> Files.exists(dir.resolve(OrderPartitionService.COMPLETE_MARKER)))
+                    .map(dir -> parseDirectory(dir.getFileName().toString()))
+                    .filter(month -> month != null)
+                    .sorted()
+                    .map(YearMonth::toString)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 이력 경로를 읽을 수 없습니다: " + root, e);
+        }
+    }
+
+    /**
+     * 월별 주문 이력 조회 (memberId, orderNumber 는 선택 조건)
+     */
+    public List<Map<String, String>> getOrders(String month, Long memberId, String orderNumber, int limit) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("조회 월 형식이 올바르지 않습니다. (YYYY-MM)");
+        }
+
+        Path monthDir = Paths.get(orderPartitionProperties.getExportPath(), yearMonth.format(OrderPartitionService.MONTH_FORMAT));
+        Path file = monthDir.resolve("orders.csv.gz");
+        if (!Files.exists(monthDir.resolve(OrderPartitionService.COMPLETE_MARKER)) || !Files.exists(file)) {
+            throw new ResourceNotFoundException("해당 월의 주문 이력이 없습니다: " + month);
+        }
+
+        int max = Math.min(Math.max(1, limit), MAX_LIMIT);
+        String memberIdValue = memberId != null ? memberId.toString() : null;
+        List<Map<String, String>> result = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            List<String> header = CsvUtils.readRow(reader);
+            if (header == null) {
+                return result;
+            }
+            int memberIdIndex = header.indexOf("member_id");
+            int orderNumberIndex = header.indexOf("order_number");
+
+            List<String> row;
+            while (result.size() < max && (row = CsvUtils.readRow(reader)) != null) {
+                if (memberIdValue != null && !memberIdValue.equals(row.get(memberIdIndex))) {
+                    continue;
+                }
+                if (orderNumber != null && !orderNumber.equals(row.get(orderNumberIndex))) {
+                    continue;
+                }
+                Map<String, String> values = new LinkedHashMap<>();
+                for (int i = 0; i < header.size() && i < row.size(); i++) {
+                    values.put(header.get(i), row.get(i));
+                }
+                result.add(values);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 이력을 읽을 수 없습니다: " + file, e);
+        }
+
+        log.debug("주문 이력 조회: {} {}건", month, result.size());
+        return result;
+    }
+
+    private static YearMonth parseDirectory(String name) {
+        try {
+            return YearMonth.parse(name, OrderPartitionService.MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.util.CsvUtils;
+import com.sinsaflower.server.global.config.OrderPartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.ResultSetMetaData;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 월 파티션 관리 서비스 (PostgreSQL 전용, V7 마이그레이션 참고)
+ * 다음 달 파티션을 미리 만들고, cold-after-months 보다 오래된 파티션은 테이블별 gzip CSV 로 내보낸 뒤
+ * 설정에 따라 파티션을 삭제한다. 내보낸 파일은 OrderHistoryService 가 조회한다.
+ * 배송일 범위 제약(V21)이 검증된 상태인지도 주기적으로 확인해, 관리자 검색이 배송일 조건으로 파티션을 좁혀도 되는지 알려 준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderPartitionService {
+
+    // 파티션 대상 테이블 (삭제 시에는 하위 테이블부터)
+    static final List<String> PARTITIONED_TABLES = List.of("orders", "order_option", "order_message", "order_sender");
+    static final String COMPLETE_MARKER = "_SUCCESS";
+    static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String CREATE_PARTITIONS_SQL = "SELECT create_order_partitions(?)";
+    private static final String SELECT_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'orders' ORDER BY c.relname";
+    // 파티션에도 같은 이름의 제약이 복제되므로 부모 테이블 것만 확인
+    private static final String SELECT_DELIVERY_WINDOW_VALIDATED_SQL =
+            "SELECT convalidated FROM pg_constraint " +
+            "WHERE conrelid = 'orders'::regclass AND conname = 'ck_orders_delivery_window'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final OrderPartitionProperties orderPartitionProperties;
+
+    // 모든 주문이 배송일 범위 제약을 만족함이 DB 에서 검증됐는지 (아니면 검색이 created_at 범위를 좁히지 않음)
+    private volatile boolean deliveryWindowValidated;
+
+    /**
+     * 매월 파티션 생성 및 오래된 파티션 내보내기
+     */
+    @Scheduled(cron = "${order.partition.cron:0 0 4 1 * *}")
+    public void maintainScheduled() {
+        if (!orderPartitionProperties.isEnabled()) {
+            return;
+        }
+        try {
+            createUpcomingPartitions();
+            exportColdPartitions();
+        } catch (Exception e) {
+            log.error("주문 파티션 관리 실패", e);
+        }
+    }
+
+    /**
+     * 배송일 범위 제약 검증 여부 갱신 (기존 주문 정리 후 VALIDATE 하면 다음 확인부터 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${order.partition.delivery-window-check-millis:3600000}",
+               initialDelayString = "${order.partition.delivery-window-check-millis:3600000}")
+    public void refreshDeliveryWindowValidated() {
+        if (!orderPartitionProperties.isEnabled()) {
+            return;
+        }
+        boolean validated;
+        try {
+            validated = jdbcTemplate.queryForList(SELECT_DELIVERY_WINDOW_VALIDATED_SQL, Boolean.class)
+                    .stream().anyMatch(Boolean.TRUE::equals);
+        } catch (DataAccessException e) {
+            log.warn("배송일 범위 제약 확인 실패, 검색 시 created_at 범위를 좁히지 않음: {}", e.getMessage());
+            validated = false;
+        }
+        if (validated != deliveryWindowValidated) {
+            log.info("배송일 범위 제약 검증 여부: {}", validated);
+        }
+        deliveryWindowValidated = validated;
+    }
+
+    /**
+     * 모든 주문의 배송일이 주문일 ~ 주문일 + MAX_ADVANCE_DAYS 안에 있음이 보장되는지
+     * (false 면 배송일 조건을 created_at 범위로 바꿔 검색하면 범위 밖 주문이 빠질 수 있음)
+     */
+    public boolean isDeliveryWindowValidated() {
+        return deliveryWindowValidated;
+    }
+
+    /**
+     * 이번 달부터 months-ahead 개월 뒤까지 파티션 생성 (이미 있으면 무시)
+     */
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= orderPartitionProperties.getMonthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            jdbcTemplate.queryForList(CREATE_PARTITIONS_SQL, Date.valueOf(month.atDay(1)));
+        }
+        log.info("주문 파티션 생성 확인: {} ~ {}", current, current.plusMonths(orderPartitionProperties.getMonthsAhead()));
+    }
+
+    /**
+     * 보관 기준보다 오래된 월 파티션 내보내기 (내보낸 월 목록 반환)
+     */
+    public List<YearMonth> exportColdPartitions() {
+        YearMonth coldBefore = YearMonth.now().minusMonths(orderPartitionProperties.getColdAfterMonths());
+        List<YearMonth> exported = new ArrayList<>();
+
+        for (YearMonth month : listPartitionMonths()) {
+            if (!month.isBefore(coldBefore)) {
+                continue;
+            }
+            Path monthDir = monthDirectory(month);
+            if (!Files.exists(monthDir.resolve(COMPLETE_MARKER))) {
+                exportMonth(month, monthDir);
+                exported.add(month);
+            }
+            if (orderPartitionProperties.isDropAfterExport()) {
+                dropMonth(month);
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * 현재 존재하는 주문 파티션 월 목록
+     */
+    public List<YearMonth> listPartitionMonths() {
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class)) {
+            // orders_pYYYYMM
+            int index = name.lastIndexOf("_p");
+            if (index < 0) {
+                continue;
+            }
+            try {
+                months.add(YearMonth.parse(name.substring(index + 2), MONTH_FORMAT));
+            } catch (Exception e) {
+                log.warn("주문 파티션 이름 형식 오류, 건너뜀: {}", name);
+            }
+        }
+        return months;
+    }
+
+    private void exportMonth(YearMonth month, Path monthDir) {
+        log.info("주문 파티션 내보내기 시작: {}", month);
+        try {
+            Files.createDirectories(monthDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("내보내기 경로를 만들 수 없습니다: " + monthDir, e);
+        }
+
+        // 커서 기반 조회(fetch size)는 트랜잭션 안에서만 동작
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        for (String table : PARTITIONED_TABLES) {
+            Long rows = transactionTemplate.execute(status -> exportTable(partitionName(table, month), monthDir.resolve(table + ".csv.gz")));
+            log.info("주문 파티션 내보내기: {} {}건", partitionName(table, month), rows);
+        }
+
+        try {
+            Files.createFile(monthDir.resolve(COMPLETE_MARKER));
+        } catch (IOException e) {
+            throw new UncheckedIOException("내보내기 완료 표시를 만들 수 없습니다: " + monthDir, e);
+        }
+        log.info("주문 파티션 내보내기 완료: {}", month);
+    }
+
+    private long exportTable(String partition, Path target) {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        JdbcTemplate cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursorTemplate.setFetchSize(Math.max(1, orderPartitionProperties.getFetchSize()));
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            long rows = cursorTemplate.query("SELECT * FROM " + partition + " ORDER BY id", rs -> {
+                ResultSetMetaData metaData = rs.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                List<String> values = new ArrayList<>(columnCount);
+                try {
+                    for (int i = 1; i <= columnCount; i++) {
+                        values.add(metaData.getColumnName(i));
+                    }
+                    CsvUtils.writeRow(writer, values);
+
+                    long count = 0;
+                    while (rs.next()) {
+                        values.clear();
+                        for (int i = 1; i <= columnCount; i++) {
+                            values.add(rs.getString(i));
+                        }
+                        CsvUtils.writeRow(writer, values);
+                        count++;
+                    }
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 파티션을 내보낼 수 없습니다: " + partition, e);
+        }
+    }
+
+    private void dropMonth(YearMonth month) {
+        if (!Files.exists(monthDirectory(month).resolve(COMPLETE_MARKER))) {
+            log.warn("내보내기가 끝나지 않은 주문 파티션은 삭제하지 않음: {}", month);
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 하위 테이블 파티션이 주문 파티션을 참조하므로 역순으로 분리 후 삭제
+            for (int i = PARTITIONED_TABLES.size() - 1; i >= 0; i--) {
+                String table = PARTITIONED_TABLES.get(i);
+                String partition = partitionName(table, month);
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+        });
+        log.info("주문 파티션 삭제 완료: {}", month);
+    }
+
+    Path monthDirectory(YearMonth month) {
+        return Paths.get(orderPartitionProperties.getExportPath(), month.format(MONTH_FORMAT));
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(MONTH_FORMAT);
+    }
+}
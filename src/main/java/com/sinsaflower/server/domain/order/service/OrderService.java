@@ -5,8 +5,11 @@ import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
 import com.sinsaflower.server.domain.order.entity.OrderOption;
 import com.sinsaflower.server.domain.order.entity.OrderMessage;
 import com.sinsaflower.server.domain.order.entity.OrderSender;
+import com.sinsaflower.server.domain.order.dto.OrderStatusSnapshot;
 import com.sinsaflower.server.domain.order.dto.OrderSummaryResponse;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent;
 import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.domain.order.repository.OrderNumberRegistryRepository;
 import com.sinsaflower.server.domain.order.repository.OrderOptionRepository;
 import com.sinsaflower.server.domain.order.repository.OrderMessageRepository;
 import com.sinsaflower.server.domain.order.repository.OrderSenderRepository;
@@ -16,20 +19,27 @@ import com.sinsaflower.server.domain.member.repository.MemberRepository;
 import com.sinsaflower.server.domain.delivery.entity.Region;
 import com.sinsaflower.server.domain.delivery.repository.RegionRepository;
 import com.sinsaflower.server.domain.product.entity.Product;
+import com.sinsaflower.server.global.exception.ConcurrentUpdateException;
 import com.sinsaflower.server.global.exception.ResourceNotFoundException;
 import com.sinsaflower.server.global.exception.InvalidRequestException;
 import com.sinsaflower.server.global.service.FileUploadService;
+import jakarta.annotation.PostConstruct;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -40,19 +50,37 @@ import java.util.Random;
 @Transactional(readOnly = true)
 public class OrderService {
 
+    // 배송일 조건이 없을 때 사용하는 created_at 검색 경계
+    private static final LocalDateTime SEARCH_MIN_CREATED_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime SEARCH_MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final OrderRepository orderRepository;
+    private final OrderNumberRegistryRepository orderNumberRegistryRepository;
+    private final OrderPartitionService orderPartitionService;
     private final OrderOptionRepository orderOptionRepository;
     private final OrderMessageRepository orderMessageRepository;
     private final OrderSenderRepository orderSenderRepository;
     private final MemberRepository memberRepository;
     private final FileUploadService fileUploadService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 주문번호 등록에 ON CONFLICT 를 쓸 수 있는지 (PostgreSQL)
+    private boolean onConflictSupported;
+
+    @PostConstruct
+    void init() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        onConflictSupported = "PostgreSQL".equalsIgnoreCase(product);
+    }
 
     /**
      * 주문 생성
      */
     @Transactional
     public Order createOrder(Long memberId, Order orderData) {
-        log.info("Creating order for member: {}", memberId);
+        log.debug("Creating order for member: {}", memberId);
 
         // 회원 조회
         Member member = memberRepository.findById(memberId)
@@ -99,6 +127,9 @@ public class OrderService {
             });
         }
 
+        // 커밋 후 주문 스트림(SSE)으로 전달
+        eventPublisher.publishEvent(OrderChangedEvent.of(OrderChangedEvent.Type.CREATED, savedOrder));
+
         log.info("Order created successfully: {}", savedOrder.getId());
         return savedOrder;
     }
@@ -108,7 +139,6 @@ public class OrderService {
      */
     public Order getOrder(Long orderId) {
         return orderRepository.findById(orderId)
-                .filter(order -> !order.getIsDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderId));
     }
 
@@ -152,8 +182,19 @@ public class OrderService {
     public Page<Order> searchOrders(List<Long> memberIds, OrderStatus orderStatus, 
                                    LocalDate startDate, LocalDate endDate, 
                                    List<Long> regionIds, Pageable pageable) {
+        // 배송일 조건을 파티션 키(created_at) 범위로 환산해 파티션 프루닝이 되도록 함
+        // 주문은 배송일 이전에, 배송일로부터 MAX_ADVANCE_DAYS 이내에 생성됨 (DB 제약으로 검증된 경우에만 사용,
+        // 검증 전에는 범위를 벗어난 기존 주문이 검색에서 빠지지 않도록 전체 범위로 조회)
+        boolean pruneByCreatedAt = orderPartitionService.isDeliveryWindowValidated();
+        LocalDateTime createdFrom = startDate != null && pruneByCreatedAt
+                ? startDate.minusDays(OrderConstants.DeliveryDate.MAX_ADVANCE_DAYS).atStartOfDay()
+                : SEARCH_MIN_CREATED_AT;
+        LocalDateTime createdTo = endDate != null && pruneByCreatedAt
+                ? endDate.plusDays(1).atStartOfDay()
+                : SEARCH_MAX_CREATED_AT;
+
         return orderRepository.findOrdersWithConditions(
-                memberIds, orderStatus, startDate, endDate, regionIds, pageable);
+                memberIds, orderStatus, startDate, endDate, regionIds, createdFrom, createdTo, pageable);
     }
 
     /**
@@ -161,16 +202,47 @@ public class OrderService {
      */
     @Transactional
     public Order updateOrderStatus(Long orderId, OrderStatus newStatus) {
-        log.info("Updating order status: {} to {}", orderId, newStatus);
+        return updateOrderStatus(orderId, null, newStatus);
+    }
 
-        Order order = getOrder(orderId);
-        
-        // Entity에서 비즈니스 규칙 검증 후 상태 변경
-        order.updateStatus(newStatus);
-        Order updatedOrder = orderRepository.save(order);
+    /**
+     * 주문 상태 변경 (조건부 UPDATE)
+     * 엔티티를 읽어 바꾸는 대신 "현재 상태가 읽은 값일 때만" 갱신해 동시 변경이 서로를 덮어쓰지 않게 한다.
+     * expectedStatus 가 있으면 그 상태에서만 전이하고, 다르거나 그 사이 바뀌었으면 현재 상태와 함께 409 로 응답한다.
+     * expectedStatus 가 없을 때 갱신이 0건이면 OptimisticLockingFailureException 을 던져 호출 측 재시도로 다시 판단하게 한다.
+     */
+    @Transactional
+    public Order updateOrderStatus(Long orderId, OrderStatus expectedStatus, OrderStatus newStatus) {
+        log.debug("Updating order status: {} to {} (expected {})", orderId, newStatus, expectedStatus);
 
-        log.info("Order status updated successfully: {} -> {}", orderId, newStatus);
-        return updatedOrder;
+        OrderStatusSnapshot current = getStatusSnapshot(orderId);
+        if (expectedStatus != null && current.orderStatus() != expectedStatus) {
+            throw new ConcurrentUpdateException("주문 상태가 이미 " + current.orderStatus().getDescription() + "(으)로 변경되었습니다.", current);
+        }
+        Order.validateStatusTransition(current.orderStatus(), newStatus);
+
+        LocalDateTime changedAt = LocalDateTime.now();
+        int updated = orderRepository.transitionStatus(orderId, current.orderStatus(), newStatus, changedAt);
+        if (updated == 0) {
+            if (expectedStatus != null) {
+                OrderStatusSnapshot latest = getStatusSnapshot(orderId);
+                throw new ConcurrentUpdateException("주문 상태가 이미 " + latest.orderStatus().getDescription() + "(으)로 변경되었습니다.", latest);
+            }
+            throw new OptimisticLockingFailureException("Order status changed concurrently: " + orderId);
+        }
+        eventPublisher.publishEvent(new OrderChangedEvent(OrderChangedEvent.Type.STATUS_CHANGED, orderId,
+                current.memberId(), current.orderNumber(), newStatus, current.createdAt(), changedAt));
+
+        log.info("Order status updated successfully: {} {} -> {}", orderId, current.orderStatus(), newStatus);
+        return getOrder(orderId);
+    }
+
+    /**
+     * 주문 현재 상태 조회 (충돌 응답용)
+     */
+    public OrderStatusSnapshot getStatusSnapshot(Long orderId) {
+        return orderRepository.findStatusSnapshotById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderId));
     }
 
     /**
@@ -178,7 +250,7 @@ public class OrderService {
      */
     @Transactional
     public Order updateOrder(Long orderId, Order updateData) {
-        log.info("Updating order: {}", orderId);
+        log.debug("Updating order: {}", orderId);
 
         Order existingOrder = getOrder(orderId);
 
@@ -202,7 +274,7 @@ public class OrderService {
             existingOrder.setPayment(updateData.getPayment());
         }
         if (updateData.getDeliveryDate() != null) {
-            existingOrder.setDeliveryDate(updateData.getDeliveryDate());
+            existingOrder.changeDeliveryDate(updateData.getDeliveryDate());
         }
         if (updateData.getDeliveryPlace() != null) {
             existingOrder.setDeliveryPlace(updateData.getDeliveryPlace());
@@ -251,7 +323,7 @@ public class OrderService {
      */
     @Transactional
     public void deleteOrder(Long orderId, String deletedBy) {
-        log.info("Deleting order: {} by {}", orderId, deletedBy);
+        log.debug("Deleting order: {} by {}", orderId, deletedBy);
 
         Order order = getOrder(orderId);
         
@@ -262,6 +334,7 @@ public class OrderService {
 
         order.softDelete(deletedBy);
         orderRepository.save(order);
+        eventPublisher.publishEvent(OrderChangedEvent.of(OrderChangedEvent.Type.DELETED, order));
 
         log.info("Order deleted successfully: {}", orderId);
     }
@@ -299,7 +372,7 @@ public class OrderService {
      */
     @Transactional
     public Order uploadProductImage(Long orderId, MultipartFile imageFile) {
-        log.info("Uploading product image for order: {}", orderId);
+        log.debug("Uploading product image for order: {}", orderId);
 
         Order order = getOrder(orderId);
 
@@ -335,7 +408,7 @@ public class OrderService {
      */
     @Transactional
     public Order deleteProductImage(Long orderId) {
-        log.info("Deleting product image for order: {}", orderId);
+        log.debug("Deleting product image for order: {}", orderId);
 
         Order order = getOrder(orderId);
 
@@ -360,7 +433,7 @@ public class OrderService {
      */
     @Transactional
     public Order createOrderWithImage(Long memberId, Order orderData, MultipartFile productImage) {
-        log.info("Creating order with image for member: {}", memberId);
+        log.debug("Creating order with image for member: {}", memberId);
 
         // 기본 주문 생성
         Order savedOrder = createOrder(memberId, orderData);
@@ -390,7 +463,7 @@ public class OrderService {
      * 회원별 주문 요약 통계 조회
      */
     public OrderSummaryResponse getOrderSummary(Long memberId) {
-        log.info("Getting order summary for member: {}", memberId);
+        log.debug("Getting order summary for member: {}", memberId);
 
         // 총 주문 개수
         long totalCount = orderRepository.countByMemberId(memberId);
@@ -409,9 +482,11 @@ public class OrderService {
 
     /**
      * 중복되지 않는 6자리 주문번호 생성
+     * 번호 등록(order_number_registry)에 성공한 번호만 사용한다. 주문이 롤백되면 등록도 함께 롤백된다.
      */
     private String generateUniqueOrderNumber() {
         Random random = new Random();
+        LocalDateTime now = LocalDateTime.now();
         String orderNumber;
         int attempts = 0;
 
@@ -427,11 +502,18 @@ public class OrderService {
                 throw new RuntimeException(OrderConstants.Messages.ORDER_NUMBER_GENERATION_FAILED);
             }
 
-        } while (orderRepository.existsByOrderNumber(orderNumber));
+        } while (reserveOrderNumber(orderNumber, now) == 0);
 
-        log.info("Generated unique order number: {} (attempts: {})", orderNumber, attempts);
+        log.debug("Generated unique order number: {} (attempts: {})", orderNumber, attempts);
         return orderNumber;
     }
 
+    // 이미 등록된 번호면 0 (PostgreSQL 은 동시에 같은 번호를 뽑아도 기본키 오류로 트랜잭션이 중단되지 않도록 ON CONFLICT)
+    private int reserveOrderNumber(String orderNumber, LocalDateTime now) {
+        return onConflictSupported
+                ? orderNumberRegistryRepository.reserveOnConflict(orderNumber, now)
+                : orderNumberRegistryRepository.reserve(orderNumber, now);
+    }
+
 
 }
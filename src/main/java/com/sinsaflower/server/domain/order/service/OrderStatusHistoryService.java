@@ -0,0 +1,225 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.dto.OrderSlaReportResponse;
+import com.sinsaflower.server.domain.order.dto.OrderSlaReportResponse.RegionSla;
+import com.sinsaflower.server.domain.order.dto.OrderStatusDailyCount;
+import com.sinsaflower.server.domain.order.dto.OrderStatusHistoryEntry;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.global.config.OrderStatusHistoryProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 상태 이력 조회/리포트
+ * SLA 리포트는 기간 내 이력을 changed_at 순서로 한 번 읽으며(커서) 주문별 시작 상태 시각만 기억하고,
+ * 종료 상태에 도달하면 소요 시간을 지역별로 모은다. 주문마다 따로 조회하지 않는다.
+ * 이력은 OrderStatusHistoryWriter 가 모아서 기록하므로 최근 flush 주기 분은 아직 보이지 않을 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusHistoryService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_TIMELINE_SQL =
+            "SELECT order_status, changed_at FROM order_status_history WHERE order_id = ? ORDER BY changed_at, id";
+    private static final String SELECT_DAILY_COUNTS_SQL =
+            "SELECT CAST(changed_at AS DATE) AS change_date, order_status, COUNT(*) AS cnt FROM order_status_history " +
+            "WHERE changed_at >= ? AND changed_at < ? " +
+            "GROUP BY CAST(changed_at AS DATE), order_status ORDER BY change_date, order_status";
+    // 시작/종료 상태 이력만 시각 순서로 (지역은 주문의 현재 배송 지역, created_at 조건으로 해당 파티션만 조인)
+    private static final String SELECT_SLA_SQL =
+            "SELECT h.order_id, h.order_status, h.changed_at, o.region_id, r.sido, r.sigungu " +
+            "FROM order_status_history h " +
+            "LEFT JOIN orders o ON o.id = h.order_id AND o.created_at = h.order_created_at " +
+            "LEFT JOIN region r ON r.id = o.region_id " +
+            "WHERE h.changed_at >= ? AND h.changed_at < ? AND h.order_status IN (?, ?) " +
+            "ORDER BY h.changed_at, h.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final OrderStatusHistoryProperties orderStatusHistoryProperties;
+
+    /**
+     * 주문 상태 타임라인 (오래된 순)
+     */
+    public List<OrderStatusHistoryEntry> getTimeline(Long orderId) {
+        List<OrderStatusHistoryEntry> timeline = new ArrayList<>();
+        jdbcTemplate.query(SELECT_TIMELINE_SQL, (RowCallbackHandler) rs -> {
+            OrderStatus previous = timeline.isEmpty() ? null : timeline.get(timeline.size() - 1).orderStatus();
+            timeline.add(new OrderStatusHistoryEntry(previous, OrderStatus.valueOf(rs.getString("order_status")),
+                    rs.getTimestamp("changed_at").toLocalDateTime()));
+        }, orderId);
+        return timeline;
+    }
+
+    /**
+     * 일자별 상태 전이 건수 (양 끝 포함)
+     */
+    public List<OrderStatusDailyCount> getDailyCounts(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return jdbcTemplate.query(SELECT_DAILY_COUNTS_SQL, (rs, rowNum) -> new OrderStatusDailyCount(
+                        rs.getDate("change_date").toLocalDate(), OrderStatus.valueOf(rs.getString("order_status")), rs.getLong("cnt")),
+                Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * 상태 구간 소요 시간 리포트 (종료 상태 도달일이 from~to 인 주문, 지역별 중앙값/90백분위/평균)
+     * 시작 상태는 조회 시작일 이전 sla-lookback-days 까지 찾고, 여러 번 기록됐으면 처음 기록을 기준으로 한다.
+     */
+    public OrderSlaReportResponse getSlaReport(LocalDate from, LocalDate to, OrderStatus fromStatus, OrderStatus toStatus) {
+        validateRange(from, to);
+        if (fromStatus == null || toStatus == null || fromStatus == toStatus) {
+            throw new InvalidRequestException("시작 상태와 종료 상태는 서로 다른 값이어야 합니다.");
+        }
+
+        Timestamp windowStart = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp scanStart = Timestamp.valueOf(from.minusDays(orderStatusHistoryProperties.getSlaLookbackDays()).atStartOfDay());
+        Timestamp windowEnd = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+
+        JdbcTemplate cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursorTemplate.setFetchSize(FETCH_SIZE);
+        // 읽기 전용: 복제본 라우팅 대상, PostgreSQL 은 트랜잭션 안에서만 fetch-size 커서가 동작
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        SlaAggregator aggregator = new SlaAggregator(fromStatus.name(), toStatus.name(), windowStart);
+        long startedAt = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> cursorTemplate.query(SELECT_SLA_SQL,
+                (RowCallbackHandler) aggregator::add, scanStart, windowEnd, fromStatus.name(), toStatus.name()));
+
+        List<RegionSla> regions = aggregator.byRegion.values().stream()
+                .map(RegionDurations::summarize)
+                .sorted(Comparator.comparingLong(RegionSla::count).reversed())
+                .toList();
+        RegionSla total = aggregator.total.summarize();
+        log.info("주문 SLA 리포트: {} -> {} {} ~ {} {}건, 지역 {}개 ({}ms)", fromStatus, toStatus, from, to,
+                total.count(), regions.size(), System.currentTimeMillis() - startedAt);
+        return new OrderSlaReportResponse(fromStatus, toStatus, from, to, total, regions);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new InvalidRequestException("조회 기간(from, to)은 필수입니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= orderStatusHistoryProperties.getMaxReportDays()) {
+            throw new InvalidRequestException("조회 기간은 최대 " + orderStatusHistoryProperties.getMaxReportDays() + "일입니다.");
+        }
+    }
+
+    /**
+     * 시각 순서로 받은 이력을 주문별 시작 시각 -> 종료 시 소요 시간으로 바꿔 지역별로 모음
+     */
+    private static final class SlaAggregator {
+
+        private final String fromStatus;
+        private final String toStatus;
+        private final Timestamp windowStart;
+        // 시작 상태에 들어갔지만 아직 종료 상태에 도달하지 않은 주문의 시작 시각 (밀리초)
+        private final Map<Long, Long> started = new HashMap<>();
+        // 지역 없는 주문은 null 키
+        private final Map<Long, RegionDurations> byRegion = new LinkedHashMap<>();
+        private final RegionDurations total = new RegionDurations(null, null, null);
+
+        private SlaAggregator(String fromStatus, String toStatus, Timestamp windowStart) {
+            this.fromStatus = fromStatus;
+            this.toStatus = toStatus;
+            this.windowStart = windowStart;
+        }
+
+        private void add(ResultSet rs) throws SQLException {
+            long orderId = rs.getLong("order_id");
+            String status = rs.getString("order_status");
+            Timestamp changedAt = rs.getTimestamp("changed_at");
+
+            if (fromStatus.equals(status)) {
+                started.putIfAbsent(orderId, changedAt.getTime());
+                return;
+            }
+            if (!toStatus.equals(status)) {
+                return;
+            }
+            Long startedAt = started.remove(orderId);
+            if (startedAt == null || changedAt.before(windowStart)) {
+                return;
+            }
+            long seconds = Math.max(0, (changedAt.getTime() - startedAt) / 1000);
+            long regionId = rs.getLong("region_id");
+            Long region = rs.wasNull() ? null : regionId;
+            RegionDurations durations = byRegion.get(region);
+            if (durations == null) {
+                durations = new RegionDurations(region, rs.getString("sido"), rs.getString("sigungu"));
+                byRegion.put(region, durations);
+            }
+            durations.add(seconds);
+            total.add(seconds);
+        }
+    }
+
+    /**
+     * 지역 하나의 소요 시간(초) 목록
+     */
+    private static final class RegionDurations {
+
+        private final Long regionId;
+        private final String sido;
+        private final String sigungu;
+        private long[] seconds = new long[16];
+        private int size;
+
+        private RegionDurations(Long regionId, String sido, String sigungu) {
+            this.regionId = regionId;
+            this.sido = sido;
+            this.sigungu = sigungu;
+        }
+
+        private void add(long value) {
+            if (size == seconds.length) {
+                seconds = Arrays.copyOf(seconds, size * 2);
+            }
+            seconds[size++] = value;
+        }
+
+        private RegionSla summarize() {
+            if (size == 0) {
+                return new RegionSla(regionId, sido, sigungu, 0, 0, 0, 0);
+            }
+            long[] sorted = Arrays.copyOf(seconds, size);
+            Arrays.sort(sorted);
+            double median = size % 2 == 1
+                    ? sorted[size / 2]
+                    : (sorted[size / 2 - 1] + sorted[size / 2]) / 2.0;
+            // nearest-rank 90 백분위
+            long p90 = sorted[(int) Math.ceil(size * 0.9) - 1];
+            double average = Arrays.stream(sorted).average().orElse(0);
+            return new RegionSla(regionId, sido, sigungu, size, toMinutes(median), toMinutes(p90), toMinutes(average));
+        }
+
+        private static double toMinutes(double seconds) {
+            return Math.round(seconds / 60.0 * 10) / 10.0;
+        }
+    }
+}
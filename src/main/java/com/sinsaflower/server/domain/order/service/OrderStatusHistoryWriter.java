@@ -0,0 +1,215 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent;
+import com.sinsaflower.server.domain.order.event.OrderStatusBulkChangedEvent;
+import com.sinsaflower.server.global.config.OrderStatusHistoryProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문 상태 이력 기록기 (write-behind)
+ * 커밋된 주문 생성/상태 변경 이벤트를 받아 버퍼에 넣고, 주기마다 또는 batch-size 만큼 쌓이면 JDBC 배치 INSERT 로 기록한다.
+ * 이력 시각은 리스너가 받은 시각이 아니라 이벤트에 담긴 전이 시각(주문 updated_at 과 같은 값)이며, 주문 생성 시각도 함께 남긴다.
+ * 요청 스레드는 버퍼에 넣기만 하므로 상태 변경 API 응답 시간에 이력 INSERT 가 더해지지 않는다.
+ * 버퍼가 가득 차면 그 요청 스레드에서 바로 기록해 속도를 맞추고, 기록 실패 분은 버퍼로 되돌려 다음 주기에 다시 시도한다.
+ * 종료 시 남은 버퍼를 기록하지만, 프로세스가 비정상 종료되면 마지막 주기 분은 유실될 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusHistoryWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_status_history (order_id, order_created_at, order_status, changed_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderStatusHistoryProperties orderStatusHistoryProperties;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private BlockingQueue<Entry> buffer;
+    private ExecutorService flusher;
+
+    @PostConstruct
+    void init() {
+        buffer = new ArrayBlockingQueue<>(Math.max(1, orderStatusHistoryProperties.getBufferCapacity()));
+        flusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-status-history-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("종료 시 주문 상태 이력 기록 실패: {}건 유실", buffer.size(), e);
+        }
+    }
+
+    /**
+     * 커밋된 주문 생성/상태 변경 수신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.type() == OrderChangedEvent.Type.DELETED || event.orderStatus() == null) {
+            return;
+        }
+        record(event.orderId(), event.orderCreatedAt(), event.orderStatus(), event.changedAt());
+    }
+
+    /**
+     * 커밋된 주문 상태 일괄 변경 수신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusBulkChanged(OrderStatusBulkChangedEvent event) {
+        for (OrderChangedEvent change : event.changes()) {
+            record(change.orderId(), change.orderCreatedAt(), event.orderStatus(), change.changedAt());
+        }
+    }
+
+    /**
+     * 이력 1건 버퍼에 추가 (전이 시각이 없으면 지금)
+     */
+    void record(Long orderId, LocalDateTime orderCreatedAt, OrderStatus orderStatus, LocalDateTime changedAt) {
+        if (!orderStatusHistoryProperties.isEnabled() || orderId == null) {
+            return;
+        }
+        Entry entry = new Entry(orderId, orderCreatedAt == null ? null : Timestamp.valueOf(orderCreatedAt),
+                orderStatus.name(), Timestamp.valueOf(changedAt != null ? changedAt : LocalDateTime.now()));
+        if (!buffer.offer(entry)) {
+            // 버퍼가 가득 참: 이 스레드에서 바로 기록해 생산 속도를 맞춤
+            try {
+                flush();
+            } catch (Exception e) {
+                log.warn("주문 상태 이력 즉시 기록 실패: {}", e.getMessage());
+            }
+            if (!buffer.offer(entry)) {
+                long count = dropped.incrementAndGet();
+                log.error("주문 상태 이력 버퍼 초과로 유실: order {} {} (누적 {}건)", orderId, orderStatus, count);
+                return;
+            }
+        }
+        if (buffer.size() >= orderStatusHistoryProperties.getBatchSize()) {
+            requestFlush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.status-history.flush-interval-millis:1000}")
+    public void scheduledFlush() {
+        if (!orderStatusHistoryProperties.isEnabled()) {
+            return;
+        }
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("주문 상태 이력 기록 실패 (버퍼 {}건, 다음 주기에 재시도)", buffer.size(), e);
+        }
+    }
+
+    /**
+     * 버퍼를 비울 때까지 batch-size 단위로 기록 (기록한 건수 반환)
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int batchSize = Math.max(1, orderStatusHistoryProperties.getBatchSize());
+            List<Entry> batch = new ArrayList<>(batchSize);
+            int written = 0;
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                try {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batchSize, (ps, entry) -> {
+                        ps.setLong(1, entry.orderId());
+                        ps.setTimestamp(2, entry.orderCreatedAt());
+                        ps.setString(3, entry.orderStatus());
+                        ps.setTimestamp(4, entry.changedAt());
+                    });
+                } catch (RuntimeException e) {
+                    requeue(batch);
+                    throw e;
+                }
+                written += batch.size();
+                batch.clear();
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 기록 대기 중인 이력 수
+     */
+    public int pending() {
+        return buffer.size();
+    }
+
+    /**
+     * 버퍼 초과로 유실된 이력 수
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                try {
+                    flush();
+                } catch (Exception e) {
+                    log.error("주문 상태 이력 기록 실패 (버퍼 {}건, 다음 주기에 재시도)", buffer.size(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중: shutdown 에서 남은 버퍼를 기록
+            flushRequested.set(false);
+        }
+    }
+
+    // 기록 실패 분을 버퍼로 되돌림 (자리가 없으면 유실로 집계)
+    private void requeue(List<Entry> batch) {
+        long lost = batch.stream().filter(entry -> !buffer.offer(entry)).count();
+        if (lost > 0) {
+            dropped.addAndGet(lost);
+            log.error("주문 상태 이력 재시도 버퍼 초과로 {}건 유실", lost);
+        }
+    }
+
+    record Entry(long orderId, Timestamp orderCreatedAt, String orderStatus, Timestamp changedAt) {
+    }
+}
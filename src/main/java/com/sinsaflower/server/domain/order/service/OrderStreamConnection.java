@@ -0,0 +1,134 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.dto.OrderStreamEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 주문 변경 SSE 연결 1개
+ * 이벤트는 크기가 정해진 버퍼에 넣고, 버퍼가 비어 있지 않을 때만 전송 실행기에서 한 번에 하나의 작업이 비운다.
+ * 연결마다 스레드를 붙잡지 않으며, 느린 클라이언트로 버퍼가 넘치면 연결을 끊어 재연결(Last-Event-ID)로 이어받게 한다.
+ */
+@Slf4j
+final class OrderStreamConnection {
+
+    // 버퍼에 넣는 제어 신호 (이벤트가 아님)
+    static final OrderStreamEvent HEARTBEAT = new OrderStreamEvent(-1, null, null, null, null, null, null);
+    static final OrderStreamEvent RESET = new OrderStreamEvent(-2, null, null, null, null, null, null);
+
+    private final Long memberId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<OrderStreamEvent> buffer;
+    private final Executor sender;
+    private final Consumer<OrderStreamConnection> onClose;
+    private final long openedAt = System.nanoTime();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    OrderStreamConnection(Long memberId, SseEmitter emitter, int bufferSize, Executor sender,
+                          Consumer<OrderStreamConnection> onClose) {
+        this.memberId = memberId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+        this.onClose = onClose;
+    }
+
+    Long memberId() {
+        return memberId;
+    }
+
+    long openedAt() {
+        return openedAt;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 이벤트 추가 (버퍼가 넘치면 연결 종료 후 false)
+     */
+    boolean enqueue(OrderStreamEvent event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!buffer.offer(event)) {
+            log.warn("주문 스트림 버퍼 초과로 연결 종료: member {} (미전송 {}건)", memberId, buffer.size());
+            close();
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    /**
+     * 하트비트 (보낼 이벤트가 쌓여 있으면 생략)
+     */
+    void heartbeat() {
+        if (buffer.isEmpty()) {
+            enqueue(HEARTBEAT);
+        }
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            emitter.complete();
+            onClose.accept(this);
+        }
+    }
+
+    private void schedule() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            OrderStreamEvent event;
+            while (!closed.get() && (event = buffer.poll()) != null) {
+                send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김 또는 이미 완료된 응답
+            log.debug("주문 스트림 전송 실패로 연결 종료: member {} ({})", memberId, e.getMessage());
+            close();
+        } finally {
+            draining.set(false);
+        }
+        // 비우는 사이에 들어온 이벤트가 남아 있으면 다시 예약
+        if (!closed.get() && !buffer.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void send(OrderStreamEvent event) throws IOException {
+        if (event == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else if (event == RESET) {
+            // 이어받을 수 없는 Last-Event-ID: 클라이언트가 목록을 다시 조회해야 함
+            emitter.send(SseEmitter.event().name("RESET").data("resync", MediaType.TEXT_PLAIN));
+        } else {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.eventId()))
+                    .name(event.type().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sinsaflower.server.domain.order.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 내보내기 작성기 (UTF-8 BOM 포함, 엑셀에서 한글이 깨지지 않도록)
+ */
+public class CsvExportWriter implements OrderExportWriter {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Writer writer;
+    private final List<String> buffer = new ArrayList<>();
+
+    public CsvExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(BOM);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        buffer.clear();
+        for (Object value : values) {
+            buffer.add(value == null ? null : value.toString());
+        }
+        CsvUtils.writeRow(writer, buffer);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() {
+        // 출력 스트림은 호출한 쪽(서블릿 응답)이 닫음
+    }
+}
@@ -0,0 +1,113 @@
+package com.sinsaflower.server.domain.order.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 읽기/쓰기 유틸리티
+ * RFC 4180 형식으로 따옴표를 처리한다. null 은 빈 칸, 빈 문자열은 "" 로 구분해 기록한다.
+ */
+public final class CsvUtils {
+
+    private CsvUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 한 행 기록 (줄바꿈 포함)
+     */
+    public static void writeRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(writer, values.get(i));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * 한 행 읽기 (따옴표 안의 줄바꿈 포함, 파일 끝이면 null)
+     */
+    public static List<String> readRow(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            current.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (c == ',') {
+                    values.add(toValue(current, wasQuoted));
+                    current.setLength(0);
+                    wasQuoted = false;
+                } else {
+                    current.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            // 따옴표 안에서 줄이 끝나면 다음 줄까지 이어서 읽음
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            current.append('\n');
+        }
+        values.add(toValue(current, wasQuoted));
+        return values;
+    }
+
+    private static void writeValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.isEmpty() || needsQuote(value)) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toValue(StringBuilder current, boolean wasQuoted) {
+        if (current.isEmpty() && !wasQuoted) {
+            return null;
+        }
+        return current.toString();
+    }
+}
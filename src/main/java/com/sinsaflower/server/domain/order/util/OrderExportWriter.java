@@ -0,0 +1,27 @@
+package com.sinsaflower.server.domain.order.util;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 주문 내보내기 행 작성기
+ * 행을 받는 즉시 출력 스트림으로 흘려보내고, 내부에 행을 쌓아 두지 않는다.
+ */
+public interface OrderExportWriter extends AutoCloseable {
+
+    /**
+     * 한 행 기록 (값은 String, Number, null)
+     */
+    void writeRow(List<?> values) throws IOException;
+
+    /**
+     * 남은 내용을 출력 스트림에 쓰고 마무리 (출력 스트림은 닫지 않음)
+     */
+    void finish() throws IOException;
+
+    /**
+     * 임시 자원 정리
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,71 @@
+package com.sinsaflower.server.domain.order.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 응답용 날짜/시간 포맷 유틸리티
+ * 목록 응답에서 행마다 호출되므로 DateTimeFormatter 대신 고정 길이 문자 배열로 직접 만든다.
+ */
+public final class OrderFormatUtils {
+
+    private OrderFormatUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 날짜 포맷 (yy-MM-dd, null 이면 빈 문자열)
+     */
+    public static String formatShortDate(LocalDate date) {
+        if (date == null) {
+            return "";
+        }
+        return shortDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * 일시의 날짜 부분 포맷 (yy-MM-dd, null 이면 빈 문자열)
+     */
+    public static String formatShortDate(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return "";
+        }
+        return shortDate(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+    }
+
+    /**
+     * 시간 포맷 (HH:mm, null 이면 빈 문자열)
+     */
+    public static String formatTime(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return "";
+        }
+        char[] buffer = new char[5];
+        putTwoDigits(buffer, 0, dateTime.getHour());
+        buffer[2] = ':';
+        putTwoDigits(buffer, 3, dateTime.getMinute());
+        return new String(buffer);
+    }
+
+    /**
+     * 시/분 문자열 조합 (hours:minutes)
+     */
+    public static String joinTime(String hours, String minutes) {
+        return hours + ":" + minutes;
+    }
+
+    private static String shortDate(int year, int month, int day) {
+        char[] buffer = new char[8];
+        putTwoDigits(buffer, 0, Math.floorMod(year, 100));
+        buffer[2] = '-';
+        putTwoDigits(buffer, 3, month);
+        buffer[5] = '-';
+        putTwoDigits(buffer, 6, day);
+        return new String(buffer);
+    }
+
+    private static void putTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
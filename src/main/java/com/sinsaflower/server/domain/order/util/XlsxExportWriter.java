@@ -0,0 +1,91 @@
+package com.sinsaflower.server.domain.order.util;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * XLSX 내보내기 작성기 (SXSSF)
+ * 최근 windowRows 행만 메모리에 두고 나머지는 압축 임시 파일로 내린다.
+ * 시트 최대 행 수를 넘으면 다음 시트에 헤더를 다시 쓰고 이어서 기록한다.
+ */
+public class XlsxExportWriter implements OrderExportWriter {
+
+    private static final String SHEET_NAME = "주문";
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final int MAX_TEXT_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private List<?> header;
+    private SXSSFSheet sheet;
+    private int sheetCount;
+    private int rowIndex;
+
+    public XlsxExportWriter(OutputStream out, int windowRows) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(Math.max(1, windowRows));
+        workbook.setCompressTempFiles(true);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        // 첫 행은 헤더로 보고 시트가 바뀔 때마다 다시 기록
+        if (header == null) {
+            header = List.copyOf(values);
+            newSheet();
+            return;
+        }
+        if (rowIndex >= MAX_ROWS) {
+            newSheet();
+        }
+        appendRow(values);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (sheet == null) {
+            newSheet();
+        }
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.close();
+        workbook.dispose();
+    }
+
+    private void newSheet() {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? SHEET_NAME : SHEET_NAME + sheetCount);
+        rowIndex = 0;
+        if (header != null) {
+            appendRow(header);
+        }
+    }
+
+    private void appendRow(List<?> values) {
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else {
+                String text = value.toString();
+                cell.setCellValue(text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text);
+            }
+        }
+    }
+}
@@ -44,6 +44,11 @@ public class MemberProductPrice {
     @Column(nullable = false)
     private Boolean isAvailable = true; // 취급 가능 여부 (미취급 = false)
 
+    // 낙관적 락 버전 (같은 가격을 동시에 수정하면 나중 커밋은 실패)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
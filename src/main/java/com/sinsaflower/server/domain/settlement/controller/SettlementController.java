@@ -0,0 +1,88 @@
+package com.sinsaflower.server.domain.settlement.controller;
+
+import com.sinsaflower.server.domain.order.util.PagingUtils;
+import com.sinsaflower.server.domain.settlement.dto.SettlementResponse;
+import com.sinsaflower.server.domain.settlement.dto.SettlementRunResponse;
+import com.sinsaflower.server.domain.settlement.service.SettlementService;
+import com.sinsaflower.server.global.dto.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 파트너 월 정산 컨트롤러 (관리자)
+ * 정산 실행, 진행 상태와 회원별 정산 결과 조회 API 제공
+ */
+@RestController
+@RequestMapping("/api/admin/settlements")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "정산 관리 (관리자)", description = "파트너 월 정산 API")
+public class SettlementController {
+
+    private final SettlementService settlementService;
+
+    /**
+     * 월 정산 실행
+     */
+    @PostMapping("/{month}/run")
+    @Operation(summary = "월 정산 실행", description = "지난 월의 배송완료 주문으로 회원별 정산을 실행합니다. 중단된 정산은 체크포인트부터 이어서 실행하고, rerun=true 이면 처음부터 다시 실행합니다.")
+    public ResponseEntity<ApiResponse<SettlementRunResponse>> runSettlement(
+            @PathVariable String month,
+            @RequestParam(defaultValue = "false") boolean rerun) {
+
+        log.debug("관리자 월 정산 실행 요청: {} (재실행: {})", month, rerun);
+
+        SettlementRunResponse response = settlementService.startSettlement(month, rerun);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("월 정산 실행이 요청되었습니다.", response));
+    }
+
+    /**
+     * 월 정산 실행 상태 조회
+     */
+    @GetMapping("/{month}")
+    @Operation(summary = "월 정산 상태 조회", description = "월 정산의 진행 상태와 합계를 조회합니다.")
+    public ResponseEntity<ApiResponse<SettlementRunResponse>> getRun(@PathVariable String month) {
+        SettlementRunResponse response = settlementService.getRun(month);
+        return ResponseEntity.ok(ApiResponse.success("월 정산 상태 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 월 정산 결과 목록 조회
+     */
+    @GetMapping("/{month}/members")
+    @Operation(summary = "월 정산 결과 조회", description = "회원별 월 정산 결과를 조회합니다.")
+    public ResponseEntity<ApiResponse<Page<SettlementResponse>>> getSettlements(
+            @PathVariable String month,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "memberId") String sort,
+            @RequestParam(defaultValue = "asc") String direction) {
+
+        Pageable pageable = PagingUtils.createPageable(page, size, sort, direction);
+        Page<SettlementResponse> response = settlementService.getSettlements(month, pageable);
+        return ResponseEntity.ok(ApiResponse.success("월 정산 결과 조회가 성공적으로 완료되었습니다.", response));
+    }
+
+    /**
+     * 회원별 월 정산 결과 조회
+     */
+    @GetMapping("/{month}/members/{memberId}")
+    @Operation(summary = "회원 월 정산 결과 조회", description = "특정 회원의 월 정산 결과를 조회합니다.")
+    public ResponseEntity<ApiResponse<SettlementResponse>> getSettlement(
+            @PathVariable String month,
+            @PathVariable Long memberId) {
+
+        SettlementResponse response = settlementService.getSettlement(month, memberId);
+        return ResponseEntity.ok(ApiResponse.success("회원 월 정산 결과 조회가 성공적으로 완료되었습니다.", response));
+    }
+}
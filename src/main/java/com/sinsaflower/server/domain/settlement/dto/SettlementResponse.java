@@ -0,0 +1,56 @@
+package com.sinsaflower.server.domain.settlement.dto;
+
+import com.sinsaflower.server.domain.settlement.entity.Settlement;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 회원별 월 정산 결과 응답 DTO (금액 단위: 원)
+ */
+@Getter
+@Builder
+@Schema(description = "회원별 월 정산 결과 응답")
+public class SettlementResponse {
+
+    @Schema(description = "정산 월", example = "2024-01")
+    private String settleMonth;
+
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "배송완료 주문 수", example = "120")
+    private Integer orderCount;
+
+    @Schema(description = "결제 금액 합계", example = "6000000")
+    private Long paymentAmount;
+
+    @Schema(description = "원가 합계", example = "4800000")
+    private Long originPriceAmount;
+
+    @Schema(description = "결제 금액 - 원가", example = "1200000")
+    private Long marginAmount;
+
+    @Schema(description = "은행명", example = "국민은행")
+    private String bankName;
+
+    @Schema(description = "계좌번호", example = "123456-01-123456")
+    private String accountNumber;
+
+    @Schema(description = "예금주", example = "김신사")
+    private String accountOwner;
+
+    public static SettlementResponse from(Settlement settlement) {
+        return SettlementResponse.builder()
+                .settleMonth(settlement.getSettleMonth())
+                .memberId(settlement.getMemberId())
+                .orderCount(settlement.getOrderCount())
+                .paymentAmount(settlement.getPaymentAmount())
+                .originPriceAmount(settlement.getOriginPriceAmount())
+                .marginAmount(settlement.getMarginAmount())
+                .bankName(settlement.getBankName())
+                .accountNumber(settlement.getAccountNumber())
+                .accountOwner(settlement.getAccountOwner())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sinsaflower.server.domain.settlement.dto;
+
+import com.sinsaflower.server.domain.settlement.entity.SettlementRun;
+import com.sinsaflower.server.domain.settlement.entity.SettlementRun.RunStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월 정산 실행 상태 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "월 정산 실행 상태 응답")
+public class SettlementRunResponse {
+
+    @Schema(description = "정산 월", example = "2024-01")
+    private String settleMonth;
+
+    @Schema(description = "실행 상태", example = "COMPLETED")
+    private RunStatus status;
+
+    @Schema(description = "체크포인트 (이 회원 ID 까지 기록 완료)", example = "1200")
+    private Long lastMemberId;
+
+    @Schema(description = "정산 대상 회원 수", example = "350")
+    private Integer memberCount;
+
+    @Schema(description = "정산 대상 주문 수", example = "1000000")
+    private Long orderCount;
+
+    @Schema(description = "결제 금액 합계 (원)", example = "52000000000")
+    private Long paymentAmount;
+
+    @Schema(description = "시작 일시")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "완료 일시")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "실패 사유")
+    private String errorMessage;
+
+    public static SettlementRunResponse from(SettlementRun run) {
+        return SettlementRunResponse.builder()
+                .settleMonth(run.getSettleMonth())
+                .status(run.getStatus())
+                .lastMemberId(run.getLastMemberId())
+                .memberCount(run.getMemberCount())
+                .orderCount(run.getOrderCount())
+                .paymentAmount(run.getPaymentAmount())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .errorMessage(run.getErrorMessage())
+                .build();
+    }
+}
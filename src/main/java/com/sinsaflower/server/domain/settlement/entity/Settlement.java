@@ -0,0 +1,54 @@
+package com.sinsaflower.server.domain.settlement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 월 정산 결과 (SettlementService 가 JDBC 배치로 기록, 금액 단위: 원)
+ */
+@Entity
+@Table(name = "settlement", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_settlement_month_member", columnNames = {"settle_month", "member_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Settlement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 7, nullable = false)
+    private String settleMonth; // 정산 월 (yyyy-MM)
+
+    @Column(nullable = false)
+    private Long memberId; // 회원 ID
+
+    @Column(nullable = false)
+    private Integer orderCount; // 배송완료 주문 수
+
+    @Column(nullable = false)
+    private Long paymentAmount; // 결제 금액 합계
+
+    @Column(nullable = false)
+    private Long originPriceAmount; // 원가 합계 (원가가 없으면 판매가)
+
+    @Column(nullable = false)
+    private Long marginAmount; // 결제 금액 - 원가
+
+    @Column(length = 50)
+    private String bankName; // 정산 시점 기본 계좌 은행명
+
+    @Column(length = 50)
+    private String accountNumber; // 계좌번호
+
+    @Column(length = 50)
+    private String accountOwner; // 예금주
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 기록 일시
+}
@@ -0,0 +1,74 @@
+package com.sinsaflower.server.domain.settlement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월 정산 실행 상태 (SettlementEngine 이 JDBC 로 갱신)
+ * lastMemberId 까지의 회원은 정산 결과 기록이 끝났으므로 재시작 시 그 다음 회원부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "settlement_run")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SettlementRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 7, nullable = false, unique = true)
+    private String settleMonth; // 정산 월 (yyyy-MM)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private RunStatus status; // 실행 상태
+
+    @Column(nullable = false)
+    private Long lastMemberId; // 체크포인트 (이 회원 ID 까지 기록 완료)
+
+    @Column(nullable = false)
+    private Integer memberCount; // 정산 대상 회원 수
+
+    @Column(nullable = false)
+    private Long orderCount; // 정산 대상 주문 수
+
+    @Column(nullable = false)
+    private Long paymentAmount; // 결제 금액 합계 (원)
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt; // 최초 시작 일시
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt; // 마지막 체크포인트 일시
+
+    private LocalDateTime finishedAt; // 완료 일시
+
+    @Column(length = 500)
+    private String errorMessage; // 실패 사유
+
+    public boolean isCompleted() {
+        return status == RunStatus.COMPLETED;
+    }
+
+    // 정산 실행 상태 enum
+    public enum RunStatus {
+        RUNNING("진행중"),
+        COMPLETED("완료"),
+        FAILED("실패");
+
+        private final String description;
+
+        RunStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
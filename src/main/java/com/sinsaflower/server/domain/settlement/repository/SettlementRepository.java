@@ -0,0 +1,25 @@
+package com.sinsaflower.server.domain.settlement.repository;
+
+import com.sinsaflower.server.domain.settlement.entity.Settlement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SettlementRepository extends JpaRepository<Settlement, Long> {
+
+    Page<Settlement> findBySettleMonth(String settleMonth, Pageable pageable);
+
+    Optional<Settlement> findBySettleMonthAndMemberId(String settleMonth, Long memberId);
+
+    // 재실행 시 기존 결과 삭제
+    @Modifying
+    @Query("DELETE FROM Settlement s WHERE s.settleMonth = :settleMonth")
+    int deleteBySettleMonth(@Param("settleMonth") String settleMonth);
+}
@@ -0,0 +1,13 @@
+package com.sinsaflower.server.domain.settlement.repository;
+
+import com.sinsaflower.server.domain.settlement.entity.SettlementRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+
+    Optional<SettlementRun> findBySettleMonth(String settleMonth);
+}
@@ -0,0 +1,335 @@
+package com.sinsaflower.server.domain.settlement.service;
+
+import com.sinsaflower.server.domain.order.constants.OrderConstants;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.service.OrderPartitionService;
+import com.sinsaflower.server.domain.settlement.entity.SettlementRun.RunStatus;
+import com.sinsaflower.server.global.config.SettlementProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 월 정산 집계 엔진
+ * 회원 ID 를 키셋으로 member-chunk-size 씩 나눈 구간을 ForkJoinPool 에서 동시에 집계한다.
+ * 구간마다 배송완료 주문을 커서 하나로(order-fetch-size 씩) 읽어 회원별 long(원) 누적기에 더하고,
+ * 구간의 결과를 삭제 후 배치 INSERT 로 한 트랜잭션에 기록한다 (주문이 없는 구간도 이전 결과를 지움).
+ * 배송일 범위 제약이 검증됐으면 created_at 범위도 조건에 넣어 정산 월과 무관한 월 파티션을 읽지 않는다.
+ * parallelism 개 구간이 모두 끝날 때마다 settlement_run.last_member_id 체크포인트를 남겨 중단 시 이어서 실행한다.
+ * 자동 실행은 모든 서버에서 동시에 돌므로, 진행중(RUNNING) 실행은 lease-seconds 동안 체크포인트가 없을 때만 이어받고
+ * 체크포인트/완료 기록은 직전 체크포인트가 그대로일 때만 반영해 이어받은 실행과 겹쳐 집계가 두 번 더해지지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementEngine {
+
+    private static final String SELECT_RUN_SQL =
+            "SELECT status, last_member_id, updated_at FROM settlement_run WHERE settle_month = ? FOR UPDATE";
+    private static final String INSERT_RUN_SQL =
+            "INSERT INTO settlement_run (settle_month, status, last_member_id, member_count, order_count, " +
+            "payment_amount, started_at, updated_at) VALUES (?, ?, 0, 0, 0, 0, ?, ?)";
+    private static final String RESTART_RUN_SQL =
+            "UPDATE settlement_run SET status = ?, last_member_id = 0, member_count = 0, order_count = 0, " +
+            "payment_amount = 0, started_at = ?, updated_at = ?, finished_at = NULL, error_message = NULL " +
+            "WHERE settle_month = ?";
+    private static final String RESUME_RUN_SQL =
+            "UPDATE settlement_run SET status = ?, updated_at = ?, error_message = NULL WHERE settle_month = ?";
+    private static final String CHECKPOINT_SQL =
+            "UPDATE settlement_run SET last_member_id = ?, member_count = member_count + ?, " +
+            "order_count = order_count + ?, payment_amount = payment_amount + ?, updated_at = ? " +
+            "WHERE settle_month = ? AND status = '" + RunStatus.RUNNING.name() + "' AND last_member_id = ?";
+    private static final String FINISH_RUN_SQL =
+            "UPDATE settlement_run SET status = ?, updated_at = ?, finished_at = ?, error_message = ? " +
+            "WHERE settle_month = ? AND status = '" + RunStatus.RUNNING.name() + "' AND last_member_id = ?";
+    private static final String DELETE_MONTH_SQL = "DELETE FROM settlement WHERE settle_month = ?";
+
+    private static final String SELECT_MEMBER_IDS_SQL = "SELECT id FROM member WHERE id > ? ORDER BY id LIMIT ?";
+
+    // created_at 범위를 좁히지 않을 때의 경계
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    // 배송일이 정산 월에 속한 배송완료 주문 (V9 idx_orders_settlement, created_at 은 파티션 프루닝용)
+    private static final String SELECT_ORDERS_SQL =
+            "SELECT member_id, payment, origin_price, price FROM orders " +
+            "WHERE member_id BETWEEN ? AND ? AND delivery_date BETWEEN ? AND ? " +
+            "AND created_at >= ? AND created_at < ? " +
+            "AND order_status = '" + OrderStatus.DELIVERED.name() + "' AND is_deleted = false";
+
+    // 활성 계좌 중 기본 계좌 우선
+    private static final String SELECT_ACCOUNTS_SQL =
+            "SELECT bp.member_id, a.bank_name, a.account_number, a.account_owner " +
+            "FROM member_bank_account a JOIN member_business_profile bp ON bp.id = a.business_profile_id " +
+            "WHERE bp.member_id BETWEEN ? AND ? AND a.is_active = true " +
+            "ORDER BY bp.member_id, a.is_primary DESC, a.id";
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM settlement WHERE settle_month = ? AND member_id BETWEEN ? AND ?";
+    private static final String INSERT_SETTLEMENT_SQL =
+            "INSERT INTO settlement (settle_month, member_id, order_count, payment_amount, origin_price_amount, " +
+            "margin_amount, bank_name, account_number, account_owner, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final SettlementProperties settlementProperties;
+    private final OrderPartitionService orderPartitionService;
+
+    /**
+     * 실행 준비 (시작할 체크포인트 반환, 이미 완료된 월이고 재실행이 아니거나 다른 실행이 진행 중이면 빈 값)
+     * 재실행이면 기존 결과를 지우고 처음부터, 실패 상태나 lease 가 지난 진행중 상태면 체크포인트부터 이어서 실행한다.
+     */
+    public OptionalLong prepare(YearMonth month, boolean rerun) {
+        String settleMonth = month.toString();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> prepareRun(settleMonth, rerun));
+        } catch (DuplicateKeyException e) {
+            // 다른 서버가 같은 월 실행 행을 먼저 만들었음
+            log.info("다른 서버에서 정산을 시작해 건너뜀: {}", settleMonth);
+            return OptionalLong.empty();
+        }
+    }
+
+    private OptionalLong prepareRun(String settleMonth, boolean rerun) {
+        LocalDateTime current = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(current);
+        List<Map<String, Object>> runs = jdbcTemplate.queryForList(SELECT_RUN_SQL, settleMonth);
+        if (runs.isEmpty()) {
+            jdbcTemplate.update(INSERT_RUN_SQL, settleMonth, RunStatus.RUNNING.name(), now, now);
+            return OptionalLong.of(0);
+        }
+
+        Map<String, Object> run = runs.get(0);
+        LocalDateTime leaseExpiry = ((Timestamp) run.get("updated_at")).toLocalDateTime()
+                .plusSeconds(settlementProperties.getLeaseSeconds());
+        if (RunStatus.RUNNING.name().equals(run.get("status")) && leaseExpiry.isAfter(current)) {
+            // 재실행도 진행 중인 실행의 결과를 지우지 않도록 lease 가 끝날 때까지 기다림
+            log.info("정산이 다른 실행에서 진행 중이라 건너뜀: {} (체크포인트 회원 ID {})", settleMonth, run.get("last_member_id"));
+            return OptionalLong.empty();
+        }
+        if (rerun) {
+            jdbcTemplate.update(DELETE_MONTH_SQL, settleMonth);
+            jdbcTemplate.update(RESTART_RUN_SQL, RunStatus.RUNNING.name(), now, now, settleMonth);
+            return OptionalLong.of(0);
+        }
+        if (RunStatus.COMPLETED.name().equals(run.get("status"))) {
+            return OptionalLong.empty();
+        }
+        jdbcTemplate.update(RESUME_RUN_SQL, RunStatus.RUNNING.name(), now, settleMonth);
+        return OptionalLong.of(((Number) run.get("last_member_id")).longValue());
+    }
+
+    /**
+     * 체크포인트 다음 회원부터 정산 실행 (실패 시 FAILED 로 기록하고 예외)
+     * 체크포인트가 반영되지 않으면 다른 실행이 이어받은 것이므로 더 진행하지 않고 상태도 바꾸지 않는다.
+     */
+    public void execute(YearMonth month, long checkpoint) {
+        String settleMonth = month.toString();
+        int parallelism = Math.max(1, settlementProperties.getParallelism());
+        int chunkSize = Math.max(1, settlementProperties.getMemberChunkSize());
+        int waveSize = parallelism * chunkSize;
+        long startedAt = System.currentTimeMillis();
+
+        log.info("정산 시작: {} (체크포인트 회원 ID {})", settleMonth, checkpoint);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long lastMemberId = checkpoint;
+        try {
+            while (true) {
+                List<Long> memberIds = jdbcTemplate.queryForList(SELECT_MEMBER_IDS_SQL, Long.class, lastMemberId, waveSize);
+                if (memberIds.isEmpty()) {
+                    break;
+                }
+
+                // 회원 ID 구간별 작업 (구간 안의 회원 ID 는 모두 이 목록에 포함)
+                List<Callable<RangeTotals>> tasks = new ArrayList<>();
+                for (int i = 0; i < memberIds.size(); i += chunkSize) {
+                    long fromMemberId = memberIds.get(i);
+                    long toMemberId = memberIds.get(Math.min(i + chunkSize, memberIds.size()) - 1);
+                    tasks.add(() -> settleRange(month, fromMemberId, toMemberId));
+                }
+
+                RangeTotals wave = new RangeTotals(0, 0, 0);
+                for (Future<RangeTotals> future : pool.invokeAll(tasks)) {
+                    wave = wave.plus(future.get());
+                }
+
+                long nextMemberId = memberIds.get(memberIds.size() - 1);
+                int updated = jdbcTemplate.update(CHECKPOINT_SQL, nextMemberId, wave.members(), wave.orders(),
+                        wave.payment(), Timestamp.valueOf(LocalDateTime.now()), settleMonth, lastMemberId);
+                if (updated == 0) {
+                    throw new IllegalStateException("다른 실행이 정산을 이어받음 (체크포인트 회원 ID " + lastMemberId + ")");
+                }
+                lastMemberId = nextMemberId;
+                log.debug("정산 체크포인트: {} 회원 ID {} (주문 {}건)", settleMonth, lastMemberId, wave.orders());
+
+                if (memberIds.size() < waveSize) {
+                    break;
+                }
+            }
+            finish(settleMonth, lastMemberId, RunStatus.COMPLETED, null);
+            log.info("정산 완료: {} ({}ms)", settleMonth, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            finish(settleMonth, lastMemberId, RunStatus.FAILED, cause.getMessage());
+            throw new IllegalStateException("정산 실패: " + settleMonth, cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 회원 ID 구간 [fromMemberId, toMemberId] 집계 후 결과 기록
+     */
+    RangeTotals settleRange(YearMonth month, long fromMemberId, long toMemberId) {
+        Date from = Date.valueOf(month.atDay(1));
+        Date to = Date.valueOf(month.atEndOfMonth());
+
+        // 주문은 배송일 이전에, 배송일로부터 MAX_ADVANCE_DAYS 이내에 생성됨 (DB 제약으로 검증된 경우에만 범위를 좁힘)
+        boolean pruneByCreatedAt = orderPartitionService.isDeliveryWindowValidated();
+        Timestamp createdFrom = Timestamp.valueOf(pruneByCreatedAt
+                ? month.atDay(1).minusDays(OrderConstants.DeliveryDate.MAX_ADVANCE_DAYS).atStartOfDay()
+                : MIN_CREATED_AT);
+        Timestamp createdTo = Timestamp.valueOf(pruneByCreatedAt
+                ? month.plusMonths(1).atDay(1).atStartOfDay()
+                : MAX_CREATED_AT);
+
+        // 구간을 커서 하나로 읽음 (PostgreSQL 은 트랜잭션 안에서만 fetch-size 커서가 동작)
+        JdbcTemplate cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        cursorTemplate.setFetchSize(Math.max(1, settlementProperties.getOrderFetchSize()));
+        TransactionTemplate readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+
+        OrderTotals orders = new OrderTotals();
+        readTemplate.executeWithoutResult(status -> cursorTemplate.query(SELECT_ORDERS_SQL,
+                (RowCallbackHandler) orders::accept, fromMemberId, toMemberId, from, to, createdFrom, createdTo));
+
+        Map<Long, String[]> accounts = new HashMap<>();
+        if (!orders.totals.isEmpty()) {
+            jdbcTemplate.query(SELECT_ACCOUNTS_SQL, rs -> {
+                accounts.putIfAbsent(rs.getLong("member_id"), new String[] {
+                        rs.getString("bank_name"), rs.getString("account_number"), rs.getString("account_owner")});
+            }, fromMemberId, toMemberId);
+        }
+
+        // 주문이 없는 구간도 지워야 이전 실행 결과가 남지 않음
+        return write(month.toString(), fromMemberId, toMemberId, orders.totals, accounts);
+    }
+
+    private RangeTotals write(String settleMonth, long fromMemberId, long toMemberId,
+                              TreeMap<Long, MemberTotals> totals, Map<Long, String[]> accounts) {
+        List<Map.Entry<Long, MemberTotals>> rows = new ArrayList<>(totals.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 구간 단위로 지우고 다시 쓰므로 체크포인트 이후 일부만 기록된 구간도 재실행 시 중복되지 않음
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_RANGE_SQL, settleMonth, fromMemberId, toMemberId);
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(INSERT_SETTLEMENT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Map.Entry<Long, MemberTotals> row = rows.get(i);
+                    MemberTotals value = row.getValue();
+                    String[] account = accounts.get(row.getKey());
+                    ps.setString(1, settleMonth);
+                    ps.setLong(2, row.getKey());
+                    ps.setInt(3, value.orderCount);
+                    ps.setLong(4, value.paymentWon);
+                    ps.setLong(5, value.originWon);
+                    ps.setLong(6, value.paymentWon - value.originWon);
+                    ps.setString(7, account == null ? null : account[0]);
+                    ps.setString(8, account == null ? null : account[1]);
+                    ps.setString(9, account == null ? null : account[2]);
+                    ps.setTimestamp(10, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            });
+        });
+
+        long orders = 0;
+        long payment = 0;
+        for (MemberTotals value : totals.values()) {
+            orders += value.orderCount;
+            payment += value.paymentWon;
+        }
+        return new RangeTotals(totals.size(), orders, payment);
+    }
+
+    private void finish(String settleMonth, long lastMemberId, RunStatus status, String errorMessage) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String message = errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage;
+        jdbcTemplate.update(FINISH_RUN_SQL, status.name(), now,
+                status == RunStatus.COMPLETED ? now : null, message, settleMonth, lastMemberId);
+    }
+
+    /**
+     * 구간 주문 누적 (회원별 long 누적기, 행마다 BigDecimal 을 만들지 않음)
+     */
+    private static final class OrderTotals {
+
+        private final TreeMap<Long, MemberTotals> totals = new TreeMap<>();
+
+        private void accept(ResultSet rs) throws SQLException {
+            long payment = rs.getLong("payment");
+            long origin = rs.getLong("origin_price");
+            if (rs.wasNull()) {
+                origin = rs.getLong("price");
+            }
+            totals.computeIfAbsent(rs.getLong("member_id"), key -> new MemberTotals()).add(payment, origin);
+        }
+    }
+
+    private static final class MemberTotals {
+
+        private int orderCount;
+        private long paymentWon;
+        private long originWon;
+
+        private void add(long payment, long origin) {
+            orderCount++;
+            paymentWon += payment;
+            originWon += origin;
+        }
+    }
+
+    record RangeTotals(int members, long orders, long payment) {
+
+        RangeTotals plus(RangeTotals other) {
+            return new RangeTotals(members + other.members, orders + other.orders, payment + other.payment);
+        }
+    }
+}
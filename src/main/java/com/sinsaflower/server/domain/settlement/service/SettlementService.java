@@ -0,0 +1,160 @@
+package com.sinsaflower.server.domain.settlement.service;
+
+import com.sinsaflower.server.domain.settlement.dto.SettlementResponse;
+import com.sinsaflower.server.domain.settlement.dto.SettlementRunResponse;
+import com.sinsaflower.server.domain.settlement.repository.SettlementRepository;
+import com.sinsaflower.server.domain.settlement.repository.SettlementRunRepository;
+import com.sinsaflower.server.global.config.SettlementProperties;
+import com.sinsaflower.server.global.exception.DuplicateResourceException;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 파트너 월 정산 서비스
+ * 정산 실행(SettlementEngine)은 서버마다 한 번에 한 건만 별도 스레드에서 진행하고, 결과와 진행 상태를 조회한다.
+ * 서버 간 중복 실행은 SettlementEngine.prepare 가 settlement_run 의 진행중 lease 로 막는다.
+ * 실행 경로는 엔진이 구간별로 트랜잭션을 직접 나누므로 클래스 단위 @Transactional 을 두지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementService {
+
+    private final SettlementEngine settlementEngine;
+    private final SettlementRunRepository settlementRunRepository;
+    private final SettlementRepository settlementRepository;
+    private final SettlementProperties settlementProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "settlement");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 매월 초 전월 정산 실행
+     */
+    @Scheduled(cron = "${settlement.cron:0 0 5 1 * *}")
+    public void settleScheduled() {
+        if (!settlementProperties.isEnabled()) {
+            return;
+        }
+        YearMonth month = YearMonth.now().minusMonths(1);
+        if (!running.compareAndSet(false, true)) {
+            log.warn("정산이 이미 진행 중이라 자동 실행을 건너뜀: {}", month);
+            return;
+        }
+        try {
+            OptionalLong checkpoint = settlementEngine.prepare(month, false);
+            if (checkpoint.isPresent()) {
+                settlementEngine.execute(month, checkpoint.getAsLong());
+            }
+        } catch (Exception e) {
+            log.error("정산 자동 실행 실패: {}", month, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 정산 시작 (완료된 월은 rerun 일 때만 처음부터 다시 실행, 진행은 별도 스레드)
+     */
+    public SettlementRunResponse startSettlement(String month, boolean rerun) {
+        YearMonth yearMonth = parseMonth(month);
+        if (!yearMonth.isBefore(YearMonth.now())) {
+            throw new InvalidRequestException("지난 월만 정산할 수 있습니다: " + month);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new DuplicateResourceException("이미 진행 중인 정산이 있습니다.");
+        }
+
+        log.info("정산 시작 요청: {} (재실행: {})", yearMonth, rerun);
+        try {
+            OptionalLong checkpoint = settlementEngine.prepare(yearMonth, rerun);
+            if (checkpoint.isEmpty()) {
+                running.set(false);
+            } else {
+                executor.execute(() -> {
+                    try {
+                        settlementEngine.execute(yearMonth, checkpoint.getAsLong());
+                    } catch (Exception e) {
+                        log.error("정산 실행 실패: {}", yearMonth, e);
+                    } finally {
+                        running.set(false);
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return getRun(month);
+    }
+
+    /**
+     * 정산 실행 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public SettlementRunResponse getRun(String month) {
+        YearMonth yearMonth = parseMonth(month);
+        return settlementRunRepository.findBySettleMonth(yearMonth.toString())
+                .map(SettlementRunResponse::from)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 월의 정산 기록이 없습니다: " + month));
+    }
+
+    /**
+     * 월 정산 결과 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<SettlementResponse> getSettlements(String month, Pageable pageable) {
+        YearMonth yearMonth = parseMonth(month);
+        return settlementRepository.findBySettleMonth(yearMonth.toString(), pageable)
+                .map(SettlementResponse::from);
+    }
+
+    /**
+     * 회원별 월 정산 결과 조회
+     */
+    @Transactional(readOnly = true)
+    public SettlementResponse getSettlement(String month, Long memberId) {
+        YearMonth yearMonth = parseMonth(month);
+        return settlementRepository.findBySettleMonthAndMemberId(yearMonth.toString(), memberId)
+                .map(SettlementResponse::from)
+                .orElseThrow(() -> new ResourceNotFoundException("정산 결과가 없습니다: " + month + " 회원 " + memberId));
+    }
+
+    private YearMonth parseMonth(String month) {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new InvalidRequestException("정산 월 형식이 올바르지 않습니다. (YYYY-MM)");
+        }
+    }
+}
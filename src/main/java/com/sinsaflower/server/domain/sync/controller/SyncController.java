@@ -0,0 +1,46 @@
+package com.sinsaflower.server.domain.sync.controller;
+
+import com.sinsaflower.server.domain.sync.dto.SyncResponse;
+import com.sinsaflower.server.domain.sync.service.SyncService;
+import com.sinsaflower.server.global.dto.ApiResponse;
+import com.sinsaflower.server.global.security.CustomUserDetails;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 델타 동기화 컨트롤러
+ * 모바일 앱이 전체 주문 목록과 가격 매트릭스를 다시 받지 않고 마지막 기준선 이후 변경분만 받도록 한다.
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Tag(name = "델타 동기화", description = "주문/가격 변경분 동기화 API")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * 기준선 이후 변경분 조회
+     */
+    @GetMapping
+    @Operation(summary = "변경분 동기화",
+            description = "since 이후 변경된 내 주문과 지역/상품 가격을 변경 순번 오름차순으로 조회합니다. " +
+                    "삭제된 행은 deleted=true 로 내려가며, 응답의 nextSince 를 저장해 다음 요청에 사용합니다. hasMore 가 true 면 바로 이어서 요청합니다.")
+    public ResponseEntity<ApiResponse<SyncResponse>> sync(
+            @Parameter(description = "마지막으로 받은 기준 순번 (처음이면 0)")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "테이블별 최대 행 수")
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        SyncResponse response = syncService.getChanges(userDetails.getUserId(), since, limit);
+        return ResponseEntity.ok(ApiResponse.success("변경분 조회가 성공적으로 완료되었습니다.", response));
+    }
+}
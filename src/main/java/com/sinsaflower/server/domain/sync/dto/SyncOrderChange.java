@@ -0,0 +1,64 @@
+package com.sinsaflower.server.domain.sync.dto;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 변경된 주문 1건 (삭제된 주문은 deleted=true 삭제 기록)
+ */
+@Getter
+@Builder
+@Schema(description = "변경된 주문")
+public class SyncOrderChange {
+
+    @Schema(description = "변경 순번", example = "1052311")
+    private Long changeSeq;
+
+    @Schema(description = "주문 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "삭제 여부 (true 면 클라이언트에서 제거)", example = "false")
+    private Boolean deleted;
+
+    @Schema(description = "주문번호", example = "877915")
+    private String orderNumber;
+
+    @Schema(description = "주문타입", example = "직")
+    private String orderType;
+
+    @Schema(description = "주문 상태", example = "CONFIRMED")
+    private OrderStatus orderStatus;
+
+    @Schema(description = "상호명", example = "다경플라워")
+    private String shopName;
+
+    @Schema(description = "상품명", example = "근조3단")
+    private String productName;
+
+    @Schema(description = "받는 분", example = "고인 OOO")
+    private String receiverName;
+
+    @Schema(description = "배송일", example = "2024-01-31")
+    private LocalDate deliveryDate;
+
+    @Schema(description = "배송 시", example = "14")
+    private String deliveryHours;
+
+    @Schema(description = "배송 분", example = "30")
+    private String deliveryMinutes;
+
+    @Schema(description = "배송 장소", example = "강릉시 사천면 방동길 38")
+    private String deliveryPlace;
+
+    @Schema(description = "결제 금액", example = "200000")
+    private BigDecimal payment;
+
+    @Schema(description = "수정 일시")
+    private LocalDateTime updatedAt;
+}
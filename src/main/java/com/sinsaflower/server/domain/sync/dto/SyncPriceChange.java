@@ -0,0 +1,40 @@
+package com.sinsaflower.server.domain.sync.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 변경된 지역/상품 가격 1건 (삭제된 가격은 id 만 있는 deleted=true 삭제 기록)
+ */
+@Getter
+@Builder
+@Schema(description = "변경된 지역/상품 가격")
+public class SyncPriceChange {
+
+    @Schema(description = "변경 순번", example = "1052312")
+    private Long changeSeq;
+
+    @Schema(description = "가격 ID", example = "10")
+    private Long id;
+
+    @Schema(description = "삭제 여부 (true 면 클라이언트에서 제거)", example = "false")
+    private Boolean deleted;
+
+    @Schema(description = "시/도", example = "서울특별시")
+    private String sido;
+
+    @Schema(description = "시/군/구", example = "강남구")
+    private String sigungu;
+
+    @Schema(description = "상품 카테고리명", example = "근조")
+    private String categoryName;
+
+    @Schema(description = "가격 (천원 단위)", example = "47")
+    private BigDecimal price;
+
+    @Schema(description = "취급 가능 여부", example = "true")
+    private Boolean isAvailable;
+}
@@ -0,0 +1,42 @@
+package com.sinsaflower.server.domain.sync.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 응답 DTO
+ * 클라이언트는 nextSince 를 기준선으로 저장하고, hasMore 가 true 면 바로 이어서 다시 요청한다.
+ */
+@Getter
+@Builder
+@Schema(description = "델타 동기화 응답")
+public class SyncResponse {
+
+    @Schema(description = "요청한 기준 순번", example = "1050000")
+    private Long since;
+
+    @Schema(description = "다음 요청에 사용할 기준 순번", example = "1052312")
+    private Long nextSince;
+
+    @Schema(description = "남은 변경분 여부 (true 면 nextSince 로 이어서 요청)", example = "false")
+    private Boolean hasMore;
+
+    @Schema(description = "변경된 주문 (변경 순번 오름차순)")
+    private List<SyncOrderChange> orders;
+
+    @Schema(description = "변경된 지역/상품 가격 (변경 순번 오름차순)")
+    private List<SyncPriceChange> prices;
+
+    public static SyncResponse empty(long since) {
+        return SyncResponse.builder()
+                .since(since)
+                .nextSince(since)
+                .hasMore(false)
+                .orders(List.of())
+                .prices(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.sinsaflower.server.domain.sync.service;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.sync.dto.SyncOrderChange;
+import com.sinsaflower.server.domain.sync.dto.SyncPriceChange;
+import com.sinsaflower.server.domain.sync.dto.SyncResponse;
+import com.sinsaflower.server.global.config.SyncProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 델타 동기화 서비스 (모바일 파트너 앱)
+ * 회원의 주문과 지역/상품 가격 중 since 이후 change_seq 를 받은 행만 (member_id, change_seq) 인덱스 범위로 읽어 응답한다.
+ * 소프트 삭제된 주문과 하드 삭제된 가격(sync_tombstone)은 deleted=true 삭제 기록으로 내려간다.
+ * 응답 범위는 SyncWatermark 기준선까지이며, 테이블별 limit 을 넘으면 모든 테이블을 같은 순번에서 잘라 다음 요청이 이어받게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncService {
+
+    private static final String ORDER_CHANGES_SQL =
+            "SELECT change_seq, id, is_deleted, order_number, order_type, order_status, shop_name, product_name, " +
+            "receiver_name, delivery_date, delivery_hours, delivery_minutes, delivery_place, payment, updated_at " +
+            "FROM orders WHERE member_id = ? AND change_seq > ? AND change_seq <= ? ORDER BY change_seq LIMIT ?";
+    private static final String PRICE_CHANGES_SQL =
+            "SELECT change_seq, id, sido, sigungu, category_name, price, is_available " +
+            "FROM member_product_price WHERE member_id = ? AND change_seq > ? AND change_seq <= ? ORDER BY change_seq LIMIT ?";
+    private static final String PRICE_TOMBSTONES_SQL =
+            "SELECT change_seq, row_id FROM sync_tombstone " +
+            "WHERE member_id = ? AND table_name = 'member_product_price' AND change_seq > ? AND change_seq <= ? " +
+            "ORDER BY change_seq LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncWatermark syncWatermark;
+    private final SyncProperties syncProperties;
+
+    /**
+     * since 이후 변경분 조회
+     *
+     * @param since 클라이언트 기준선 (처음이면 0)
+     * @param limit 테이블별 최대 행 수 (없으면 기본값)
+     */
+    public SyncResponse getChanges(Long memberId, long since, Integer limit) {
+        if (since < 0) {
+            throw new InvalidRequestException("기준 순번은 0 이상이어야 합니다.");
+        }
+        int size = resolveLimit(limit);
+        long watermark = syncWatermark.current();
+        if (since >= watermark) {
+            return SyncResponse.empty(since);
+        }
+
+        // limit + 1 건을 읽어 더 남았는지 판단
+        List<SyncOrderChange> orders = jdbcTemplate.query(ORDER_CHANGES_SQL,
+                (rs, rowNum) -> mapOrder(rs), memberId, since, watermark, size + 1);
+        List<SyncPriceChange> prices = new ArrayList<>(jdbcTemplate.query(PRICE_CHANGES_SQL,
+                (rs, rowNum) -> mapPrice(rs), memberId, since, watermark, size + 1));
+        prices.addAll(jdbcTemplate.query(PRICE_TOMBSTONES_SQL,
+                (rs, rowNum) -> SyncPriceChange.builder()
+                        .changeSeq(rs.getLong("change_seq"))
+                        .id(rs.getLong("row_id"))
+                        .deleted(true)
+                        .build(),
+                memberId, since, watermark, size + 1));
+        prices.sort(Comparator.comparingLong(SyncPriceChange::getChangeSeq));
+
+        // 잘린 테이블이 있으면 그 마지막 순번까지만 응답 (각 테이블은 그 순번 이하를 모두 읽은 상태)
+        long upper = Math.min(watermark, Math.min(
+                boundary(orders, size, SyncOrderChange::getChangeSeq),
+                boundary(prices, size, SyncPriceChange::getChangeSeq)));
+
+        SyncResponse response = SyncResponse.builder()
+                .since(since)
+                .nextSince(upper)
+                .hasMore(upper < watermark)
+                .orders(upTo(orders, upper, SyncOrderChange::getChangeSeq))
+                .prices(upTo(prices, upper, SyncPriceChange::getChangeSeq))
+                .build();
+
+        log.debug("델타 동기화: member {} since {} -> {} (주문 {}건, 가격 {}건)", memberId, since, upper,
+                response.getOrders().size(), response.getPrices().size());
+        return response;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return syncProperties.getDefaultLimit();
+        }
+        if (limit < 1) {
+            throw new InvalidRequestException("limit 은 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, syncProperties.getMaxLimit());
+    }
+
+    private static <T> long boundary(List<T> changes, int size, ToLongFunction<T> changeSeq) {
+        return changes.size() > size ? changeSeq.applyAsLong(changes.get(size - 1)) : Long.MAX_VALUE;
+    }
+
+    private static <T> List<T> upTo(List<T> changes, long upper, ToLongFunction<T> changeSeq) {
+        int end = 0;
+        while (end < changes.size() && changeSeq.applyAsLong(changes.get(end)) <= upper) {
+            end++;
+        }
+        return changes.subList(0, end);
+    }
+
+    private static SyncOrderChange mapOrder(ResultSet rs) throws SQLException {
+        SyncOrderChange.SyncOrderChangeBuilder builder = SyncOrderChange.builder()
+                .changeSeq(rs.getLong("change_seq"))
+                .id(rs.getLong("id"))
+                .orderNumber(rs.getString("order_number"));
+        if (rs.getBoolean("is_deleted")) {
+            return builder.deleted(true).build();
+        }
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return builder
+                .deleted(false)
+                .orderType(rs.getString("order_type"))
+                .orderStatus(OrderStatus.valueOf(rs.getString("order_status")))
+                .shopName(rs.getString("shop_name"))
+                .productName(rs.getString("product_name"))
+                .receiverName(rs.getString("receiver_name"))
+                .deliveryDate(rs.getObject("delivery_date", LocalDate.class))
+                .deliveryHours(rs.getString("delivery_hours"))
+                .deliveryMinutes(rs.getString("delivery_minutes"))
+                .deliveryPlace(rs.getString("delivery_place"))
+                .payment(rs.getBigDecimal("payment"))
+                .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                .build();
+    }
+
+    private static SyncPriceChange mapPrice(ResultSet rs) throws SQLException {
+        return SyncPriceChange.builder()
+                .changeSeq(rs.getLong("change_seq"))
+                .id(rs.getLong("id"))
+                .deleted(false)
+                .sido(rs.getString("sido"))
+                .sigungu(rs.getString("sigungu"))
+                .categoryName(rs.getString("category_name"))
+                .price(rs.getBigDecimal("price"))
+                .isAvailable(rs.getBoolean("is_available"))
+                .build();
+    }
+}
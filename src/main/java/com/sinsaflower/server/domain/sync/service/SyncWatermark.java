@@ -0,0 +1,141 @@
+package com.sinsaflower.server.domain.sync.service;
+
+import com.sinsaflower.server.global.config.SyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 델타 동기화 기준선 (안전한 최대 변경 순번)
+ * change_seq 는 쓰기 시점에 발급되고 커밋은 그 뒤에 일어나므로, 방금 발급된 순번 아래에 아직 커밋되지 않은 행이 있을 수 있다.
+ * 트리거(V23)는 순번을 받기 전에 트랜잭션 ID(pg_current_xact_id)를 먼저 배정해 행에 함께 기록하므로,
+ * 시퀀스 값 V 를 읽은 뒤 잡은 스냅샷의 xmax 보다 V 이하 순번을 받은 트랜잭션의 ID 가 항상 작다.
+ * 이후 스냅샷 xmin 이 그 xmax 에 닿으면 해당 트랜잭션은 모두 끝난(커밋 또는 롤백) 것이므로 그때 V 를 기준선으로 쓴다.
+ * 커밋이 얼마나 늦든 기다리므로 클라이언트가 기준선을 넘겨받은 뒤 뒤늦게 커밋된 행을 놓치지 않는다.
+ * 기다리는 동안 시퀀스 값이 그대로인 수집 결과는 쌓지 않고, max-pending-samples 를 넘으면 마지막 결과를 새 결과로 바꿔
+ * (더 큰 값과 xmax 라 늦게 확정될 뿐 안전함) 오래 걸리는 트랜잭션이 있어도 메모리가 늘지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncWatermark {
+
+    // nextval 이 한 번도 호출되지 않았으면 last_value 는 시작값이므로 0 으로 봄
+    private static final String SEQUENCE_SQL =
+            "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM change_seq";
+    // 시퀀스를 읽은 뒤 별도 문장으로 잡은 스냅샷 (xmin: 가장 오래된 진행 중 트랜잭션, xmax: 아직 배정되지 않은 첫 ID)
+    private static final String SNAPSHOT_SQL =
+            "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint AS xmin, " +
+            "pg_snapshot_xmax(pg_current_snapshot())::text::bigint AS xmax";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncProperties syncProperties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // lock 으로 보호
+    private final Deque<Sample> samples = new ArrayDeque<>();
+    private long watermark;
+    private long advancedAt = System.currentTimeMillis(); // 기준선이 마지막으로 올라간(또는 기다릴 결과가 없던) 시각
+    private long stallWarnedAt;
+
+    /**
+     * 시퀀스 값과 트랜잭션 스냅샷 주기 수집
+     */
+    @Scheduled(fixedDelayString = "${sync.sample-interval-millis:1000}")
+    public void sampleScheduled() {
+        if (!syncProperties.isEnabled()) {
+            return;
+        }
+        try {
+            Long value = jdbcTemplate.queryForObject(SEQUENCE_SQL, Long.class);
+            Map<String, Object> snapshot = jdbcTemplate.queryForMap(SNAPSHOT_SQL);
+            record(value == null ? 0 : value,
+                    ((Number) snapshot.get("xmax")).longValue(), ((Number) snapshot.get("xmin")).longValue());
+        } catch (Exception e) {
+            log.warn("변경 순번 수집 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 기준선 (수집 전이면 0)
+     */
+    public long current() {
+        lock.lock();
+        try {
+            return watermark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 수집 결과 반영
+     *
+     * @param value 시퀀스 값
+     * @param xmax  시퀀스를 읽은 뒤 잡은 스냅샷의 xmax (value 이하 순번을 받은 트랜잭션 ID 는 모두 이보다 작음)
+     * @param xmin  현재 스냅샷의 xmin (이보다 작은 트랜잭션 ID 는 모두 끝남)
+     */
+    void record(long value, long xmax, long xmin) {
+        long now = System.currentTimeMillis();
+        long stalledMillis = 0;
+        long current;
+        int pending;
+        lock.lock();
+        try {
+            // 이전 결과와 값이 같으면 먼저 확정되는 이전 결과로 충분
+            long latest = samples.isEmpty() ? watermark : samples.peekLast().value();
+            if (value > latest) {
+                if (samples.size() >= Math.max(1, syncProperties.getMaxPendingSamples())) {
+                    samples.pollLast();
+                }
+                samples.addLast(new Sample(value, xmax));
+            }
+            while (!samples.isEmpty() && samples.peekFirst().xmax() <= xmin) {
+                long settled = samples.pollFirst().value();
+                if (settled > watermark) {
+                    watermark = settled;
+                    advancedAt = now;
+                }
+            }
+            if (samples.isEmpty()) {
+                advancedAt = now;
+            }
+
+            long stallWarnMillis = syncProperties.getStallWarnSeconds() * 1000;
+            if (stallWarnMillis > 0 && now - advancedAt >= stallWarnMillis && now - stallWarnedAt >= stallWarnMillis) {
+                stalledMillis = now - advancedAt;
+                stallWarnedAt = now;
+            }
+            current = watermark;
+            pending = samples.size();
+        } finally {
+            lock.unlock();
+        }
+        if (stalledMillis > 0) {
+            log.warn("동기화 기준선 정체: {}초째 {} (대기 수집 결과 {}건, 스냅샷 xmin {} 에 머문 트랜잭션 확인 필요)",
+                    stalledMillis / 1000, current, pending, xmin);
+        }
+    }
+
+    /**
+     * 기준선이 되기를 기다리는 수집 결과 수
+     */
+    int pendingSamples() {
+        lock.lock();
+        try {
+            return samples.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Sample(long value, long xmax) {
+    }
+}
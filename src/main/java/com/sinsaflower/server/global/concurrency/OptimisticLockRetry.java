@@ -0,0 +1,67 @@
+package com.sinsaflower.server.global.concurrency;
+
+import com.sinsaflower.server.global.config.OptimisticLockProperties;
+import com.sinsaflower.server.global.exception.ConcurrentUpdateException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 재시도
+ * 버전 충돌(OptimisticLockingFailureException)로 실패한 트랜잭션을 지수 백오프 + 지터 후 처음부터 다시 실행한다.
+ * 다시 실행해도 결과가 같은 멱등 전이(상태 변경, 증감 등)에만 사용하고, 작업은 자체 트랜잭션을 여는 서비스 호출이어야 한다.
+ * 이미 트랜잭션 안에서 호출되면 같은 트랜잭션을 재사용하게 되므로 재시도하지 않고 한 번만 실행한다.
+ * 시도 횟수를 다 쓰면 현재 상태를 담은 ConcurrentUpdateException(409) 으로 바꿔 던진다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticLockRetry {
+
+    private final OptimisticLockProperties optimisticLockProperties;
+
+    /**
+     * @param description  로그/오류 메시지용 작업 이름
+     * @param action       트랜잭션 단위 작업
+     * @param currentState 재시도 소진 시 응답에 담을 현재 상태 조회 (null 가능)
+     */
+    public <T> T execute(String description, Supplier<T> action, Supplier<?> currentState) {
+        int maxAttempts = TransactionSynchronizationManager.isActualTransactionActive()
+                ? 1
+                : Math.max(1, optimisticLockProperties.getMaxAttempts());
+        long backoff = optimisticLockProperties.getInitialBackoffMillis();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} 동시 수정 충돌 재시도 소진 ({}회)", description, attempt);
+                    throw new ConcurrentUpdateException(description + " 중 다른 요청이 먼저 변경했습니다. 현재 상태를 확인 후 다시 시도해 주세요.",
+                            currentState != null ? currentState.get() : null, e);
+                }
+                log.debug("{} 동시 수정 충돌, 재시도 {}/{}", description, attempt, maxAttempts);
+                sleep(backoff);
+                backoff = Math.min(backoff * 2, optimisticLockProperties.getMaxBackoffMillis());
+            }
+        }
+    }
+
+    // 동시에 실패한 요청들이 같은 시각에 다시 부딪히지 않도록 [0, backoff] 범위에서 대기 (full jitter)
+    private static void sleep(long backoff) {
+        if (backoff <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoff + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트", e);
+        }
+    }
+}
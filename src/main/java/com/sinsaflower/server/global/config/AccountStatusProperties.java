@@ -0,0 +1,20 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "account-status")
+@Getter @Setter
+public class AccountStatusProperties {
+
+    private boolean enabled = true; // JWT 인증 시 계정 상태(정지/삭제) 확인 여부
+    private boolean preload = true; // 시작 시 전체 관리자/회원 상태 적재
+    private long ttlSeconds = 300; // 캐시 항목 최대 유지 시간 (알림을 놓쳐도 이 시간 안에 DB 기준으로 돌아옴)
+    private boolean notifyEnabled = true; // 서버 간 무효화 (PostgreSQL LISTEN/NOTIFY, 다른 DB 에서는 자동 비활성)
+    private String notifyChannel = "account_status"; // NOTIFY 채널명 (영문 소문자/숫자/_)
+    private long listenPollMillis = 1000; // 알림 대기 주기 (종료 확인 간격)
+    private long reconnectDelayMillis = 5000; // LISTEN 연결이 끊겼을 때 재연결 대기 시간
+}
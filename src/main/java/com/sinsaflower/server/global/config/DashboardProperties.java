@@ -0,0 +1,16 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "dashboard")
+@Getter @Setter
+public class DashboardProperties {
+
+    private int parallelism = 4; // 동시에 실행할 집계 쿼리 수 (커넥션 풀 크기보다 작게)
+    private long queryTimeoutMillis = 2000; // 쿼리별 제한 시간 (실행 시작부터, DB 쿼리 타임아웃은 초 단위로 올림), 넘으면 해당 항목만 실패 처리
+    private long cacheTtlMillis = 10000; // 완전한 결과를 재사용하는 시간
+}
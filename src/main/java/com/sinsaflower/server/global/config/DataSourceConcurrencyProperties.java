@@ -0,0 +1,15 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "datasource.concurrency")
+@Getter @Setter
+public class DataSourceConcurrencyProperties {
+
+    private int permits = 0; // 동시에 커넥션을 잡을 수 있는 요청 수 (0이면 커넥션 풀 크기 합계)
+    private long acquireTimeoutMillis = 3000; // 허용 대기 시간, 넘으면 연결 실패로 처리 (503)
+}
@@ -0,0 +1,80 @@
+package com.sinsaflower.server.global.config;
+
+import com.sinsaflower.server.global.datasource.ReadYourWritesTracker;
+import com.sinsaflower.server.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (datasource.routing.enabled=true 일 때만 적용)
+ * 주 DB는 spring.datasource, 복제본은 datasource.routing.replicas 로 풀을 만들고
+ * 풀마다 이름(primary, replica-N)을 붙여 hikaricp.* 메트릭을 pool 태그로 구분한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    // 빈으로 등록되지 않은 풀이므로 종료 시 직접 닫음
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 DataSourceRoutingProperties routingProperties,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        configurePool(primary, ReplicaRoutingDataSource.PRIMARY, routingProperties.getPrimaryPoolSize(), registry);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setReadOnly(true);
+            configurePool(pool, ReplicaRoutingDataSource.REPLICA_PREFIX + (replicas.size() + 1), replica.getPoolSize(), registry);
+            replicas.add(pool);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replicas, new ReadYourWritesTracker(routingProperties.getStickyMillis()));
+        routing.afterPropertiesSet();
+
+        log.info("DataSource 라우팅 적용: 주 DB 1개, 복제본 {}개", replicas.size());
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private void configurePool(HikariDataSource pool, String poolName, int poolSize, MeterRegistry registry) {
+        pools.add(pool);
+        pool.setPoolName(poolName);
+        pool.setMaximumPoolSize(poolSize);
+        if (registry != null) {
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+@Getter @Setter
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false; // 읽기 전용 트랜잭션을 복제본으로 보낼지 여부 (false면 spring.datasource 단일 풀)
+    private long stickyMillis = 5000; // 본인 쓰기 이후 읽기를 주 DB로 고정하는 시간 (복제 지연 대비)
+    private int primaryPoolSize = 10; // 주 DB 커넥션 풀 크기
+    private List<Replica> replicas = new ArrayList<>(); // 읽기 복제본 목록 (비어 있으면 모두 주 DB)
+
+    @Getter @Setter
+    public static class Replica {
+        private String url; // JDBC URL
+        private String username; // 비어 있으면 spring.datasource.username 사용
+        private String password; // 비어 있으면 spring.datasource.password 사용
+        private int poolSize = 10; // 커넥션 풀 크기
+    }
+}
@@ -0,0 +1,25 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "dispatch")
+@Getter @Setter
+public class DispatchProperties {
+
+    private boolean enabled = true; // 후보 색인 주기 갱신 여부 (비활성 시 첫 조회 때 생성)
+    private long refreshIntervalMillis = 300000; // 후보 색인 갱신 주기
+    private int defaultTopK = 5; // 후보 조회 기본 개수
+    private int maxTopK = 50; // 후보 조회 최대 개수
+    private int defaultCapacity = 20; // 일괄 배정 시 파트너별 최대 배정 수
+    private int maxBatchSize = 5000; // 일괄 배정 최대 주문 수
+    private double priceWeight = 0.4; // 가격 가중치 (낮을수록 높은 점수)
+    private double rankWeight = 0.2; // 등급 가중치
+    private double loadWeight = 0.25; // 최근 배정 부하 가중치 (적을수록 높은 점수)
+    private double timeWeight = 0.15; // 배송 시간대 적합도 가중치
+    private int nightStartHour = 20; // 야간 배송 시작 시각 (이 시각부터 야간)
+    private int nightEndHour = 8; // 야간 배송 종료 시각 (이 시각 전까지 야간)
+}
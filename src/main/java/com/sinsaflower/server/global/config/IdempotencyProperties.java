@@ -0,0 +1,23 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+@Getter @Setter
+public class IdempotencyProperties {
+
+    private boolean enabled = true; // Idempotency-Key 처리 여부
+    private List<String> paths = List.of("/api/orders", "/api/members/signup"); // 적용 대상 POST 경로
+    private int maxKeyLength = 100; // 키 최대 길이
+    private int ttlHours = 24; // 저장한 응답 보관 시간 (지나면 같은 키로 새 요청 처리)
+    private int cacheSize = 10000; // 최근 완료 응답 메모리 LRU 크기
+    private int inProgressTimeoutSeconds = 60; // 처리 중 표시 최대 유지 시간 (서버가 죽어 남은 표시를 넘겨받는 기준)
+    private int waitTimeoutSeconds = 30; // 동시 중복 요청이 최초 요청 완료를 기다리는 최대 시간
+    private long sweepIntervalMillis = 600000; // 만료 키 정리 주기
+}
@@ -0,0 +1,43 @@
+package com.sinsaflower.server.global.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 응답 직렬화 설정
+ * Blackbird 모듈로 리플렉션 대신 생성된 접근자를 사용하고,
+ * Accept 헤더로 요청한 경우에만 Smile(application/x-jackson-smile)/CBOR(application/cbor)로 응답한다.
+ * 바이너리 변환기는 JSON 변환기 뒤에 등록되므로 기본 응답은 JSON 그대로다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class JacksonConfig implements WebMvcConfigurer {
+
+    // Spring Boot 설정(모듈, 날짜 형식, 시간대)이 적용된 빌더 (prototype)
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "login-attempt")
+@Getter @Setter
+public class LoginAttemptProperties {
+
+    private boolean enabled = true; // 로그인 실패 추적/잠금 사용 여부
+    private int windowSeconds = 300; // 실패 횟수를 세는 구간 (이 시간이 지난 실패는 버킷 단위로 빠짐)
+    private int bucketCount = 10; // 구간을 나누는 버킷 수 (많을수록 정밀하게 감소)
+    private int maxFailuresPerLoginId = 5; // 로그인 ID 별 구간 내 허용 실패 수 (넘으면 잠금)
+    private int maxFailuresPerIp = 50; // 클라이언트 IP 별 구간 내 허용 실패 수 (여러 ID 를 돌려 시도하는 경우)
+    private int lockSeconds = 30; // 첫 잠금 시간 (잠금이 반복될 때마다 2배)
+    private int maxLockSeconds = 900; // 최대 잠금 시간
+    private int maxEntries = 100000; // 로그인 ID/IP 별 최대 추적 항목 수 (넘으면 만료 항목 정리 후 마지막 실패가 오래된 항목부터 내보냄)
+    private long sweepIntervalMillis = 60000; // 만료된 항목 정리 주기
+}
@@ -0,0 +1,21 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "member.duplicate-filter")
+@Getter @Setter
+public class MemberDuplicateFilterProperties {
+
+    private boolean enabled = true; // 중복 확인 API 의 Bloom 필터 사전 확인 사용 여부 (비활성 시 매번 DB 조회)
+    private long expectedInsertions = 100000; // 필드별 최소 예상 건수 (적재 시 실제 건수의 2배가 더 크면 그 값 사용)
+    private double falsePositiveRate = 0.01; // 목표 오탐률 (오탐은 DB 조회로 넘어가므로 정확도에는 영향 없음)
+    private long maxBytesPerFilter = 8388608; // 필드별 비트 배열 최대 크기 (넘으면 오탐률이 목표보다 높아짐)
+    private int fetchSize = 1000; // 적재 스캔 fetch size
+    private long syncIntervalMillis = 10000; // 다른 서버에서 가입한 회원을 필터에 반영하는 주기
+    private int syncOverlapSeconds = 5; // 동기화 조회 시작 시각을 앞당기는 여유 (커밋 지연, 서버 간 시각 차이)
+    private long rebuildIntervalMillis = 21600000; // 전체 재적재 주기 (삭제된 값 정리, 건수 증가에 맞춰 크기 조정)
+}
@@ -0,0 +1,16 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "optimistic-lock")
+@Getter @Setter
+public class OptimisticLockProperties {
+
+    private int maxAttempts = 4; // 버전 충돌 시 최대 시도 횟수 (첫 시도 포함)
+    private long initialBackoffMillis = 20; // 첫 재시도 전 대기 (이후 2배씩, 지터 적용)
+    private long maxBackoffMillis = 200; // 재시도 대기 상한
+}
@@ -0,0 +1,17 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "order.archive")
+@Getter @Setter
+public class OrderArchiveProperties {
+
+    private boolean enabled = true; // 보관 이동 작업 실행 여부
+    private int retentionDays = 90; // 소프트 삭제 후 원본 테이블에 남겨 두는 기간 (일)
+    private int batchSize = 500; // 한 트랜잭션에서 옮기는 주문 수
+    private String cron = "0 30 3 * * *"; // 실행 주기 (OrderArchiveService @Scheduled)
+}
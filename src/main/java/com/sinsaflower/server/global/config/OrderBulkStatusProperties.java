@@ -0,0 +1,15 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "order.bulk-status")
+@Getter @Setter
+public class OrderBulkStatusProperties {
+
+    private int maxIds = 5000; // 요청당 최대 주문 수
+    private int chunkSize = 1000; // UPDATE 1회에 넣는 주문 ID 수 (IN 목록 크기)
+}
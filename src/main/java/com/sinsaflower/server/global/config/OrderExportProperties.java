@@ -0,0 +1,17 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "order.export")
+@Getter @Setter
+public class OrderExportProperties {
+
+    private int fetchSize = 1000; // 커서로 한 번에 가져오는 주문 행 수
+    private int chunkSize = 500; // 옵션/보내는 분을 한 번에 조회하는 주문 수 (메모리에 머무는 최대 행 수)
+    private int maxRangeDays = 366; // 한 번에 내보낼 수 있는 최대 기간 (일)
+    private int xlsxWindowRows = 100; // XLSX 작성 시 메모리에 유지하는 행 수 (나머지는 임시 파일)
+}
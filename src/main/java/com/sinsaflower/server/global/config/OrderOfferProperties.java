@@ -0,0 +1,16 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "order.offer")
+@Getter @Setter
+public class OrderOfferProperties {
+
+    private boolean enabled = true; // 만료 임대 회수 스케줄 실행 여부
+    private int leaseSeconds = 60; // 선점/연장 시 임대 유지 시간 (초)
+    private long reaperIntervalMillis = 5000; // 만료 임대 회수 주기
+}
@@ -0,0 +1,21 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "order.partition")
+@Getter @Setter
+public class OrderPartitionProperties {
+
+    private boolean enabled = true; // 파티션 관리 작업 실행 여부 (PostgreSQL 전용)
+    private int monthsAhead = 3; // 미리 만들어 둘 다음 달 파티션 수
+    private int coldAfterMonths = 12; // 이 개월 수보다 오래된 파티션은 파일로 내보냄
+    private String exportPath = "./archive/orders"; // 내보낸 파일 위치 (YYYYMM/<table>.csv.gz)
+    private boolean dropAfterExport = false; // 내보낸 뒤 파티션 삭제 여부
+    private int fetchSize = 1000; // 내보내기 시 한 번에 가져오는 행 수
+    private String cron = "0 0 4 1 * *"; // 실행 주기 (OrderPartitionService @Scheduled)
+    private long deliveryWindowCheckMillis = 3600000; // 배송일 범위 제약(V21) 검증 여부 확인 주기
+}
@@ -0,0 +1,19 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "order.status-history")
+@Getter @Setter
+public class OrderStatusHistoryProperties {
+
+    private boolean enabled = true; // 상태 이력 기록 여부
+    private int bufferCapacity = 50000; // 기록 대기 버퍼 크기 (가득 차면 요청 스레드에서 바로 기록)
+    private int batchSize = 500; // JDBC 배치 크기 (버퍼가 이만큼 쌓이면 주기를 기다리지 않고 기록)
+    private long flushIntervalMillis = 1000; // 버퍼 기록 주기
+    private int slaLookbackDays = 30; // SLA 계산 시 시작 상태를 찾는 기간 (조회 시작일 이전)
+    private int maxReportDays = 92; // SLA/일별 건수 조회 최대 기간
+}
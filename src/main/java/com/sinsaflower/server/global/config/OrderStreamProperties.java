@@ -0,0 +1,18 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "order.stream")
+@Getter @Setter
+public class OrderStreamProperties {
+
+    private long timeoutMillis = 1800000; // SSE 연결 유지 시간 (만료 시 클라이언트가 Last-Event-ID 로 재연결)
+    private int heartbeatSeconds = 15; // 하트비트 주기 (프록시 유휴 연결 종료 방지)
+    private int bufferSize = 256; // 연결별 미전송 이벤트 최대 수 (넘치면 연결 종료)
+    private int replaySize = 10000; // 재연결 시 이어받기용으로 보관하는 최근 이벤트 수
+    private int maxConnectionsPerMember = 5; // 회원별 최대 동시 연결 수 (넘치면 가장 오래된 연결 종료)
+}
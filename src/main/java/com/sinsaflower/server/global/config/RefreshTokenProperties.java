@@ -0,0 +1,18 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "refresh-token")
+@Getter @Setter
+public class RefreshTokenProperties {
+
+    private boolean enabled = true; // 리프레시 토큰 교체/폐기 저장소 사용 여부 (비활성 시 서명만 검증)
+    private long syncIntervalMillis = 10000; // 다른 서버에서 폐기한 family 를 메모리 폐기 목록에 반영하는 주기
+    private int syncOverlapSeconds = 5; // 동기화 조회 시작 시각을 앞당기는 여유 (커밋 지연, 서버 간 시각 차이)
+    private long sweepIntervalMillis = 3600000; // 만료된 폐기 목록/토큰 행 정리 주기
+    private int rotationGraceSeconds = 10; // 교체 직후 같은 토큰 재요청을 재사용으로 보지 않고 후속 토큰을 다시 내주는 시간
+}
@@ -0,0 +1,16 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "region.import")
+@Getter @Setter
+public class RegionImportProperties {
+
+    private String location = "classpath:data/regions.csv"; // 지역 데이터셋 위치
+    private boolean onStartup = true; // 애플리케이션 기동 시 적재 여부
+    private int batchSize = 500; // JDBC 배치 크기
+}
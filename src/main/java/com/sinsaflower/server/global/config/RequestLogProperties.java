@@ -0,0 +1,18 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "request-log")
+@Getter @Setter
+public class RequestLogProperties {
+
+    private boolean enabled = true; // 요청당 요약 로그 한 줄 (경로 패턴, 상태, 소요 시간, SQL 수, 사용자)
+    private long slowThresholdMillis = 1000; // 이 시간 이상 걸린 요청은 WARN 으로 기록
+    private List<String> excludePrefixes = List.of("/actuator/", "/swagger-ui/", "/v3/api-docs", "/api-docs"); // 요약 로그를 남기지 않는 경로
+}
@@ -0,0 +1,12 @@
+package com.sinsaflower.server.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // @Scheduled 배치 작업 활성화
+    // 주문 보관 이동 등 주기 작업은 각 도메인 service에 위치
+}
@@ -2,6 +2,7 @@ package com.sinsaflower.server.global.config;
 
 import com.sinsaflower.server.global.security.JwtAuthenticationFilter;
 import com.sinsaflower.server.global.security.JwtAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -50,6 +51,9 @@ public class SecurityConfig {
             
             // 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 비동기 재디스패치 (SSE/스트리밍 응답, 최초 요청에서 이미 인가됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 공개 API (인증 불필요)
                 .requestMatchers("/api/auth/login").permitAll()
                 .requestMatchers("/api/auth/signup").permitAll()
@@ -70,6 +74,7 @@ public class SecurityConfig {
                 
                 // 파트너 전용 API  
                 .requestMatchers("/api/members/**").hasRole("PARTNER")
+                .requestMatchers("/api/offers/**").hasRole("PARTNER")
                 
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
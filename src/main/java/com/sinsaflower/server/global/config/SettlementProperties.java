@@ -0,0 +1,19 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "settlement")
+@Getter @Setter
+public class SettlementProperties {
+
+    private boolean enabled = true; // 매월 전월 정산 자동 실행 여부
+    private int parallelism = 4; // 회원 구간을 동시에 집계하는 작업 수 (ForkJoinPool 크기)
+    private int memberChunkSize = 200; // 한 작업이 맡는 회원 수 (회원 ID 키셋 구간)
+    private int orderFetchSize = 5000; // 구간 주문 커서가 한 번에 가져오는 행 수
+    private String cron = "0 0 5 1 * *"; // 자동 실행 주기 (SettlementService @Scheduled)
+    private long leaseSeconds = 600; // 진행중 실행이 이 시간 동안 체크포인트가 없으면 중단된 것으로 보고 이어받음
+}
@@ -0,0 +1,19 @@
+package com.sinsaflower.server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sync")
+@Getter @Setter
+public class SyncProperties {
+
+    private boolean enabled = true; // 변경 순번 기준선 수집 여부 (PostgreSQL 전용, 비활성 시 변경분 없음)
+    private long sampleIntervalMillis = 1000; // change_seq 시퀀스 값과 트랜잭션 스냅샷 수집 주기
+    private int maxPendingSamples = 600; // 기준선이 되기를 기다리는 수집 결과 최대 수 (넘으면 최근 결과끼리 합침)
+    private long stallWarnSeconds = 60; // 오래 걸리는 트랜잭션으로 기준선이 이 시간 넘게 멈추면 WARN
+    private int defaultLimit = 500; // 테이블별 기본 응답 행 수
+    private int maxLimit = 2000; // 테이블별 최대 응답 행 수
+}
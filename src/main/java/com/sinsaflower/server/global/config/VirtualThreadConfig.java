@@ -0,0 +1,72 @@
+package com.sinsaflower.server.global.config;
+
+import com.sinsaflower.server.global.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드 설정 (spring.threads.virtual.enabled=true 일 때만 적용)
+ * Tomcat/@Async/@Scheduled 실행기 전환은 Spring Boot가 처리하고, 여기서는 DB 접근 동시성만 커넥션 풀 크기로 제한한다.
+ * 메트릭: db.concurrency.available, db.concurrency.waiting
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(
+            ObjectProvider<DataSourceConcurrencyProperties> concurrencyProperties,
+            ObjectProvider<DataSourceRoutingProperties> routingProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                DataSourceConcurrencyProperties properties = concurrencyProperties.getObject();
+                int permits = properties.getPermits() > 0
+                        ? properties.getPermits()
+                        : poolSize(dataSource, routingProperties.getObject());
+
+                ConnectionLimitingDataSource limited =
+                        new ConnectionLimitingDataSource(dataSource, permits, properties.getAcquireTimeoutMillis());
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+                if (registry != null) {
+                    Gauge.builder("db.concurrency.available", limited, ConnectionLimitingDataSource::getAvailablePermits)
+                            .register(registry);
+                    Gauge.builder("db.concurrency.waiting", limited, ConnectionLimitingDataSource::getWaitingCount)
+                            .register(registry);
+                }
+                log.info("DB 동시 접근 제한 적용: {}개", permits);
+                return limited;
+            }
+        };
+    }
+
+    // 커넥션 풀 크기 합계 (라우팅 사용 시 주 DB + 복제본)
+    private static int poolSize(DataSource dataSource, DataSourceRoutingProperties routingProperties) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        if (routingProperties.isEnabled()) {
+            return routingProperties.getPrimaryPoolSize() + routingProperties.getReplicas().stream()
+                    .mapToInt(DataSourceRoutingProperties.Replica::getPoolSize)
+                    .sum();
+        }
+        return HIKARI_DEFAULT_POOL_SIZE;
+    }
+}
@@ -1,11 +1,10 @@
 package com.sinsaflower.server.global.controller;
 
-import com.sinsaflower.server.domain.admin.repository.AdminRepository;
-import com.sinsaflower.server.domain.member.repository.MemberRepository;
 import com.sinsaflower.server.global.constants.AuthConstants;
 import com.sinsaflower.server.global.dto.AuthResponse;
 import com.sinsaflower.server.global.dto.LoginRequest;
 import com.sinsaflower.server.global.dto.TokenRefreshRequest;
+import com.sinsaflower.server.global.security.AccountStatusCache;
 import com.sinsaflower.server.global.security.CustomUserDetails;
 import com.sinsaflower.server.global.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,8 +19,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 
 import org.springframework.http.ResponseEntity;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -39,8 +41,7 @@ import java.util.Map;
 public class AuthController {
     
     private final AuthService authService;
-    private final AdminRepository adminRepository;
-    private final MemberRepository memberRepository;
+    private final AccountStatusCache accountStatusCache;
     
 
     /**
@@ -54,18 +55,19 @@ public class AuthController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "로그인 성공",
                      content = @Content(schema = @Schema(implementation = AuthResponse.class))),
-        @ApiResponse(responseCode = "401", description = "로그인 실패")
+        @ApiResponse(responseCode = "401", description = "로그인 실패"),
+        @ApiResponse(responseCode = "429", description = "로그인 실패 반복으로 잠김 (Retry-After 초 후 재시도)")
     })
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<AuthResponse>> login(
         @RequestBody
         @Schema(description = "로그인 요청 정보", implementation = LoginRequest.class)
         @Valid LoginRequest request,
+        HttpServletRequest httpRequest,
         HttpServletResponse httpResponse) {
-        log.info("로그인 API 호출: {}", request.getLoginId());
-        log.info("로그인 API 호출: {}", request.getPassword());
+        log.debug("로그인 API 호출: {}", request.getLoginId());
 
-        AuthResponse response = authService.login(request);
-        log.info("로그인 성공: {} ({})", response.getUsername(), response.getUserType());
+        AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
+        log.debug("로그인 성공: {} ({})", response.getUsername(), response.getUserType());
         
         // JWT 토큰을 쿠키에 설정 (HttpOnly - 보안)
         setTokenCookie(httpResponse, AuthConstants.Token.ACCESS_TOKEN_COOKIE, response.getAccessToken(), 
@@ -90,11 +92,11 @@ public class AuthController {
     @ApiResponse(responseCode = "200", description = "토큰 갱신 성공")
     @ApiResponse(responseCode = "401", description = "유효하지 않은 리프레시 토큰")
     public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody TokenRefreshRequest request) {
-        log.info("토큰 갱신 API 호출");
+        log.debug("토큰 갱신 API 호출");
         
         try {
             AuthResponse response = authService.refreshToken(request);
-            log.info("토큰 갱신 성공: {} ({})", response.getUsername(), response.getUserType());
+            log.debug("토큰 갱신 성공: {} ({})", response.getUsername(), response.getUserType());
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             log.warn("토큰 갱신 실패: {}", e.getMessage());
@@ -109,14 +111,15 @@ public class AuthController {
      * 로그아웃
      */
     @PostMapping("/logout")
-    @Operation(summary = "로그아웃", description = "현재 세션 무효화")
+    @Operation(summary = "로그아웃", description = "현재 세션 무효화 (같은 로그인으로 발급된 리프레시/액세스 토큰 폐기)")
     @ApiResponse(responseCode = "200", description = "로그아웃 성공")
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Void>> logout(
         @AuthenticationPrincipal CustomUserDetails userDetails,
+        HttpServletRequest httpRequest,
         HttpServletResponse httpResponse) {
-        log.info("로그아웃 API 호출: {}", userDetails != null ? userDetails.getUsername() : "익명");
+        log.debug("로그아웃 API 호출: {}", userDetails != null ? userDetails.getUsername() : "익명");
         
-        authService.logout();
+        authService.logout(resolveLogoutToken(httpRequest));
         
         // 쿠키에서 토큰 제거
         clearTokenCookie(httpResponse, AuthConstants.Token.ACCESS_TOKEN_COOKIE);
@@ -140,7 +143,7 @@ public class AuthController {
         @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Map<String, Object>>> getCurrentUser(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        log.info("현재 사용자 정보 조회 API 호출: {}", userDetails != null ? userDetails.getUsername() : "익명");
+        log.debug("현재 사용자 정보 조회 API 호출: {}", userDetails != null ? userDetails.getUsername() : "익명");
         
         if (userDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -158,16 +161,14 @@ public class AuthController {
         userInfo.put("isAdmin", userDetails.isAdmin());
         userInfo.put("isPartner", userDetails.isPartner());
 
-        // DB에서 최신 name, nickname 정보 조회
-        if (userDetails.isAdmin()) {
-            adminRepository.findById(userDetails.getUserId()).ifPresent(admin -> {
-                userInfo.put("name", admin.getName());
-                userInfo.put("nickname", admin.getName()); // 관리자는 name을 nickname으로 사용
-            });
-        } else if (userDetails.isPartner()) {
-            memberRepository.findById(userDetails.getUserId()).ifPresent(member -> {
-                userInfo.put("name", member.getName());
-                userInfo.put("nickname", member.getNickname());
+        // 프로필 클레임이 있는 토큰은 그대로, 없으면 계정 캐시(없는 항목만 단건 조회)에서 name, nickname 조회
+        if (StringUtils.hasText(userDetails.getName())) {
+            userInfo.put("name", userDetails.getName());
+            userInfo.put("nickname", userDetails.getNickname());
+        } else {
+            accountStatusCache.getProfile(userDetails.getUserType(), userDetails.getUserId()).ifPresent(profile -> {
+                userInfo.put("name", profile.name());
+                userInfo.put("nickname", profile.nickname());
             });
         }
         
@@ -184,7 +185,7 @@ public class AuthController {
         @ApiResponse(responseCode = "401", description = "토큰 무효")
     })
     public ResponseEntity<com.sinsaflower.server.global.dto.ApiResponse<Map<String, Object>>> validateToken(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        log.info("토큰 유효성 검증 API 호출: {}", userDetails != null ? userDetails.getUsername() : "익명");
+        log.debug("토큰 유효성 검증 API 호출: {}", userDetails != null ? userDetails.getUsername() : "익명");
         
         if (userDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -203,6 +204,34 @@ public class AuthController {
         return ResponseEntity.ok(com.sinsaflower.server.global.dto.ApiResponse.success(AuthConstants.Messages.TOKEN_VALID, tokenInfo));
     }
     
+    /**
+     * 로그아웃할 토큰 (리프레시 토큰 쿠키 -> Authorization 헤더 -> 액세스 토큰 쿠키)
+     */
+    private String resolveLogoutToken(HttpServletRequest request) {
+        String refreshToken = getCookieValue(request, AuthConstants.Token.REFRESH_TOKEN_COOKIE);
+        if (refreshToken != null) {
+            return refreshToken;
+        }
+        String bearerToken = request.getHeader("Authorization");
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring("Bearer ".length());
+        }
+        return getCookieValue(request, AuthConstants.Token.ACCESS_TOKEN_COOKIE);
+    }
+    
+    private String getCookieValue(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName()) && !cookie.getValue().isBlank()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+    
     /**
      * 토큰을 쿠키에 설정하는 헬퍼 메서드 (HttpOnly 설정 가능)
      */
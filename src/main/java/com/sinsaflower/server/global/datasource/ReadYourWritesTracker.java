@@ -0,0 +1,52 @@
+package com.sinsaflower.server.global.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 최근 쓰기 시각 기록
+ * 쓰기 커밋 직후 stickyMillis 동안은 같은 사용자의 읽기를 주 DB로 보내 복제 지연으로 인한 누락을 막는다.
+ * 인스턴스 메모리에만 기록하므로 인스턴스가 여러 대면 같은 인스턴스로 들어온 요청에만 적용된다.
+ */
+public class ReadYourWritesTracker {
+
+    // 만료 항목 정리를 시도하는 기록 수
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long stickyNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyMillis) {
+        this.stickyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, stickyMillis));
+    }
+
+    /**
+     * 쓰기 커밋 기록
+     */
+    public void markWrite(String userKey) {
+        if (stickyNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWrites.put(userKey, now);
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= stickyNanos);
+        }
+    }
+
+    /**
+     * 최근 쓰기 이후 고정 시간 안인지 확인
+     */
+    public boolean isSticky(String userKey) {
+        Long writtenAt = lastWrites.get(userKey);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < stickyNanos) {
+            return true;
+        }
+        lastWrites.remove(userKey, writtenAt);
+        return false;
+    }
+}
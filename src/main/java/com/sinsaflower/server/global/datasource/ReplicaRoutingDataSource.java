@@ -0,0 +1,77 @@
+package com.sinsaflower.server.global.datasource;
+
+import com.sinsaflower.server.global.security.CustomUserDetails;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주 DB / 읽기 복제본 라우팅 DataSource
+ * 읽기 전용 트랜잭션은 복제본에 순서대로 분배하고, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 주 DB로 보낸다.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 등록되지 않으므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA_PREFIX = "replica-";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = REPLICA_PREFIX + (i + 1);
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userKey = currentUserKey();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 쓰기 트랜잭션이 커밋되면 같은 사용자의 다음 읽기를 잠시 주 DB로 고정
+            if (userKey != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesTracker.markWrite(userKey);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (replicaKeys.isEmpty() || (userKey != null && readYourWritesTracker.isSticky(userKey))) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    // 인증된 사용자 식별값 (사용자 타입별 ID가 겹치지 않도록 타입 포함)
+    private static String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserType() + ":" + userDetails.getUserId();
+        }
+        return null;
+    }
+}
@@ -6,7 +6,9 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * 표준화된 API 응답 구조
@@ -29,74 +31,96 @@ public class ApiResponse<T> {
     
     @Schema(description = "응답 시간", example = "2024-01-15T10:30:00")
     private LocalDateTime timestamp;
+
+    // 응답 시각 캐시 (초 단위, 응답마다 시계 조회/LocalDateTime 생성을 하지 않도록 같은 초에는 재사용)
+    private static volatile Tick tick = new Tick(-1, null);
     
     // 성공 응답 생성 메서드들
     public static <T> ApiResponse<T> success(T data) {
-        return new ApiResponse<>(200, "요청이 성공적으로 처리되었습니다.", data, LocalDateTime.now());
+        return new ApiResponse<>(200, "요청이 성공적으로 처리되었습니다.", data, now());
     }
     
     public static <T> ApiResponse<T> success(String message, T data) {
-        return new ApiResponse<>(200, message, data, LocalDateTime.now());
+        return new ApiResponse<>(200, message, data, now());
     }
     
     public static <T> ApiResponse<T> success(int code, String message, T data) {
-        return new ApiResponse<>(code, message, data, LocalDateTime.now());
+        return new ApiResponse<>(code, message, data, now());
     }
     
     // 성공 응답 (데이터 없음)
     public static <T> ApiResponse<T> success() {
-        return new ApiResponse<>(200, "요청이 성공적으로 처리되었습니다.", null, LocalDateTime.now());
+        return new ApiResponse<>(200, "요청이 성공적으로 처리되었습니다.", null, now());
     }
     
     public static <T> ApiResponse<T> success(String message) {
-        return new ApiResponse<>(200, message, null, LocalDateTime.now());
+        return new ApiResponse<>(200, message, null, now());
     }
     
     // 생성 성공 응답
     public static <T> ApiResponse<T> created(T data) {
-        return new ApiResponse<>(201, "리소스가 성공적으로 생성되었습니다.", data, LocalDateTime.now());
+        return new ApiResponse<>(201, "리소스가 성공적으로 생성되었습니다.", data, now());
     }
     
     public static <T> ApiResponse<T> created(String message, T data) {
-        return new ApiResponse<>(201, message, data, LocalDateTime.now());
+        return new ApiResponse<>(201, message, data, now());
     }
     
     // 실패 응답 생성 메서드들
     public static <T> ApiResponse<T> error(int code, String message) {
-        return new ApiResponse<>(code, message, null, LocalDateTime.now());
+        return new ApiResponse<>(code, message, null, now());
     }
     
     public static <T> ApiResponse<T> error(String message) {
-        return new ApiResponse<>(500, message, null, LocalDateTime.now());
+        return new ApiResponse<>(500, message, null, now());
     }
     
     // 잘못된 요청
     public static <T> ApiResponse<T> badRequest(String message) {
-        return new ApiResponse<>(400, message, null, LocalDateTime.now());
+        return new ApiResponse<>(400, message, null, now());
     }
     
     // 인증 실패
     public static <T> ApiResponse<T> unauthorized(String message) {
-        return new ApiResponse<>(401, message, null, LocalDateTime.now());
+        return new ApiResponse<>(401, message, null, now());
     }
     
     // 권한 없음
     public static <T> ApiResponse<T> forbidden(String message) {
-        return new ApiResponse<>(403, message, null, LocalDateTime.now());
+        return new ApiResponse<>(403, message, null, now());
     }
     
     // 리소스 없음
     public static <T> ApiResponse<T> notFound(String message) {
-        return new ApiResponse<>(404, message, null, LocalDateTime.now());
+        return new ApiResponse<>(404, message, null, now());
     }
     
     // 충돌 (중복 등)
     public static <T> ApiResponse<T> conflict(String message) {
-        return new ApiResponse<>(409, message, null, LocalDateTime.now());
+        return new ApiResponse<>(409, message, null, now());
+    }
+
+    // 충돌 (동시 수정, 현재 상태 포함)
+    public static <T> ApiResponse<T> conflict(String message, T data) {
+        return new ApiResponse<>(409, message, data, now());
     }
     
     // 서버 오류
     public static <T> ApiResponse<T> internalServerError(String message) {
-        return new ApiResponse<>(500, message, null, LocalDateTime.now());
+        return new ApiResponse<>(500, message, null, now());
+    }
+
+    // 현재 시각 (초 단위)
+    private static LocalDateTime now() {
+        long second = System.currentTimeMillis() / 1000;
+        Tick current = tick;
+        if (current.second() != second) {
+            current = new Tick(second, LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault()));
+            tick = current;
+        }
+        return current.time();
+    }
+
+    private record Tick(long second, LocalDateTime time) {
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.sinsaflower.server.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 동시 수정 충돌 예외 (다른 요청이 먼저 상태를 바꿈)
+ * HTTP 409 Conflict, 응답 data 에 현재 상태를 담아 클라이언트가 다시 조회하지 않고 판단할 수 있게 한다.
+ */
+@Getter
+public class ConcurrentUpdateException extends BusinessException {
+
+    private static final String ERROR_CODE = "CONFLICT_001";
+
+    private final transient Object currentState;
+
+    public ConcurrentUpdateException(String message, Object currentState) {
+        super(409, ERROR_CODE, message);
+        this.currentState = currentState;
+    }
+
+    public ConcurrentUpdateException(String message, Object currentState, Throwable cause) {
+        super(409, ERROR_CODE, message, cause);
+        this.currentState = currentState;
+    }
+}
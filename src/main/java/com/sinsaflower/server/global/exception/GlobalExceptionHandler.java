@@ -2,10 +2,14 @@ package com.sinsaflower.server.global.exception;
 
 import com.sinsaflower.server.global.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -39,6 +43,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(response);
     }
 
+    /**
+     * 로그인 잠금 (남은 잠금 시간을 Retry-After 로 응답, 요청 스레드는 기다리지 않음)
+     */
+    @ExceptionHandler(LoginLockedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleLoginLockedException(LoginLockedException ex) {
+        // 잠금 시작은 LoginAttemptTracker 가 한 번 기록하므로 거절마다 남기지 않음
+        log.debug("Login Locked: retry after {}s", ex.getRetryAfterSeconds());
+
+        ApiResponse<Void> response = ApiResponse.error(ex.getStatus(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * 동시 수정 충돌 (현재 상태를 data 로 응답)
+     */
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConcurrentUpdateException(ConcurrentUpdateException ex) {
+        log.warn("Concurrent Update Exception: [{}] {}", ex.getCode(), ex.getMessage());
+
+        ApiResponse<Object> response = ApiResponse.conflict(ex.getMessage(), ex.getCurrentState());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * 낙관적 락 버전 충돌 (재시도 없이 엔티티 버전 검사에서 실패)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic Locking Failure: {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.conflict("다른 요청이 먼저 변경했습니다. 다시 조회 후 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * 유효성 검증 실패 (@Valid 어노테이션)
      */
@@ -166,6 +206,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * DB 커넥션 획득 실패 (동시 접근 한도 초과, 커넥션 풀 대기 시간 초과)
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ApiResponse<Void>> handleConnectionUnavailableException(RuntimeException ex) {
+        log.warn("Connection Unavailable Exception: {}", ex.getMessage());
+        
+        ApiResponse<Void> response = ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     /**
      * 일반적인 런타임 예외
      */
@@ -0,0 +1,20 @@
+package com.sinsaflower.server.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 로그인 잠금 예외 (짧은 시간에 로그인 실패가 반복된 로그인 ID/IP)
+ * HTTP 429 Too Many Requests, Retry-After 헤더로 남은 잠금 시간을 알린다.
+ */
+@Getter
+public class LoginLockedException extends BusinessException {
+
+    private static final String ERROR_CODE = "AUTH_002";
+
+    private final long retryAfterSeconds;
+
+    public LoginLockedException(long retryAfterSeconds) {
+        super(429, ERROR_CODE, "로그인 실패가 반복되어 잠시 로그인할 수 없습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
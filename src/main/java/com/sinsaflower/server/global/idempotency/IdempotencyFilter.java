@@ -0,0 +1,272 @@
+package com.sinsaflower.server.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinsaflower.server.global.config.IdempotencyProperties;
+import com.sinsaflower.server.global.dto.ApiResponse;
+import com.sinsaflower.server.global.idempotency.IdempotencyStore.Claim;
+import com.sinsaflower.server.global.idempotency.IdempotencyStore.ClaimState;
+import com.sinsaflower.server.global.security.CustomUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 필터 (주문 생성/회원가입 POST)
+ * 같은 키의 재시도는 저장된 최초 응답을 그대로 돌려주므로 컨트롤러/서비스(주문번호 생성, 파일 저장, INSERT)를 다시 타지 않는다.
+ * 같은 서버로 동시에 들어온 중복 요청은 최초 요청의 완료를 기다렸다가 같은 응답을 받고,
+ * 다른 서버가 처리 중인 키는 완료될 때까지 저장소를 짧게 다시 확인한다.
+ * 5xx/예외로 끝난 요청은 응답을 저장하지 않고 선점을 풀어 재시도가 다시 실행되게 한다.
+ * Spring Security 필터 뒤에서 실행되어 키는 요청자(회원) 단위로 구분된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties idempotencyProperties;
+    private final ObjectMapper objectMapper;
+
+    // 이 서버에서 처리 중인 키 (완료 시 응답, 실패 시 null)
+    private final Map<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !idempotencyProperties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !idempotencyProperties.getPaths().contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > idempotencyProperties.getMaxKeyLength()) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " 는 1~" + idempotencyProperties.getMaxKeyLength() + "자여야 합니다.");
+            return;
+        }
+        String cacheKey = request.getRequestURI() + "|" + requester() + "|" + key;
+        String fingerprint = fingerprint(request);
+
+        // 완료된 키의 재시도: 조회 한 번으로 응답
+        Optional<IdempotentResponse> completed = idempotencyStore.findCompleted(cacheKey);
+        if (completed.isPresent()) {
+            replay(response, completed.get(), fingerprint);
+            return;
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            CompletableFuture<IdempotentResponse> mine = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(cacheKey, mine);
+            if (running != null) {
+                // 같은 서버의 최초 요청을 기다림 (실패로 끝나면 다시 선점 시도)
+                IdempotentResponse result = await(running);
+                if (result != null) {
+                    replay(response, result, fingerprint);
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                Claim claim = idempotencyStore.claim(cacheKey, fingerprint);
+                if (claim.state() == ClaimState.CLAIMED) {
+                    mine.complete(execute(request, response, filterChain, cacheKey, fingerprint));
+                    return;
+                }
+                if (claim.existing() != null && !fingerprint.equals(claim.existing().fingerprint())) {
+                    mine.complete(null);
+                    writeMismatch(response);
+                    return;
+                }
+                IdempotentResponse result = claim.state() == ClaimState.COMPLETED
+                        ? claim.existing()
+                        : pollCompleted(cacheKey);
+                mine.complete(result);
+                if (result == null) {
+                    writeError(response, HttpStatus.CONFLICT, "같은 " + HEADER + " 의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+                    return;
+                }
+                replay(response, result, fingerprint);
+                return;
+            } finally {
+                // 예외로 빠져나가도 기다리는 요청이 풀리도록
+                mine.complete(null);
+                inFlight.remove(cacheKey, mine);
+            }
+        }
+        writeError(response, HttpStatus.CONFLICT, "같은 " + HEADER + " 의 요청이 처리되지 못했습니다. 다시 시도해 주세요.");
+    }
+
+    /**
+     * 최초 요청 실행 후 응답 저장 (5xx/예외면 선점 해제 후 null)
+     */
+    private IdempotentResponse execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                                       String cacheKey, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            idempotencyStore.release(cacheKey);
+            throw e;
+        }
+
+        IdempotentResponse result = null;
+        if (wrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            result = new IdempotentResponse(fingerprint, wrapper.getStatus(), wrapper.getContentType(),
+                    wrapper.getContentAsByteArray());
+            idempotencyStore.complete(cacheKey, result);
+        } else {
+            idempotencyStore.release(cacheKey);
+        }
+        wrapper.copyBodyToResponse();
+        return result;
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> running) throws ServletException {
+        try {
+            return running.get(idempotencyProperties.getWaitTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException(e);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    // 다른 서버가 처리 중인 키: 완료될 때까지 저장소 확인
+    private IdempotentResponse pollCompleted(String cacheKey) throws ServletException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(idempotencyProperties.getWaitTimeoutSeconds());
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            }
+            Optional<IdempotentResponse> completed = idempotencyStore.findCompleted(cacheKey);
+            if (completed.isPresent()) {
+                return completed.get();
+            }
+        }
+        return null;
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse stored, String fingerprint) throws IOException {
+        if (!fingerprint.equals(stored.fingerprint())) {
+            writeMismatch(response);
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.body() != null ? stored.body() : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeMismatch(HttpServletResponse response) throws IOException {
+        writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "같은 " + HEADER + " 로 다른 내용의 요청을 보낼 수 없습니다.");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(status.value(), message));
+    }
+
+    private static String requester() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            // 관리자와 파트너는 ID 가 겹칠 수 있으므로 사용자 유형까지 키에 포함
+            return userDetails.getUserType() + ":" + userDetails.getUserId();
+        }
+        return "anonymous";
+    }
+
+    /**
+     * 요청 본문 SHA-256 (multipart 파트를 이름순으로, 재시도마다 바뀌는 boundary 는 제외)
+     * 대상 API 는 multipart 만 받으므로 그 밖의 요청은 Content-Type 만 반영한다.
+     */
+    private static String fingerprint(HttpServletRequest request) throws IOException, ServletException {
+        MessageDigest digest = sha256();
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
+            List<Part> parts = new ArrayList<>(request.getParts());
+            parts.sort(Comparator.comparing(Part::getName));
+            byte[] buffer = new byte[8192];
+            for (Part part : parts) {
+                update(digest, part.getName());
+                update(digest, part.getSubmittedFileName());
+                update(digest, part.getContentType());
+                try (InputStream in = part.getInputStream()) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+                digest.update((byte) 0);
+            }
+        } else {
+            update(digest, contentType);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.sinsaflower.server.global.idempotency;
+
+import com.sinsaflower.server.global.config.IdempotencyProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Idempotency-Key 저장소 (idempotency_key 테이블 + 최근 완료 응답 LRU)
+ * 최초 요청은 IN_PROGRESS 행을 기본키로 선점하고, 완료되면 응답을 저장한다.
+ * 완료 응답은 메모리 LRU 에도 두어 같은 서버로 온 재시도는 DB 조회 없이, 다른 서버로 온 재시도는 단건 조회로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyStore {
+
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final String COMPLETED = "COMPLETED";
+    // 선점 직후 행이 지워지거나 넘겨받기 경쟁에서 진 경우 다시 시도하는 횟수
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO idempotency_key (cache_key, fingerprint, status, created_at, expires_at) " +
+            "VALUES (?, ?, '" + IN_PROGRESS + "', ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT fingerprint, status, response_status, content_type, response_body, created_at, expires_at " +
+            "FROM idempotency_key WHERE cache_key = ?";
+    // 만료된 키나 서버가 죽어 남은 처리 중 표시를 넘겨받음 (조건부 UPDATE 라 한 요청만 성공)
+    private static final String TAKE_OVER_SQL =
+            "UPDATE idempotency_key SET fingerprint = ?, status = '" + IN_PROGRESS + "', response_status = NULL, " +
+            "content_type = NULL, response_body = NULL, created_at = ?, expires_at = ? " +
+            "WHERE cache_key = ? AND (expires_at <= ? OR (status = '" + IN_PROGRESS + "' AND created_at < ?))";
+    private static final String COMPLETE_SQL =
+            "UPDATE idempotency_key SET status = '" + COMPLETED + "', response_status = ?, content_type = ?, " +
+            "response_body = ? WHERE cache_key = ? AND status = '" + IN_PROGRESS + "'";
+    private static final String RELEASE_SQL =
+            "DELETE FROM idempotency_key WHERE cache_key = ? AND status = '" + IN_PROGRESS + "'";
+    private static final String SWEEP_SQL =
+            "DELETE FROM idempotency_key WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties idempotencyProperties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // lock 으로 보호 (접근 순서 LinkedHashMap 은 조회도 구조를 바꿈)
+    private Map<String, CachedResponse> recent;
+
+    @PostConstruct
+    void init() {
+        int capacity = idempotencyProperties.getCacheSize();
+        recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 만료 키 주기 정리
+     */
+    @Scheduled(fixedDelayString = "${idempotency.sweep-interval-millis:600000}")
+    public void sweepScheduled() {
+        if (!idempotencyProperties.isEnabled()) {
+            return;
+        }
+        try {
+            sweepExpired();
+        } catch (Exception e) {
+            log.error("Idempotency-Key 만료 정리 실패", e);
+        }
+    }
+
+    /**
+     * 완료 응답 조회 (LRU -> DB)
+     */
+    public Optional<IdempotentResponse> findCompleted(String cacheKey) {
+        LocalDateTime now = LocalDateTime.now();
+        CachedResponse cached = getCached(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(now)) {
+                return Optional.of(cached.response());
+            }
+            evict(cacheKey);
+        }
+        return load(cacheKey)
+                .filter(row -> COMPLETED.equals(row.status()) && row.expiresAt().isAfter(now))
+                .map(row -> {
+                    putCached(cacheKey, row.response(), row.expiresAt());
+                    return row.response();
+                });
+    }
+
+    /**
+     * 키 선점 시도
+     *
+     * @return CLAIMED 면 호출한 요청이 실행해야 하며, 아니면 이미 처리 중이거나 완료된 요청 정보
+     *         (재시도 한도 안에 선점하지 못하면 existing 없이 IN_PROGRESS)
+     */
+    public Claim claim(String cacheKey, String fingerprint) {
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plusHours(idempotencyProperties.getTtlHours());
+            try {
+                jdbcTemplate.update(INSERT_SQL, cacheKey, fingerprint, Timestamp.valueOf(now), Timestamp.valueOf(expiresAt));
+                return Claim.claimed();
+            } catch (DuplicateKeyException e) {
+                // 이미 있는 키: 아래에서 상태 확인
+            }
+
+            Optional<StoredRow> existing = load(cacheKey);
+            if (existing.isEmpty()) {
+                // 그 사이 정리/반납된 경우: 다시 선점
+                continue;
+            }
+            StoredRow row = existing.get();
+            LocalDateTime staleBefore = now.minusSeconds(idempotencyProperties.getInProgressTimeoutSeconds());
+            boolean expired = !row.expiresAt().isAfter(now);
+            boolean stale = IN_PROGRESS.equals(row.status()) && row.createdAt().isBefore(staleBefore);
+            if (expired || stale) {
+                int updated = jdbcTemplate.update(TAKE_OVER_SQL, fingerprint, Timestamp.valueOf(now), Timestamp.valueOf(expiresAt),
+                        cacheKey, Timestamp.valueOf(now), Timestamp.valueOf(staleBefore));
+                if (updated == 1) {
+                    evict(cacheKey);
+                    return Claim.claimed();
+                }
+                // 다른 요청이 먼저 넘겨받음: 다시 상태 확인
+                continue;
+            }
+            if (COMPLETED.equals(row.status())) {
+                putCached(cacheKey, row.response(), row.expiresAt());
+                return new Claim(ClaimState.COMPLETED, row.response());
+            }
+            return new Claim(ClaimState.IN_PROGRESS, row.response());
+        }
+        log.warn("Idempotency-Key 선점 재시도 한도 초과: {}", cacheKey);
+        return new Claim(ClaimState.IN_PROGRESS, null);
+    }
+
+    /**
+     * 최초 요청 응답 저장
+     */
+    public void complete(String cacheKey, IdempotentResponse response) {
+        int updated = jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), response.body(), cacheKey);
+        if (updated == 1) {
+            putCached(cacheKey, response, LocalDateTime.now().plusHours(idempotencyProperties.getTtlHours()));
+        } else {
+            log.warn("Idempotency-Key 응답 저장 실패 (처리 중 표시가 넘겨졌거나 정리됨): {}", cacheKey);
+        }
+    }
+
+    /**
+     * 처리 실패로 선점 해제 (재시도가 다시 실행되도록)
+     */
+    public void release(String cacheKey) {
+        jdbcTemplate.update(RELEASE_SQL, cacheKey);
+    }
+
+    /**
+     * 만료 키 삭제
+     *
+     * @return 삭제한 키 수
+     */
+    public int sweepExpired() {
+        int deleted = jdbcTemplate.update(SWEEP_SQL, Timestamp.valueOf(LocalDateTime.now()));
+        if (deleted > 0) {
+            log.info("Idempotency-Key 만료 정리: {}건", deleted);
+        }
+        return deleted;
+    }
+
+    private Optional<StoredRow> load(String cacheKey) {
+        List<StoredRow> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new StoredRow(
+                rs.getString("status"),
+                new IdempotentResponse(rs.getString("fingerprint"), rs.getInt("response_status"),
+                        rs.getString("content_type"), rs.getBytes("response_body")),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("expires_at").toLocalDateTime()), cacheKey);
+        return rows.stream().findFirst();
+    }
+
+    private CachedResponse getCached(String cacheKey) {
+        lock.lock();
+        try {
+            return recent.get(cacheKey);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void putCached(String cacheKey, IdempotentResponse response, LocalDateTime expiresAt) {
+        lock.lock();
+        try {
+            recent.put(cacheKey, new CachedResponse(response, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(String cacheKey) {
+        lock.lock();
+        try {
+            recent.remove(cacheKey);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 선점 결과
+     */
+    public enum ClaimState {
+        CLAIMED,      // 호출한 요청이 실행
+        IN_PROGRESS,  // 다른 요청(다른 서버 포함)이 처리 중
+        COMPLETED     // 이미 완료된 응답 있음
+    }
+
+    /**
+     * 선점 결과와 기존 요청 정보 (CLAIMED 이거나 재시도 한도를 넘긴 IN_PROGRESS 면 existing 은 null)
+     */
+    public record Claim(ClaimState state, IdempotentResponse existing) {
+
+        static Claim claimed() {
+            return new Claim(ClaimState.CLAIMED, null);
+        }
+    }
+
+    private record StoredRow(String status, IdempotentResponse response, LocalDateTime createdAt, LocalDateTime expiresAt) {
+    }
+
+    private record CachedResponse(IdempotentResponse response, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.sinsaflower.server.global.idempotency;
+
+/**
+ * 저장된 최초 요청 응답 (처리 중이면 fingerprint 만 있음)
+ *
+ * @param fingerprint 요청 본문 SHA-256 (같은 키로 다른 요청을 보냈는지 확인)
+ */
+public record IdempotentResponse(String fingerprint, int status, String contentType, byte[] body) {
+}
@@ -1,5 +1,6 @@
 package com.sinsaflower.server.global.jwt;
 
+import com.sinsaflower.server.global.logging.SamplingTurboFilter;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -15,48 +16,82 @@ import java.util.stream.Collectors;
 /**
  * JWT 토큰 유틸리티 클래스
  * - 토큰 생성, 검증, 정보 추출 기능 제공
+ * - 요청마다 여러 값을 읽을 때는 parseClaims 로 한 번만 서명을 검증하고, 받은 Claims 에서 값을 꺼낸다
  */
 @Component
 @Slf4j
 public class JwtUtil {
     
     private final SecretKey key;
+    private final JwtParser parser;
     private final int jwtExpiration;
     private final int refreshExpiration;
+    private final boolean profileClaims;
     
     // JWT 클레임 키 상수
     private static final String AUTHORITIES_KEY = "auth";
     private static final String USER_TYPE_KEY = "userType";
     private static final String USER_ID_KEY = "userId";
+    private static final String FAMILY_ID_KEY = "fid"; // 리프레시 토큰 family (로그아웃/재사용 감지 시 함께 폐기)
+    private static final String NAME_KEY = "name"; // 이름 (jwt.profile-claims 사용 시 액세스 토큰에만)
+    private static final String NICKNAME_KEY = "nick"; // 닉네임 (jwt.profile-claims 사용 시 액세스 토큰에만)
     
     public JwtUtil(
         @Value("${jwt.secret}") String jwtSecret,
         @Value("${jwt.expiration}") int jwtExpiration,
-        @Value("${jwt.refresh-expiration}") int refreshExpiration
+        @Value("${jwt.refresh-expiration}") int refreshExpiration,
+        @Value("${jwt.profile-claims:false}") boolean profileClaims
     ) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.jwtExpiration = jwtExpiration;
         this.refreshExpiration = refreshExpiration;
+        this.profileClaims = profileClaims;
     }
     
     /**
      * Access Token 생성
      */
     public String generateToken(String username, Collection<? extends GrantedAuthority> authorities, String userType, Long userId) {
-        return generateToken(username, authorities, userType, userId, jwtExpiration);
+        return generateToken(username, authorities, userType, userId, null, null, null);
+    }
+    
+    /**
+     * Access Token 생성 (리프레시 토큰 family, 프로필 클레임 포함)
+     * 프로필 클레임(jwt.profile-claims, 기본 끔)이 있으면 /api/auth/me 가 DB 조회 없이 응답하며, 이름 변경은 토큰 만료(갱신) 후 반영된다.
+     * 토큰은 암호화되지 않으므로 이름/닉네임이 토큰을 보관하는 모든 곳에 노출되는 것을 감수하는 배포에서만 켠다.
+     */
+    public String generateToken(String username, Collection<? extends GrantedAuthority> authorities, String userType, Long userId,
+                                String familyId, String name, String nickname) {
+        JwtBuilder builder = tokenBuilder(username, authorities, userType, userId, familyId, jwtExpiration);
+        if (profileClaims) {
+            builder.claim(NAME_KEY, name).claim(NICKNAME_KEY, nickname);
+        }
+        return builder.compact();
     }
     
     /**
      * Refresh Token 생성
      */
     public String generateRefreshToken(String username, Collection<? extends GrantedAuthority> authorities, String userType, Long userId) {
-        return generateToken(username, authorities, userType, userId, refreshExpiration);
+        return generateRefreshToken(username, authorities, userType, userId, null, null);
+    }
+    
+    /**
+     * Refresh Token 생성 (토큰 ID, family 포함)
+     */
+    public String generateRefreshToken(String username, Collection<? extends GrantedAuthority> authorities, String userType, Long userId,
+                                       String tokenId, String familyId) {
+        return tokenBuilder(username, authorities, userType, userId, familyId, refreshExpiration)
+            .id(tokenId)
+            .compact();
     }
     
     /**
      * JWT 토큰 생성 공통 메서드
      */
-    private String generateToken(String username, Collection<? extends GrantedAuthority> authorities, String userType, Long userId, int expiration) {
+    private JwtBuilder tokenBuilder(String username, Collection<? extends GrantedAuthority> authorities, String userType, Long userId,
+                                    String familyId, int expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
         
@@ -70,10 +105,23 @@ public class JwtUtil {
             .claim(AUTHORITIES_KEY, authoritiesString)
             .claim(USER_TYPE_KEY, userType)
             .claim(USER_ID_KEY, userId)
+            .claim(FAMILY_ID_KEY, familyId)
             .issuedAt(now)
             .expiration(expiryDate)
-            .signWith(key)
-            .compact();
+            .signWith(key);
+    }
+    
+    /**
+     * JWT 토큰을 한 번 검증하고 Claims 반환 (서명/만료 검증 실패 시 빈 값)
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료 토큰은 정상 흐름(갱신 전 요청)이므로 요청마다 남기지 않음
+            log.debug(SamplingTurboFilter.SAMPLED, "JWT 토큰 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
     
     /**
@@ -87,7 +135,13 @@ public class JwtUtil {
      * JWT 토큰에서 권한 정보 추출
      */
     public Collection<? extends GrantedAuthority> getAuthoritiesFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
+        return getAuthorities(getClaimsFromToken(token));
+    }
+    
+    /**
+     * Claims 에서 권한 정보 추출
+     */
+    public Collection<? extends GrantedAuthority> getAuthorities(Claims claims) {
         String authoritiesString = claims.get(AUTHORITIES_KEY, String.class);
         
         if (authoritiesString == null || authoritiesString.trim().isEmpty()) {
@@ -103,14 +157,77 @@ public class JwtUtil {
      * JWT 토큰에서 사용자 타입 추출
      */
     public String getUserTypeFromToken(String token) {
-        return getClaimsFromToken(token).get(USER_TYPE_KEY, String.class);
+        return getUserType(getClaimsFromToken(token));
+    }
+    
+    /**
+     * Claims 에서 사용자 타입 추출
+     */
+    public String getUserType(Claims claims) {
+        return claims.get(USER_TYPE_KEY, String.class);
     }
     
     /**
      * JWT 토큰에서 사용자 ID 추출
      */
     public Long getUserIdFromToken(String token) {
-        return getClaimsFromToken(token).get(USER_ID_KEY, Long.class);
+        return getUserId(getClaimsFromToken(token));
+    }
+    
+    /**
+     * Claims 에서 사용자 ID 추출
+     */
+    public Long getUserId(Claims claims) {
+        return claims.get(USER_ID_KEY, Long.class);
+    }
+    
+    /**
+     * JWT 토큰에서 토큰 ID(jti) 추출
+     */
+    public String getTokenIdFromToken(String token) {
+        return getClaimsFromToken(token).getId();
+    }
+    
+    /**
+     * JWT 토큰에서 리프레시 토큰 family 추출 (family 없이 발급된 토큰은 null)
+     */
+    public String getFamilyIdFromToken(String token) {
+        return getFamilyId(getClaimsFromToken(token));
+    }
+    
+    /**
+     * Claims 에서 리프레시 토큰 family 추출 (family 없이 발급된 토큰은 null)
+     */
+    public String getFamilyId(Claims claims) {
+        return claims.get(FAMILY_ID_KEY, String.class);
+    }
+    
+    /**
+     * JWT 토큰에서 이름 추출 (프로필 클레임 없이 발급된 토큰은 null)
+     */
+    public String getNameFromToken(String token) {
+        return getName(getClaimsFromToken(token));
+    }
+    
+    /**
+     * Claims 에서 이름 추출 (프로필 클레임 없이 발급된 토큰은 null)
+     */
+    public String getName(Claims claims) {
+        return claims.get(NAME_KEY, String.class);
+    }
+    
+    /**
+     * JWT 토큰에서 닉네임 추출 (프로필 클레임 없이 발급된 토큰은 null)
+     */
+    public String getNicknameFromToken(String token) {
+        return getNickname(getClaimsFromToken(token));
+    }
+    
+    /**
+     * Claims 에서 닉네임 추출 (프로필 클레임 없이 발급된 토큰은 null)
+     */
+    public String getNickname(Claims claims) {
+        return claims.get(NICKNAME_KEY, String.class);
     }
     
     /**
@@ -124,17 +241,7 @@ public class JwtUtil {
      * JWT 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
-        log.info("검증할 토큰: '{}'", token); // 전달된 토큰
-        try {
-            Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
-        }
+        return parseClaims(token).isPresent();
     }
     
     /**
@@ -155,13 +262,9 @@ public class JwtUtil {
      */
     private Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
-            log.error("JWT 토큰에서 Claims 추출 실패: {}", e.getMessage());
+            log.warn(SamplingTurboFilter.SAMPLED, "JWT 토큰에서 Claims 추출 실패: {}", e.getMessage());
             throw new IllegalArgumentException("유효하지 않은 JWT 토큰입니다.", e);
         }
     }
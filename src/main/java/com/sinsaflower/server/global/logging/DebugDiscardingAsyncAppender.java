@@ -0,0 +1,20 @@
+package com.sinsaflower.server.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 링 버퍼(고정 크기 큐) 비동기 appender, 큐가 discardingThreshold 아래로 남으면 DEBUG/TRACE 만 버림
+ * 기본 AsyncAppender 는 이때 INFO 도 버리므로 요청 요약/업무 로그(INFO)는 남기고 디버그 로그만 먼저 포기한다.
+ * 파일 쓰기는 appender 스레드 하나가 하고 요청 스레드는 큐에 넣기만 한다.
+ * isDiscardable 은 discardingThreshold 아래에서만 적용되므로, 큐가 가득 찼을 때 WARN/ERROR 를 잃지 않으려면 neverBlock 을 꺼야 한다
+ * (neverBlock 이면 레벨과 상관없이 버리고, 아니면 요청 스레드가 자리가 날 때까지 기다림).
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,94 @@
+package com.sinsaflower.server.global.logging;
+
+import com.sinsaflower.server.global.config.RequestLogProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 요약 로그 한 줄 (컨트롤러/서비스의 호출마다 남기던 INFO 로그 대신)
+ * method, route(경로 패턴), status, latencyMs, sql(Hibernate 가 실행한 SQL 수), user 를 key=value 로 "request" 로거에 남긴다.
+ * route 는 /api/orders/{orderId} 처럼 매핑된 패턴을 쓰므로 ID/전화번호 같은 경로 값이 로그에 남지 않고,
+ * 매핑 전에 끝난 요청(보안 필터의 401/403 등)만 실제 경로를 쓴다.
+ * 보안 필터보다 먼저 실행되어 인증 실패 응답과 보안 필터 시간까지 포함하며, 사용자는 JwtAuthenticationFilter 가 요청 속성으로 넘긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    public static final String USER_ATTRIBUTE = RequestLogFilter.class.getName() + ".user";
+
+    private static final Logger requestLog = LoggerFactory.getLogger("request");
+    // 요청 스레드의 SQL 수 (요청 밖에서는 null)
+    private static final ThreadLocal<int[]> sqlCount = new ThreadLocal<>();
+
+    private final RequestLogProperties requestLogProperties;
+
+    /**
+     * 현재 요청의 SQL 수 1 증가 (SqlCountingStatementInspector)
+     */
+    static void countSql() {
+        int[] count = sqlCount.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!requestLogProperties.isEnabled()) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return requestLogProperties.getExcludePrefixes().stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        int[] count = new int[1];
+        sqlCount.set(count);
+        int status = 500;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            sqlCount.remove();
+            log(request, status, (System.nanoTime() - startedAt) / 1_000_000, count[0]);
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long latencyMillis, int sql) {
+        boolean slow = latencyMillis >= requestLogProperties.getSlowThresholdMillis();
+        if (slow ? !requestLog.isWarnEnabled() : !requestLog.isInfoEnabled()) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object user = request.getAttribute(USER_ATTRIBUTE);
+        String line = "method=" + request.getMethod()
+                + " route=" + (pattern != null ? pattern : request.getRequestURI())
+                + " status=" + status
+                + " latencyMs=" + latencyMillis
+                + " sql=" + sql
+                + " user=" + (user != null ? user : "-")
+                + (request.isAsyncStarted() ? " async=true" : "");
+        if (slow) {
+            requestLog.warn(line);
+        } else {
+            requestLog.info(line);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.sinsaflower.server.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청마다 반복되는 로그 표본 추출 (SAMPLED 마커가 붙은 maxLevel 이하 이벤트를 로거별로 rate 건 중 1건만 남김)
+ * 공격/장애 중 요청마다 쏟아지는 줄(로그인 실패, 유효하지 않은 JWT)만 마커로 표시해 로그 파이프라인을 채우지 않게 하고,
+ * 같은 로거의 잠금/토큰 재사용/잠금 해제 같은 보안 감사 로그는 마커가 없으므로 모두 남긴다.
+ * 카운터는 로거마다 따로 두어 한 로거의 폭주가 다른 로거의 표본을 밀어내지 않게 한다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private Level maxLevel = Level.WARN;
+    private long rate = 100;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() 확인 호출(format 없음)은 표본 수에 넣지 않음
+        if (format == null || rate <= 1 || marker == null || !marker.contains(SAMPLED.getName())
+                || level.toInt() > maxLevel.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        AtomicLong counter = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong());
+        return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.WARN);
+    }
+
+    public void setRate(long rate) {
+        this.rate = rate;
+    }
+}
@@ -0,0 +1,16 @@
+package com.sinsaflower.server.global.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 요청 요약 로그의 sql 수로 셈 (SQL 은 바꾸지 않음)
+ * hibernate.session_factory.statement_inspector 로 등록하며, JdbcTemplate 으로 직접 실행한 SQL 은 세지 않는다.
+ */
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestLogFilter.countSql();
+        return sql;
+    }
+}
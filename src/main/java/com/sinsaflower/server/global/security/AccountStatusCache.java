@@ -0,0 +1,247 @@
+package com.sinsaflower.server.global.security;
+
+import com.sinsaflower.server.global.config.AccountStatusProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자/파트너 계정 상태 캐시 (userId -> 활성 여부, 이름/닉네임)
+ * JWT 에는 발급 시점 정보만 있으므로, 정지/삭제된 계정을 토큰 만료 전에 막으려면 요청마다 상태를 확인해야 한다.
+ * 시작 시 전체 상태를 한 번에 적재하고 이후 JwtAuthenticationFilter 는 메모리에서만 확인하며, 없는 항목만 단건 조회한다.
+ * 같은 항목에 이름/닉네임도 두어 /api/auth/me 와 토큰 갱신이 엔티티를 읽지 않고 응답한다.
+ * 상태/프로필을 바꾸는 트랜잭션은 AccountStatusChangedEvent 를 발행하고, 커밋 시 다른 서버에 NOTIFY, 커밋 후 자기 항목을 무효화한다.
+ * 무효화마다 version 을 올려, 무효화 전에 읽기 시작한 조회 결과가 캐시에 다시 들어가지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountStatusCache {
+
+    private static final String ACTIVE = "ACTIVE";
+
+    // 관리자는 별도 닉네임이 없으므로 name 을 사용
+    private static final String SELECT_MEMBER_SQL = "SELECT status, is_deleted, name, nickname FROM member WHERE id = ?";
+    private static final String SELECT_ADMIN_SQL = "SELECT status, is_deleted, name, name AS nickname FROM admin WHERE id = ?";
+    private static final String SELECT_ALL_MEMBERS_SQL = "SELECT id, status, is_deleted, name, nickname FROM member";
+    private static final String SELECT_ALL_ADMINS_SQL = "SELECT id, status, is_deleted, name, name AS nickname FROM admin";
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountStatusProperties accountStatusProperties;
+
+    private final Map<Long, Entry> partners = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> admins = new ConcurrentHashMap<>();
+    // 무효화 횟수 (조회 시작 후 바뀌었으면 조회 결과를 캐시에 넣지 않음)
+    private final AtomicLong version = new AtomicLong();
+
+    private boolean notifySupported;
+
+    @PostConstruct
+    void init() {
+        if (!accountStatusProperties.isEnabled() || !accountStatusProperties.isNotifyEnabled()) {
+            return;
+        }
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        notifySupported = "PostgreSQL".equalsIgnoreCase(product);
+        if (!notifySupported) {
+            log.info("계정 상태 서버 간 무효화 비활성 (LISTEN/NOTIFY 미지원 DB: {})", product);
+        }
+    }
+
+    public boolean isEnabled() {
+        return accountStatusProperties.isEnabled();
+    }
+
+    /**
+     * 서버 간 무효화(LISTEN/NOTIFY) 사용 여부
+     */
+    public boolean isNotifySupported() {
+        return notifySupported;
+    }
+
+    /**
+     * 시작 시 전체 관리자/회원 상태 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (!accountStatusProperties.isEnabled() || !accountStatusProperties.isPreload()) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            int loaded = loadAll(SELECT_ALL_ADMINS_SQL, admins) + loadAll(SELECT_ALL_MEMBERS_SQL, partners);
+            log.info("계정 상태 캐시 적재: {}건 ({}ms)", loaded, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("계정 상태 캐시 적재 실패 (요청 시 단건 조회로 채움)", e);
+        }
+    }
+
+    /**
+     * 활성 계정 여부 (캐시에 없거나 오래된 항목만 DB 조회)
+     * 관리자/파트너가 아닌 사용자 타입은 확인하지 않는다.
+     */
+    public boolean isActive(String userType, Long userId) {
+        if (!accountStatusProperties.isEnabled() || userId == null) {
+            return true;
+        }
+        Map<Long, Entry> cache = cacheFor(userType);
+        if (cache == null) {
+            return true;
+        }
+        return get(userType, cache, userId).active();
+    }
+
+    /**
+     * 이름/닉네임 (없는 계정이면 빈 값, 캐시 비활성 시 매번 단건 조회)
+     */
+    public Optional<Profile> getProfile(String userType, Long userId) {
+        Map<Long, Entry> cache = cacheFor(userType);
+        if (cache == null || userId == null) {
+            return Optional.empty();
+        }
+        Entry entry = accountStatusProperties.isEnabled()
+                ? get(userType, cache, userId)
+                : query(userType, userId, System.currentTimeMillis());
+        return Optional.ofNullable(entry.profile());
+    }
+
+    /**
+     * 상태를 바꾸는 트랜잭션 안에서 다른 서버에 알림 (커밋될 때만 전달되고 롤백되면 버려짐)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void notifyOthers(AccountStatusChangedEvent event) {
+        if (!accountStatusProperties.isEnabled() || !notifySupported) {
+            return;
+        }
+        jdbcTemplate.query(NOTIFY_SQL, (RowCallbackHandler) rs -> {
+        }, accountStatusProperties.getNotifyChannel(), event.userType() + ":" + event.userId());
+    }
+
+    /**
+     * 커밋 후 자기 캐시 항목 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        invalidate(event.userType(), event.userId());
+    }
+
+    /**
+     * 다른 서버의 알림 수신 ("PARTNER:123")
+     */
+    public void onNotification(String payload) {
+        int separator = payload != null ? payload.indexOf(':') : -1;
+        if (separator < 0) {
+            log.warn("알 수 없는 계정 상태 알림: {}", payload);
+            return;
+        }
+        try {
+            invalidate(payload.substring(0, separator), Long.parseLong(payload.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 계정 상태 알림: {}", payload);
+        }
+    }
+
+    /**
+     * 항목 무효화 (다음 요청에서 DB 단건 조회)
+     */
+    public void invalidate(String userType, Long userId) {
+        Map<Long, Entry> cache = cacheFor(userType);
+        if (cache == null || userId == null) {
+            return;
+        }
+        // 같은 키의 조회 결과 저장(compute)과 직렬화됨
+        cache.compute(userId, (id, current) -> {
+            version.incrementAndGet();
+            return null;
+        });
+    }
+
+    /**
+     * 전체 무효화 (LISTEN 연결이 끊긴 동안 알림을 놓쳤을 수 있을 때)
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        partners.clear();
+        admins.clear();
+    }
+
+    /**
+     * 캐시 항목 수
+     */
+    public int size() {
+        return partners.size() + admins.size();
+    }
+
+    // 캐시 항목 (없거나 오래됐으면 단건 조회해 채움)
+    private Entry get(String userType, Map<Long, Entry> cache, Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(userId);
+        if (entry != null && now - entry.loadedAt() < accountStatusProperties.getTtlSeconds() * 1000) {
+            return entry;
+        }
+        long seen = version.get();
+        Entry loaded = query(userType, userId, now);
+        cache.compute(userId, (id, current) -> version.get() == seen ? loaded : current);
+        return loaded;
+    }
+
+    private Entry query(String userType, Long userId, long now) {
+        String sql = CustomUserDetails.USER_TYPE_ADMIN.equals(userType) ? SELECT_ADMIN_SQL : SELECT_MEMBER_SQL;
+        List<Entry> rows = jdbcTemplate.query(sql, (rs, rowNum) -> toEntry(rs, now), userId);
+        return rows.isEmpty() ? new Entry(false, null, now) : rows.get(0);
+    }
+
+    private int loadAll(String sql, Map<Long, Entry> cache) {
+        long seen = version.get();
+        long now = System.currentTimeMillis();
+        Map<Long, Entry> loaded = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> loaded.put(rs.getLong("id"), toEntry(rs, now)));
+        // 적재 중 무효화된 항목이 있으면 오래된 값일 수 있으므로 넣지 않음 (요청 시 단건 조회)
+        loaded.forEach((id, entry) -> cache.compute(id, (key, current) -> version.get() == seen ? entry : current));
+        return loaded.size();
+    }
+
+    private Map<Long, Entry> cacheFor(String userType) {
+        if (CustomUserDetails.USER_TYPE_PARTNER.equals(userType)) {
+            return partners;
+        }
+        if (CustomUserDetails.USER_TYPE_ADMIN.equals(userType)) {
+            return admins;
+        }
+        return null;
+    }
+
+    private static Entry toEntry(ResultSet rs, long now) throws SQLException {
+        boolean active = ACTIVE.equals(rs.getString("status")) && !rs.getBoolean("is_deleted");
+        return new Entry(active, new Profile(rs.getString("name"), rs.getString("nickname")), now);
+    }
+
+    /**
+     * 계정 이름/닉네임
+     */
+    public record Profile(String name, String nickname) {
+    }
+
+    // 없는 계정은 profile 이 null
+    private record Entry(boolean active, Profile profile, long loadedAt) {
+    }
+}
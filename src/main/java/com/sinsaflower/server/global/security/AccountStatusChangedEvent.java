@@ -0,0 +1,19 @@
+package com.sinsaflower.server.global.security;
+
+/**
+ * 관리자/파트너 계정 상태/프로필 변경 이벤트 (정지, 정지 해제, 승인, 삭제, 관리자 상태 변경, 이름/닉네임 변경)
+ * AccountStatusCache 가 커밋 시 다른 서버에 알리고(NOTIFY), 커밋 후 자기 캐시 항목을 무효화한다.
+ *
+ * @param userType CustomUserDetails.USER_TYPE_ADMIN 또는 USER_TYPE_PARTNER
+ * @param userId   관리자/회원 ID
+ */
+public record AccountStatusChangedEvent(String userType, Long userId) {
+
+    public static AccountStatusChangedEvent partner(Long memberId) {
+        return new AccountStatusChangedEvent(CustomUserDetails.USER_TYPE_PARTNER, memberId);
+    }
+
+    public static AccountStatusChangedEvent admin(Long adminId) {
+        return new AccountStatusChangedEvent(CustomUserDetails.USER_TYPE_ADMIN, adminId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.sinsaflower.server.global.security;
+
+import com.sinsaflower.server.global.config.AccountStatusProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * 다른 서버의 계정 상태 변경 알림 수신 (PostgreSQL LISTEN)
+ * 커넥션 풀과 별도의 주 DB 연결 하나로 LISTEN 하며 알림마다 AccountStatusCache 항목을 무효화한다.
+ * 연결이 끊겼다가 다시 붙으면 그 사이 알림을 놓쳤을 수 있으므로 캐시 전체를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountStatusListener {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final AccountStatusCache accountStatusCache;
+    private final AccountStatusProperties accountStatusProperties;
+    private final DataSourceProperties dataSourceProperties;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!accountStatusProperties.isEnabled() || !accountStatusCache.isNotifySupported()) {
+            return;
+        }
+        if (!CHANNEL_PATTERN.matcher(accountStatusProperties.getNotifyChannel()).matches()) {
+            log.error("계정 상태 알림 채널명이 올바르지 않아 LISTEN 하지 않음: {}", accountStatusProperties.getNotifyChannel());
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listenLoop, "account-status-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + accountStatusProperties.getNotifyChannel());
+                }
+                if (reconnect) {
+                    accountStatusCache.invalidateAll();
+                    log.info("계정 상태 알림 재연결, 캐시 전체 무효화");
+                }
+                reconnect = true;
+                log.info("계정 상태 알림 수신 시작: {}", accountStatusProperties.getNotifyChannel());
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) accountStatusProperties.getListenPollMillis());
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        accountStatusCache.onNotification(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("계정 상태 알림 연결 끊김, {}ms 후 재연결: {}", accountStatusProperties.getReconnectDelayMillis(), e.getMessage());
+                try {
+                    Thread.sleep(accountStatusProperties.getReconnectDelayMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -60,11 +60,17 @@ public class CustomUserDetails implements UserDetails {
     // JWT 토큰을 위한 생성자
     public CustomUserDetails(Long userId, String username, String userType,
                              Collection<? extends GrantedAuthority> authorities) {
+        this(userId, username, userType, authorities, null, null);
+    }
+    
+    // JWT 토큰을 위한 생성자 (프로필 클레임이 있는 토큰)
+    public CustomUserDetails(Long userId, String username, String userType,
+                             Collection<? extends GrantedAuthority> authorities, String name, String nickname) {
         this.userId = userId;
         this.username = username;
         this.password = ""; // JWT 인증에서는 비밀번호 불필요
-        this.name = ""; // 기존 로직 호환성을 위해 name은 비워둠
-        this.nickname = ""; // 기존 로직 호환성을 위해 nickname은 비워둠
+        this.name = name != null ? name : ""; // 프로필 클레임이 없으면 기존 로직 호환성을 위해 비워둠
+        this.nickname = nickname != null ? nickname : "";
         this.userType = userType;
         this.enabled = true;
         this.authorities = authorities;
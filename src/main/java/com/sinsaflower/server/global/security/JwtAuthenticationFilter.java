@@ -1,6 +1,8 @@
 package com.sinsaflower.server.global.security;
 
 import com.sinsaflower.server.global.jwt.JwtUtil;
+import com.sinsaflower.server.global.logging.RequestLogFilter;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -21,6 +23,8 @@ import java.util.Collection;
 
 /**
  * JWT 토큰을 검증하고 인증 정보를 설정하는 필터
+ * 로그아웃/재사용 감지로 폐기된 family 의 토큰은 RefreshTokenStore 메모리 폐기 목록으로 걸러낸다 (DB 조회 없음).
+ * 정지/삭제된 계정의 토큰은 AccountStatusCache 로 걸러낸다 (캐시에 없을 때만 단건 조회).
  */
 @Component
 @RequiredArgsConstructor
@@ -28,6 +32,8 @@ import java.util.Collection;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccountStatusCache accountStatusCache;
     
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -40,27 +46,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             // JWT 토큰 추출
             String jwt = extractJwtFromRequest(request);
+            // 서명 검증과 클레임 파싱은 요청당 한 번
+            Claims claims = StringUtils.hasText(jwt) ? jwtUtil.parseClaims(jwt).orElse(null) : null;
             
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
+            if (claims != null && !isRevoked(claims, request)) {
                 // 토큰에서 사용자 정보 추출
-                Long userId = jwtUtil.getUserIdFromToken(jwt);
-                String username = jwtUtil.getUsernameFromToken(jwt);
-                String userType = jwtUtil.getUserTypeFromToken(jwt);
-                Collection<? extends GrantedAuthority> authorities = jwtUtil.getAuthoritiesFromToken(jwt);
+                Long userId = jwtUtil.getUserId(claims);
+                String username = claims.getSubject();
+                String userType = jwtUtil.getUserType(claims);
+                Collection<? extends GrantedAuthority> authorities = jwtUtil.getAuthorities(claims);
                 
-                // CustomUserDetails 생성
-                CustomUserDetails userDetails = new CustomUserDetails(userId, username, userType, authorities);
-                
-                // 인증 토큰 생성
-                UsernamePasswordAuthenticationToken authToken = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                // SecurityContext에 인증 정보 설정
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                
-                log.debug("JWT 인증 성공 - 사용자: {}, 타입: {}, 권한: {}", 
-                    username, userType, authorities);
+                // 정지/삭제된 계정은 토큰이 유효해도 인증하지 않음
+                if (!accountStatusCache.isActive(userType, userId)) {
+                    log.debug("비활성 계정 토큰으로 요청: {} ({})", username, userType);
+                } else {
+                    // CustomUserDetails 생성
+                    CustomUserDetails userDetails = new CustomUserDetails(userId, username, userType, authorities,
+                        jwtUtil.getName(claims), jwtUtil.getNickname(claims));
+                    
+                    // 인증 토큰 생성
+                    UsernamePasswordAuthenticationToken authToken = 
+                        new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    // SecurityContext에 인증 정보 설정
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    // 요청 요약 로그의 사용자 (보안 필터 바깥에서는 SecurityContext 가 이미 비워짐)
+                    request.setAttribute(RequestLogFilter.USER_ATTRIBUTE, userType + ":" + userId);
+                    
+                    log.debug("JWT 인증 성공 - 사용자: {}, 타입: {}, 권한: {}", 
+                        username, userType, authorities);
+                }
             }
             
         } catch (Exception e) {
@@ -73,11 +89,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * 로그아웃/재사용 감지로 폐기된 family 의 토큰인지 확인 (메모리 조회만)
+     */
+    private boolean isRevoked(Claims claims, HttpServletRequest request) {
+        if (refreshTokenStore.isRevoked(jwtUtil.getFamilyId(claims))) {
+            log.debug("폐기된 토큰으로 요청: {}", request.getRequestURI());
+            return true;
+        }
+        return false;
+    }
+    
     /**
      * HTTP 요청에서 JWT 토큰 추출 (Header 또는 Cookie에서)
      */
     private String extractJwtFromRequest(HttpServletRequest request) {
-        log.info("extractJwtFromRequest method");
         // 1. Authorization Header에서 토큰 추출 시도
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX) && !bearerToken.substring(BEARER_PREFIX.length()).equalsIgnoreCase("undefined")) {
@@ -109,7 +135,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
-        log.info("인증 경로 {}", path);
         if (path.startsWith("/api/auth/me")) {
             return false;
         }
@@ -0,0 +1,330 @@
+package com.sinsaflower.server.global.security;
+
+import com.sinsaflower.server.global.config.LoginAttemptProperties;
+import com.sinsaflower.server.global.exception.LoginLockedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 실패 추적기 (로그인 ID, 클라이언트 IP 별 슬라이딩 구간 실패 수 + 점진적 잠금)
+ * 실패 수는 시간 버킷 배열에 (버킷 번호, 건수)를 한 long 으로 묶어 CAS 로 올리므로 잠금 없이 집계되고,
+ * 구간이 지난 버킷은 다음 기록 때 덮어써져 자연히 빠진다.
+ * 허용 실패 수를 넘으면 lock-seconds 부터 잠금이 반복될 때마다 2배씩 max-lock-seconds 까지 잠근다.
+ * 잠긴 동안의 시도는 AuthService 가 DB 조회/BCrypt 비교 전에 429 + Retry-After 로 바로 거절하며, 요청 스레드를 재우지 않는다.
+ * 서버별 메모리 상태이므로 여러 서버에서는 서버마다 따로 센다 (서버 수만큼 허용 수가 늘어남).
+ * 항목 수가 max-entries 에 닿으면 만료 항목을 정리하고, 그래도 모자라면 잠기지 않은 항목 중 마지막 실패가 오래된 것부터 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginAttemptTracker {
+
+    // 버킷 값 = (버킷 번호 << COUNT_BITS) | 건수
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    // 상한에 닿으면 상한의 1/EVICT_BATCH_DIVISOR 만큼 자리를 비워 정리 빈도를 낮춤
+    private static final int EVICT_BATCH_DIVISOR = 20;
+
+    private final LoginAttemptProperties loginAttemptProperties;
+
+    private final Map<String, Attempts> byLoginId = new ConcurrentHashMap<>();
+    private final Map<String, Attempts> byIp = new ConcurrentHashMap<>();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    // 맵별 정리 진행 여부 (한 스레드만 정리)
+    private final AtomicBoolean evictingLoginIds = new AtomicBoolean();
+    private final AtomicBoolean evictingIps = new AtomicBoolean();
+
+    // 현재 시각 (테스트에서 교체)
+    LongSupplier clock = System::currentTimeMillis;
+
+    public boolean isEnabled() {
+        return loginAttemptProperties.isEnabled();
+    }
+
+    /**
+     * 잠긴 로그인 ID/IP 면 LoginLockedException (DB 조회 전에 호출)
+     */
+    public void checkAllowed(String loginId, String clientIp) {
+        if (!loginAttemptProperties.isEnabled()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long lockedUntil = Math.max(lockedUntil(byLoginId, loginId), lockedUntil(byIp, clientIp));
+        if (lockedUntil > now) {
+            rejected.incrementAndGet();
+            throw new LoginLockedException(Math.max(1, (lockedUntil - now + 999) / 1000));
+        }
+    }
+
+    /**
+     * 로그인 실패 기록 (허용 수를 넘으면 잠금)
+     */
+    public void recordFailure(String loginId, String clientIp) {
+        if (!loginAttemptProperties.isEnabled()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        recordFailure(byLoginId, evictingLoginIds, "로그인 ID", loginId, loginAttemptProperties.getMaxFailuresPerLoginId(), now);
+        recordFailure(byIp, evictingIps, "IP", clientIp, loginAttemptProperties.getMaxFailuresPerIp(), now);
+    }
+
+    /**
+     * 로그인 성공 시 로그인 ID 실패 기록 삭제 (IP 는 다른 ID 를 시도하는 경우가 있으므로 유지)
+     */
+    public void recordSuccess(String loginId) {
+        if (loginId != null) {
+            byLoginId.remove(loginId);
+        }
+    }
+
+    /**
+     * 잠금 해제 (관리자)
+     *
+     * @return 해제한 항목 수
+     */
+    public int unlock(String loginId, String clientIp) {
+        int removed = 0;
+        if (loginId != null && byLoginId.remove(loginId) != null) {
+            removed++;
+        }
+        if (clientIp != null && byIp.remove(clientIp) != null) {
+            removed++;
+        }
+        if (removed > 0) {
+            log.info("로그인 잠금 해제: 로그인 ID {}, IP {}", loginId, clientIp);
+        }
+        return removed;
+    }
+
+    /**
+     * 현재 잠겼거나 구간 내 실패가 있는 항목 (실패 수 많은 순, 최대 limit 개)
+     */
+    public List<Lockout> getLockouts(int limit) {
+        long now = clock.getAsLong();
+        List<Lockout> lockouts = new ArrayList<>();
+        collect(byLoginId, KeyType.LOGIN_ID, now, lockouts);
+        collect(byIp, KeyType.IP, now, lockouts);
+        return lockouts.stream()
+                .sorted(Comparator.comparing(Lockout::locked).reversed()
+                        .thenComparing(Comparator.comparingInt(Lockout::failures).reversed()))
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /**
+     * 추적 상태 요약
+     */
+    public Summary getSummary() {
+        return new Summary(byLoginId.size(), byIp.size(), rejected.get(), evicted.get());
+    }
+
+    @Scheduled(fixedDelayString = "${login-attempt.sweep-interval-millis:60000}")
+    public void sweepScheduled() {
+        if (!loginAttemptProperties.isEnabled()) {
+            return;
+        }
+        int removed = sweep();
+        if (removed > 0) {
+            log.debug("로그인 실패 추적 항목 정리: {}건", removed);
+        }
+    }
+
+    /**
+     * 잠금이 끝났고 구간 내 실패가 없는 항목 삭제 (잠금 단계도 초기화됨)
+     *
+     * @return 삭제한 항목 수
+     */
+    public int sweep() {
+        long now = clock.getAsLong();
+        return sweep(byLoginId, now) + sweep(byIp, now);
+    }
+
+    private void recordFailure(Map<String, Attempts> map, AtomicBoolean evicting, String label, String key, int maxFailures,
+                               long now) {
+        if (key == null || maxFailures <= 0) {
+            return;
+        }
+        Attempts attempts = attemptsFor(map, evicting, key, now);
+        int failures = attempts.increment(now);
+        if (failures < maxFailures) {
+            return;
+        }
+        long lockedUntil = attempts.lockedUntil.get();
+        if (lockedUntil > now) {
+            return;
+        }
+        int level = attempts.lockLevel.get();
+        long lockMillis = Math.min((long) loginAttemptProperties.getMaxLockSeconds() * 1000,
+                ((long) loginAttemptProperties.getLockSeconds() * 1000) << Math.min(level, 20));
+        // 동시에 넘긴 실패 중 한 요청만 잠금 단계를 올림
+        if (attempts.lockedUntil.compareAndSet(lockedUntil, now + lockMillis)) {
+            attempts.lockLevel.incrementAndGet();
+            log.warn("로그인 잠금: {} {} (구간 내 실패 {}회, {}초)", label, key, failures, lockMillis / 1000);
+        }
+    }
+
+    // 자리가 없으면 한 스레드가 정리한 뒤 추가 (정리 중 동시에 들어온 키는 그대로 추가해 상한을 잠시 넘을 수 있음)
+    private Attempts attemptsFor(Map<String, Attempts> map, AtomicBoolean evicting, String key, long now) {
+        Attempts attempts = map.get(key);
+        if (attempts != null) {
+            return attempts;
+        }
+        int maxEntries = loginAttemptProperties.getMaxEntries();
+        if (map.size() >= maxEntries && evicting.compareAndSet(false, true)) {
+            try {
+                evict(map, maxEntries, now);
+            } finally {
+                evicting.set(false);
+            }
+        }
+        return map.computeIfAbsent(key, k -> new Attempts(loginAttemptProperties.getBucketCount()));
+    }
+
+    // 만료 항목을 정리하고, 그래도 모자라면 잠기지 않은 항목부터 마지막 실패가 오래된 순으로 내보냄
+    private void evict(Map<String, Attempts> map, int maxEntries, long now) {
+        sweep(map, now);
+        int excess = map.size() - (maxEntries - Math.max(1, maxEntries / EVICT_BATCH_DIVISOR));
+        if (excess <= 0) {
+            return;
+        }
+        // 내보낼 후보 excess 개만 유지 (맨 앞이 후보 중 가장 늦게 내보낼 항목)
+        Comparator<Candidate> evictionOrder = Comparator.comparing(Candidate::locked).thenComparingLong(Candidate::lastFailedAt);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(excess + 1, evictionOrder.reversed());
+        map.forEach((key, attempts) -> {
+            candidates.add(new Candidate(key, attempts, attempts.lockedUntil.get() > now, attempts.lastFailedAt.get()));
+            if (candidates.size() > excess) {
+                candidates.poll();
+            }
+        });
+        int removed = 0;
+        for (Candidate candidate : candidates) {
+            if (map.remove(candidate.key(), candidate.attempts())) {
+                removed++;
+            }
+        }
+        evicted.addAndGet(removed);
+        log.debug("로그인 실패 추적 항목 상한 초과로 {}건 내보냄", removed);
+    }
+
+    private long lockedUntil(Map<String, Attempts> map, String key) {
+        if (key == null) {
+            return 0;
+        }
+        Attempts attempts = map.get(key);
+        return attempts != null ? attempts.lockedUntil.get() : 0;
+    }
+
+    private int sweep(Map<String, Attempts> map, long now) {
+        int before = map.size();
+        map.values().removeIf(attempts -> attempts.lockedUntil.get() <= now && attempts.failures(now) == 0);
+        return before - map.size();
+    }
+
+    private void collect(Map<String, Attempts> map, KeyType type, long now, List<Lockout> lockouts) {
+        map.forEach((key, attempts) -> {
+            int failures = attempts.failures(now);
+            long lockedUntil = attempts.lockedUntil.get();
+            boolean locked = lockedUntil > now;
+            if (!locked && failures == 0) {
+                return;
+            }
+            lockouts.add(new Lockout(type, key, failures, attempts.lockLevel.get(), locked,
+                    locked ? LocalDateTime.ofInstant(Instant.ofEpochMilli(lockedUntil), ZoneId.systemDefault()) : null,
+                    locked ? (lockedUntil - now + 999) / 1000 : 0));
+        });
+    }
+
+    private long bucketMillis() {
+        return Math.max(1, (long) loginAttemptProperties.getWindowSeconds() * 1000 / Math.max(1, loginAttemptProperties.getBucketCount()));
+    }
+
+    /**
+     * 키 하나의 실패 기록 (시간 버킷별 건수 + 잠금 상태)
+     */
+    private final class Attempts {
+
+        private final AtomicLongArray buckets;
+        private final AtomicLong lockedUntil = new AtomicLong();
+        private final AtomicInteger lockLevel = new AtomicInteger();
+        private final AtomicLong lastFailedAt = new AtomicLong();
+
+        private Attempts(int bucketCount) {
+            this.buckets = new AtomicLongArray(Math.max(1, bucketCount));
+        }
+
+        // 현재 버킷 건수를 올리고 구간 내 실패 수 반환
+        private int increment(long now) {
+            lastFailedAt.set(now);
+            long epoch = now / bucketMillis();
+            int slot = (int) (epoch % buckets.length());
+            while (true) {
+                long current = buckets.get(slot);
+                long next = (current >>> COUNT_BITS) == epoch
+                        ? Math.min(current + 1, (epoch << COUNT_BITS) | COUNT_MASK)
+                        : (epoch << COUNT_BITS) | 1;
+                if (buckets.compareAndSet(slot, current, next)) {
+                    break;
+                }
+            }
+            return failures(now);
+        }
+
+        // 구간 안 버킷만 합산 (지난 버킷은 번호가 달라 제외)
+        private int failures(long now) {
+            long epoch = now / bucketMillis();
+            long oldest = epoch - buckets.length() + 1;
+            int sum = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                long value = buckets.get(i);
+                long bucketEpoch = value >>> COUNT_BITS;
+                if (bucketEpoch >= oldest && bucketEpoch <= epoch) {
+                    sum += (int) (value & COUNT_MASK);
+                }
+            }
+            return sum;
+        }
+    }
+
+    // 상한 초과 시 내보낼 후보 (잠김 여부와 마지막 실패 시각은 정리 시점 값)
+    private record Candidate(String key, Attempts attempts, boolean locked, long lastFailedAt) {
+    }
+
+    /**
+     * 추적 키 종류
+     */
+    public enum KeyType {
+        LOGIN_ID,
+        IP
+    }
+
+    /**
+     * 잠금/실패 항목
+     */
+    public record Lockout(KeyType type, String key, int failures, int lockLevel, boolean locked,
+                          LocalDateTime lockedUntil, long retryAfterSeconds) {
+    }
+
+    /**
+     * 추적 상태 요약 (rejected: 잠금으로 거절한 시도, evicted: 항목 수 상한으로 내보낸 항목)
+     */
+    public record Summary(int trackedLoginIds, int trackedIps, long rejected, long evicted) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.sinsaflower.server.global.security;
+
+import com.sinsaflower.server.global.config.RefreshTokenProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리프레시 토큰 저장소 (refresh_token 테이블 + 메모리 폐기 목록)
+ * 로그인마다 family 를 만들고, 갱신할 때마다 이전 토큰을 조건부 UPDATE 로 교체 처리한 뒤 같은 family 의 새 토큰을 발급한다.
+ * 이미 교체된 토큰이 다시 쓰이면 탈취로 보고 family 전체를 폐기하며, 로그아웃도 family 를 폐기한다.
+ * 단, 교체 후 rotation-grace-seconds 안의 재요청(동시 갱신, 응답 유실 재시도)은 재사용으로 보지 않고 같은 후속 토큰을 다시 내준다.
+ * 폐기된 family 는 만료 시각까지 메모리에 두어 JwtAuthenticationFilter 와 갱신 요청이 DB 조회 없이 확인하고,
+ * 다른 서버에서 폐기한 family 는 sync-interval-millis 마다 revoked_at 기준으로 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO refresh_token (jti, family_id, user_type, user_id, issued_at, expires_at) VALUES (?, ?, ?, ?, ?, ?)";
+    // 교체되지 않고 폐기되지 않은 유효 토큰만 교체 (동시에 같은 토큰으로 갱신하면 한 요청만 성공)
+    private static final String ROTATE_SQL =
+            "UPDATE refresh_token SET rotated_at = ?, replaced_by = ? " +
+            "WHERE jti = ? AND family_id = ? AND rotated_at IS NULL AND revoked_at IS NULL AND expires_at > ?";
+    // 유예 시간 안에 교체된 토큰의 후속 토큰
+    private static final String SELECT_GRACE_SUCCESSOR_SQL =
+            "SELECT replaced_by FROM refresh_token " +
+            "WHERE jti = ? AND family_id = ? AND revoked_at IS NULL AND replaced_by IS NOT NULL AND rotated_at >= ?";
+    private static final String REVOKE_FAMILY_SQL =
+            "UPDATE refresh_token SET revoked_at = ? WHERE family_id = ? AND revoked_at IS NULL";
+    private static final String SELECT_FAMILY_EXPIRES_SQL =
+            "SELECT MAX(expires_at) FROM refresh_token WHERE family_id = ?";
+    private static final String SELECT_REVOKED_SQL =
+            "SELECT family_id, MAX(expires_at) AS expires_at FROM refresh_token " +
+            "WHERE revoked_at >= ? AND expires_at > ? GROUP BY family_id";
+    private static final String SWEEP_SQL =
+            "DELETE FROM refresh_token WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RefreshTokenProperties refreshTokenProperties;
+
+    // 폐기된 family -> 만료 시각(epoch 밀리초), 만료 후에는 토큰 서명 검증에서 걸러지므로 정리
+    private final Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+    // 마지막 동기화 조회 시작 시각 (sync 스케줄러 스레드만 갱신)
+    private volatile LocalDateTime lastSyncedAt;
+
+    @PostConstruct
+    void init() {
+        if (!refreshTokenProperties.isEnabled()) {
+            return;
+        }
+        // 시작 시 아직 만료되지 않은 폐기 family 전체 적재
+        lastSyncedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+        syncRevoked();
+        log.info("리프레시 토큰 폐기 목록 적재: {}개 family", revokedFamilies.size());
+    }
+
+    public boolean isEnabled() {
+        return refreshTokenProperties.isEnabled();
+    }
+
+    /**
+     * 새 리프레시 토큰 기록
+     */
+    public void issue(String jti, String familyId, String userType, Long userId, Date expiresAt) {
+        jdbcTemplate.update(INSERT_SQL, jti, familyId, userType, userId,
+                Timestamp.valueOf(LocalDateTime.now()), new Timestamp(expiresAt.getTime()));
+    }
+
+    /**
+     * 갱신 요청의 리프레시 토큰을 후속 토큰(successorJti)으로 교체 처리
+     * 이미 폐기된 family 는 DB 조회 없이 거절하고, 유예 시간 안에 교체된 토큰이면 그때의 후속 토큰 jti 를 돌려준다.
+     * 그 밖에 교체에 실패하면(재사용, 알 수 없는 토큰) family 를 폐기한다.
+     */
+    public RotationResult rotate(String jti, String familyId, String successorJti) {
+        if (isRevoked(familyId)) {
+            return new RotationResult(Rotation.REVOKED, null);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(ROTATE_SQL, Timestamp.valueOf(now), successorJti, jti, familyId, Timestamp.valueOf(now));
+        if (updated == 1) {
+            return new RotationResult(Rotation.ROTATED, successorJti);
+        }
+        List<String> successor = jdbcTemplate.queryForList(SELECT_GRACE_SUCCESSOR_SQL, String.class, jti, familyId,
+                Timestamp.valueOf(now.minusSeconds(refreshTokenProperties.getRotationGraceSeconds())));
+        if (!successor.isEmpty()) {
+            log.info("리프레시 토큰 교체 유예 시간 내 재요청: {} -> {}", jti, successor.get(0));
+            return new RotationResult(Rotation.GRACE, successor.get(0));
+        }
+        revokeFamily(familyId);
+        return new RotationResult(Rotation.REUSED, null);
+    }
+
+    /**
+     * family 폐기 (로그아웃, 재사용 감지)
+     */
+    public void revokeFamily(String familyId) {
+        int revoked = jdbcTemplate.update(REVOKE_FAMILY_SQL, Timestamp.valueOf(LocalDateTime.now()), familyId);
+        Timestamp expiresAt = jdbcTemplate.queryForObject(SELECT_FAMILY_EXPIRES_SQL, Timestamp.class, familyId);
+        if (expiresAt != null) {
+            revokedFamilies.merge(familyId, expiresAt.getTime(), Math::max);
+        }
+        log.info("리프레시 토큰 family 폐기: {} ({}건)", familyId, revoked);
+    }
+
+    /**
+     * 폐기된 family 여부 (메모리 조회만)
+     */
+    public boolean isRevoked(String familyId) {
+        if (familyId == null) {
+            return false;
+        }
+        Long expiresAt = revokedFamilies.get(familyId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revokedFamilies.remove(familyId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 메모리 폐기 목록 크기
+     */
+    public int revokedCount() {
+        return revokedFamilies.size();
+    }
+
+    /**
+     * 다른 서버에서 폐기한 family 주기 반영
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.sync-interval-millis:10000}")
+    public void syncScheduled() {
+        if (!refreshTokenProperties.isEnabled()) {
+            return;
+        }
+        try {
+            syncRevoked();
+        } catch (Exception e) {
+            log.error("리프레시 토큰 폐기 목록 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 폐기된 family 를 메모리 폐기 목록에 추가
+     *
+     * @return 조회한 family 수
+     */
+    public int syncRevoked() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt.minusSeconds(refreshTokenProperties.getSyncOverlapSeconds());
+        int[] count = {0};
+        jdbcTemplate.query(SELECT_REVOKED_SQL, (RowCallbackHandler) rs -> {
+            revokedFamilies.merge(rs.getString("family_id"), rs.getTimestamp("expires_at").getTime(), Math::max);
+            count[0]++;
+        }, Timestamp.valueOf(since), Timestamp.valueOf(now));
+        lastSyncedAt = now;
+        return count[0];
+    }
+
+    /**
+     * 만료된 폐기 목록/토큰 행 주기 정리
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.sweep-interval-millis:3600000}")
+    public void sweepScheduled() {
+        if (!refreshTokenProperties.isEnabled()) {
+            return;
+        }
+        try {
+            sweepExpired();
+        } catch (Exception e) {
+            log.error("리프레시 토큰 만료 정리 실패", e);
+        }
+    }
+
+    /**
+     * 만료된 폐기 목록 항목과 토큰 행 삭제
+     *
+     * @return 삭제한 토큰 행 수
+     */
+    public int sweepExpired() {
+        long now = System.currentTimeMillis();
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt <= now);
+        int deleted = jdbcTemplate.update(SWEEP_SQL, new Timestamp(now));
+        if (deleted > 0) {
+            log.info("리프레시 토큰 만료 정리: {}건 (폐기 목록 {}개)", deleted, revokedFamilies.size());
+        }
+        return deleted;
+    }
+
+    /**
+     * 교체 결과 (ROTATED/GRACE 이면 발급할 후속 토큰 jti)
+     */
+    public record RotationResult(Rotation rotation, String successorJti) {
+    }
+
+    /**
+     * 교체 결과
+     */
+    public enum Rotation {
+        ROTATED,  // 교체 성공, 후속 토큰 새로 발급
+        GRACE,    // 유예 시간 안에 교체된 토큰, 이미 발급한 후속 토큰을 다시 내줌
+        REVOKED,  // 이미 폐기된 family
+        REUSED    // 교체된(또는 알 수 없는) 토큰 재사용, family 폐기함
+    }
+}
@@ -11,7 +11,12 @@ import com.sinsaflower.server.global.dto.AuthResponse;
 import com.sinsaflower.server.global.dto.LoginRequest;
 import com.sinsaflower.server.global.dto.TokenRefreshRequest;
 import com.sinsaflower.server.global.jwt.JwtUtil;
+import com.sinsaflower.server.global.logging.SamplingTurboFilter;
+import com.sinsaflower.server.global.security.AccountStatusCache;
 import com.sinsaflower.server.global.security.CustomUserDetails;
+import com.sinsaflower.server.global.security.LoginAttemptTracker;
+import com.sinsaflower.server.global.security.RefreshTokenStore;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -19,9 +24,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * 관리자와 파트너 로그인을 통합 처리하는 인증 서비스
@@ -36,13 +42,16 @@ public class AuthService {
     private final MemberService memberService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccountStatusCache accountStatusCache;
+    private final LoginAttemptTracker loginAttemptTracker;
     
     /**
      * 파트너 회원가입
      */
     @Transactional
     public MemberResponse signUp(MemberSignupRequest request) {
-        log.info("파트너 회원가입 처리: {}", request.getLoginId());
+        log.debug("파트너 회원가입 처리: {}", request.getLoginId());
         
         // MemberService의 회원가입 로직 활용
         return memberService.signUp(request);
@@ -51,10 +60,14 @@ public class AuthService {
     /**
      * 통합 로그인 처리
      * 관리자와 파트너 모두 동일한 loginId로 로그인 시도
+     * 실패가 반복된 로그인 ID/IP 는 DB 조회와 BCrypt 비교 없이 바로 거절한다.
      */
     @Transactional
-    public AuthResponse login(LoginRequest request) {
-        log.info("로그인 시도: {}", request.getLoginId());
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        log.debug("로그인 시도: {}", request.getLoginId());
+        
+        // 0. 잠긴 로그인 ID/IP 거절 (LoginLockedException)
+        loginAttemptTracker.checkAllowed(request.getLoginId(), clientIp);
         
         // 1. 관리자 로그인 시도
         Optional<Admin> adminOpt = adminRepository.findByLoginId(request.getLoginId());
@@ -65,8 +78,9 @@ public class AuthService {
                 admin.updateLastLogin();
                 adminRepository.save(admin);
                 
+                loginAttemptTracker.recordSuccess(request.getLoginId());
                 CustomUserDetails userDetails = new CustomUserDetails(admin);
-                return generateTokenResponse(userDetails);
+                return generateTokenResponse(userDetails, newFamilyId());
             }
         }
         
@@ -85,35 +99,46 @@ public class AuthService {
                 member.updateLastLogin();
                 memberRepository.save(member);
                 
+                loginAttemptTracker.recordSuccess(request.getLoginId());
                 CustomUserDetails userDetails = new CustomUserDetails(member);
-                return generateTokenResponse(userDetails);
+                return generateTokenResponse(userDetails, newFamilyId());
             }
         }
         
         // 3. 로그인 실패
-        log.warn("로그인 실패: {}", request.getLoginId());
+        loginAttemptTracker.recordFailure(request.getLoginId(), clientIp);
+        log.warn(SamplingTurboFilter.SAMPLED, "로그인 실패: {}", request.getLoginId());
         throw new IllegalArgumentException("로그인 ID 또는 비밀번호가 올바르지 않습니다.");
     }
     
     /**
      * 토큰 갱신
+     * 저장소 사용 시 요청 토큰을 교체 처리하고 같은 family 의 새 리프레시 토큰을 발급한다 (교체된 토큰 재사용 시 family 폐기).
+     * 교체와 후속 토큰 기록은 한 트랜잭션이라 기록이 실패하면 교체도 되돌린다 (재사용 거절 시의 family 폐기는 커밋).
      */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
     public AuthResponse refreshToken(TokenRefreshRequest request) {
         String refreshToken = request.getRefreshToken();
         
-        // 리프레시 토큰 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
-            log.error("유효하지 않은 리프레시 토큰");
+        // 리프레시 토큰 검증 (서명 검증과 클레임 파싱은 한 번)
+        Claims claims = jwtUtil.parseClaims(refreshToken).orElse(null);
+        if (claims == null) {
+            log.warn(SamplingTurboFilter.SAMPLED, "유효하지 않은 리프레시 토큰");
             throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
         }
         
         // 토큰에서 사용자 정보 추출
-        String username = jwtUtil.getUsernameFromToken(refreshToken);
-        String userType = jwtUtil.getUserTypeFromToken(refreshToken);
-        Long userId = jwtUtil.getUserIdFromToken(refreshToken);
+        String username = claims.getSubject();
+        String userType = jwtUtil.getUserType(claims);
+        Long userId = jwtUtil.getUserId(claims);
         
-        // 사용자 존재 여부 확인
-        if (CustomUserDetails.USER_TYPE_ADMIN.equals(userType)) {
+        // 사용자 존재 여부 확인 (계정 상태 캐시 사용 시 캐시에 없는 항목만 단건 조회)
+        // 교체 전에 확인해야 거절된 요청이 후속 토큰 없는 교체 기록을 남기지 않음
+        if (accountStatusCache.isEnabled()) {
+            if (!accountStatusCache.isActive(userType, userId)) {
+                throw new IllegalArgumentException("비활성 계정입니다.");
+            }
+        } else if (CustomUserDetails.USER_TYPE_ADMIN.equals(userType)) {
             adminRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 관리자입니다."));
         } else if (CustomUserDetails.USER_TYPE_PARTNER.equals(userType)) {
@@ -126,26 +151,60 @@ public class AuthService {
             }
         }
         
-        // 새 토큰 생성
+        // 리프레시 토큰 교체 (폐기된 family 는 메모리에서 바로 거절)
+        String familyId = null;
+        String successorJti = null;
+        boolean successorIssued = false;
+        if (refreshTokenStore.isEnabled()) {
+            String tokenId = claims.getId();
+            familyId = jwtUtil.getFamilyId(claims);
+            if (tokenId == null || familyId == null) {
+                throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+            }
+            RefreshTokenStore.RotationResult rotation = refreshTokenStore.rotate(tokenId, familyId, UUID.randomUUID().toString());
+            switch (rotation.rotation()) {
+                case REVOKED -> throw new IllegalArgumentException("폐기된 리프레시 토큰입니다.");
+                case REUSED -> {
+                    log.warn("리프레시 토큰 재사용 감지, family 폐기: {} ({})", username, familyId);
+                    throw new IllegalArgumentException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+                }
+                // 유예 시간 내 재요청: 이미 기록된 후속 토큰을 같은 jti 로 다시 발급
+                case GRACE -> successorIssued = true;
+                case ROTATED -> {
+                }
+            }
+            successorJti = rotation.successorJti();
+        }
+        
+        // 새 토큰 생성 (이름/닉네임은 계정 캐시에서, 엔티티 조회 없음)
+        Optional<AccountStatusCache.Profile> profile = accountStatusCache.getProfile(userType, userId);
         CustomUserDetails userDetails = new CustomUserDetails(
-            userId, username, userType, jwtUtil.getAuthoritiesFromToken(refreshToken)
+            userId, username, userType, jwtUtil.getAuthorities(claims),
+            profile.map(AccountStatusCache.Profile::name).orElse(null),
+            profile.map(AccountStatusCache.Profile::nickname).orElse(null)
         );
         
-        log.info("토큰 갱신 성공: {} ({})", username, userType);
-        return generateTokenResponse(userDetails);
+        log.debug("토큰 갱신 성공: {} ({})", username, userType);
+        return generateTokenResponse(userDetails, familyId, successorJti, !successorIssued);
     }
     
     /**
      * 로그아웃 처리
-     * JWT는 stateless이므로 서버에서 특별한 처리 없이 클라이언트에서 토큰 삭제
+     * 저장소 사용 시 전달된 토큰(리프레시 또는 액세스)의 family 를 폐기해 같은 로그인으로 발급된 토큰을 모두 무효화
      */
-    public void logout() {
+    public void logout(String token) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails) {
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
             log.info("로그아웃: {} ({})", userDetails.getUsername(), userDetails.getUserType());
         }
         
+        if (refreshTokenStore.isEnabled() && StringUtils.hasText(token)) {
+            jwtUtil.parseClaims(token)
+                .map(jwtUtil::getFamilyId)
+                .ifPresent(refreshTokenStore::revokeFamily);
+        }
+        
         // SecurityContext 초기화
         SecurityContextHolder.clearContext();
     }
@@ -162,22 +221,45 @@ public class AuthService {
     }
     
     /**
-     * JWT 토큰 응답 생성
+     * 새 로그인의 리프레시 토큰 family (저장소 미사용 시 null)
+     */
+    private String newFamilyId() {
+        return refreshTokenStore.isEnabled() ? UUID.randomUUID().toString() : null;
+    }
+    
+    /**
+     * JWT 토큰 응답 생성 (family 가 있으면 리프레시 토큰을 저장소에 기록)
      */
-    private AuthResponse generateTokenResponse(CustomUserDetails userDetails) {
+    private AuthResponse generateTokenResponse(CustomUserDetails userDetails, String familyId) {
+        return generateTokenResponse(userDetails, familyId, familyId != null ? UUID.randomUUID().toString() : null, true);
+    }
+    
+    /**
+     * JWT 토큰 응답 생성 (리프레시 토큰 jti 지정, record 이면 저장소에 기록)
+     */
+    private AuthResponse generateTokenResponse(CustomUserDetails userDetails, String familyId, String tokenId, boolean record) {
         String accessToken = jwtUtil.generateToken(
             userDetails.getUsername(),
             userDetails.getAuthorities(),
             userDetails.getUserType(),
-            userDetails.getUserId()
+            userDetails.getUserId(),
+            familyId,
+            userDetails.getName(),
+            userDetails.getNickname()
         );
         
         String refreshToken = jwtUtil.generateRefreshToken(
             userDetails.getUsername(),
             userDetails.getAuthorities(),
             userDetails.getUserType(),
-            userDetails.getUserId()
+            userDetails.getUserId(),
+            tokenId,
+            familyId
         );
+        if (familyId != null && record) {
+            refreshTokenStore.issue(tokenId, familyId, userDetails.getUserType(), userDetails.getUserId(),
+                jwtUtil.getExpirationFromToken(refreshToken));
+        }
         
         log.info("토큰 생성 성공: {} ({})", userDetails.getUsername(), userDetails.getUserType());
         
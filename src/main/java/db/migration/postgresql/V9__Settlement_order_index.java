@@ -0,0 +1,69 @@
+package db.migration.postgresql;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정산 집계용 인덱스 (SettlementEngine: 회원 구간 + 배송일 조건의 배송완료 주문)
+ * orders 는 파티션 테이블(V7)이라 부모에 바로 CREATE INDEX 하면 모든 파티션에 인덱스를 만드는 동안 쓰기가 막힌다.
+ * 부모에는 ON ONLY 로 빈(무효) 인덱스만 만들고, 파티션마다 CONCURRENTLY 로 만든 인덱스를 ATTACH 한다.
+ * 모든 파티션이 붙으면 부모 인덱스가 유효해지고, 이후 새로 만드는 파티션에는 자동으로 생성된다.
+ * CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없으므로 트랜잭션 밖에서 실행하며, 중간에 실패해도 다시 실행하면 이어서 만든다.
+ */
+public class V9__Settlement_order_index extends BaseJavaMigration {
+
+    private static final String PARENT_INDEX = "idx_orders_settlement";
+    private static final String COLUMNS = "(member_id, delivery_date) WHERE order_status = 'DELIVERED' AND is_deleted = false";
+
+    private static final String SELECT_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'orders'::regclass ORDER BY c.relname";
+    // 이전 실행이 CONCURRENTLY 도중 실패해 남은 무효 인덱스
+    private static final String SELECT_INVALID_INDEX_SQL =
+            "SELECT 1 FROM pg_index x JOIN pg_class c ON c.oid = x.indexrelid WHERE c.relname = '%s' AND NOT x.indisvalid";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX IF NOT EXISTS " + PARENT_INDEX + " ON ONLY orders " + COLUMNS);
+
+            for (String partition : partitions(statement)) {
+                String index = "idx_" + partition + "_settlement";
+                if (exists(statement, String.format(SELECT_INVALID_INDEX_SQL, index))) {
+                    statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+                }
+                statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index + " ON " + partition + " " + COLUMNS);
+                statement.execute("ALTER INDEX " + PARENT_INDEX + " ATTACH PARTITION " + index);
+            }
+        }
+    }
+
+    private static List<String> partitions(Statement statement) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery(SELECT_PARTITIONS_SQL)) {
+            while (rs.next()) {
+                partitions.add(rs.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    private static boolean exists(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- 주문 낙관적 락 버전 (동시 상태 변경 시 나중 커밋을 실패시킴)
+ALTER TABLE orders ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- order_offer: 지역 파트너에게 제안하는 주문 큐 (파트너가 임대(lease)로 선점한 뒤 수락하면 배정 확정)
+-- status: OPEN(대기) -> LEASED(선점, lease_expires_at 까지) -> ACCEPTED(배정 확정) / CANCELLED
+-- orders 는 PostgreSQL 에서 (id, created_at) 파티션 키를 쓰므로 주문 생성일을 함께 저장하고, 외래키는 두지 않는다.
+CREATE TABLE order_offer (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id            BIGINT        NOT NULL,
+    order_created_at    TIMESTAMP(6)  NOT NULL,
+    sido                VARCHAR(50)   NOT NULL,
+    sigungu             VARCHAR(50)   NOT NULL,
+    status              VARCHAR(20)   NOT NULL,
+    lease_owner_id      BIGINT,
+    lease_token         VARCHAR(36),
+    lease_expires_at    TIMESTAMP(6),
+    lease_count         INTEGER       NOT NULL,
+    accepted_at         TIMESTAMP(6),
+    version             BIGINT        NOT NULL,
+    created_at          TIMESTAMP(6)  NOT NULL,
+    updated_at          TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT uk_order_offer_order UNIQUE (order_id)
+);
+
+CREATE INDEX idx_order_offer_status_region ON order_offer (status, sido, sigungu, id);
+CREATE INDEX idx_order_offer_lease_owner ON order_offer (lease_owner_id);
@@ -0,0 +1,16 @@
+-- 델타 동기화(/api/sync) 용 변경 순번
+-- 행이 추가/수정될 때마다 change_seq 시퀀스의 다음 값을 기록하며, 값은 PostgreSQL 트리거(V13)가 채운다.
+-- H2 에는 컬럼만 두고 채우지 않는다 (동기화는 PostgreSQL 전용).
+ALTER TABLE orders ADD COLUMN change_seq BIGINT;
+ALTER TABLE member_product_price ADD COLUMN change_seq BIGINT;
+
+-- sync_tombstone: 하드 삭제된 행의 삭제 기록 (소프트 삭제 테이블은 is_deleted 행 자체가 삭제 기록)
+CREATE TABLE sync_tombstone (
+    change_seq  BIGINT        PRIMARY KEY,
+    table_name  VARCHAR(50)   NOT NULL,
+    row_id      BIGINT        NOT NULL,
+    member_id   BIGINT,
+    deleted_at  TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX idx_sync_tombstone_member_seq ON sync_tombstone (member_id, change_seq);
@@ -0,0 +1,15 @@
+-- idempotency_key: Idempotency-Key 헤더로 재시도한 POST 요청의 최초 응답 (IdempotencyFilter)
+-- cache_key 는 "경로|요청자|키", fingerprint 는 요청 본문(multipart 파트) SHA-256
+-- status: IN_PROGRESS(최초 요청 처리 중) -> COMPLETED(응답 저장), 처리 실패(5xx/예외) 시 행을 지워 재시도가 다시 실행되게 함
+CREATE TABLE idempotency_key (
+    cache_key        VARCHAR(255)  PRIMARY KEY,
+    fingerprint      VARCHAR(64)   NOT NULL,
+    status           VARCHAR(20)   NOT NULL,
+    response_status  INTEGER,
+    content_type     VARCHAR(100),
+    response_body    BYTEA,
+    created_at       TIMESTAMP(6)  NOT NULL,
+    expires_at       TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX idx_idempotency_key_expires ON idempotency_key (expires_at);
@@ -0,0 +1,4 @@
+-- 회원/사업자 프로필/지역 가격 낙관적 락 버전 (동시 수정 시 나중 커밋을 실패시킴, orders 는 V10)
+ALTER TABLE member ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE member_business_profile ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE member_product_price ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,14 @@
+-- order_status_history: 주문 상태 전이 이력 (추가만 하고 수정/삭제하지 않음)
+-- OrderStatusHistoryWriter 가 커밋된 상태 변경을 모아 JDBC 배치로 기록하며, 직전 상태는 같은 주문의 이전 행이다.
+-- orders 는 PostgreSQL 에서 파티션 테이블이라 외래키는 두지 않는다.
+CREATE TABLE order_status_history (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id        BIGINT        NOT NULL,
+    order_status    VARCHAR(20)   NOT NULL,
+    changed_at      TIMESTAMP(6)  NOT NULL
+);
+
+-- 주문별 타임라인
+CREATE INDEX idx_order_status_history_order ON order_status_history (order_id, changed_at);
+-- 일자별 전이 건수, SLA 기간 조회 (changed_at 순서로 읽음)
+CREATE INDEX idx_order_status_history_changed ON order_status_history (changed_at, order_status);
@@ -0,0 +1,19 @@
+-- refresh_token: 발급한 리프레시 토큰 (RefreshTokenStore)
+-- 로그인 한 번이 하나의 family 이며, 갱신할 때마다 같은 family 의 새 토큰(jti)을 발급하고 이전 토큰에 rotated_at 을 기록한다.
+-- 이미 교체된 토큰이 다시 쓰이면 탈취로 보고 family 전체에 revoked_at 을 기록한다 (로그아웃도 family 폐기).
+CREATE TABLE refresh_token (
+    jti          VARCHAR(36)   PRIMARY KEY,
+    family_id    VARCHAR(36)   NOT NULL,
+    user_type    VARCHAR(20)   NOT NULL,
+    user_id      BIGINT        NOT NULL,
+    issued_at    TIMESTAMP(6)  NOT NULL,
+    expires_at   TIMESTAMP(6)  NOT NULL,
+    rotated_at   TIMESTAMP(6),
+    revoked_at   TIMESTAMP(6)
+);
+
+CREATE INDEX idx_refresh_token_family ON refresh_token (family_id);
+-- 서버 간 폐기 목록 동기화
+CREATE INDEX idx_refresh_token_revoked ON refresh_token (revoked_at);
+-- 만료 토큰 정리
+CREATE INDEX idx_refresh_token_expires ON refresh_token (expires_at);
@@ -0,0 +1,11 @@
+-- order_number_registry: 발급한 주문번호 (OrderNumberRegistry)
+-- V7 이후 orders 의 주문번호 유니크는 파티션 키를 포함한 (order_number, created_at) 이므로 전역 중복은 이 테이블의 기본키로 막는다.
+-- 주문을 삭제/보관 이동해도 행을 지우지 않는다.
+CREATE TABLE order_number_registry (
+    order_number VARCHAR(6)    PRIMARY KEY,
+    created_at   TIMESTAMP(6)  NOT NULL
+);
+
+-- 기존 주문번호 등록 (V7 이전에는 전역 유니크였으므로 번호당 한 행)
+INSERT INTO order_number_registry (order_number, created_at)
+SELECT order_number, MIN(created_at) FROM orders GROUP BY order_number;
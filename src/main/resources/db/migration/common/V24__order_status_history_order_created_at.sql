@@ -0,0 +1,3 @@
+-- 이력에 주문 생성 시각을 함께 기록 (orders 는 PostgreSQL 에서 (id, created_at) 파티션 키를 쓰므로
+-- SLA 리포트가 orders 와 조인할 때 created_at 조건으로 해당 파티션만 읽게 한다)
+ALTER TABLE order_status_history ADD COLUMN order_created_at TIMESTAMP(6);
@@ -0,0 +1,3 @@
+-- 교체한 토큰의 후속 토큰 jti (RefreshTokenStore)
+-- 교체 직후 rotation-grace-seconds 안에 같은 토큰이 다시 오면(동시 갱신, 응답 유실 재시도) 재사용으로 보지 않고 이 후속 토큰을 다시 내준다.
+ALTER TABLE refresh_token ADD COLUMN replaced_by VARCHAR(36);
@@ -0,0 +1,8 @@
+-- 주문 하위 테이블에 파티션 키(주문 생성 시각) 추가 및 기존 데이터 채우기
+ALTER TABLE order_option ADD COLUMN order_created_at TIMESTAMP(6);
+ALTER TABLE order_message ADD COLUMN order_created_at TIMESTAMP(6);
+ALTER TABLE order_sender ADD COLUMN order_created_at TIMESTAMP(6);
+
+UPDATE order_option SET order_created_at = (SELECT o.created_at FROM orders o WHERE o.id = order_option.order_id);
+UPDATE order_message SET order_created_at = (SELECT o.created_at FROM orders o WHERE o.id = order_message.order_id);
+UPDATE order_sender SET order_created_at = (SELECT o.created_at FROM orders o WHERE o.id = order_sender.order_id);
@@ -0,0 +1,33 @@
+-- 파트너 월 정산
+-- settlement_run: 월별 정산 실행 상태와 체크포인트 (last_member_id 까지 정산 결과 기록 완료)
+CREATE TABLE settlement_run (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    settle_month    VARCHAR(7)    NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    last_member_id  BIGINT        NOT NULL,
+    member_count    INTEGER       NOT NULL,
+    order_count     BIGINT        NOT NULL,
+    payment_amount  BIGINT        NOT NULL,
+    started_at      TIMESTAMP(6)  NOT NULL,
+    updated_at      TIMESTAMP(6)  NOT NULL,
+    finished_at     TIMESTAMP(6),
+    error_message   VARCHAR(500),
+    CONSTRAINT uk_settlement_run_month UNIQUE (settle_month)
+);
+
+-- settlement: 회원별 월 정산 결과 (금액 단위: 원)
+CREATE TABLE settlement (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    settle_month        VARCHAR(7)    NOT NULL,
+    member_id           BIGINT        NOT NULL,
+    order_count         INTEGER       NOT NULL,
+    payment_amount      BIGINT        NOT NULL,
+    origin_price_amount BIGINT        NOT NULL,
+    margin_amount       BIGINT        NOT NULL,
+    bank_name           VARCHAR(50),
+    account_number      VARCHAR(50),
+    account_owner       VARCHAR(50),
+    created_at          TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT uk_settlement_month_member UNIQUE (settle_month, member_id),
+    CONSTRAINT fk_settlement_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
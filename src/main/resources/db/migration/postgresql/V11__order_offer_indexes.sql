@@ -0,0 +1,10 @@
+-- 보관 테이블도 orders 와 같은 컬럼을 유지 (OrderArchiveService 가 컬럼 목록을 그대로 복사함)
+ALTER TABLE orders_archive ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- 선점 대상(OPEN)만 담는 부분 인덱스: 지역별 가장 오래된 제안을 FOR UPDATE SKIP LOCKED 로 고름
+CREATE INDEX IF NOT EXISTS idx_order_offer_open
+    ON order_offer (sido, sigungu, id) WHERE status = 'OPEN';
+
+-- 임대 만료 회수용 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_order_offer_lease_expires
+    ON order_offer (lease_expires_at) WHERE status = 'LEASED';
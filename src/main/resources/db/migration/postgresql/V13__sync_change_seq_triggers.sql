@@ -0,0 +1,45 @@
+-- 변경 순번 시퀀스와 기록 트리거 (V12 참고)
+-- JPA 저장뿐 아니라 JDBC/일괄 UPDATE 도 같은 순번을 받도록 트리거로 기록한다.
+-- 기존 행을 모두 한 번 갱신하므로 점검 시간에 적용할 것.
+CREATE SEQUENCE IF NOT EXISTS change_seq;
+
+-- 1. 기존 행 백필 (최초 동기화(since=0)에 포함되도록)
+UPDATE orders SET change_seq = nextval('change_seq') WHERE change_seq IS NULL;
+UPDATE member_product_price SET change_seq = nextval('change_seq') WHERE change_seq IS NULL;
+
+-- 보관 테이블도 orders 와 같은 컬럼을 유지 (OrderArchiveService 가 컬럼 목록을 그대로 복사함)
+ALTER TABLE orders_archive ADD COLUMN change_seq BIGINT;
+
+-- 2. 추가/수정 시 순번 기록
+CREATE OR REPLACE FUNCTION stamp_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := nextval('change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_change_seq
+    BEFORE INSERT OR UPDATE ON orders
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_seq();
+
+CREATE TRIGGER trg_member_product_price_change_seq
+    BEFORE INSERT OR UPDATE ON member_product_price
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_seq();
+
+-- 3. 하드 삭제 기록 (member_product_price 는 소프트 삭제 컬럼이 없음)
+-- 주문은 소프트 삭제(is_deleted) 행이 삭제 기록이며, 보관 이동은 이미 소프트 삭제된 주문만 옮기므로 따로 기록하지 않는다.
+CREATE OR REPLACE FUNCTION record_sync_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstone (change_seq, table_name, row_id, member_id, deleted_at)
+    VALUES (nextval('change_seq'), TG_TABLE_NAME, OLD.id, OLD.member_id, now());
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_member_product_price_tombstone
+    AFTER DELETE ON member_product_price
+    FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone();
+
+-- 4. 회원별 변경분 조회 인덱스 (member_id 로 좁힌 뒤 change_seq 범위 스캔)
+CREATE INDEX IF NOT EXISTS idx_orders_member_change_seq ON orders (member_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_member_product_price_member_change_seq ON member_product_price (member_id, change_seq);
@@ -0,0 +1,10 @@
+-- order_status_history 는 추가 전용 (V16 참고): 수정/삭제를 DB 에서 막는다.
+CREATE OR REPLACE FUNCTION reject_order_status_history_change() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'order_status_history is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_order_status_history_append_only
+    BEFORE UPDATE OR DELETE ON order_status_history
+    FOR EACH STATEMENT EXECUTE FUNCTION reject_order_status_history_change();
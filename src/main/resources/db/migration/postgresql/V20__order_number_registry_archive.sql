@@ -0,0 +1,4 @@
+-- 보관 이동된 주문(V4 orders_archive)의 주문번호도 재사용되지 않도록 등록
+INSERT INTO order_number_registry (order_number, created_at)
+SELECT order_number, MIN(created_at) FROM orders_archive GROUP BY order_number
+ON CONFLICT (order_number) DO NOTHING;
@@ -0,0 +1,14 @@
+-- 배송일은 주문일부터 주문일 + 365일(OrderConstants.DeliveryDate.MAX_ADVANCE_DAYS) 사이
+-- 관리자 검색(OrderService.searchOrders)은 이 제약이 검증(convalidated)된 경우에만 배송일 조건을 created_at 범위로 바꿔 파티션을 좁힌다.
+-- 기존 주문 중 범위를 벗어난 행이 있으면 검증하지 않고 남겨 두며(NOT VALID, 새 행에는 적용됨),
+-- 해당 주문을 정리한 뒤 ALTER TABLE orders VALIDATE CONSTRAINT ck_orders_delivery_window 를 실행하면 프루닝이 켜진다.
+ALTER TABLE orders ADD CONSTRAINT ck_orders_delivery_window
+    CHECK (delivery_date >= CAST(created_at AS DATE) AND delivery_date <= CAST(created_at AS DATE) + 365) NOT VALID;
+
+DO $$
+BEGIN
+    ALTER TABLE orders VALIDATE CONSTRAINT ck_orders_delivery_window;
+EXCEPTION WHEN check_violation THEN
+    RAISE NOTICE 'ck_orders_delivery_window: 범위를 벗어난 기존 주문이 있어 검증하지 않음';
+END;
+$$;
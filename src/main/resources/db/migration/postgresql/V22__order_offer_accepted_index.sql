@@ -0,0 +1,3 @@
+-- 배정 엔진이 당일 수락(배정 확정)된 제안 수를 파트너별로 읽을 때 쓰는 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_order_offer_accepted
+    ON order_offer (accepted_at, lease_owner_id) WHERE status = 'ACCEPTED';
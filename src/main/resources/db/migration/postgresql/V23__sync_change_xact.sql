@@ -0,0 +1,27 @@
+-- 변경 순번마다 순번을 받은 트랜잭션 ID 기록 (SyncWatermark 참고)
+-- 순번보다 트랜잭션 ID 를 먼저 배정해야 "시퀀스 값 V 를 읽은 뒤의 스냅샷 xmax > V 이하 순번을 받은 트랜잭션 ID" 가 성립한다.
+-- BEFORE 트리거 시점에는 아직 트랜잭션 ID 가 없을 수 있으므로 pg_current_xact_id() 로 먼저 배정받는다.
+ALTER TABLE orders ADD COLUMN change_xact xid8;
+ALTER TABLE member_product_price ADD COLUMN change_xact xid8;
+ALTER TABLE sync_tombstone ADD COLUMN change_xact xid8;
+
+-- 보관 테이블도 orders 와 같은 컬럼을 유지 (OrderArchiveService 가 컬럼 목록을 그대로 복사함)
+ALTER TABLE orders_archive ADD COLUMN change_xact xid8;
+
+CREATE OR REPLACE FUNCTION stamp_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xact := pg_current_xact_id();
+    NEW.change_seq := nextval('change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION record_sync_tombstone() RETURNS trigger AS $$
+DECLARE
+    xact xid8 := pg_current_xact_id();
+BEGIN
+    INSERT INTO sync_tombstone (change_seq, change_xact, table_name, row_id, member_id, deleted_at)
+    VALUES (nextval('change_seq'), xact, TG_TABLE_NAME, OLD.id, OLD.member_id, now());
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
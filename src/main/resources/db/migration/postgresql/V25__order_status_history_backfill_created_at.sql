@@ -0,0 +1,13 @@
+-- 기존 이력 행의 주문 생성 시각 채우기 (V24 참고)
+-- order_status_history 는 추가 전용 트리거(V17)가 UPDATE 를 막으므로 이 마이그레이션 동안만 끈다.
+ALTER TABLE order_status_history DISABLE TRIGGER trg_order_status_history_append_only;
+
+UPDATE order_status_history h SET order_created_at = o.created_at
+FROM orders o
+WHERE o.id = h.order_id AND h.order_created_at IS NULL;
+
+UPDATE order_status_history h SET order_created_at = a.created_at
+FROM orders_archive a
+WHERE a.id = h.order_id AND h.order_created_at IS NULL;
+
+ALTER TABLE order_status_history ENABLE TRIGGER trg_order_status_history_append_only;
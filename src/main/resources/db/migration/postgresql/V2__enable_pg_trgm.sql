@@ -0,0 +1,2 @@
+-- 이름 부분 검색(LIKE '%...%')용 trigram 인덱스 확장 (PostgreSQL 13+ 에서는 DB 소유자가 생성 가능)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,61 @@
+-- 운영 조회 경로용 인덱스
+-- CONCURRENTLY 문만 있는 스크립트는 Flyway가 트랜잭션 밖에서 실행하므로 운영 중 테이블 잠금 없이 생성된다.
+-- (CONCURRENTLY 가 아닌 문을 이 파일에 추가하지 말 것)
+
+-- 주문: 회원별 최근 주문 (findByMemberAndIsDeletedFalse..., countByMemberId...)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_member_created_active
+    ON orders (member_id, created_at DESC) WHERE is_deleted = false;
+
+-- 주문: 상태별 목록/통계 (findByOrderStatusAndIsDeletedFalse, countByOrderStatus)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status_created_active
+    ON orders (order_status, created_at DESC) WHERE is_deleted = false;
+
+-- 주문: 배송일 조회/기간 검색 (findByDeliveryDate..., findOrdersWithConditions)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_delivery_date_active
+    ON orders (delivery_date, created_at DESC) WHERE is_deleted = false;
+
+-- 주문: 오늘 주문 (created_at 범위 조회)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_created_active
+    ON orders (created_at DESC) WHERE is_deleted = false;
+
+-- 주문: 지역 FK
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_region_id
+    ON orders (region_id);
+
+-- 주문: 주문자/수령자/상품명 부분 검색
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_customer_name_trgm
+    ON orders USING gin (order_customer_name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_receiver_name_trgm
+    ON orders USING gin (receiver_name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_product_name_trgm
+    ON orders USING gin (product_name gin_trgm_ops);
+
+-- 회원: 상태별 목록/통계, 가입일 정렬
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_status_created_active
+    ON member (status, created_at DESC) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_created_active
+    ON member (created_at DESC) WHERE is_deleted = false;
+
+-- 회원: 화환명/닉네임/로그인 아이디 부분 검색
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_name_trgm
+    ON member USING gin (name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_nickname_trgm
+    ON member USING gin (nickname gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_login_id_trgm
+    ON member USING gin (login_id gin_trgm_ops);
+
+-- 사업자 프로필: 법인명 부분 검색
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_business_profile_corp_name_trgm
+    ON member_business_profile USING gin (corp_name gin_trgm_ops);
+
+-- 상품 가격: 지역+카테고리로 취급 가능한 파트너 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_product_price_region_available
+    ON member_product_price (sido, sigungu, category_name) WHERE is_available;
+
+-- 활동 지역: 지역별 파트너 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_activity_region_sido_sigungu
+    ON member_activity_region (sido, sigungu) WHERE is_active;
+
+-- 지역: 활성 지역 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_region_active
+    ON region (sido, sigungu) WHERE is_active;
@@ -0,0 +1,23 @@
+-- 소프트 삭제 후 보관 기간이 지난 주문을 옮겨 두는 보관 테이블 (OrderArchiveService)
+-- 원본 컬럼은 LIKE로 복제하고 archived_at만 추가한다. 원본 테이블에 컬럼을 추가하면 보관 테이블에도 같이 추가할 것.
+
+CREATE TABLE orders_archive (LIKE orders INCLUDING DEFAULTS);
+ALTER TABLE orders_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE orders_archive ADD CONSTRAINT pk_orders_archive PRIMARY KEY (id);
+CREATE INDEX idx_orders_archive_member_id ON orders_archive (member_id, created_at DESC);
+CREATE INDEX idx_orders_archive_order_number ON orders_archive (order_number);
+
+CREATE TABLE order_option_archive (LIKE order_option INCLUDING DEFAULTS);
+ALTER TABLE order_option_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE order_option_archive ADD CONSTRAINT pk_order_option_archive PRIMARY KEY (id);
+CREATE INDEX idx_order_option_archive_order_id ON order_option_archive (order_id);
+
+CREATE TABLE order_message_archive (LIKE order_message INCLUDING DEFAULTS);
+ALTER TABLE order_message_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE order_message_archive ADD CONSTRAINT pk_order_message_archive PRIMARY KEY (id);
+CREATE INDEX idx_order_message_archive_order_id ON order_message_archive (order_id);
+
+CREATE TABLE order_sender_archive (LIKE order_sender INCLUDING DEFAULTS);
+ALTER TABLE order_sender_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE order_sender_archive ADD CONSTRAINT pk_order_sender_archive PRIMARY KEY (id);
+CREATE INDEX idx_order_sender_archive_order_id ON order_sender_archive (order_id);
@@ -0,0 +1,13 @@
+-- 소프트 삭제 관련 부분 인덱스 (CONCURRENTLY 전용 스크립트, V3 참고)
+
+-- 관리자: 상태별 조회 (idx_admin_status 의 삭제 제외 버전)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_admin_status_active
+    ON admin (status) WHERE is_deleted = false;
+
+-- 처리 상품: 회원별 조회 (@SQLRestriction 적용 컬렉션)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_handling_product_member_active
+    ON handling_product (member_id) WHERE is_deleted = false;
+
+-- 주문 보관 이동 대상 조회 (삭제된 행만 포함하므로 크기가 작음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_deleted_at
+    ON orders (deleted_at) WHERE is_deleted = true;
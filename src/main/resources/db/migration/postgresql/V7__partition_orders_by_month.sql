@@ -0,0 +1,129 @@
+-- orders 및 하위 테이블(order_option, order_message, order_sender)을 created_at 월 단위 범위 파티션으로 전환
+-- 기존 데이터를 새 테이블로 복사하므로 점검 시간에 적용할 것.
+-- 파티션 키가 기본키/유니크/외래키에 포함돼야 하므로:
+--   orders PK (id, created_at), 하위 테이블 FK (order_id, order_created_at) -> orders (id, created_at)
+--   주문번호 유니크는 (order_number, created_at) 로 완화되며, 전역 중복은 애플리케이션(existsByOrderNumber)에서 확인한다.
+
+-- 1. 월 파티션 생성 함수 (OrderPartitionService 가 앞으로의 월 파티션을 만들 때도 사용)
+CREATE OR REPLACE FUNCTION create_order_partitions(p_month DATE) RETURNS void AS $$
+DECLARE
+    v_from   DATE := date_trunc('month', p_month)::date;
+    v_to     DATE := (date_trunc('month', p_month) + interval '1 month')::date;
+    v_suffix TEXT := to_char(date_trunc('month', p_month), '"p"YYYYMM');
+    v_table  TEXT;
+BEGIN
+    FOREACH v_table IN ARRAY ARRAY['orders', 'order_option', 'order_message', 'order_sender'] LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       v_table || '_' || v_suffix, v_table, v_from, v_to);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 2. 기존 테이블 보관
+ALTER TABLE order_option RENAME TO order_option_legacy;
+ALTER TABLE order_message RENAME TO order_message_legacy;
+ALTER TABLE order_sender RENAME TO order_sender_legacy;
+ALTER TABLE orders RENAME TO orders_legacy;
+
+-- 3. 파티션 테이블 생성 (identity 대신 시퀀스 기본값 사용)
+CREATE SEQUENCE orders_seq;
+CREATE SEQUENCE order_option_seq;
+CREATE SEQUENCE order_message_seq;
+CREATE SEQUENCE order_sender_seq;
+
+CREATE TABLE orders (LIKE orders_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT nextval('orders_seq');
+ALTER SEQUENCE orders_seq OWNED BY orders.id;
+
+CREATE TABLE order_option (LIKE order_option_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (order_created_at);
+ALTER TABLE order_option ALTER COLUMN id SET DEFAULT nextval('order_option_seq');
+ALTER TABLE order_option ALTER COLUMN order_created_at SET NOT NULL;
+ALTER SEQUENCE order_option_seq OWNED BY order_option.id;
+
+CREATE TABLE order_message (LIKE order_message_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (order_created_at);
+ALTER TABLE order_message ALTER COLUMN id SET DEFAULT nextval('order_message_seq');
+ALTER TABLE order_message ALTER COLUMN order_created_at SET NOT NULL;
+ALTER SEQUENCE order_message_seq OWNED BY order_message.id;
+
+CREATE TABLE order_sender (LIKE order_sender_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (order_created_at);
+ALTER TABLE order_sender ALTER COLUMN id SET DEFAULT nextval('order_sender_seq');
+ALTER TABLE order_sender ALTER COLUMN order_created_at SET NOT NULL;
+ALTER SEQUENCE order_sender_seq OWNED BY order_sender.id;
+
+-- 4. 가장 오래된 주문 월부터 3개월 뒤까지 파티션 생성
+DO $$
+DECLARE
+    v_month DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM orders_legacy), now()))::date;
+    v_last  DATE := (date_trunc('month', now()) + interval '3 months')::date;
+BEGIN
+    WHILE v_month <= v_last LOOP
+        PERFORM create_order_partitions(v_month);
+        v_month := (v_month + interval '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+-- 5. 데이터 복사 및 시퀀스 이어받기
+INSERT INTO orders SELECT * FROM orders_legacy;
+
+INSERT INTO order_option (id, order_id, option_name, checked, price, description, order_created_at)
+SELECT c.id, c.order_id, c.option_name, c.checked, c.price, c.description, o.created_at
+FROM order_option_legacy c JOIN orders_legacy o ON o.id = c.order_id;
+
+INSERT INTO order_message (id, order_id, text, message_type, sort_order, order_created_at)
+SELECT c.id, c.order_id, c.text, c.message_type, c.sort_order, o.created_at
+FROM order_message_legacy c JOIN orders_legacy o ON o.id = c.order_id;
+
+INSERT INTO order_sender (id, order_id, name, relationship, phone, sort_order, is_main, order_created_at)
+SELECT c.id, c.order_id, c.name, c.relationship, c.phone, c.sort_order, c.is_main, o.created_at
+FROM order_sender_legacy c JOIN orders_legacy o ON o.id = c.order_id;
+
+SELECT setval('orders_seq', COALESCE((SELECT MAX(id) FROM orders_legacy), 0) + 1, false);
+SELECT setval('order_option_seq', COALESCE((SELECT MAX(id) FROM order_option_legacy), 0) + 1, false);
+SELECT setval('order_message_seq', COALESCE((SELECT MAX(id) FROM order_message_legacy), 0) + 1, false);
+SELECT setval('order_sender_seq', COALESCE((SELECT MAX(id) FROM order_sender_legacy), 0) + 1, false);
+
+DROP TABLE order_option_legacy;
+DROP TABLE order_message_legacy;
+DROP TABLE order_sender_legacy;
+DROP TABLE orders_legacy;
+
+-- 6. 제약조건 (파티션 키 포함)
+ALTER TABLE orders ADD CONSTRAINT pk_orders PRIMARY KEY (id, created_at);
+ALTER TABLE orders ADD CONSTRAINT uk_orders_order_number UNIQUE (order_number, created_at);
+ALTER TABLE orders ADD CONSTRAINT fk_orders_member FOREIGN KEY (member_id) REFERENCES member (id);
+ALTER TABLE orders ADD CONSTRAINT fk_orders_region FOREIGN KEY (region_id) REFERENCES region (id);
+ALTER TABLE orders ADD CONSTRAINT fk_orders_product FOREIGN KEY (product_id) REFERENCES product (id);
+
+ALTER TABLE order_option ADD CONSTRAINT pk_order_option PRIMARY KEY (id, order_created_at);
+ALTER TABLE order_option ADD CONSTRAINT fk_order_option_order
+    FOREIGN KEY (order_id, order_created_at) REFERENCES orders (id, created_at);
+ALTER TABLE order_message ADD CONSTRAINT pk_order_message PRIMARY KEY (id, order_created_at);
+ALTER TABLE order_message ADD CONSTRAINT fk_order_message_order
+    FOREIGN KEY (order_id, order_created_at) REFERENCES orders (id, created_at);
+ALTER TABLE order_sender ADD CONSTRAINT pk_order_sender PRIMARY KEY (id, order_created_at);
+ALTER TABLE order_sender ADD CONSTRAINT fk_order_sender_order
+    FOREIGN KEY (order_id, order_created_at) REFERENCES orders (id, created_at);
+
+-- 7. 인덱스 재생성 (V1/V3/V5 의 orders 계열 인덱스, 파티션별로 자동 생성됨)
+CREATE INDEX idx_order_date ON orders (delivery_date);
+CREATE INDEX idx_order_status ON orders (order_status);
+CREATE INDEX idx_member_id ON orders (member_id);
+CREATE INDEX idx_orders_member_created_active ON orders (member_id, created_at DESC) WHERE is_deleted = false;
+CREATE INDEX idx_orders_status_created_active ON orders (order_status, created_at DESC) WHERE is_deleted = false;
+CREATE INDEX idx_orders_delivery_date_active ON orders (delivery_date, created_at DESC) WHERE is_deleted = false;
+CREATE INDEX idx_orders_created_active ON orders (created_at DESC) WHERE is_deleted = false;
+CREATE INDEX idx_orders_region_id ON orders (region_id);
+CREATE INDEX idx_orders_customer_name_trgm ON orders USING gin (order_customer_name gin_trgm_ops);
+CREATE INDEX idx_orders_receiver_name_trgm ON orders USING gin (receiver_name gin_trgm_ops);
+CREATE INDEX idx_orders_product_name_trgm ON orders USING gin (product_name gin_trgm_ops);
+CREATE INDEX idx_orders_deleted_at ON orders (deleted_at) WHERE is_deleted = true;
+
+CREATE INDEX idx_order_option_order_id ON order_option (order_id);
+CREATE INDEX idx_order_message_order_id ON order_message (order_id);
+CREATE INDEX idx_order_sender_order_id ON order_sender (order_id);
+
+-- 8. 보관 테이블에도 하위 테이블 파티션 키 컬럼 추가 (V4, OrderArchiveService 는 컬럼명으로 매칭)
+ALTER TABLE order_option_archive ADD COLUMN order_created_at TIMESTAMP(6);
+ALTER TABLE order_message_archive ADD COLUMN order_created_at TIMESTAMP(6);
+ALTER TABLE order_sender_archive ADD COLUMN order_created_at TIMESTAMP(6);
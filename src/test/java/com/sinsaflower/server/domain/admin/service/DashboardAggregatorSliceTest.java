@@ -0,0 +1,154 @@
+package com.sinsaflower.server.domain.admin.service;
+
+import com.sinsaflower.server.domain.admin.dto.DashboardResponse;
+import com.sinsaflower.server.domain.admin.entity.Admin.AdminStatus;
+import com.sinsaflower.server.domain.admin.repository.AdminRepository;
+import com.sinsaflower.server.domain.member.entity.Member.MemberStatus;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.global.config.DashboardProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("DashboardAggregator 슬라이스 테스트")
+class DashboardAggregatorSliceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private DashboardProperties dashboardProperties = new DashboardProperties();
+
+    @InjectMocks
+    private DashboardAggregator dashboardAggregator;
+
+    @BeforeEach
+    void setUp() {
+        dashboardProperties.setQueryTimeoutMillis(200);
+        dashboardAggregator.init();
+
+        given(memberRepository.countByStatus(any(MemberStatus.class))).willReturn(3L);
+        given(memberRepository.countByIsDeletedFalse()).willReturn(9L);
+        given(adminRepository.countByStatus(any(AdminStatus.class))).willReturn(1L);
+        given(orderRepository.countByOrderStatus(any(OrderStatus.class))).willReturn(5L);
+        given(orderRepository.countByDeliveryDate(any())).willReturn(2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardAggregator.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 항목을 집계하고 결과를 캐시")
+    void getDashboard_AllSucceeded() {
+        // when
+        DashboardResponse first = dashboardAggregator.getDashboard();
+        DashboardResponse second = dashboardAggregator.getDashboard();
+
+        // then
+        assertThat(first.isPartial()).isFalse();
+        assertThat(first.getMembers()).containsEntry("total", 9L).containsEntry("pending", 3L);
+        assertThat(first.getAdmins()).hasSize(3);
+        assertThat(first.getOrders()).containsEntry("todayDelivery", 2L).hasSize(6);
+        assertThat(second).isSameAs(first);
+        then(memberRepository).should(times(1)).countByIsDeletedFalse();
+    }
+
+    @Test
+    @DisplayName("실패한 항목만 null 로 표시하고 결과는 캐시하지 않음")
+    void getDashboard_PartialFailure() {
+        // given
+        given(orderRepository.countByOrderStatus(OrderStatus.CANCELLED)).willThrow(new RuntimeException("db down"));
+
+        // when
+        DashboardResponse response = dashboardAggregator.getDashboard();
+        dashboardAggregator.getDashboard();
+
+        // then
+        assertThat(response.isPartial()).isTrue();
+        assertThat(response.getFailedMetrics()).containsExactly("orders.cancelled");
+        assertThat(response.getOrders()).containsEntry("cancelled", null).containsEntry("pending", 5L);
+        then(memberRepository).should(times(2)).countByIsDeletedFalse();
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 항목은 실패로 표시")
+    void getDashboard_Timeout() {
+        // given
+        given(memberRepository.countByIsDeletedFalse()).willAnswer(invocation -> {
+            Thread.sleep(1000);
+            return 9L;
+        });
+
+        // when
+        DashboardResponse response = dashboardAggregator.getDashboard();
+
+        // then
+        assertThat(response.getFailedMetrics()).containsExactly("members.total");
+        assertThat(response.getElapsedMillis()).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("실행기 대기 시간은 제한 시간에 넣지 않음 (쿼리 시작부터 잼)")
+    void getDashboard_TimeoutStartsWhenQueryRuns() {
+        // given: 한 스레드에서 차례로 실행하면 전체는 제한 시간을 넘지만 각 쿼리는 넘지 않음
+        dashboardAggregator.shutdown();
+        dashboardProperties.setParallelism(1);
+        dashboardAggregator.init();
+        given(orderRepository.countByOrderStatus(any(OrderStatus.class))).willAnswer(invocation -> {
+            Thread.sleep(60);
+            return 5L;
+        });
+
+        // when
+        DashboardResponse response = dashboardAggregator.getDashboard();
+
+        // then
+        assertThat(response.isPartial()).isFalse();
+        assertThat(response.getElapsedMillis()).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("쿼리는 제한 시간을 초 단위로 올린 읽기 전용 트랜잭션에서 실행 (DB 가 쿼리를 취소)")
+    void getDashboard_AppliesTransactionTimeout() {
+        // when
+        dashboardAggregator.getDashboard();
+
+        // then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        then(transactionManager).should(times(13)).getTransaction(definition.capture());
+        assertThat(definition.getAllValues()).allSatisfy(def -> {
+            assertThat(def.isReadOnly()).isTrue();
+            assertThat(def.getTimeout()).isEqualTo(1);
+        });
+    }
+}
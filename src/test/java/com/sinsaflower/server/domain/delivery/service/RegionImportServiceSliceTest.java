@@ -0,0 +1,138 @@
+package com.sinsaflower.server.domain.delivery.service;
+
+import com.sinsaflower.server.domain.delivery.dto.RegionImportResult;
+import com.sinsaflower.server.domain.delivery.entity.RegionDataset;
+import com.sinsaflower.server.domain.delivery.repository.RegionDatasetRepository;
+import com.sinsaflower.server.global.config.RegionImportProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegionImportService 슬라이스 테스트")
+class RegionImportServiceSliceTest {
+
+    private static final int DATASET_ROWS = 229;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RegionDatasetRepository regionDatasetRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private RegionImportProperties regionImportProperties = new RegionImportProperties();
+
+    @Spy
+    private ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    @InjectMocks
+    private RegionImportService regionImportService;
+
+    @Test
+    @DisplayName("빈 테이블에 전체 데이터셋을 배치로 등록하고 해시를 기록")
+    void importRegions_EmptyTable() {
+        // given
+        given(regionDatasetRepository.findTopByOrderByIdDesc()).willReturn(Optional.empty());
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class))).willReturn(List.of());
+
+        // when
+        RegionImportResult result = regionImportService.importRegions(false);
+
+        // then
+        assertThat(result.isSkipped()).isFalse();
+        assertThat(result.getRowCount()).isEqualTo(DATASET_ROWS);
+        assertThat(result.getInsertedCount()).isEqualTo(DATASET_ROWS);
+        assertThat(result.getUpdatedCount()).isZero();
+        assertThat(result.getDeactivatedCount()).isZero();
+        assertThat(result.getContentHash()).hasSize(64);
+
+        // 한 번의 조회와 한 번의 INSERT 배치 (batch-size 500)
+        then(jdbcTemplate).should(times(1)).query(anyString(), any(RowMapper.class));
+        then(jdbcTemplate).should(times(1)).batchUpdate(startsWith("INSERT"), anyList());
+
+        ArgumentCaptor<RegionDataset> captor = ArgumentCaptor.forClass(RegionDataset.class);
+        then(regionDatasetRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getContentHash()).isEqualTo(result.getContentHash());
+    }
+
+    @Test
+    @DisplayName("직전 적재와 해시가 같으면 테이블을 조회하지 않고 건너뜀")
+    void importRegions_UnchangedDataset() {
+        // given - 최초 적재로 해시 확보
+        given(regionDatasetRepository.findTopByOrderByIdDesc()).willReturn(Optional.empty());
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class))).willReturn(List.of());
+        String hash = regionImportService.importRegions(false).getContentHash();
+
+        RegionDataset latest = RegionDataset.builder()
+                .contentHash(hash)
+                .rowCount(DATASET_ROWS)
+                .build();
+        given(regionDatasetRepository.findTopByOrderByIdDesc()).willReturn(Optional.of(latest));
+        clearInvocations(jdbcTemplate);
+
+        // when
+        RegionImportResult result = regionImportService.importRegions(false);
+
+        // then
+        assertThat(result.isSkipped()).isTrue();
+        assertThat(result.getRowCount()).isEqualTo(DATASET_ROWS);
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("기존 지역과 비교해 변경분만 갱신하고 빠진 지역은 비활성화")
+    @SuppressWarnings("unchecked")
+    void importRegions_DiffAgainstTable() throws Exception {
+        // given
+        given(regionDatasetRepository.findTopByOrderByIdDesc()).willReturn(Optional.empty());
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class))).willAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            return List.of(
+                    mapper.mapRow(regionRow(1L, "서울특별시", "종로구", "010", true), 0),   // 동일
+                    mapper.mapRow(regionRow(2L, "서울특별시", "중구", "999", true), 1),     // 우편번호 변경
+                    mapper.mapRow(regionRow(3L, "서울특별시", "없는구", "099", true), 2)    // 데이터셋에 없음
+            );
+        });
+
+        // when
+        RegionImportResult result = regionImportService.importRegions(false);
+
+        // then
+        assertThat(result.getInsertedCount()).isEqualTo(DATASET_ROWS - 2);
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getDeactivatedCount()).isEqualTo(1);
+    }
+
+    private ResultSet regionRow(Long id, String sido, String sigungu, String zipcode, boolean active) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("id")).willReturn(id);
+        given(rs.getString("sido")).willReturn(sido);
+        given(rs.getString("sigungu")).willReturn(sigungu);
+        given(rs.getString("eupmyeondong")).willReturn(null);
+        given(rs.getString("zipcode")).willReturn(zipcode);
+        given(rs.getBoolean("is_active")).willReturn(active);
+        return rs;
+    }
+}
@@ -0,0 +1,188 @@
+package com.sinsaflower.server.domain.dispatch.service;
+
+import com.sinsaflower.server.domain.member.entity.MemberRank;
+import com.sinsaflower.server.global.config.DispatchProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DispatchIndex 테스트")
+class DispatchIndexTest {
+
+    private static final DispatchPolicy POLICY = DispatchPolicy.from(new DispatchProperties());
+    private static final String CATEGORY = "근조화환";
+
+    @Test
+    @DisplayName("가격이 낮고 등급이 높은 파트너가 앞에 오고 k 개까지만 반환")
+    void ranksByPriceAndRank() {
+        DispatchIndex index = DispatchIndex.builder()
+                .partner(1, MemberRank.Bronze, false, null, null)
+                .partner(2, MemberRank.Diamond, false, null, null)
+                .partner(3, MemberRank.Bronze, false, null, null)
+                .price(1, "서울", "강남구", CATEGORY, 50)
+                .price(2, "서울", "강남구", CATEGORY, 50)
+                .price(3, "서울", "강남구", CATEGORY, 90)
+                .build();
+
+        List<DispatchCandidate> top = index.topCandidates(query("서울", "강남구", -1), 2, POLICY, partner -> 0);
+
+        assertThat(top).extracting(DispatchCandidate::memberId).containsExactly(2L, 1L);
+        assertThat(top.get(0).score()).isGreaterThan(top.get(1).score());
+        assertThat(top.get(0).rank()).isEqualTo(MemberRank.Diamond);
+        assertThat(top.get(0).priceThousand()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("최근 배정이 많은 파트너는 점수가 낮아짐")
+    void loadLowersScore() {
+        DispatchIndex index = DispatchIndex.builder()
+                .partner(1, MemberRank.Gold, false, null, null)
+                .partner(2, MemberRank.Gold, false, null, null)
+                .price(1, "서울", "강남구", CATEGORY, 50)
+                .price(2, "서울", "강남구", CATEGORY, 50)
+                .build();
+
+        int busy = index.partnerOf(1);
+        List<DispatchCandidate> top = index.topCandidates(query("서울", "강남구", -1), 2, POLICY,
+                partner -> partner == busy ? 10 : 0);
+
+        assertThat(top).extracting(DispatchCandidate::memberId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("야간 배송은 야간 가능 파트너만, 배송 가능 시간 밖이면 제외")
+    void filtersByDeliveryTime() {
+        DispatchIndex index = DispatchIndex.builder()
+                .partner(1, MemberRank.Gold, false, LocalTime.of(9, 0), LocalTime.of(18, 0))
+                .partner(2, MemberRank.Gold, true, LocalTime.of(18, 0), LocalTime.of(2, 0))
+                .partner(3, MemberRank.Gold, true, null, null)
+                .price(1, "서울", "강남구", CATEGORY, 50)
+                .price(2, "서울", "강남구", CATEGORY, 50)
+                .price(3, "서울", "강남구", CATEGORY, 50)
+                .build();
+
+        assertThat(memberIds(index.topCandidates(query("서울", "강남구", 12 * 60), 5, POLICY, partner -> 0)))
+                .containsExactly(1L, 3L);
+        assertThat(memberIds(index.topCandidates(query("서울", "강남구", 23 * 60), 5, POLICY, partner -> 0)))
+                .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(memberIds(index.topCandidates(query("서울", "강남구", 3 * 60), 5, POLICY, partner -> 0)))
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("활동 지역이 있는 파트너는 활동 지역의 가격만 후보가 됨")
+    void filtersByActivityRegion() {
+        DispatchIndex index = DispatchIndex.builder()
+                .partner(1, MemberRank.Gold, false, null, null)
+                .partner(2, MemberRank.Gold, false, null, null)
+                .activityRegion(1, "서울", "강남구")
+                .price(1, "서울", "강남구", CATEGORY, 50)
+                .price(1, "서울", "서초구", CATEGORY, 50)
+                .price(2, "서울", "서초구", CATEGORY, 50)
+                .price(99, "서울", "서초구", CATEGORY, 10)
+                .build();
+
+        assertThat(memberIds(index.topCandidates(query("서울", "서초구", -1), 5, POLICY, partner -> 0)))
+                .containsExactly(2L);
+        assertThat(memberIds(index.topCandidates(query("서울", "강남구", -1), 5, POLICY, partner -> 0)))
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("후보가 없는 지역/카테고리는 빈 결과")
+    void emptyForUnknownKey() {
+        DispatchIndex index = DispatchIndex.builder()
+                .partner(1, MemberRank.Gold, false, null, null)
+                .price(1, "서울", "강남구", CATEGORY, 50)
+                .build();
+
+        assertThat(index.topCandidates(new DispatchQuery(null, "서울", "강남구", "꽃다발", -1), 5, POLICY, partner -> 0))
+                .isEmpty();
+        assertThat(DispatchIndex.empty().topCandidates(query("서울", "강남구", -1), 5, POLICY, partner -> 0))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 배정은 파트너별 최대 배정 수를 지키고 배정마다 부하를 반영")
+    void assignRespectsCapacity() {
+        DispatchIndex index = DispatchIndex.builder()
+                .partner(1, MemberRank.Diamond, false, null, null)
+                .partner(2, MemberRank.Bronze, false, null, null)
+                .partner(3, MemberRank.Gold, false, null, null)
+                .price(1, "서울", "강남구", CATEGORY, 50)
+                .price(2, "서울", "강남구", CATEGORY, 60)
+                .price(3, "서울", "서초구", CATEGORY, 50)
+                .build();
+
+        List<DispatchQuery> orders = new ArrayList<>();
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            orders.add(new DispatchQuery(orderId, "서울", "강남구", CATEGORY, -1));
+        }
+        orders.add(new DispatchQuery(6L, "서울", "서초구", CATEGORY, -1));
+        orders.add(new DispatchQuery(7L, "부산", "해운대구", CATEGORY, -1));
+
+        int[] load = new int[index.size()];
+        List<DispatchAssignment> assignments = index.assign(orders, 2, POLICY, load);
+
+        assertThat(assignments).extracting(DispatchAssignment::orderId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        Map<Long, Long> perPartner = assignments.stream()
+                .filter(assignment -> assignment.memberId() != null)
+                .collect(Collectors.groupingBy(DispatchAssignment::memberId, Collectors.counting()));
+        assertThat(perPartner).containsEntry(1L, 2L).containsEntry(2L, 2L).containsEntry(3L, 1L);
+        assertThat(assignments.get(6).memberId()).isNull();
+        assertThat(assignments.stream().filter(assignment -> assignment.memberId() == null)).hasSize(2);
+        assertThat(load[index.partnerOf(1)]).isEqualTo(2);
+        assertThat(load[index.partnerOf(3)]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("당일 기존 배정 수도 파트너별 최대 배정 수에 포함")
+    void assignCountsExistingLoadTowardCapacity() {
+        DispatchIndex index = DispatchIndex.builder()
+                .partner(1, MemberRank.Diamond, false, null, null)
+                .partner(2, MemberRank.Bronze, false, null, null)
+                .price(1, "서울", "강남구", CATEGORY, 50)
+                .price(2, "서울", "강남구", CATEGORY, 60)
+                .build();
+
+        List<DispatchQuery> orders = new ArrayList<>();
+        for (long orderId = 1; orderId <= 3; orderId++) {
+            orders.add(new DispatchQuery(orderId, "서울", "강남구", CATEGORY, -1));
+        }
+
+        int[] load = new int[index.size()];
+        load[index.partnerOf(1)] = 2;
+        load[index.partnerOf(2)] = 1;
+        List<DispatchAssignment> assignments = index.assign(orders, 2, POLICY, load);
+
+        assertThat(assignments).extracting(DispatchAssignment::memberId).containsExactly(2L, null, null);
+        assertThat(load[index.partnerOf(1)]).isEqualTo(2);
+        assertThat(load[index.partnerOf(2)]).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배송 시/분 문자열을 자정 기준 분으로 변환")
+    void parsesDeliveryMinute() {
+        assertThat(DispatchEngine.deliveryMinute("14", "30")).isEqualTo(14 * 60 + 30);
+        assertThat(DispatchEngine.deliveryMinute("9", null)).isEqualTo(9 * 60);
+        assertThat(DispatchEngine.deliveryMinute("오전", "00")).isEqualTo(-1);
+        assertThat(DispatchEngine.deliveryMinute(null, "00")).isEqualTo(-1);
+        assertThat(DispatchEngine.deliveryMinute("25", "00")).isEqualTo(-1);
+    }
+
+    private static DispatchQuery query(String sido, String sigungu, int minute) {
+        return new DispatchQuery(null, sido, sigungu, CATEGORY, minute);
+    }
+
+    private static List<Long> memberIds(List<DispatchCandidate> candidates) {
+        return candidates.stream().map(DispatchCandidate::memberId).toList();
+    }
+}
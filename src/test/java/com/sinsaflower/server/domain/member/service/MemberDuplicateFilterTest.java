@@ -0,0 +1,143 @@
+package com.sinsaflower.server.domain.member.service;
+
+import com.sinsaflower.server.domain.member.event.MemberSignedUpEvent;
+import com.sinsaflower.server.domain.member.service.MemberDuplicateFilter.Field;
+import com.sinsaflower.server.global.config.MemberDuplicateFilterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB에서 중복 확인 필터의 적재, DB 조회 생략, 가입/동기화 반영, 지표 집계를 검증
+ */
+@DisplayName("MemberDuplicateFilter 테스트")
+class MemberDuplicateFilterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private MemberDuplicateFilterProperties properties;
+    private MemberDuplicateFilter filter;
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:member_duplicate;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 필터 쿼리가 쓰는 컬럼만 가진 축약 스키마
+        jdbcTemplate.execute("CREATE TABLE member (id BIGINT PRIMARY KEY, login_id VARCHAR(50), mobile VARCHAR(20), created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE member_business_profile (id BIGINT PRIMARY KEY, member_id BIGINT, business_number VARCHAR(12))");
+        jdbcTemplate.update("INSERT INTO member VALUES (1, 'partner1', '01011112222', TIMESTAMP '2024-01-01 00:00:00'), " +
+                "(2, 'partner2', '01033334444', TIMESTAMP '2024-01-01 00:00:00')");
+        jdbcTemplate.update("INSERT INTO member_business_profile VALUES (1, 1, '123-45-67890'), (2, 2, '234-56-78901')");
+
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MemberDuplicateFilterProperties();
+        properties.setExpectedInsertions(1000);
+        filter = new MemberDuplicateFilter(jdbcTemplate, new DataSourceTransactionManager(dataSource), properties, meterRegistry);
+        filter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("적재 후 필터에 없는 값은 DB 조회 없이 사용 가능으로 응답")
+    void absentValuesSkipQuery() {
+        assertThat(filter.rebuild()).isEqualTo(2);
+        assertThat(filter.isReady()).isTrue();
+
+        assertThat(filter.exists(Field.LOGIN_ID, "newpartner", () -> query(false))).isFalse();
+        assertThat(filter.exists(Field.MOBILE, "01099998888", () -> query(false))).isFalse();
+        assertThat(filter.exists(Field.BUSINESS_NUMBER, "999-99-99999", () -> query(false))).isFalse();
+        assertThat(queries.get()).isZero();
+
+        assertThat(filter.exists(Field.LOGIN_ID, "partner1", () -> query(true))).isTrue();
+        assertThat(filter.exists(Field.MOBILE, "01033334444", () -> query(true))).isTrue();
+        assertThat(filter.exists(Field.BUSINESS_NUMBER, "234-56-78901", () -> query(true))).isTrue();
+        assertThat(queries.get()).isEqualTo(3);
+
+        assertThat(count("login_id", "negative")).isEqualTo(1);
+        assertThat(count("login_id", "hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("member.duplicate_check.prefilter.bytes").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("적재 전이나 비활성이면 항상 DB 조회")
+    void bypassesUntilBuilt() {
+        assertThat(filter.exists(Field.LOGIN_ID, "newpartner", () -> query(false))).isFalse();
+        assertThat(queries.get()).isEqualTo(1);
+
+        filter.rebuild();
+        properties.setEnabled(false);
+        assertThat(filter.exists(Field.LOGIN_ID, "newpartner", () -> query(false))).isFalse();
+        assertThat(queries.get()).isEqualTo(2);
+        assertThat(count("login_id", "bypass")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가입 이벤트로 추가한 값은 DB 조회로 넘어감")
+    void signedUpValuesFallThrough() {
+        filter.rebuild();
+        filter.onMemberSignedUp(new MemberSignedUpEvent("partner3", "01055556666", "345-67-89012"));
+
+        assertThat(filter.exists(Field.LOGIN_ID, "partner3", () -> query(true))).isTrue();
+        assertThat(filter.exists(Field.MOBILE, "01055556666", () -> query(true))).isTrue();
+        assertThat(filter.exists(Field.BUSINESS_NUMBER, "345-67-89012", () -> query(true))).isTrue();
+        assertThat(queries.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 가입한 회원은 동기화로 반영")
+    void syncAddsMembersFromOtherServers() {
+        filter.rebuild();
+        jdbcTemplate.update("INSERT INTO member VALUES (3, 'partner3', '01055556666', CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO member_business_profile VALUES (3, 3, '345-67-89012')");
+
+        assertThat(filter.sync()).isEqualTo(1);
+
+        assertThat(filter.exists(Field.LOGIN_ID, "partner3", () -> query(true))).isTrue();
+        assertThat(filter.exists(Field.BUSINESS_NUMBER, "345-67-89012", () -> query(true))).isTrue();
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Bloom 필터는 추가한 값을 놓치지 않고 오탐률이 목표 근처")
+    void bloomFilterHasNoFalseNegatives() {
+        BloomFilter bloomFilter = BloomFilter.create(10000, 0.01, Long.MAX_VALUE);
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.put("partner" + i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertThat(bloomFilter.mightContain("partner" + i)).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(bloomFilter.estimatedFalsePositiveRate()).isLessThan(0.03);
+    }
+
+    private boolean query(boolean result) {
+        queries.incrementAndGet();
+        return result;
+    }
+
+    private double count(String field, String result) {
+        return meterRegistry.get("member.duplicate_check.prefilter").tag("field", field).tag("result", result).counter().count();
+    }
+}
@@ -4,6 +4,7 @@ import com.sinsaflower.server.domain.member.dto.MemberResponse;
 import com.sinsaflower.server.domain.member.dto.MemberSignupRequest;
 import com.sinsaflower.server.domain.member.entity.Member;
 import com.sinsaflower.server.domain.member.entity.MemberBusinessProfile;
+import com.sinsaflower.server.domain.member.event.MemberSignedUpEvent;
 import com.sinsaflower.server.domain.member.repository.*;
 import com.sinsaflower.server.domain.product.repository.MemberProductPriceRepository;
 import com.sinsaflower.server.global.service.FileUploadService;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -49,6 +51,9 @@ class MemberServiceSliceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -79,6 +84,7 @@ class MemberServiceSliceTest {
         verify(businessProfileRepository).existsByBusinessNumber("123-45-67890");
         verify(memberRepository).save(any(Member.class));
         verify(businessProfileRepository).save(any(MemberBusinessProfile.class));
+        verify(eventPublisher).publishEvent(any(MemberSignedUpEvent.class));
     }
 
     @Test
@@ -0,0 +1,229 @@
+package com.sinsaflower.server.domain.offer.service;
+
+import com.sinsaflower.server.domain.offer.service.OrderOfferQueue.OfferLease;
+import com.sinsaflower.server.global.config.OrderOfferProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB(연결 풀 사용)에서 주문 제안 큐의 선점/연장/수락/회수를 검증
+ * 부하 테스트는 파트너 수백 명이 동시에 선점-수락을 반복해 모든 주문이 정확히 한 번씩 배정되는지 확인한다.
+ */
+@DisplayName("OrderOfferQueue 테스트")
+class OrderOfferQueueTest {
+
+    private static final int REGIONS = 4;
+    private static final LocalDateTime ORDER_CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private OrderOfferQueue orderOfferQueue;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:offer;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(50);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 큐 쿼리가 쓰는 컬럼만 가진 축약 스키마 + order_offer 마이그레이션
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, created_at TIMESTAMP(6), " +
+                "order_status VARCHAR(20), is_deleted BOOLEAN)");
+        jdbcTemplate.execute("CREATE TABLE member_activity_region (member_id BIGINT, sido VARCHAR(50), " +
+                "sigungu VARCHAR(50), is_active BOOLEAN)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V10__order_offer_queue.sql"))
+                .execute(dataSource);
+
+        OrderOfferProperties properties = new OrderOfferProperties();
+        properties.setLeaseSeconds(30);
+        orderOfferQueue = new OrderOfferQueue(jdbcTemplate, new DataSourceTransactionManager(dataSource), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("파트너 200명이 동시에 선점-수락해도 주문 2,000건이 정확히 한 번씩 활동 지역 파트너에게 배정")
+    void concurrentClaimsAssignExactlyOnce() throws Exception {
+        int orders = 2_000;
+        int clients = 200;
+        insertOrders(orders);
+        jdbcTemplate.update("INSERT INTO order_offer (order_id, order_created_at, sido, sigungu, status, lease_count, " +
+                "version, created_at, updated_at) SELECT X, ?, '서울', '구' || MOD(X, " + REGIONS + "), 'OPEN', 0, 0, " +
+                "NOW(), NOW() FROM SYSTEM_RANGE(1, " + orders + ")", ORDER_CREATED_AT);
+        // 파트너마다 인접한 두 지역에서 활동
+        jdbcTemplate.update("INSERT INTO member_activity_region SELECT X, '서울', '구' || MOD(X, " + REGIONS + "), true " +
+                "FROM SYSTEM_RANGE(1, " + clients + ")");
+        jdbcTemplate.update("INSERT INTO member_activity_region SELECT X, '서울', '구' || MOD(X + 1, " + REGIONS + "), NULL " +
+                "FROM SYSTEM_RANGE(1, " + clients + ")");
+
+        Map<Long, Long> assignments = new ConcurrentHashMap<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger lostLeases = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long memberId = 1; memberId <= clients; memberId++) {
+                long member = memberId;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        Optional<OfferLease> lease = orderOfferQueue.claim(member);
+                        if (lease.isEmpty()) {
+                            if (orderOfferQueue.countPending() == 0) {
+                                break;
+                            }
+                            Thread.yield();
+                            continue;
+                        }
+                        OptionalLong orderId = orderOfferQueue.accept(lease.get().offerId(), member, lease.get().leaseToken());
+                        if (orderId.isEmpty()) {
+                            lostLeases.incrementAndGet();
+                        } else if (assignments.putIfAbsent(orderId.getAsLong(), member) != null) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(90, TimeUnit.SECONDS);
+            }
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            double throughput = orders / seconds;
+            System.out.printf("주문 제안 선점-수락 %d건, 파트너 %d명: %.2f초 (%.0f건/초)%n", orders, clients, seconds, throughput);
+
+            assertThat(throughput).isGreaterThan(100);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(duplicates).hasValue(0);
+        assertThat(lostLeases).hasValue(0);
+        assertThat(assignments).hasSize(orders);
+        assertThat(count("SELECT COUNT(*) FROM order_offer WHERE status = 'ACCEPTED' AND lease_count = 1")).isEqualTo(orders);
+
+        // DB 의 수락 파트너가 클라이언트가 받은 결과와 같고, 모두 활동 지역 안의 파트너
+        jdbcTemplate.query("SELECT order_id, lease_owner_id FROM order_offer", rs -> {
+            assertThat(assignments.get(rs.getLong("order_id"))).isEqualTo(rs.getLong("lease_owner_id"));
+        });
+        assertThat(count("SELECT COUNT(*) FROM order_offer o WHERE NOT EXISTS (SELECT 1 FROM member_activity_region r " +
+                "WHERE r.member_id = o.lease_owner_id AND r.sido = o.sido AND r.sigungu = o.sigungu)")).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 임대는 연장/수락할 수 없고, 회수 후 다른 파트너가 선점")
+    void expiredLeaseIsReaped() {
+        insertOrders(1);
+        insertRegion(1, "강남구");
+        insertRegion(2, "강남구");
+        assertThat(orderOfferQueue.open(1, ORDER_CREATED_AT, "서울", "강남구")).isTrue();
+
+        OfferLease first = orderOfferQueue.claim(1).orElseThrow();
+        assertThat(orderOfferQueue.claim(2)).isEmpty();
+
+        jdbcTemplate.update("UPDATE order_offer SET lease_expires_at = ? WHERE id = ?",
+                LocalDateTime.now().minusSeconds(1), first.offerId());
+        assertThat(orderOfferQueue.renew(first.offerId(), 1, first.leaseToken())).isEmpty();
+        assertThat(orderOfferQueue.accept(first.offerId(), 1, first.leaseToken())).isEmpty();
+
+        assertThat(orderOfferQueue.reapExpired()).isEqualTo(1);
+        OfferLease second = orderOfferQueue.claim(2).orElseThrow();
+        assertThat(second.offerId()).isEqualTo(first.offerId());
+        assertThat(second.leaseToken()).isNotEqualTo(first.leaseToken());
+
+        // 이전 임대 토큰으로는 반납/수락 불가
+        assertThat(orderOfferQueue.release(first.offerId(), 1, first.leaseToken())).isFalse();
+        assertThat(orderOfferQueue.accept(second.offerId(), 2, second.leaseToken())).hasValue(1);
+        assertThat(count("SELECT lease_count FROM order_offer WHERE id = " + second.offerId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연장은 만료 시각만 늦추고, 반납하면 다시 선점 가능")
+    void renewAndRelease() {
+        insertOrders(1);
+        insertRegion(1, "강남구");
+        insertRegion(2, "서초구");
+        orderOfferQueue.open(1, ORDER_CREATED_AT, "서울", "강남구");
+
+        // 다른 지역 파트너는 선점 불가
+        assertThat(orderOfferQueue.claim(2)).isEmpty();
+
+        OfferLease lease = orderOfferQueue.claim(1).orElseThrow();
+        assertThat(orderOfferQueue.renew(lease.offerId(), 2, lease.leaseToken())).isEmpty();
+        assertThat(orderOfferQueue.renew(lease.offerId(), 1, lease.leaseToken()))
+                .hasValueSatisfying(expiresAt -> assertThat(expiresAt).isAfterOrEqualTo(lease.leaseExpiresAt()));
+
+        assertThat(orderOfferQueue.release(lease.offerId(), 1, lease.leaseToken())).isTrue();
+        assertThat(orderOfferQueue.countPending()).isEqualTo(1);
+        assertThat(orderOfferQueue.claim(1)).isPresent();
+    }
+
+    @Test
+    @DisplayName("접수 상태가 아닌 주문의 제안은 회수 시 취소되고, 다시 등록하면 대기 상태로")
+    void staleOffersAreCancelledAndReopened() {
+        insertOrders(2);
+        insertRegion(1, "강남구");
+        orderOfferQueue.open(1, ORDER_CREATED_AT, "서울", "강남구");
+        orderOfferQueue.open(2, ORDER_CREATED_AT, "서울", "강남구");
+        assertThat(orderOfferQueue.open(1, ORDER_CREATED_AT, "서울", "강남구")).isFalse();
+
+        jdbcTemplate.update("UPDATE orders SET order_status = 'CANCELLED' WHERE id = 1");
+        orderOfferQueue.reapExpired();
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM order_offer WHERE order_id = 1", String.class))
+                .isEqualTo("CANCELLED");
+        assertThat(orderOfferQueue.claim(1).orElseThrow().orderId()).isEqualTo(2);
+
+        jdbcTemplate.update("UPDATE orders SET order_status = 'PENDING' WHERE id = 1");
+        assertThat(orderOfferQueue.open(1, ORDER_CREATED_AT, "서울", "강남구")).isTrue();
+        assertThat(orderOfferQueue.claim(1).orElseThrow().orderId()).isEqualTo(1);
+    }
+
+    private void insertOrders(int orders) {
+        jdbcTemplate.update("INSERT INTO orders SELECT X, ?, 'PENDING', false FROM SYSTEM_RANGE(1, " + orders + ")",
+                ORDER_CREATED_AT);
+    }
+
+    private void insertRegion(long memberId, String sigungu) {
+        jdbcTemplate.update("INSERT INTO member_activity_region VALUES (?, '서울', ?, true)", memberId, sigungu);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.global.config.OrderArchiveProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB에서 보관 기간이 지난 소프트 삭제 주문과 하위 행의 보관 테이블 이동을 검증
+ */
+@DisplayName("OrderArchiveService 테스트")
+class OrderArchiveServiceTest {
+
+    private static final List<String> CHILD_TABLES = List.of("order_option", "order_message", "order_sender");
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderArchiveProperties properties;
+    private OrderArchiveService orderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:archive;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 보관 이동이 쓰는 컬럼만 가진 축약 스키마 (보관 테이블은 컬럼 순서를 다르게 두어 이름 매칭 확인)
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, order_number VARCHAR(20), " +
+                "is_deleted BOOLEAN, deleted_at TIMESTAMP(6))");
+        jdbcTemplate.execute("CREATE TABLE orders_archive (deleted_at TIMESTAMP(6), is_deleted BOOLEAN, " +
+                "order_number VARCHAR(20), id BIGINT PRIMARY KEY, archived_at TIMESTAMP NOT NULL)");
+        for (String table : CHILD_TABLES) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT PRIMARY KEY, order_id BIGINT REFERENCES orders (id))");
+            jdbcTemplate.execute("CREATE TABLE " + table + "_archive (order_id BIGINT, id BIGINT PRIMARY KEY, " +
+                    "archived_at TIMESTAMP NOT NULL)");
+        }
+
+        properties = new OrderArchiveProperties();
+        properties.setRetentionDays(90);
+        properties.setBatchSize(2);
+        orderArchiveService = new OrderArchiveService(jdbcTemplate, new DataSourceTransactionManager(dataSource), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 삭제 주문만 하위 행과 함께 여러 배치로 옮기고 원본에서 삭제")
+    void archivesExpiredDeletedOrders() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 5; id++) {
+            insertOrder(id, true, now.minusDays(100));
+        }
+        insertOrder(6, true, now.minusDays(10));
+        insertOrder(7, false, null);
+
+        int moved = orderArchiveService.archiveDeletedOrders();
+
+        assertThat(moved).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM orders ORDER BY id", Long.class)).containsExactly(6L, 7L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM orders_archive ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(jdbcTemplate.queryForObject("SELECT order_number FROM orders_archive WHERE id = 3", String.class))
+                .isEqualTo("100003");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders_archive WHERE archived_at IS NULL", Integer.class))
+                .isZero();
+        for (String table : CHILD_TABLES) {
+            assertThat(jdbcTemplate.queryForList("SELECT order_id FROM " + table + " ORDER BY order_id", Long.class))
+                    .as(table).containsExactly(6L, 7L);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + "_archive", Integer.class))
+                    .as(table).isEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("옮길 주문이 없으면 0건, 다시 실행해도 이미 옮긴 주문은 중복 이동하지 않음")
+    void rerunIsNoop() {
+        insertOrder(1, true, LocalDateTime.now().minusDays(100));
+
+        assertThat(orderArchiveService.archiveDeletedOrders()).isEqualTo(1);
+        assertThat(orderArchiveService.archiveDeletedOrders()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders_archive", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성 설정이면 예약 실행이 아무것도 옮기지 않음")
+    void disabledScheduleSkips() {
+        insertOrder(1, true, LocalDateTime.now().minusDays(100));
+        properties.setEnabled(false);
+
+        orderArchiveService.archiveScheduled();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isEqualTo(1);
+    }
+
+    private void insertOrder(long id, boolean deleted, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO orders (id, order_number, is_deleted, deleted_at) VALUES (?, ?, ?, ?)",
+                id, String.valueOf(100000 + id), deleted, deletedAt != null ? Timestamp.valueOf(deletedAt) : null);
+        for (String table : CHILD_TABLES) {
+            jdbcTemplate.update("INSERT INTO " + table + " (id, order_id) VALUES (?, ?)", id * 10, id);
+        }
+    }
+}
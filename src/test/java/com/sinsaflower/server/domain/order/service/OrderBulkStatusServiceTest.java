@@ -0,0 +1,167 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.dto.OrderBulkStatusResponse;
+import com.sinsaflower.server.domain.order.dto.OrderBulkStatusResponse.Failure;
+import com.sinsaflower.server.domain.order.dto.OrderBulkStatusResponse.Reason;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent;
+import com.sinsaflower.server.domain.order.event.OrderStatusBulkChangedEvent;
+import com.sinsaflower.server.global.config.OrderBulkStatusProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB 에서 주문 상태 일괄 변경의 전환 규칙, 주문별 실패 사유, 청크별 이벤트 발행을 검증
+ */
+@DisplayName("OrderBulkStatusService 테스트")
+class OrderBulkStatusServiceTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private OrderBulkStatusProperties properties;
+    private final List<OrderStatusBulkChangedEvent> events = new ArrayList<>();
+    private OrderBulkStatusService orderBulkStatusService;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:bulk_status;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 일괄 변경 쿼리가 쓰는 컬럼만 가진 축약 스키마
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, member_id BIGINT, order_number VARCHAR(20), " +
+                "order_status VARCHAR(20), version BIGINT, created_at TIMESTAMP(6), updated_at TIMESTAMP(6), is_deleted BOOLEAN)");
+
+        properties = new OrderBulkStatusProperties();
+        properties.setMaxIds(10_000);
+        properties.setChunkSize(1000);
+        orderBulkStatusService = new OrderBulkStatusService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                event -> events.add((OrderStatusBulkChangedEvent) event), properties);
+        orderBulkStatusService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("전환 가능한 주문만 변경하고, 없는/삭제된/전환 불가 주문은 사유와 함께 보고")
+    void reportsPerOrderFailures() {
+        insert(1, OrderStatus.PREPARING, false);
+        insert(2, OrderStatus.CONFIRMED, false);
+        insert(3, OrderStatus.CANCELLED, false);
+        insert(4, OrderStatus.DELIVERED, false);
+        insert(5, OrderStatus.PREPARING, true);
+
+        OrderBulkStatusResponse response = orderBulkStatusService.updateStatus(
+                List.of(1L, 2L, 3L, 4L, 5L, 6L, 1L), OrderStatus.DELIVERED);
+
+        assertThat(response.requested()).isEqualTo(6);
+        assertThat(response.updated()).isEqualTo(2);
+        assertThat(response.updatedIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(response.failures())
+                .extracting(Failure::orderId, Failure::reason, Failure::currentStatus)
+                .containsExactly(
+                        tuple(3L, Reason.INVALID_TRANSITION, OrderStatus.CANCELLED),
+                        tuple(4L, Reason.INVALID_TRANSITION, OrderStatus.DELIVERED),
+                        tuple(5L, Reason.NOT_FOUND, null),
+                        tuple(6L, Reason.NOT_FOUND, null));
+
+        assertThat(status(1)).isEqualTo("DELIVERED");
+        assertThat(status(3)).isEqualTo("CANCELLED");
+        assertThat(status(5)).isEqualTo("PREPARING");
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM orders WHERE id = 1", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM orders WHERE id = 3", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("배송 완료 주문은 취소로 일괄 변경되지 않음")
+    void deliveredOrdersCannotBeCancelled() {
+        insert(1, OrderStatus.DELIVERED, false);
+        insert(2, OrderStatus.PENDING, false);
+
+        OrderBulkStatusResponse response = orderBulkStatusService.updateStatus(List.of(1L, 2L), OrderStatus.CANCELLED);
+
+        assertThat(response.updatedIds()).containsExactly(2L);
+        assertThat(response.failures()).singleElement()
+                .satisfies(failure -> assertThat(failure.message()).isEqualTo("배송 완료된 주문은 취소할 수 없습니다."));
+    }
+
+    @Test
+    @DisplayName("청크마다 바뀐 주문을 이벤트 하나로 발행")
+    void publishesOneEventPerChunk() {
+        properties.setChunkSize(2);
+        LongStream.rangeClosed(1, 5).forEach(id -> insert(id, OrderStatus.PENDING, false));
+
+        orderBulkStatusService.updateStatus(List.of(1L, 2L, 3L, 4L, 5L), OrderStatus.CONFIRMED);
+
+        assertThat(events).hasSize(3);
+        assertThat(events).flatExtracting(OrderStatusBulkChangedEvent::changes)
+                .extracting(OrderChangedEvent::orderId, OrderChangedEvent::memberId, OrderChangedEvent::orderStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 11L, OrderStatus.CONFIRMED),
+                        tuple(2L, 12L, OrderStatus.CONFIRMED),
+                        tuple(3L, 13L, OrderStatus.CONFIRMED),
+                        tuple(4L, 14L, OrderStatus.CONFIRMED),
+                        tuple(5L, 15L, OrderStatus.CONFIRMED));
+        assertThat(events).flatExtracting(OrderStatusBulkChangedEvent::changes)
+                .allSatisfy(change -> {
+                    assertThat(change.orderCreatedAt()).isNotNull();
+                    assertThat(change.changedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    @DisplayName("요청 주문 수가 한도를 넘으면 거절")
+    void rejectsTooManyIds() {
+        properties.setMaxIds(2);
+
+        assertThatThrownBy(() -> orderBulkStatusService.updateStatus(List.of(1L, 2L, 3L), OrderStatus.DELIVERED))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("주문 5,000건을 초당 수천 건 이상으로 일괄 변경")
+    void bulkThroughput() {
+        int orders = 5_000;
+        jdbcTemplate.update("INSERT INTO orders SELECT X, X + 10, 'ORD-' || X, 'PREPARING', 0, NOW(), NOW(), false " +
+                "FROM SYSTEM_RANGE(1, " + orders + ")");
+        List<Long> ids = LongStream.rangeClosed(1, orders).boxed().toList();
+
+        long startedAt = System.nanoTime();
+        OrderBulkStatusResponse response = orderBulkStatusService.updateStatus(ids, OrderStatus.DELIVERED);
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        double throughput = orders / seconds;
+        System.out.printf("주문 상태 일괄 변경 %d건: %.3f초 (%.0f건/초)%n", orders, seconds, throughput);
+
+        assertThat(response.updated()).isEqualTo(orders);
+        assertThat(response.failures()).isEmpty();
+        assertThat(throughput).isGreaterThan(2_000);
+    }
+
+    private void insert(long id, OrderStatus status, boolean deleted) {
+        jdbcTemplate.update("INSERT INTO orders VALUES (?, ?, ?, ?, 0, NOW(), NOW(), ?)",
+                id, id + 10, "ORD-" + id, status.name(), deleted);
+    }
+
+    private String status(long id) {
+        return jdbcTemplate.queryForObject("SELECT order_status FROM orders WHERE id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,212 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.dto.OrderStreamEvent;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent.Type;
+import com.sinsaflower.server.global.config.OrderStreamProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 이벤트 버스의 회원별 전달, Last-Event-ID 재전송, 버퍼 초과/연결 수 제한을 검증
+ * 실제 응답 대신 전송 내용을 기록하는 SseEmitter 를 사용한다.
+ */
+@DisplayName("OrderEventBus 테스트")
+class OrderEventBusTest {
+
+    private static final String RESET = "RESET";
+
+    private OrderEventBus orderEventBus;
+
+    @BeforeEach
+    void setUp() {
+        OrderStreamProperties properties = new OrderStreamProperties();
+        properties.setHeartbeatSeconds(60);
+        properties.setBufferSize(8);
+        properties.setReplaySize(16);
+        properties.setMaxConnectionsPerMember(2);
+        orderEventBus = new OrderEventBus(properties);
+        orderEventBus.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderEventBus.shutdown();
+    }
+
+    @Test
+    @DisplayName("이벤트는 해당 회원의 연결에만 발행 순서대로 전달")
+    void deliversInOrderToOwnMember() throws Exception {
+        CapturingEmitter first = new CapturingEmitter();
+        CapturingEmitter second = new CapturingEmitter();
+        orderEventBus.subscribe(1L, null, first);
+        orderEventBus.subscribe(2L, null, second);
+
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            orderEventBus.publish(event(orderId, 1L));
+        }
+        orderEventBus.publish(event(100L, 2L));
+
+        assertThat(first.awaitEvents(5)).extracting(OrderStreamEvent::orderId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(second.awaitEvents(1)).extracting(OrderStreamEvent::orderId)
+                .containsExactly(100L);
+        assertThat(second.awaitEvents(1, 200)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후의 해당 회원 이벤트만 재전송하고, 이어서 새 이벤트 전달")
+    void replaysAfterLastEventId() throws Exception {
+        long firstId = orderEventBus.publish(event(1L, 1L));
+        orderEventBus.publish(event(2L, 2L));
+        orderEventBus.publish(event(3L, 1L));
+        orderEventBus.publish(event(4L, 1L));
+
+        CapturingEmitter emitter = new CapturingEmitter();
+        orderEventBus.subscribe(1L, firstId, emitter);
+        orderEventBus.publish(event(5L, 1L));
+
+        List<OrderStreamEvent> events = emitter.awaitEvents(3);
+        assertThat(events).extracting(OrderStreamEvent::orderId).containsExactly(3L, 4L, 5L);
+        assertThat(events).extracting(OrderStreamEvent::eventId).isSorted();
+        assertThat(emitter.resets).isEmpty();
+    }
+
+    @Test
+    @DisplayName("링 버퍼에서 밀려났거나 발행된 적 없는 Last-Event-ID 면 RESET 전송")
+    void resetsWhenLastEventIdCannotBeResumed() throws Exception {
+        long firstId = orderEventBus.publish(event(1L, 1L));
+        for (long orderId = 2; orderId <= 20; orderId++) {
+            orderEventBus.publish(event(orderId, 2L));
+        }
+
+        CapturingEmitter tooOld = new CapturingEmitter();
+        orderEventBus.subscribe(1L, firstId, tooOld);
+        assertThat(tooOld.resets.poll(5, TimeUnit.SECONDS)).isEqualTo(RESET);
+        assertThat(tooOld.events).isEmpty();
+
+        CapturingEmitter future = new CapturingEmitter();
+        orderEventBus.subscribe(2L, firstId + 1_000, future);
+        assertThat(future.resets.poll(5, TimeUnit.SECONDS)).isEqualTo(RESET);
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트의 버퍼가 넘치면 연결을 끊고 구독 목록에서 제거")
+    void overflowClosesSlowConnection() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingEmitter slow = new CapturingEmitter(release);
+        OrderStreamConnection connection = orderEventBus.subscribe(1L, null, slow);
+        assertThat(orderEventBus.connectionCount(1L)).isEqualTo(1);
+
+        try {
+            for (long orderId = 1; orderId <= 10; orderId++) {
+                orderEventBus.publish(event(orderId, 1L));
+            }
+            assertThat(connection.isClosed()).isTrue();
+            assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(orderEventBus.connectionCount(1L)).isZero();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("회원당 연결 수를 넘으면 가장 오래된 연결을 종료")
+    void evictsOldestConnection() throws Exception {
+        CapturingEmitter oldest = new CapturingEmitter();
+        orderEventBus.subscribe(1L, null, oldest);
+        orderEventBus.subscribe(1L, null, new CapturingEmitter());
+        CapturingEmitter newest = new CapturingEmitter();
+        orderEventBus.subscribe(1L, null, newest);
+
+        assertThat(oldest.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(orderEventBus.connectionCount(1L)).isEqualTo(2);
+
+        orderEventBus.publish(event(1L, 1L));
+        assertThat(newest.awaitEvents(1)).hasSize(1);
+        assertThat(oldest.events).isEmpty();
+    }
+
+    private static OrderChangedEvent event(long orderId, long memberId) {
+        return new OrderChangedEvent(Type.STATUS_CHANGED, orderId, memberId, "ORD-" + orderId, OrderStatus.CONFIRMED,
+                null, null);
+    }
+
+    /**
+     * 전송 내용을 기록하는 SseEmitter (release 가 있으면 열릴 때까지 전송이 멈춤)
+     */
+    private static class CapturingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final BlockingQueue<OrderStreamEvent> events = new LinkedBlockingQueue<>();
+        private final BlockingQueue<String> resets = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        CapturingEmitter() {
+            this(null);
+        }
+
+        CapturingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof OrderStreamEvent event) {
+                    events.add(event);
+                } else {
+                    text.append(data.getData());
+                }
+            }
+            if (text.indexOf("event:" + RESET) >= 0) {
+                resets.add(RESET);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        List<OrderStreamEvent> awaitEvents(int count) throws InterruptedException {
+            return awaitEvents(count, 5_000);
+        }
+
+        List<OrderStreamEvent> awaitEvents(int count, long timeoutMillis) throws InterruptedException {
+            List<OrderStreamEvent> received = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (received.size() < count) {
+                OrderStreamEvent event = events.poll(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    break;
+                }
+                received.add(event);
+            }
+            return received;
+        }
+    }
+}
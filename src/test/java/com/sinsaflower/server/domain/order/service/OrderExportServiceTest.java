@@ -0,0 +1,246 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.util.CsvUtils;
+import com.sinsaflower.server.global.config.OrderExportProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB에 합성 주문을 만들어 내보내기 내용과 메모리 상한을 검증
+ */
+@DisplayName("OrderExportService 테스트")
+class OrderExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    // 대량 내보내기 동안 늘어날 수 있는 살아있는 힙 상한 (전체를 메모리에 모으면 수백 MB)
+    private static final long LIVE_HEAP_LIMIT = 32L * 1024 * 1024;
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        // LAZY_QUERY_EXECUTION/MAX_MEMORY_ROWS: H2 가 결과 전체를 힙에 올리지 않도록 설정
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:order_export;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=TRUE;MAX_MEMORY_ROWS=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema();
+
+        OrderExportProperties properties = new OrderExportProperties();
+        properties.setChunkSize(100);
+        orderExportService = new OrderExportService(
+                jdbcTemplate, new DataSourceTransactionManager(dataSource), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("CSV에 옵션, 보내는 분, 회원 사업자 정보를 포함하고 기간 밖/삭제 주문은 제외")
+    void exportCsv() throws IOException {
+        insertOrders(250);
+        jdbcTemplate.update("UPDATE orders SET is_deleted = true WHERE id = 2");
+        jdbcTemplate.update("UPDATE orders SET created_at = TIMESTAMP '2024-02-01 00:00:00' WHERE id = 3");
+        jdbcTemplate.update("UPDATE orders SET request = '문 앞에, \"조심히\"' WHERE id = 1");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = orderExportService.export(FROM, TO, OrderExportService.Format.CSV, out);
+
+        List<List<String>> lines = readCsv(out.toByteArray());
+        assertThat(rows).isEqualTo(248);
+        assertThat(lines).hasSize(249);
+        assertThat(lines.get(0)).isEqualTo(OrderExportService.HEADER);
+
+        List<String> first = lines.get(1);
+        assertThat(value(first, "주문번호")).isEqualTo("A00001");
+        assertThat(value(first, "주문상태")).isEqualTo("주문접수");
+        assertThat(value(first, "요청사항")).isEqualTo("문 앞에, \"조심히\"");
+        assertThat(value(first, "옵션")).isEqualTo("리본(3000) / 카드(1000)");
+        assertThat(value(first, "보내는 분")).isEqualTo("홍길동(친구)");
+        assertThat(value(first, "상호")).isEqualTo("신사꽃집");
+        assertThat(value(first, "사업자번호")).isEqualTo("123-45-67890");
+
+        assertThat(lines).extracting(line -> value(line, "주문번호"))
+                .doesNotContain("A00002", "A00003")
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("XLSX는 헤더와 주문 행을 시트에 기록하고 금액은 숫자 셀로 기록")
+    void exportXlsx() throws IOException {
+        insertOrders(150);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = orderExportService.export(FROM, TO, OrderExportService.Format.XLSX, out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(rows).isEqualTo(150);
+            assertThat(sheet.getLastRowNum()).isEqualTo(150);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("주문번호");
+
+            Row first = sheet.getRow(1);
+            assertThat(first.getCell(OrderExportService.HEADER.indexOf("결제금액")).getNumericCellValue()).isEqualTo(50000d);
+            assertThat(first.getCell(OrderExportService.HEADER.indexOf("옵션")).getStringCellValue())
+                    .isEqualTo("리본(3000) / 카드(1000)");
+        }
+    }
+
+    @Test
+    @DisplayName("대량 내보내기 중 살아있는 힙이 주문 수와 무관하게 상한 이내로 유지")
+    void exportKeepsHeapFlat() {
+        int orders = 100_000;
+        insertOrders(orders);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+
+        // 일정 바이트마다 GC 후 힙 사용량을 재서 내보내기 도중 살아있는 객체 크기를 측정
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(memory, 2 * 1024 * 1024);
+        long rows = orderExportService.export(FROM, TO, OrderExportService.Format.CSV, out);
+
+        assertThat(rows).isEqualTo(orders);
+        assertThat(out.samples).isGreaterThan(5);
+        assertThat(out.maxUsed - baseline).isLessThan(LIVE_HEAP_LIMIT);
+    }
+
+    @Test
+    @DisplayName("기간이 뒤집혔거나 최대 기간을 넘으면 예외")
+    void invalidRange() {
+        assertThatThrownBy(() -> orderExportService.validateRange(TO, FROM))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> orderExportService.validateRange(FROM, FROM.plusDays(400)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> OrderExportService.Format.from("pdf"))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThat(OrderExportService.Format.from("xlsx")).isEqualTo(OrderExportService.Format.XLSX);
+    }
+
+    // 내보내기 쿼리가 쓰는 컬럼만 가진 축약 스키마
+    private void createSchema() {
+        jdbcTemplate.execute("CREATE TABLE member (id BIGINT PRIMARY KEY, login_id VARCHAR(50), name VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE member_business_profile (id BIGINT PRIMARY KEY, member_id BIGINT, " +
+                "corp_name VARCHAR(100), business_number VARCHAR(12), ceo_name VARCHAR(50), company_address VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, order_number VARCHAR(6), member_id BIGINT, " +
+                "shop_name VARCHAR(100), product_name VARCHAR(200), quantity INTEGER, price NUMERIC(10, 0), " +
+                "payment NUMERIC(10, 0), order_customer_name VARCHAR(50), order_customer_mobile VARCHAR(20), " +
+                "receiver_name VARCHAR(50), receiver_mobile VARCHAR(20), delivery_date DATE, delivery_hours VARCHAR(10), " +
+                "delivery_minutes VARCHAR(10), delivery_place VARCHAR(200), card VARCHAR(50), request VARCHAR(500), " +
+                "order_status VARCHAR(20), created_at TIMESTAMP, is_deleted BOOLEAN)");
+        jdbcTemplate.execute("CREATE INDEX idx_orders_created_at ON orders (created_at, id)");
+        jdbcTemplate.execute("CREATE TABLE order_option (id BIGINT AUTO_INCREMENT PRIMARY KEY, order_id BIGINT, " +
+                "option_name VARCHAR(100), checked BOOLEAN, price NUMERIC(10, 0), order_created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX idx_order_option_order_id ON order_option (order_id)");
+        jdbcTemplate.execute("CREATE TABLE order_sender (id BIGINT AUTO_INCREMENT PRIMARY KEY, order_id BIGINT, " +
+                "name VARCHAR(50), relationship VARCHAR(100), sort_order INTEGER, order_created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX idx_order_sender_order_id ON order_sender (order_id)");
+
+        jdbcTemplate.update("INSERT INTO member VALUES (1, 'shop01', '김신사')");
+        jdbcTemplate.update("INSERT INTO member_business_profile VALUES (1, 1, '신사꽃집', '123-45-67890', '김신사', '서울시 강남구')");
+    }
+
+    // 1월 한 달에 고르게 분포한 주문과 주문당 옵션 3개(1개 미선택), 보내는 분 1명 생성
+    private void insertOrders(int count) {
+        jdbcTemplate.update("INSERT INTO orders SELECT X, 'A' || LPAD(CAST(X AS VARCHAR), 5, '0'), 1, " +
+                "'신사꽃집', '축하 화환', 1, 50000, 50000, '주문자', '010-0000-0000', '수령자', '010-1111-1111', " +
+                "DATE '2024-01-20', '14', '30', '서울시 강남구 테헤란로', '축하', NULL, 'PENDING', " +
+                "DATEADD('SECOND', X * 2592000 / " + (count + 1) + ", TIMESTAMP '2024-01-01 00:00:00'), false " +
+                "FROM SYSTEM_RANGE(1, " + count + ")");
+        jdbcTemplate.update("INSERT INTO order_option (order_id, option_name, checked, price, order_created_at) " +
+                "SELECT id, '리본', true, 3000, created_at FROM orders");
+        jdbcTemplate.update("INSERT INTO order_option (order_id, option_name, checked, price, order_created_at) " +
+                "SELECT id, '카드', true, 1000, created_at FROM orders");
+        jdbcTemplate.update("INSERT INTO order_option (order_id, option_name, checked, price, order_created_at) " +
+                "SELECT id, '포장', false, 5000, created_at FROM orders");
+        jdbcTemplate.update("INSERT INTO order_sender (order_id, name, relationship, sort_order, order_created_at) " +
+                "SELECT id, '홍길동', '친구', 0, created_at FROM orders");
+    }
+
+    private static List<List<String>> readCsv(byte[] bytes) throws IOException {
+        String content = new String(bytes, StandardCharsets.UTF_8);
+        assertThat(content).startsWith("\uFEFF");
+
+        List<List<String>> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(content.substring(1)))) {
+            List<String> line;
+            while ((line = CsvUtils.readRow(reader)) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static String value(List<String> line, String column) {
+        return line.get(OrderExportService.HEADER.indexOf(column));
+    }
+
+    /**
+     * 기록된 바이트는 버리고, interval 바이트마다 GC 후 힙 사용량 최대치를 기록
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory;
+        private final long interval;
+        private long written;
+        private long nextSample;
+        private long maxUsed;
+        private int samples;
+
+        private HeapSamplingOutputStream(MemoryMXBean memory, long interval) {
+            this.memory = memory;
+            this.interval = interval;
+            this.nextSample = interval;
+        }
+
+        @Override
+        public void write(int b) {
+            written++;
+            sample();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+            sample();
+        }
+
+        private void sample() {
+            if (written < nextSample) {
+                return;
+            }
+            nextSample = written + interval;
+            System.gc();
+            maxUsed = Math.max(maxUsed, memory.getHeapMemoryUsage().getUsed());
+            samples++;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.util.CsvUtils;
+import com.sinsaflower.server.global.config.OrderPartitionProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.sinsaflower.server.global.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderHistoryService 슬라이스 테스트")
+class OrderHistoryServiceSliceTest {
+
+    @TempDir
+    Path exportRoot;
+
+    private OrderHistoryService orderHistoryService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        OrderPartitionProperties properties = new OrderPartitionProperties();
+        properties.setExportPath(exportRoot.toString());
+        orderHistoryService = new OrderHistoryService(properties);
+
+        Path monthDir = Files.createDirectories(exportRoot.resolve("202401"));
+        try (Writer writer = new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(monthDir.resolve("orders.csv.gz"))), StandardCharsets.UTF_8)) {
+            CsvUtils.writeRow(writer, List.of("id", "order_number", "member_id", "request"));
+            CsvUtils.writeRow(writer, Arrays.asList("1", "A00001", "10", "문 앞에, \"조심히\"\n놓아주세요"));
+            CsvUtils.writeRow(writer, Arrays.asList("2", "A00002", "20", null));
+            CsvUtils.writeRow(writer, Arrays.asList("3", "A00003", "10", ""));
+        }
+        Files.createFile(monthDir.resolve(OrderPartitionService.COMPLETE_MARKER));
+
+        // 완료 표시가 없는 월은 목록에서 제외
+        Files.createDirectories(exportRoot.resolve("202402"));
+    }
+
+    @Test
+    @DisplayName("내보내기가 끝난 월만 목록으로 반환")
+    void getExportedMonths() {
+        assertThat(orderHistoryService.getExportedMonths()).containsExactly("2024-01");
+    }
+
+    @Test
+    @DisplayName("회원 ID로 필터링하고 따옴표/줄바꿈/null 값을 보존")
+    void getOrders_FilterByMember() {
+        List<Map<String, String>> orders = orderHistoryService.getOrders("2024-01", 10L, null, 100);
+
+        assertThat(orders).hasSize(2);
+        assertThat(orders.get(0).get("request")).isEqualTo("문 앞에, \"조심히\"\n놓아주세요");
+        assertThat(orders.get(1).get("request")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문번호로 조회하고 null 값은 null로 반환")
+    void getOrders_FilterByOrderNumber() {
+        List<Map<String, String>> orders = orderHistoryService.getOrders("2024-01", null, "A00002", 100);
+
+        assertThat(orders).hasSize(1);
+        assertThat(orders.get(0).get("member_id")).isEqualTo("20");
+        assertThat(orders.get(0).get("request")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 월 형식과 내보내지 않은 월은 예외")
+    void getOrders_InvalidMonth() {
+        assertThatThrownBy(() -> orderHistoryService.getOrders("2024/01", null, null, 100))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> orderHistoryService.getOrders("2024-02", null, null, 100))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.repository.OrderMessageRepository;
+import com.sinsaflower.server.domain.order.repository.OrderNumberRegistryRepository;
+import com.sinsaflower.server.domain.order.repository.OrderOptionRepository;
+import com.sinsaflower.server.domain.order.repository.OrderRepository;
+import com.sinsaflower.server.domain.order.repository.OrderSenderRepository;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.sinsaflower.server.global.service.FileUploadService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderService 슬라이스 테스트")
+class OrderServiceSliceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderNumberRegistryRepository orderNumberRegistryRepository;
+
+    @Mock
+    private OrderPartitionService orderPartitionService;
+
+    @Mock
+    private OrderOptionRepository orderOptionRepository;
+
+    @Mock
+    private OrderMessageRepository orderMessageRepository;
+
+    @Mock
+    private OrderSenderRepository orderSenderRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("주문번호는 등록에 성공한 번호만 사용 (이미 발급된 번호면 다시 생성)")
+    void createOrder_ReservesOrderNumber() {
+        given(memberRepository.findById(1L)).willReturn(Optional.of(Member.builder().id(1L).build()));
+        given(orderNumberRegistryRepository.reserve(anyString(), any(LocalDateTime.class))).willReturn(0, 0, 1);
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        Order order = orderService.createOrder(1L, validOrder());
+
+        assertThat(order.getOrderNumber()).hasSize(6);
+        then(orderNumberRegistryRepository).should(times(3)).reserve(anyString(), any(LocalDateTime.class));
+        then(orderNumberRegistryRepository).should().reserve(eq(order.getOrderNumber()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 이면 동시에 같은 번호를 뽑아도 오류 없이 다시 생성하도록 ON CONFLICT 로 등록")
+    @SuppressWarnings("unchecked")
+    void createOrder_ReservesOrderNumberOnConflictInPostgres() {
+        given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn("PostgreSQL");
+        orderService.init();
+        given(memberRepository.findById(1L)).willReturn(Optional.of(Member.builder().id(1L).build()));
+        given(orderNumberRegistryRepository.reserveOnConflict(anyString(), any(LocalDateTime.class))).willReturn(0, 1);
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        Order order = orderService.createOrder(1L, validOrder());
+
+        then(orderNumberRegistryRepository).should(times(2)).reserveOnConflict(anyString(), any(LocalDateTime.class));
+        then(orderNumberRegistryRepository).should().reserveOnConflict(eq(order.getOrderNumber()), any(LocalDateTime.class));
+        then(orderNumberRegistryRepository).should(never()).reserve(anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("배송일 범위 제약이 검증되지 않았으면 created_at 범위를 좁히지 않음")
+    void searchOrders_FullRangeWhenWindowNotValidated() {
+        given(orderPartitionService.isDeliveryWindowValidated()).willReturn(false);
+
+        orderService.searchOrders(null, null, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31), null, Pageable.unpaged());
+
+        then(orderRepository).should().findOrdersWithConditions(isNull(), isNull(),
+                eq(LocalDate.of(2024, 5, 1)), eq(LocalDate.of(2024, 5, 31)), isNull(),
+                eq(LocalDateTime.of(2000, 1, 1, 0, 0)), eq(LocalDateTime.of(9999, 12, 31, 0, 0)), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("배송일 범위 제약이 검증됐으면 배송일 조건을 created_at 범위로 환산")
+    void searchOrders_PrunesWhenWindowValidated() {
+        given(orderPartitionService.isDeliveryWindowValidated()).willReturn(true);
+
+        orderService.searchOrders(null, null, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31), null, Pageable.unpaged());
+
+        then(orderRepository).should().findOrdersWithConditions(isNull(), isNull(),
+                eq(LocalDate.of(2024, 5, 1)), eq(LocalDate.of(2024, 5, 31)), isNull(),
+                eq(LocalDate.of(2024, 5, 1).minusDays(365).atStartOfDay()), eq(LocalDateTime.of(2024, 6, 1, 0, 0)),
+                any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("배송일은 주문일 이전으로 변경할 수 없음 (created_at 범위 검색의 전제)")
+    void changeDeliveryDate_RejectsBeforeOrderDate() {
+        Order order = validOrder();
+
+        assertThatThrownBy(() -> order.changeDeliveryDate(LocalDate.now().minusDays(1)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> order.changeDeliveryDate(LocalDate.now().plusDays(366)))
+                .isInstanceOf(InvalidRequestException.class);
+        order.changeDeliveryDate(LocalDate.now().plusDays(365));
+        assertThat(order.getDeliveryDate()).isEqualTo(LocalDate.now().plusDays(365));
+    }
+
+    private Order validOrder() {
+        return Order.builder()
+                .shopName("테스트꽃집")
+                .phone("0212345678")
+                .productName("축하화환")
+                .quantity(1)
+                .price(new BigDecimal("50000"))
+                .payment(new BigDecimal("50000"))
+                .deliveryDate(LocalDate.now().plusDays(1))
+                .build();
+    }
+}
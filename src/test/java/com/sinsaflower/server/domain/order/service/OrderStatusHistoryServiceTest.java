@@ -0,0 +1,168 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.dto.OrderSlaReportResponse;
+import com.sinsaflower.server.domain.order.dto.OrderSlaReportResponse.RegionSla;
+import com.sinsaflower.server.domain.order.dto.OrderStatusDailyCount;
+import com.sinsaflower.server.domain.order.dto.OrderStatusHistoryEntry;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.global.config.OrderStatusHistoryProperties;
+import com.sinsaflower.server.global.exception.InvalidRequestException;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB 에서 주문 상태 타임라인, 일자별 건수, 지역별 SLA 리포트 계산을 검증
+ */
+@DisplayName("OrderStatusHistoryService 테스트")
+class OrderStatusHistoryServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+    private static final LocalDateTime ORDER_CREATED_AT = DAY.minusDays(5).atTime(8, 0);
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private OrderStatusHistoryService orderStatusHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:status_history_report;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 리포트 쿼리가 쓰는 컬럼만 가진 축약 스키마 + order_status_history 마이그레이션
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT, created_at TIMESTAMP(6), region_id BIGINT, PRIMARY KEY (id, created_at))");
+        jdbcTemplate.execute("CREATE TABLE region (id BIGINT PRIMARY KEY, sido VARCHAR(50), sigungu VARCHAR(50))");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V16__order_status_history.sql"),
+                new ClassPathResource("db/migration/common/V24__order_status_history_order_created_at.sql"))
+                .execute(dataSource);
+        jdbcTemplate.update("INSERT INTO region VALUES (1, '서울', '강남구'), (2, '경기', '수원시')");
+
+        OrderStatusHistoryProperties properties = new OrderStatusHistoryProperties();
+        properties.setSlaLookbackDays(3);
+        properties.setMaxReportDays(31);
+        orderStatusHistoryService = new OrderStatusHistoryService(jdbcTemplate,
+                new DataSourceTransactionManager(dataSource), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("타임라인은 오래된 순으로 직전 상태를 함께 반환")
+    void timelineIncludesPreviousStatus() {
+        order(1, 1L);
+        history(1, OrderStatus.PENDING, DAY.atTime(9, 0));
+        history(1, OrderStatus.CONFIRMED, DAY.atTime(9, 30));
+        history(1, OrderStatus.DELIVERED, DAY.atTime(12, 0));
+
+        assertThat(orderStatusHistoryService.getTimeline(1L))
+                .extracting(OrderStatusHistoryEntry::previousStatus, OrderStatusHistoryEntry::orderStatus)
+                .containsExactly(
+                        tuple(null, OrderStatus.PENDING),
+                        tuple(OrderStatus.PENDING, OrderStatus.CONFIRMED),
+                        tuple(OrderStatus.CONFIRMED, OrderStatus.DELIVERED));
+    }
+
+    @Test
+    @DisplayName("일자별, 상태별 전이 건수")
+    void dailyCounts() {
+        history(1, OrderStatus.CONFIRMED, DAY.atTime(9, 0));
+        history(2, OrderStatus.CONFIRMED, DAY.atTime(10, 0));
+        history(1, OrderStatus.DELIVERED, DAY.plusDays(1).atTime(9, 0));
+
+        assertThat(orderStatusHistoryService.getDailyCounts(DAY, DAY.plusDays(1)))
+                .extracting(OrderStatusDailyCount::date, OrderStatusDailyCount::orderStatus, OrderStatusDailyCount::count)
+                .containsExactly(
+                        tuple(DAY, OrderStatus.CONFIRMED, 2L),
+                        tuple(DAY.plusDays(1), OrderStatus.DELIVERED, 1L));
+    }
+
+    @Test
+    @DisplayName("지역별 주문확인 -> 배송완료 소요 시간의 중앙값/90백분위/평균, 기간 밖 도달과 시작 없는 주문은 제외")
+    void slaReportByRegion() {
+        // 강남구: 60, 120, 180, 240 분 (시작은 조회 시작일 이전 lookback 안에서도 찾음)
+        delivered(1, 1L, DAY.minusDays(1).atTime(23, 0), 60);
+        delivered(2, 1L, DAY.atTime(9, 0), 120);
+        delivered(3, 1L, DAY.atTime(9, 0), 180);
+        delivered(4, 1L, DAY.atTime(9, 0), 240);
+        // 수원시: 30 분
+        delivered(5, 2L, DAY.atTime(9, 0), 30);
+        // 지역 없는 주문: 90 분
+        delivered(6, null, DAY.atTime(9, 0), 90);
+        // 조회 기간 전에 배송 완료된 주문, 시작 기록이 없는 주문은 제외
+        delivered(7, 1L, DAY.minusDays(2).atTime(9, 0), 60);
+        order(8, 1L);
+        history(8, OrderStatus.DELIVERED, DAY.atTime(15, 0));
+        // 다시 확인으로 돌아온 주문은 처음 확인 시각 기준
+        order(9, 2L);
+        history(9, OrderStatus.CONFIRMED, DAY.atTime(8, 0));
+        history(9, OrderStatus.CONFIRMED, DAY.atTime(9, 0));
+        history(9, OrderStatus.DELIVERED, DAY.atTime(10, 0));
+
+        OrderSlaReportResponse report = orderStatusHistoryService.getSlaReport(DAY, DAY, OrderStatus.CONFIRMED, OrderStatus.DELIVERED);
+
+        assertThat(report.total().count()).isEqualTo(7);
+        assertThat(report.regions())
+                .extracting(RegionSla::regionId, RegionSla::sigungu, RegionSla::count, RegionSla::medianMinutes,
+                        RegionSla::p90Minutes, RegionSla::averageMinutes)
+                .containsExactly(
+                        tuple(1L, "강남구", 4L, 150.0, 240.0, 150.0),
+                        tuple(2L, "수원시", 2L, 75.0, 120.0, 75.0),
+                        tuple(null, null, 1L, 90.0, 90.0, 90.0));
+    }
+
+    @Test
+    @DisplayName("SLA 리포트는 이력에 기록된 주문 생성 시각의 주문과만 조인")
+    void slaReportJoinsOnOrderCreatedAt() {
+        delivered(1, 1L, DAY.atTime(9, 0), 60);
+        jdbcTemplate.update("INSERT INTO orders VALUES (?, ?, ?)", 1L, Timestamp.valueOf(ORDER_CREATED_AT.minusYears(1)), 2L);
+
+        OrderSlaReportResponse report = orderStatusHistoryService.getSlaReport(DAY, DAY, OrderStatus.CONFIRMED, OrderStatus.DELIVERED);
+
+        assertThat(report.total().count()).isEqualTo(1);
+        assertThat(report.regions()).extracting(RegionSla::regionId, RegionSla::count).containsExactly(tuple(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("시작/종료 상태가 같거나 기간이 한도를 넘으면 거절")
+    void rejectsInvalidRequests() {
+        assertThatThrownBy(() -> orderStatusHistoryService.getSlaReport(DAY, DAY, OrderStatus.DELIVERED, OrderStatus.DELIVERED))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> orderStatusHistoryService.getDailyCounts(DAY, DAY.plusDays(40)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private void delivered(long orderId, Long regionId, LocalDateTime confirmedAt, int minutes) {
+        order(orderId, regionId);
+        history(orderId, OrderStatus.CONFIRMED, confirmedAt);
+        history(orderId, OrderStatus.DELIVERED, confirmedAt.plusMinutes(minutes));
+    }
+
+    private void order(long orderId, Long regionId) {
+        jdbcTemplate.update("INSERT INTO orders VALUES (?, ?, ?)", orderId, Timestamp.valueOf(ORDER_CREATED_AT), regionId);
+    }
+
+    private void history(long orderId, OrderStatus status, LocalDateTime changedAt) {
+        jdbcTemplate.update("INSERT INTO order_status_history (order_id, order_created_at, order_status, changed_at) " +
+                "VALUES (?, ?, ?, ?)", orderId, Timestamp.valueOf(ORDER_CREATED_AT), status.name(), Timestamp.valueOf(changedAt));
+    }
+}
@@ -0,0 +1,153 @@
+package com.sinsaflower.server.domain.order.service;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.event.OrderChangedEvent;
+import com.sinsaflower.server.domain.order.event.OrderStatusBulkChangedEvent;
+import com.sinsaflower.server.global.config.OrderStatusHistoryProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB 에서 주문 상태 이력 기록기의 버퍼링, 배치 기록, 실패 시 재시도를 검증
+ */
+@DisplayName("OrderStatusHistoryWriter 테스트")
+class OrderStatusHistoryWriterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 10, 9, 0);
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private OrderStatusHistoryProperties properties;
+    private OrderStatusHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:status_history_writer;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V16__order_status_history.sql"),
+                new ClassPathResource("db/migration/common/V24__order_status_history_order_created_at.sql"))
+                .execute(dataSource);
+
+        properties = new OrderStatusHistoryProperties();
+        properties.setBufferCapacity(100);
+        properties.setBatchSize(10);
+        writer = new OrderStatusHistoryWriter(jdbcTemplate, properties);
+        writer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("주문 생성/상태 변경/일괄 변경 이벤트를 버퍼에 모았다가 한 번에 기록하고, 삭제 이벤트는 무시")
+    void buffersEventsUntilFlush() {
+        writer.onOrderChanged(event(OrderChangedEvent.Type.CREATED, 1L, OrderStatus.PENDING, CREATED_AT));
+        writer.onOrderChanged(event(OrderChangedEvent.Type.STATUS_CHANGED, 1L, OrderStatus.CONFIRMED, CREATED_AT.plusMinutes(30)));
+        writer.onOrderChanged(event(OrderChangedEvent.Type.DELETED, 1L, OrderStatus.CONFIRMED, CREATED_AT.plusMinutes(40)));
+        writer.onOrderStatusBulkChanged(new OrderStatusBulkChangedEvent(OrderStatus.DELIVERED, List.of(
+                event(OrderChangedEvent.Type.STATUS_CHANGED, 1L, OrderStatus.DELIVERED, CREATED_AT.plusHours(3)),
+                event(OrderChangedEvent.Type.STATUS_CHANGED, 2L, OrderStatus.DELIVERED, CREATED_AT.plusHours(3)))));
+
+        assertThat(writer.pending()).isEqualTo(4);
+        assertThat(count()).isZero();
+
+        assertThat(writer.flush()).isEqualTo(4);
+        assertThat(writer.pending()).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT order_status FROM order_status_history WHERE order_id = 1 ORDER BY id",
+                String.class)).containsExactly("PENDING", "CONFIRMED", "DELIVERED");
+    }
+
+    @Test
+    @DisplayName("이력 시각은 이벤트의 전이 시각이고 주문 생성 시각을 함께 기록")
+    void recordsTransitionTimeAndOrderCreatedAt() {
+        LocalDateTime changedAt = CREATED_AT.plusMinutes(30);
+        writer.onOrderChanged(event(OrderChangedEvent.Type.STATUS_CHANGED, 1L, OrderStatus.CONFIRMED, changedAt));
+        writer.flush();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT order_created_at, changed_at FROM order_status_history WHERE order_id = 1");
+        assertThat(((Timestamp) row.get("ORDER_CREATED_AT")).toLocalDateTime()).isEqualTo(CREATED_AT);
+        assertThat(((Timestamp) row.get("CHANGED_AT")).toLocalDateTime()).isEqualTo(changedAt);
+    }
+
+    @Test
+    @DisplayName("batch-size 만큼 쌓이면 주기를 기다리지 않고 기록")
+    void flushesWhenBatchSizeReached() throws InterruptedException {
+        for (long orderId = 1; orderId <= 10; orderId++) {
+            writer.record(orderId, CREATED_AT, OrderStatus.PENDING, LocalDateTime.now());
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 기록하는 스레드에서 바로 기록해 유실하지 않음")
+    void fullBufferFlushesInline() {
+        properties.setBatchSize(1000);
+        for (long orderId = 1; orderId <= 250; orderId++) {
+            writer.record(orderId, CREATED_AT, OrderStatus.PENDING, LocalDateTime.now());
+        }
+        writer.flush();
+
+        assertThat(count()).isEqualTo(250);
+        assertThat(writer.dropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("기록 실패 시 버퍼로 되돌려 다음 flush 에서 다시 기록")
+    void requeuesOnFailure() {
+        writer.record(1L, CREATED_AT, OrderStatus.PENDING, LocalDateTime.now());
+        writer.record(1L, CREATED_AT, OrderStatus.CONFIRMED, LocalDateTime.now());
+        jdbcTemplate.execute("ALTER TABLE order_status_history RENAME TO order_status_history_moved");
+
+        assertThatThrownBy(writer::flush).isInstanceOf(RuntimeException.class);
+        assertThat(writer.pending()).isEqualTo(2);
+
+        jdbcTemplate.execute("ALTER TABLE order_status_history_moved RENAME TO order_status_history");
+        assertThat(writer.flush()).isEqualTo(2);
+        assertThat(count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화되면 기록하지 않음")
+    void disabledIgnoresEvents() {
+        properties.setEnabled(false);
+        writer.record(1L, CREATED_AT, OrderStatus.PENDING, LocalDateTime.now());
+
+        assertThat(writer.pending()).isZero();
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_status_history", Long.class);
+    }
+
+    private static OrderChangedEvent event(OrderChangedEvent.Type type, long orderId, OrderStatus status, LocalDateTime changedAt) {
+        return new OrderChangedEvent(type, orderId, orderId * 10, "ORD-" + orderId, status, CREATED_AT, changedAt);
+    }
+}
@@ -0,0 +1,266 @@
+package com.sinsaflower.server.domain.settlement.service;
+
+import com.sinsaflower.server.domain.order.service.OrderPartitionService;
+import com.sinsaflower.server.global.config.SettlementProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * H2 인메모리 DB에 합성 주문을 만들고 정산 결과를 SQL 집계와 비교
+ * 작은 구간/fetch 크기로 여러 웨이브를 거치게 한다.
+ */
+@DisplayName("SettlementEngine 테스트")
+class SettlementEngineTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 1);
+    private static final int ORDERS = 10_000;
+
+    // 정산 대상 조건을 SQL 로 직접 집계한 기대값
+    private static final String EXPECTED_SQL =
+            "SELECT member_id, COUNT(*) AS order_count, SUM(payment) AS payment_amount, " +
+            "SUM(COALESCE(origin_price, price)) AS origin_price_amount FROM orders " +
+            "WHERE delivery_date BETWEEN DATE '2024-01-01' AND DATE '2024-01-31' " +
+            "AND order_status = 'DELIVERED' AND is_deleted = false GROUP BY member_id ORDER BY member_id";
+    private static final String ACTUAL_SQL =
+            "SELECT member_id, order_count, payment_amount, origin_price_amount, margin_amount, bank_name, account_number " +
+            "FROM settlement WHERE settle_month = '2024-01' ORDER BY member_id";
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderPartitionService orderPartitionService;
+    private SettlementEngine settlementEngine;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:settlement;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema();
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V8__settlement_tables.sql"))
+                .execute(dataSource);
+        insertData();
+
+        SettlementProperties properties = new SettlementProperties();
+        properties.setParallelism(3);
+        properties.setMemberChunkSize(2);
+        properties.setOrderFetchSize(50);
+        orderPartitionService = mock(OrderPartitionService.class);
+        settlementEngine = new SettlementEngine(jdbcTemplate, new DataSourceTransactionManager(dataSource), properties,
+                orderPartitionService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("배송완료 주문을 회원별로 집계하고 기본 계좌를 함께 기록")
+    void settleAggregatesDeliveredOrders() {
+        OptionalLong checkpoint = settlementEngine.prepare(MONTH, false);
+        assertThat(checkpoint).hasValue(0);
+
+        settlementEngine.execute(MONTH, checkpoint.getAsLong());
+
+        List<Map<String, Object>> expected = jdbcTemplate.queryForList(EXPECTED_SQL);
+        List<Map<String, Object>> actual = jdbcTemplate.queryForList(ACTUAL_SQL);
+        assertThat(actual).hasSize(10).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            Map<String, Object> want = expected.get(i);
+            Map<String, Object> got = actual.get(i);
+            assertThat(number(got, "member_id")).isEqualTo(number(want, "member_id"));
+            assertThat(number(got, "order_count")).isEqualTo(number(want, "order_count"));
+            assertThat(number(got, "payment_amount")).isEqualTo(number(want, "payment_amount"));
+            assertThat(number(got, "origin_price_amount")).isEqualTo(number(want, "origin_price_amount"));
+            assertThat(number(got, "margin_amount"))
+                    .isEqualTo(number(want, "payment_amount") - number(want, "origin_price_amount"));
+        }
+
+        // 회원 1: 기본 계좌 우선, 회원 2: 비활성 계좌만 있어 계좌 정보 없음
+        assertThat(actual.get(0).get("bank_name")).isEqualTo("국민은행");
+        assertThat(actual.get(0).get("account_number")).isEqualTo("111-111");
+        assertThat(actual.get(1).get("bank_name")).isNull();
+
+        Map<String, Object> run = jdbcTemplate.queryForMap("SELECT * FROM settlement_run WHERE settle_month = '2024-01'");
+        long expectedOrders = expected.stream().mapToLong(row -> number(row, "order_count")).sum();
+        assertThat(run.get("status")).isEqualTo("COMPLETED");
+        assertThat(number(run, "member_count")).isEqualTo(10);
+        assertThat(number(run, "order_count")).isEqualTo(expectedOrders);
+        assertThat(number(run, "last_member_id")).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("배송일 범위 제약이 검증됐으면 created_at 범위를 좁혀도 같은 결과")
+    void settleWithCreatedAtPruning() {
+        given(orderPartitionService.isDeliveryWindowValidated()).willReturn(true);
+
+        settlementEngine.execute(MONTH, settlementEngine.prepare(MONTH, false).getAsLong());
+
+        List<Map<String, Object>> expected = jdbcTemplate.queryForList(EXPECTED_SQL);
+        List<Map<String, Object>> actual = jdbcTemplate.queryForList(ACTUAL_SQL);
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(number(actual.get(i), "order_count")).isEqualTo(number(expected.get(i), "order_count"));
+            assertThat(number(actual.get(i), "payment_amount")).isEqualTo(number(expected.get(i), "payment_amount"));
+        }
+    }
+
+    @Test
+    @DisplayName("재실행 시 주문이 모두 사라진 구간의 이전 결과도 삭제")
+    void rerunClearsRangesWithoutOrders() {
+        settlementEngine.execute(MONTH, settlementEngine.prepare(MONTH, false).getAsLong());
+        assertThat(count("SELECT COUNT(*) FROM settlement WHERE member_id IN (9, 10)")).isEqualTo(2);
+
+        // 회원 9, 10 (같은 구간) 주문이 모두 취소됨
+        jdbcTemplate.update("UPDATE orders SET order_status = 'CANCELLED' WHERE member_id IN (9, 10)");
+        jdbcTemplate.update("UPDATE settlement_run SET status = 'FAILED', last_member_id = 0 WHERE settle_month = '2024-01'");
+        settlementEngine.execute(MONTH, settlementEngine.prepare(MONTH, false).getAsLong());
+
+        assertThat(count("SELECT COUNT(*) FROM settlement WHERE member_id IN (9, 10)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM settlement")).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("완료된 월은 재실행 요청일 때만 기존 결과를 지우고 처음부터 실행")
+    void completedMonthRequiresRerun() {
+        settlementEngine.execute(MONTH, settlementEngine.prepare(MONTH, false).getAsLong());
+
+        assertThat(settlementEngine.prepare(MONTH, false)).isEmpty();
+
+        assertThat(settlementEngine.prepare(MONTH, true)).hasValue(0);
+        assertThat(count("SELECT COUNT(*) FROM settlement")).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM settlement_run WHERE settle_month = '2024-01'", String.class)).isEqualTo("RUNNING");
+    }
+
+    @Test
+    @DisplayName("실패한 실행은 체크포인트 다음 회원부터 이어서 실행")
+    void resumesFromCheckpoint() {
+        jdbcTemplate.update("INSERT INTO settlement_run (settle_month, status, last_member_id, member_count, order_count, " +
+                "payment_amount, started_at, updated_at) VALUES ('2024-01', 'FAILED', 6, 6, 0, 0, NOW(), NOW())");
+        // 체크포인트 이전 구간은 이미 기록된 것으로 보고 다시 계산하지 않음 (표식 값 유지)
+        jdbcTemplate.update("INSERT INTO settlement (settle_month, member_id, order_count, payment_amount, " +
+                "origin_price_amount, margin_amount, created_at) " +
+                "SELECT '2024-01', id, -1, 0, 0, 0, NOW() FROM member WHERE id <= 6");
+
+        OptionalLong checkpoint = settlementEngine.prepare(MONTH, false);
+        assertThat(checkpoint).hasValue(6);
+        settlementEngine.execute(MONTH, checkpoint.getAsLong());
+
+        assertThat(count("SELECT COUNT(*) FROM settlement WHERE order_count = -1")).isEqualTo(6);
+        assertThat(count("SELECT COUNT(*) FROM settlement WHERE member_id > 6")).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM settlement_run WHERE settle_month = '2024-01'", String.class)).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("같은 월을 동시에 준비하면 한 쪽만 실행권을 얻음")
+    void concurrentPrepareRunsOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Callable<OptionalLong> prepare = () -> {
+                start.await();
+                return settlementEngine.prepare(MONTH, false);
+            };
+            Future<OptionalLong> first = executor.submit(prepare);
+            Future<OptionalLong> second = executor.submit(prepare);
+            start.countDown();
+
+            List<OptionalLong> results = List.of(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+            assertThat(results).filteredOn(OptionalLong::isPresent).containsExactly(OptionalLong.of(0));
+            assertThat(results).filteredOn(OptionalLong::isEmpty).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(count("SELECT COUNT(*) FROM settlement_run WHERE status = 'RUNNING'")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lease 안의 진행중 실행은 이어받지도 재실행으로 지우지도 않고, lease 가 지나면 체크포인트부터 이어받음")
+    void runningMonthIsTakenUntilLeaseExpires() {
+        jdbcTemplate.update("INSERT INTO settlement_run (settle_month, status, last_member_id, member_count, order_count, " +
+                "payment_amount, started_at, updated_at) VALUES ('2024-01', 'RUNNING', 6, 6, 0, 0, NOW(), NOW())");
+        jdbcTemplate.update("INSERT INTO settlement (settle_month, member_id, order_count, payment_amount, " +
+                "origin_price_amount, margin_amount, created_at) VALUES ('2024-01', 1, 1, 0, 0, 0, NOW())");
+
+        assertThat(settlementEngine.prepare(MONTH, false)).isEmpty();
+        assertThat(settlementEngine.prepare(MONTH, true)).isEmpty();
+        assertThat(count("SELECT COUNT(*) FROM settlement")).isEqualTo(1);
+
+        // 마지막 체크포인트가 lease(600초)보다 오래됨
+        jdbcTemplate.update("UPDATE settlement_run SET updated_at = DATEADD('SECOND', -601, NOW())");
+        assertThat(settlementEngine.prepare(MONTH, false)).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("다른 실행이 체크포인트를 옮기면 이전 실행은 집계를 더하지 않고 멈춤")
+    void executeStopsWhenRunTakenOver() {
+        settlementEngine.prepare(MONTH, false);
+        // 다른 실행이 이어받아 체크포인트를 진행함
+        jdbcTemplate.update("UPDATE settlement_run SET last_member_id = 6, member_count = 6 WHERE settle_month = '2024-01'");
+
+        assertThatThrownBy(() -> settlementEngine.execute(MONTH, 0)).isInstanceOf(IllegalStateException.class);
+
+        Map<String, Object> run = jdbcTemplate.queryForMap("SELECT * FROM settlement_run WHERE settle_month = '2024-01'");
+        assertThat(run.get("status")).isEqualTo("RUNNING");
+        assertThat(number(run, "last_member_id")).isEqualTo(6);
+        assertThat(number(run, "member_count")).isEqualTo(6);
+    }
+
+    // 정산 쿼리가 쓰는 컬럼만 가진 축약 스키마
+    private void createSchema() {
+        jdbcTemplate.execute("CREATE TABLE member (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE member_business_profile (id BIGINT PRIMARY KEY, member_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE member_bank_account (id BIGINT PRIMARY KEY, business_profile_id BIGINT, " +
+                "bank_name VARCHAR(50), account_number VARCHAR(50), account_owner VARCHAR(50), " +
+                "is_primary BOOLEAN, is_active BOOLEAN)");
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, member_id BIGINT, payment NUMERIC(10, 0), " +
+                "origin_price NUMERIC(10, 0), price NUMERIC(10, 0), delivery_date DATE, order_status VARCHAR(20), " +
+                "is_deleted BOOLEAN, created_at TIMESTAMP(6))");
+    }
+
+    // 회원 12명 중 1~10번만 주문이 있고, 취소/삭제/다음 달 배송 주문이 섞인 1월 데이터 (주문일은 배송일 0~39일 전)
+    private void insertData() {
+        jdbcTemplate.update("INSERT INTO member SELECT X FROM SYSTEM_RANGE(1, 12)");
+        jdbcTemplate.update("INSERT INTO member_business_profile VALUES (1, 1), (2, 2)");
+        jdbcTemplate.update("INSERT INTO member_bank_account VALUES " +
+                "(1, 1, '신한은행', '999-999', '김신사', false, true), " +
+                "(2, 1, '국민은행', '111-111', '김신사', true, true), " +
+                "(3, 2, '우리은행', '222-222', '이꽃집', true, false)");
+        jdbcTemplate.update("INSERT INTO orders SELECT X, MOD(X, 10) + 1, 10000 + MOD(X, 7) * 1000, " +
+                "CASE WHEN MOD(X, 5) = 0 THEN NULL ELSE 8000 END, 9000, " +
+                "DATEADD('DAY', MOD(X, 35), DATE '2024-01-01'), " +
+                "CASE WHEN MOD(X, 11) = 0 THEN 'CANCELLED' ELSE 'DELIVERED' END, MOD(X, 13) = 0, " +
+                "DATEADD('DAY', MOD(X, 35) - MOD(X, 40), TIMESTAMP '2024-01-01 10:00:00') " +
+                "FROM SYSTEM_RANGE(1, " + ORDERS + ")");
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static long number(Map<String, Object> row, String column) {
+        return ((Number) row.get(column)).longValue();
+    }
+}
@@ -0,0 +1,190 @@
+package com.sinsaflower.server.domain.sync.service;
+
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.sync.dto.SyncOrderChange;
+import com.sinsaflower.server.domain.sync.dto.SyncPriceChange;
+import com.sinsaflower.server.domain.sync.dto.SyncResponse;
+import com.sinsaflower.server.global.config.SyncProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB에서 델타 동기화의 범위/삭제 기록/페이지 나눔을 검증
+ * H2 에는 순번 트리거가 없으므로 change_seq 를 직접 채운다.
+ */
+@DisplayName("SyncService 테스트")
+class SyncServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SyncProperties properties;
+    private SyncWatermark syncWatermark;
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:sync;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 동기화 쿼리가 쓰는 컬럼만 가진 축약 스키마 + change_seq 마이그레이션
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, member_id BIGINT, is_deleted BOOLEAN, " +
+                "order_number VARCHAR(6), order_type VARCHAR(10), order_status VARCHAR(20), shop_name VARCHAR(100), " +
+                "product_name VARCHAR(200), receiver_name VARCHAR(50), delivery_date DATE, delivery_hours VARCHAR(10), " +
+                "delivery_minutes VARCHAR(10), delivery_place VARCHAR(200), payment NUMERIC(10, 0), updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE member_product_price (id BIGINT PRIMARY KEY, member_id BIGINT, " +
+                "sido VARCHAR(50), sigungu VARCHAR(50), category_name VARCHAR(50), price NUMERIC(10, 0), is_available BOOLEAN)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V12__sync_change_seq.sql"))
+                .execute(dataSource);
+
+        properties = new SyncProperties();
+        syncWatermark = new SyncWatermark(jdbcTemplate, properties);
+        syncService = new SyncService(jdbcTemplate, syncWatermark, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("기준선 이후, 기준선까지의 내 주문/가격 변경분과 삭제 기록만 응답")
+    void returnsChangesBetweenSinceAndWatermark() {
+        insertOrder(1, 1L, 1, false);
+        insertOrder(2, 1L, 3, true);
+        insertOrder(3, 2L, 4, false);
+        insertOrder(4, 1L, 6, false);
+        insertOrder(5, 1L, 9, false);
+        insertPrice(10, 1L, 2);
+        insertPrice(11, 1L, 7);
+        insertTombstone(5, 12, 1L);
+        insertTombstone(8, 13, 2L);
+        settle(8);
+
+        SyncResponse response = syncService.getChanges(1L, 1, null);
+
+        assertThat(response.getNextSince()).isEqualTo(8);
+        assertThat(response.getHasMore()).isFalse();
+        assertThat(response.getOrders()).extracting(SyncOrderChange::getId).containsExactly(2L, 4L);
+        assertThat(response.getOrders().get(0).getDeleted()).isTrue();
+        assertThat(response.getOrders().get(0).getOrderStatus()).isNull();
+        assertThat(response.getOrders().get(1).getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(response.getPrices()).extracting(SyncPriceChange::getId).containsExactly(10L, 12L, 11L);
+        assertThat(response.getPrices()).extracting(SyncPriceChange::getDeleted).containsExactly(false, true, false);
+
+        assertThat(syncService.getChanges(1L, 8, null).getOrders()).isEmpty();
+        assertThat(syncService.getChanges(1L, 8, null).getNextSince()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("limit 을 넘으면 모든 테이블을 같은 순번에서 잘라 이어받기로 빠짐없이 한 번씩 전달")
+    void pagesAcrossTablesWithoutGapsOrDuplicates() {
+        // 주문은 홀수, 가격은 짝수 순번 (가격 일부는 삭제 기록)
+        jdbcTemplate.update("INSERT INTO orders (id, member_id, is_deleted, order_number, order_status, change_seq) " +
+                "SELECT X, 1, false, CAST(X AS VARCHAR), 'PENDING', X * 2 - 1 FROM SYSTEM_RANGE(1, 50)");
+        jdbcTemplate.update("INSERT INTO member_product_price (id, member_id, sido, sigungu, category_name, price, " +
+                "is_available, change_seq) SELECT X, 1, '서울', '강남구', '근조', 50, true, X * 2 FROM SYSTEM_RANGE(1, 40)");
+        jdbcTemplate.update("INSERT INTO sync_tombstone (change_seq, table_name, row_id, member_id, deleted_at) " +
+                "SELECT X * 2, 'member_product_price', X, 1, NOW() FROM SYSTEM_RANGE(41, 50)");
+        settle(100);
+
+        List<Long> seen = new ArrayList<>();
+        long since = 0;
+        int requests = 0;
+        SyncResponse response;
+        do {
+            response = syncService.getChanges(1L, since, 7);
+            assertThat(response.getOrders().size()).isLessThanOrEqualTo(7);
+            assertThat(response.getPrices().size()).isLessThanOrEqualTo(7);
+            response.getOrders().forEach(change -> seen.add(change.getChangeSeq()));
+            response.getPrices().forEach(change -> seen.add(change.getChangeSeq()));
+            assertThat(response.getNextSince()).isGreaterThan(since);
+            since = response.getNextSince();
+            requests++;
+        } while (response.getHasMore());
+
+        assertThat(since).isEqualTo(100);
+        assertThat(seen).hasSize(100).doesNotHaveDuplicates();
+        assertThat(seen.stream().sorted().toList()).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, 100).boxed().toList());
+        assertThat(requests).isBetween(8, 10);
+    }
+
+    @Test
+    @DisplayName("수집 시점 스냅샷 xmax 아래 트랜잭션이 모두 끝나기 전의 순번은 기준선이 되지 않음")
+    void unsettledSampleIsNotUsed() {
+        insertOrder(1, 1L, 1, false);
+        syncWatermark.record(1, 100, 90);
+
+        assertThat(syncWatermark.current()).isZero();
+        assertThat(syncService.getChanges(1L, 0, null).getOrders()).isEmpty();
+
+        insertOrder(2, 1L, 2, false);
+        syncWatermark.record(2, 110, 100);
+        assertThat(syncWatermark.current()).isEqualTo(1);
+        assertThat(syncService.getChanges(1L, 0, null).getOrders()).hasSize(1);
+
+        syncWatermark.record(2, 120, 110);
+        assertThat(syncWatermark.current()).isEqualTo(2);
+        assertThat(syncService.getChanges(1L, 0, null).getOrders()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("오래 걸리는 트랜잭션이 기준선을 붙잡아도 대기 수집 결과는 상한을 넘지 않고, 풀리면 최신 값까지 확정")
+    void pendingSamplesAreCappedWhileStalled() {
+        properties.setMaxPendingSamples(5);
+
+        // xmin 90 에 머문 트랜잭션 (순번이 그대로인 수집은 쌓지 않음)
+        for (long value = 1; value <= 100; value++) {
+            syncWatermark.record(value, 100 + value, 90);
+            syncWatermark.record(value, 100 + value, 90);
+        }
+        assertThat(syncWatermark.current()).isZero();
+        assertThat(syncWatermark.pendingSamples()).isEqualTo(5);
+
+        syncWatermark.record(100, 300, 104);
+        assertThat(syncWatermark.current()).isEqualTo(4);
+
+        syncWatermark.record(100, 300, 200);
+        assertThat(syncWatermark.current()).isEqualTo(100);
+        assertThat(syncWatermark.pendingSamples()).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 기준선/limit 은 거부")
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> syncService.getChanges(1L, -1, null))
+                .hasMessageContaining("기준 순번");
+        assertThatThrownBy(() -> syncService.getChanges(1L, 0, 0))
+                .hasMessageContaining("limit");
+    }
+
+    private void settle(long value) {
+        syncWatermark.record(value, 1, 1);
+    }
+
+    private void insertOrder(long id, Long memberId, long changeSeq, boolean deleted) {
+        jdbcTemplate.update("INSERT INTO orders (id, member_id, is_deleted, order_number, order_status, change_seq) " +
+                "VALUES (?, ?, ?, ?, 'PENDING', ?)", id, memberId, deleted, String.valueOf(id), changeSeq);
+    }
+
+    private void insertPrice(long id, Long memberId, long changeSeq) {
+        jdbcTemplate.update("INSERT INTO member_product_price (id, member_id, sido, sigungu, category_name, price, " +
+                "is_available, change_seq) VALUES (?, ?, '서울', '강남구', '근조', 50, true, ?)", id, memberId, changeSeq);
+    }
+
+    private void insertTombstone(long changeSeq, long rowId, Long memberId) {
+        jdbcTemplate.update("INSERT INTO sync_tombstone (change_seq, table_name, row_id, member_id, deleted_at) " +
+                "VALUES (?, 'member_product_price', ?, ?, NOW())", changeSeq, rowId, memberId);
+    }
+}
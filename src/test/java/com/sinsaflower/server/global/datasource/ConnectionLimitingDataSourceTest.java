@@ -0,0 +1,47 @@
+package com.sinsaflower.server.global.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConnectionLimitingDataSource 테스트")
+class ConnectionLimitingDataSourceTest {
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:limiting;DB_CLOSE_DELAY=-1", "sa", ""), 1, 100);
+    }
+
+    @Test
+    @DisplayName("허가 수를 넘는 커넥션 요청은 대기 시간 후 실패")
+    void rejectsOverLimit() throws Exception {
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThat(dataSource.getAvailablePermits()).isZero();
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+        }
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커넥션을 여러 번 닫아도 허가는 한 번만 반환")
+    void releasesOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        try (Connection reused = dataSource.getConnection()) {
+            assertThat(reused.isValid(1)).isTrue();
+        }
+    }
+}
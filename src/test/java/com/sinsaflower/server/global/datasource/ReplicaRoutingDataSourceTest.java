@@ -0,0 +1,119 @@
+package com.sinsaflower.server.global.datasource;
+
+import com.sinsaflower.server.global.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 두 개의 H2 인메모리 DB를 주 DB/복제본 대용으로 두고 라우팅을 검증
+ */
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHICH_SQL = "SELECT name FROM routing_marker";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTemplate;
+    private TransactionTemplate readOnlyTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary", "primary");
+        DataSource replica = h2("routing_replica", "replica");
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, List.of(replica), new ReadYourWritesTracker(60_000));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖 호출은 주 DB로 라우팅")
+    void writeGoesToPrimary() {
+        assertThat(writeTemplate.execute(status -> which())).isEqualTo("primary");
+        assertThat(which()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 라우팅")
+    void readOnlyGoesToReplica() {
+        assertThat(readOnlyTemplate.execute(status -> which())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("본인 쓰기 직후 읽기는 주 DB, 다른 사용자는 복제본")
+    void readYourWrites() {
+        login(1L);
+        writeTemplate.executeWithoutResult(status -> which());
+        assertThat(readOnlyTemplate.execute(status -> which())).isEqualTo("primary");
+
+        login(2L);
+        assertThat(readOnlyTemplate.execute(status -> which())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 읽기 고정을 남기지 않음")
+    void rollbackDoesNotStick() {
+        login(1L);
+        writeTemplate.executeWithoutResult(status -> {
+            which();
+            status.setRollbackOnly();
+        });
+        assertThat(readOnlyTemplate.execute(status -> which())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("고정 시간이 지나면 다시 복제본 사용")
+    void stickinessExpires() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(0);
+        tracker.markWrite("PARTNER:1");
+        assertThat(tracker.isSticky("PARTNER:1")).isFalse();
+    }
+
+    private String which() {
+        return jdbcTemplate.queryForObject(WHICH_SQL, String.class);
+    }
+
+    private static DataSource h2(String name, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        template.update("DELETE FROM routing_marker");
+        template.update("INSERT INTO routing_marker (name) VALUES (?)", marker);
+        return dataSource;
+    }
+
+    private static void login(Long userId) {
+        CustomUserDetails userDetails = new CustomUserDetails(userId, "user" + userId,
+                CustomUserDetails.USER_TYPE_PARTNER, List.of(new SimpleGrantedAuthority(CustomUserDetails.ROLE_PARTNER)));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+}
@@ -0,0 +1,231 @@
+package com.sinsaflower.server.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinsaflower.server.global.config.IdempotencyProperties;
+import com.sinsaflower.server.global.security.CustomUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockPart;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB에서 Idempotency-Key 필터의 재시도 응답 재사용, 동시 중복 요청 대기, 만료 정리를 검증
+ */
+@DisplayName("IdempotencyFilter 테스트")
+class IdempotencyFilterTest {
+
+    private static final String ORDER_JSON = "{\"productName\":\"근조3단\"}";
+
+    private JdbcTemplate jdbcTemplate;
+    private IdempotencyProperties properties;
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V14__idempotency_key.sql"))
+                .execute(dataSource);
+
+        properties = new IdempotencyProperties();
+        properties.setWaitTimeoutSeconds(10);
+        store = new IdempotencyStore(jdbcTemplate, properties);
+        store.init();
+        filter = new IdempotencyFilter(store, properties, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("같은 키 재시도는 컨트롤러를 다시 실행하지 않고 최초 응답을 그대로 반환")
+    void retryReplaysStoredResponse() throws Exception {
+        MockHttpServletResponse first = post("key-1", ORDER_JSON, createdChain(0));
+        MockHttpServletResponse retry = post("key-1", ORDER_JSON, createdChain(0));
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+
+        // 다른 키는 새로 실행
+        post("key-2", ORDER_JSON, createdChain(0));
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 서버(LRU 없음)로 온 재시도는 테이블의 응답으로 반환")
+    void retryOnAnotherServerReadsTable() throws Exception {
+        MockHttpServletResponse first = post("key-1", ORDER_JSON, createdChain(0));
+
+        IdempotencyStore otherStore = new IdempotencyStore(jdbcTemplate, properties);
+        otherStore.init();
+        filter = new IdempotencyFilter(otherStore, properties, new ObjectMapper().findAndRegisterModules());
+        MockHttpServletResponse retry = post("key-1", ORDER_JSON, createdChain(0));
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용을 보내면 422")
+    void differentPayloadIsRejected() throws Exception {
+        post("key-1", ORDER_JSON, createdChain(0));
+        MockHttpServletResponse response = post("key-1", "{\"productName\":\"축하3단\"}", createdChain(0));
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("ID 가 같은 관리자와 파트너는 같은 키를 써도 서로의 응답을 받지 않음")
+    void keysAreScopedByUserType() throws Exception {
+        try {
+            login(CustomUserDetails.USER_TYPE_ADMIN, CustomUserDetails.ROLE_ADMIN);
+            MockHttpServletResponse admin = post("key-1", ORDER_JSON, createdChain(0));
+            login(CustomUserDetails.USER_TYPE_PARTNER, CustomUserDetails.ROLE_PARTNER);
+            MockHttpServletResponse partner = post("key-1", ORDER_JSON, createdChain(0));
+
+            assertThat(executions).hasValue(2);
+            assertThat(partner.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            assertThat(partner.getContentAsString()).isNotEqualTo(admin.getContentAsString());
+            assertThat(count()).isEqualTo(2);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키 요청 16건은 한 번만 실행되고 모두 같은 응답을 받음")
+    void concurrentDuplicatesWaitForFirstExecution() throws Exception {
+        int clients = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return post("key-1", ORDER_JSON, createdChain(300));
+                }));
+            }
+            start.countDown();
+
+            List<String> bodies = new ArrayList<>();
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get(30, TimeUnit.SECONDS);
+                assertThat(response.getStatus()).isEqualTo(201);
+                bodies.add(response.getContentAsString());
+            }
+            assertThat(executions).hasValue(1);
+            assertThat(bodies).containsOnly(bodies.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 저장하지 않아 재시도가 다시 실행됨")
+    void serverErrorIsNotStored() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+        assertThat(post("key-1", ORDER_JSON, failing).getStatus()).isEqualTo(500);
+        assertThat(count()).isZero();
+
+        assertThat(post("key-1", ORDER_JSON, createdChain(0)).getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("키가 없거나 대상 경로가 아니면 그대로 통과하고, 만료된 키는 정리")
+    void passThroughAndSweep() throws Exception {
+        filter.doFilter(request(null, ORDER_JSON), new MockHttpServletResponse(), createdChain(0));
+        MockHttpServletRequest otherPath = request("key-1", ORDER_JSON);
+        otherPath.setRequestURI("/api/orders/1/image");
+        filter.doFilter(otherPath, new MockHttpServletResponse(), createdChain(0));
+        assertThat(executions).hasValue(2);
+        assertThat(count()).isZero();
+
+        post("key-1", ORDER_JSON, createdChain(0));
+        jdbcTemplate.update("UPDATE idempotency_key SET expires_at = ?", LocalDateTime.now().minusSeconds(1));
+        assertThat(store.sweepExpired()).isEqualTo(1);
+        assertThat(count()).isZero();
+    }
+
+    private static void login(String userType, String role) {
+        CustomUserDetails userDetails = new CustomUserDetails(1L, "user1", userType,
+                List.of(new SimpleGrantedAuthority(role)));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private MockHttpServletResponse post(String key, String json, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(key, json), response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest request(String key, String json) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        // boundary 는 재시도마다 달라도 같은 요청으로 판단
+        request.setContentType("multipart/form-data; boundary=" + System.nanoTime());
+        request.addPart(new MockPart("orderData", json.getBytes(StandardCharsets.UTF_8)));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        return request;
+    }
+
+    private FilterChain createdChain(long delayMillis) {
+        return (request, response) -> {
+            int execution = executions.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setContentType("application/json");
+            http.getOutputStream().write(("{\"code\":201,\"data\":{\"execution\":" + execution + "}}")
+                    .getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_key", Long.class);
+    }
+}
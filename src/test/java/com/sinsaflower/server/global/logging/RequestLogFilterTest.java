@@ -0,0 +1,135 @@
+package com.sinsaflower.server.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.sinsaflower.server.global.config.RequestLogProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청당 요약 로그의 경로 패턴/상태/SQL 수/사용자 기록, 느린 요청 WARN, 제외 경로를 검증
+ */
+@DisplayName("RequestLogFilter 테스트")
+class RequestLogFilterTest {
+
+    private RequestLogProperties properties;
+    private RequestLogFilter filter;
+    private Logger requestLogger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestLogProperties();
+        filter = new RequestLogFilter(properties);
+
+        requestLogger = (Logger) LoggerFactory.getLogger("request");
+        requestLogger.setLevel(Level.INFO);
+        appender = new ListAppender<>();
+        appender.start();
+        requestLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestLogger.detachAppender(appender);
+        requestLogger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("매핑된 경로 패턴, 상태, 요청 중 실행된 SQL 수, 사용자를 한 줄로 기록")
+    void logsSummaryLine() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            RequestLogFilter.countSql();
+            RequestLogFilter.countSql();
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/{orderId}");
+            req.setAttribute(RequestLogFilter.USER_ATTRIBUTE, "PARTNER:7");
+            ((MockHttpServletResponse) res).setStatus(200);
+        });
+
+        assertThat(appender.list).hasSize(1);
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getLevel()).isEqualTo(Level.INFO);
+        assertThat(event.getFormattedMessage())
+                .startsWith("method=GET route=/api/orders/{orderId} status=200 latencyMs=")
+                .endsWith(" sql=2 user=PARTNER:7")
+                .doesNotContain("/api/orders/42");
+    }
+
+    @Test
+    @DisplayName("매핑 전에 끝난 요청은 실제 경로, 사용자는 - 로 기록하고 요청 밖의 SQL 은 세지 않음")
+    void logsUnmappedRequest() throws Exception {
+        RequestLogFilter.countSql();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> ((MockHttpServletResponse) res).setStatus(401));
+        RequestLogFilter.countSql();
+
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .asString()
+                .startsWith("method=POST route=/api/orders status=401 ")
+                .endsWith(" sql=0 user=-");
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 요청은 status=500 으로 기록하고 예외는 그대로 전달")
+    void logsFailedRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/my");
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), failing))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .asString()
+                .contains("status=500");
+    }
+
+    @Test
+    @DisplayName("느린 요청은 WARN, 로그 레벨이 WARN 이면 빠른 요청은 기록하지 않음")
+    void slowRequestLoggedAsWarn() throws Exception {
+        properties.setSlowThresholdMillis(0);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders/my"), new MockHttpServletResponse(), (req, res) -> {
+        });
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getLevel)
+                .isEqualTo(Level.WARN);
+
+        appender.list.clear();
+        requestLogger.setLevel(Level.WARN);
+        properties.setSlowThresholdMillis(60_000);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders/my"), new MockHttpServletResponse(), (req, res) -> {
+        });
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제외 경로와 비활성 설정에서는 기록하지 않음")
+    void skipsExcludedPaths() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), (req, res) -> {
+        });
+        assertThat(appender.list).isEmpty();
+
+        properties.setEnabled(false);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders/my"), new MockHttpServletResponse(), (req, res) -> {
+        });
+        assertThat(appender.list).isEmpty();
+    }
+}
@@ -0,0 +1,98 @@
+package com.sinsaflower.server.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MarkerFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SAMPLED 마커 이벤트의 로거별 표본 추출 비율, 마커 없는 감사 로그/대상 밖 레벨 통과를 검증
+ */
+@DisplayName("SamplingTurboFilter 테스트")
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setMaxLevel("WARN");
+        filter.setRate(10);
+    }
+
+    @Test
+    @DisplayName("SAMPLED 마커가 붙은 WARN 이하 이벤트는 rate 건 중 1건만 통과")
+    void samplesMarkedEvents() {
+        Logger logger = context.getLogger("com.sinsaflower.server.global.service.AuthService");
+
+        assertThat(countPassed(logger, 1000)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("마커가 없는 같은 로거의 보안 감사 로그는 표본 추출하지 않음")
+    void passesUnmarkedAuditEvents() {
+        Logger logger = context.getLogger("com.sinsaflower.server.global.service.AuthService");
+
+        for (int i = 0; i < 100; i++) {
+            filter.decide(SamplingTurboFilter.SAMPLED, logger, Level.WARN, "로그인 실패: {}", new Object[]{i}, null);
+            assertThat(filter.decide(null, logger, Level.WARN, "리프레시 토큰 재사용 감지: {}", new Object[]{i}, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(MarkerFactory.getMarker("OTHER"), logger, Level.WARN, "warn", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    @DisplayName("카운터는 로거마다 따로 세어 한 로거의 폭주가 다른 로거의 표본을 밀어내지 않음")
+    void countsPerLogger() {
+        Logger noisy = context.getLogger("com.sinsaflower.server.global.service.AuthService");
+        Logger quiet = context.getLogger("com.sinsaflower.server.global.jwt.JwtUtil");
+
+        countPassed(noisy, 999);
+
+        assertThat(filter.decide(SamplingTurboFilter.SAMPLED, quiet, Level.WARN, "warn", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(countPassed(quiet, 99)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("ERROR, 레벨 확인 호출(format 없음)은 마커가 있어도 표본 추출하지 않음")
+    void passesOtherEvents() {
+        Logger logger = context.getLogger("com.sinsaflower.server.global.jwt.JwtUtil");
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(filter.decide(SamplingTurboFilter.SAMPLED, logger, Level.ERROR, "error", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(SamplingTurboFilter.SAMPLED, logger, Level.DEBUG, null, null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    @DisplayName("rate 1 이하면 모두 통과")
+    void disabledSampling() {
+        Logger logger = context.getLogger("com.sinsaflower.server.global.jwt.JwtUtil");
+
+        filter.setRate(1);
+
+        assertThat(countPassed(logger, 10)).isEqualTo(10);
+    }
+
+    private int countPassed(Logger logger, int events) {
+        int passed = 0;
+        for (int i = 0; i < events; i++) {
+            if (filter.decide(SamplingTurboFilter.SAMPLED, logger, Level.WARN, "warn: {}", new Object[]{i}, null)
+                    == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+}
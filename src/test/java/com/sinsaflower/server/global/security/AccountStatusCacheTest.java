@@ -0,0 +1,141 @@
+package com.sinsaflower.server.global.security;
+
+import com.sinsaflower.server.global.config.AccountStatusProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB에서 계정 상태/프로필 캐시의 일괄 적재, 메모리 조회, 무효화 후 재조회를 검증
+ */
+@DisplayName("AccountStatusCache 테스트")
+class AccountStatusCacheTest {
+
+    private static final String PARTNER = CustomUserDetails.USER_TYPE_PARTNER;
+    private static final String ADMIN = CustomUserDetails.USER_TYPE_ADMIN;
+
+    private JdbcTemplate jdbcTemplate;
+    private AccountStatusProperties properties;
+    private AccountStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:account_status;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 캐시 쿼리가 쓰는 컬럼만 가진 축약 스키마
+        jdbcTemplate.execute("CREATE TABLE member (id BIGINT PRIMARY KEY, status VARCHAR(20), is_deleted BOOLEAN, " +
+                "name VARCHAR(50), nickname VARCHAR(50))");
+        jdbcTemplate.execute("CREATE TABLE admin (id BIGINT PRIMARY KEY, status VARCHAR(20), is_deleted BOOLEAN, name VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO member VALUES (1, 'ACTIVE', false, '김파트너', '강남꽃집'), " +
+                "(2, 'SUSPENDED', false, '이파트너', '수원꽃집'), (3, 'ACTIVE', true, '박파트너', '삭제꽃집')");
+        jdbcTemplate.update("INSERT INTO admin VALUES (1, 'ACTIVE', false, '관리자'), (2, 'INACTIVE', false, '부관리자')");
+
+        properties = new AccountStatusProperties();
+        cache = new AccountStatusCache(jdbcTemplate, properties);
+        cache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("시작 시 적재한 뒤에는 DB 없이 정지/삭제/비활성 계정을 구분")
+    void preloadedStatusesAreServedFromMemory() {
+        cache.preload();
+        assertThat(cache.size()).isEqualTo(5);
+        assertThat(cache.isNotifySupported()).isFalse();
+
+        jdbcTemplate.execute("DROP TABLE member");
+        jdbcTemplate.execute("DROP TABLE admin");
+
+        assertThat(cache.isActive(PARTNER, 1L)).isTrue();
+        assertThat(cache.isActive(PARTNER, 2L)).isFalse();
+        assertThat(cache.isActive(PARTNER, 3L)).isFalse();
+        assertThat(cache.isActive(ADMIN, 1L)).isTrue();
+        assertThat(cache.isActive(ADMIN, 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이름/닉네임도 적재한 항목에서 응답하고, 관리자는 이름을 닉네임으로 사용")
+    void profilesAreServedFromMemory() {
+        cache.preload();
+        jdbcTemplate.execute("DROP TABLE member");
+        jdbcTemplate.execute("DROP TABLE admin");
+
+        assertThat(cache.getProfile(PARTNER, 1L)).contains(new AccountStatusCache.Profile("김파트너", "강남꽃집"));
+        assertThat(cache.getProfile(ADMIN, 1L)).contains(new AccountStatusCache.Profile("관리자", "관리자"));
+    }
+
+    @Test
+    @DisplayName("프로필 변경 이벤트로 무효화하면 바뀐 닉네임을 읽고, 없는 계정은 빈 값")
+    void profileInvalidation() {
+        cache.preload();
+        jdbcTemplate.update("UPDATE member SET nickname = '신사꽃집' WHERE id = 1");
+
+        cache.onAccountStatusChanged(AccountStatusChangedEvent.partner(1L));
+
+        assertThat(cache.getProfile(PARTNER, 1L)).map(AccountStatusCache.Profile::nickname).contains("신사꽃집");
+        assertThat(cache.getProfile(PARTNER, 99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상태 변경 이벤트로 무효화하면 다음 확인에서 바뀐 상태를 읽음")
+    void invalidationReloadsChangedStatus() {
+        cache.preload();
+        jdbcTemplate.update("UPDATE member SET status = 'SUSPENDED' WHERE id = 1");
+        assertThat(cache.isActive(PARTNER, 1L)).isTrue();
+
+        cache.onAccountStatusChanged(AccountStatusChangedEvent.partner(1L));
+
+        assertThat(cache.isActive(PARTNER, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버의 알림으로 무효화")
+    void notificationInvalidates() {
+        cache.preload();
+        jdbcTemplate.update("UPDATE admin SET status = 'SUSPENDED' WHERE id = 1");
+
+        cache.onNotification("ADMIN:1");
+        cache.onNotification("잘못된 알림");
+
+        assertThat(cache.isActive(ADMIN, 1L)).isFalse();
+        assertThat(cache.isActive(PARTNER, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 계정은 단건 조회해 채우고, 없는 계정은 비활성")
+    void missLoadsSingleRow() {
+        assertThat(cache.size()).isZero();
+
+        assertThat(cache.isActive(PARTNER, 1L)).isTrue();
+        assertThat(cache.isActive(PARTNER, 99L)).isFalse();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지난 항목은 다시 조회")
+    void expiredEntryIsReloaded() {
+        properties.setTtlSeconds(0);
+        cache.preload();
+        jdbcTemplate.update("UPDATE member SET status = 'SUSPENDED' WHERE id = 1");
+
+        assertThat(cache.isActive(PARTNER, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 확인하지 않음")
+    void disabledAllowsAll() {
+        properties.setEnabled(false);
+
+        assertThat(cache.isActive(PARTNER, 2L)).isTrue();
+    }
+}
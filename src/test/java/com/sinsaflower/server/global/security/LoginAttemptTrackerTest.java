@@ -0,0 +1,147 @@
+package com.sinsaflower.server.global.security;
+
+import com.sinsaflower.server.global.config.LoginAttemptProperties;
+import com.sinsaflower.server.global.exception.LoginLockedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로그인 실패 추적기의 구간 집계, 점진적 잠금, 구간 경과 후 감소, 항목 수 상한을 시계를 바꿔가며 검증
+ */
+@DisplayName("LoginAttemptTracker 테스트")
+class LoginAttemptTrackerTest {
+
+    private static final String IP = "203.0.113.10";
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private LoginAttemptProperties properties;
+    private LoginAttemptTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginAttemptProperties();
+        properties.setWindowSeconds(60);
+        properties.setBucketCount(6);
+        properties.setMaxFailuresPerLoginId(3);
+        properties.setMaxFailuresPerIp(10);
+        properties.setLockSeconds(30);
+        properties.setMaxLockSeconds(100);
+        tracker = new LoginAttemptTracker(properties);
+        tracker.clock = now::get;
+    }
+
+    @Test
+    @DisplayName("허용 실패 수에 도달하면 잠그고 남은 시간을 알림")
+    void locksAfterMaxFailures() {
+        tracker.recordFailure("partner1", IP);
+        tracker.recordFailure("partner1", IP);
+        assertThatCode(() -> tracker.checkAllowed("partner1", IP)).doesNotThrowAnyException();
+
+        tracker.recordFailure("partner1", IP);
+        assertThatThrownBy(() -> tracker.checkAllowed("partner1", IP))
+                .isInstanceOf(LoginLockedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(30L);
+        // 같은 IP 의 다른 ID 는 IP 허용 수 전까지 통과
+        assertThatCode(() -> tracker.checkAllowed("partner2", IP)).doesNotThrowAnyException();
+
+        now.addAndGet(30_000);
+        assertThatCode(() -> tracker.checkAllowed("partner1", IP)).doesNotThrowAnyException();
+        assertThat(tracker.getSummary().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구간 안에서 잠금이 반복되면 잠금 시간이 2배씩 늘어 최대값에서 멈춤")
+    void lockDurationGrows() {
+        long[] expected = {30, 60, 100, 100};
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure("partner1", null);
+        }
+        for (long seconds : expected) {
+            assertThat(retryAfter("partner1")).isEqualTo(seconds);
+            now.addAndGet(seconds * 1000);
+            for (int i = 0; i < 3; i++) {
+                tracker.recordFailure("partner1", null);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("구간이 지난 실패는 빠지고, 성공하면 로그인 ID 기록이 초기화됨")
+    void failuresDecayAndResetOnSuccess() {
+        tracker.recordFailure("partner1", null);
+        tracker.recordFailure("partner1", null);
+        now.addAndGet(60_000);
+        tracker.recordFailure("partner1", null);
+        assertThatCode(() -> tracker.checkAllowed("partner1", null)).doesNotThrowAnyException();
+
+        tracker.recordFailure("partner1", null);
+        tracker.recordSuccess("partner1");
+        tracker.recordFailure("partner1", null);
+        tracker.recordFailure("partner1", null);
+        assertThatCode(() -> tracker.checkAllowed("partner1", null)).doesNotThrowAnyException();
+        assertThat(tracker.getLockouts(10)).singleElement().satisfies(lockout -> {
+            assertThat(lockout.failures()).isEqualTo(2);
+            assertThat(lockout.locked()).isFalse();
+        });
+
+        now.addAndGet(60_000);
+        assertThat(tracker.sweep()).isEqualTo(1);
+        assertThat(tracker.getSummary().trackedLoginIds()).isZero();
+    }
+
+    @Test
+    @DisplayName("IP 별 허용 수를 넘으면 다른 로그인 ID 도 거절")
+    void locksIpAcrossLoginIds() {
+        for (int i = 0; i < 10; i++) {
+            tracker.recordFailure("user" + i, IP);
+        }
+        assertThatThrownBy(() -> tracker.checkAllowed("another", IP)).isInstanceOf(LoginLockedException.class);
+        assertThatCode(() -> tracker.checkAllowed("another", "198.51.100.1")).doesNotThrowAnyException();
+
+        assertThat(tracker.unlock(null, IP)).isEqualTo(1);
+        assertThatCode(() -> tracker.checkAllowed("another", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("추적 항목 수 상한에 닿으면 마지막 실패가 오래된 항목을 내보내고 새 키를 추적")
+    void boundedEntries() {
+        properties.setMaxEntries(100);
+        for (int i = 0; i < 500; i++) {
+            now.addAndGet(10);
+            tracker.recordFailure("user" + i, null);
+        }
+        assertThat(tracker.getSummary().trackedLoginIds()).isLessThanOrEqualTo(100);
+        assertThat(tracker.getSummary().evicted()).isEqualTo(500 - tracker.getSummary().trackedLoginIds());
+        assertThat(tracker.getLockouts(1000)).extracting(LoginAttemptTracker.Lockout::key)
+                .contains("user499")
+                .doesNotContain("user0", "user399");
+    }
+
+    @Test
+    @DisplayName("상한 초과로 내보낼 때 잠긴 항목은 잠기지 않은 항목보다 나중에 내보냄")
+    void evictionKeepsLockedEntries() {
+        properties.setMaxEntries(100);
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure("victim", null);
+        }
+        for (int i = 0; i < 500; i++) {
+            now.addAndGet(10);
+            tracker.recordFailure("user" + i, null);
+        }
+        assertThat(retryAfter("victim")).isPositive();
+    }
+
+    private long retryAfter(String loginId) {
+        try {
+            tracker.checkAllowed(loginId, null);
+            return 0;
+        } catch (LoginLockedException e) {
+            return e.getRetryAfterSeconds();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.sinsaflower.server.global.security;
+
+import com.sinsaflower.server.global.config.RefreshTokenProperties;
+import com.sinsaflower.server.global.security.RefreshTokenStore.Rotation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * H2 인메모리 DB에서 리프레시 토큰 교체, 재사용 감지, 서버 간 폐기 목록 동기화, 만료 정리를 검증
+ */
+@DisplayName("RefreshTokenStore 테스트")
+class RefreshTokenStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RefreshTokenProperties properties;
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:refresh_token;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V18__refresh_token.sql"),
+                new ClassPathResource("db/migration/common/V26__refresh_token_replaced_by.sql"))
+                .execute(dataSource);
+
+        properties = new RefreshTokenProperties();
+        store = new RefreshTokenStore(jdbcTemplate, properties);
+        store.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("토큰은 한 번만 교체되고, 유예 시간이 지난 뒤 교체된 토큰을 다시 쓰면 family 전체가 폐기됨")
+    void reuseRevokesFamily() {
+        store.issue("jti-1", "family-1", "PARTNER", 1L, expiresIn(7));
+        assertThat(rotate("jti-1", "family-1", "jti-2")).isEqualTo(Rotation.ROTATED);
+        store.issue("jti-2", "family-1", "PARTNER", 1L, expiresIn(7));
+        jdbcTemplate.update("UPDATE refresh_token SET rotated_at = DATEADD('SECOND', ?, rotated_at) WHERE jti = 'jti-1'",
+                -(properties.getRotationGraceSeconds() + 1));
+
+        // 탈취된 이전 토큰 재사용
+        assertThat(rotate("jti-1", "family-1", "jti-3")).isEqualTo(Rotation.REUSED);
+        assertThat(store.isRevoked("family-1")).isTrue();
+
+        // 정상 사용자의 최신 토큰도 거절 (메모리에서 바로)
+        assertThat(rotate("jti-2", "family-1", "jti-4")).isEqualTo(Rotation.REVOKED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_token WHERE family_id = 'family-1' AND revoked_at IS NULL", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("교체 직후 유예 시간 안의 재요청은 폐기하지 않고 같은 후속 토큰을 돌려줌")
+    void retryWithinGraceReturnsSuccessor() {
+        store.issue("jti-1", "family-1", "PARTNER", 1L, expiresIn(7));
+        assertThat(store.rotate("jti-1", "family-1", "jti-2"))
+                .isEqualTo(new RefreshTokenStore.RotationResult(Rotation.ROTATED, "jti-2"));
+        store.issue("jti-2", "family-1", "PARTNER", 1L, expiresIn(7));
+
+        assertThat(store.rotate("jti-1", "family-1", "jti-3"))
+                .isEqualTo(new RefreshTokenStore.RotationResult(Rotation.GRACE, "jti-2"));
+        assertThat(store.isRevoked("family-1")).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_token WHERE jti = 'jti-3'", Long.class)).isZero();
+
+        // 후속 토큰은 그대로 교체 가능
+        assertThat(rotate("jti-2", "family-1", "jti-4")).isEqualTo(Rotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 family 만 폐기되고 다른 로그인은 영향 없음")
+    void logoutRevokesOnlyItsFamily() {
+        store.issue("jti-1", "family-1", "PARTNER", 1L, expiresIn(7));
+        store.issue("jti-2", "family-2", "PARTNER", 1L, expiresIn(7));
+
+        store.revokeFamily("family-1");
+
+        assertThat(store.isRevoked("family-1")).isTrue();
+        assertThat(store.isRevoked("family-2")).isFalse();
+        assertThat(rotate("jti-2", "family-2", "jti-3")).isEqualTo(Rotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기한 family 를 동기화로 반영")
+    void syncsRevocationsFromOtherServers() {
+        store.issue("jti-1", "family-1", "ADMIN", 1L, expiresIn(7));
+        RefreshTokenStore otherServer = new RefreshTokenStore(jdbcTemplate, properties);
+        otherServer.init();
+
+        otherServer.revokeFamily("family-1");
+        assertThat(store.isRevoked("family-1")).isFalse();
+
+        assertThat(store.syncRevoked()).isEqualTo(1);
+        assertThat(store.isRevoked("family-1")).isTrue();
+
+        // 재시작한 서버는 시작 시 적재
+        RefreshTokenStore restarted = new RefreshTokenStore(jdbcTemplate, properties);
+        restarted.init();
+        assertThat(restarted.isRevoked("family-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 행과 폐기 목록 항목을 정리")
+    void sweepsExpired() {
+        store.issue("jti-1", "family-1", "PARTNER", 1L, new Date(System.currentTimeMillis() + 200));
+        store.issue("jti-2", "family-2", "PARTNER", 1L, expiresIn(7));
+        store.revokeFamily("family-1");
+        assertThat(store.revokedCount()).isEqualTo(1);
+
+        await(300);
+        assertThat(store.sweepExpired()).isEqualTo(1);
+        assertThat(store.revokedCount()).isZero();
+        assertThat(store.isRevoked("family-1")).isFalse();
+        assertThat(jdbcTemplate.queryForList("SELECT jti FROM refresh_token", String.class)).containsExactly("jti-2");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 교체되지 않음")
+    void expiredTokenIsNotRotated() {
+        store.issue("jti-1", "family-1", "PARTNER", 1L, new Date(System.currentTimeMillis() - 1000));
+
+        assertThat(rotate("jti-1", "family-1", "jti-2")).isEqualTo(Rotation.REUSED);
+    }
+
+    private Rotation rotate(String jti, String familyId, String successorJti) {
+        return store.rotate(jti, familyId, successorJti).rotation();
+    }
+
+    private Date expiresIn(int days) {
+        return new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(days));
+    }
+
+    private void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.sinsaflower.server.global.service;
+
+import com.sinsaflower.server.domain.admin.repository.AdminRepository;
+import com.sinsaflower.server.domain.member.entity.Member;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.member.service.MemberService;
+import com.sinsaflower.server.global.config.LoginAttemptProperties;
+import com.sinsaflower.server.global.dto.LoginRequest;
+import com.sinsaflower.server.global.exception.LoginLockedException;
+import com.sinsaflower.server.global.jwt.JwtUtil;
+import com.sinsaflower.server.global.security.AccountStatusCache;
+import com.sinsaflower.server.global.security.LoginAttemptTracker;
+import com.sinsaflower.server.global.security.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 로그인 공격 모의: 여러 스레드가 틀린 비밀번호로 동시에 로그인할 때
+ * BCrypt 비교(로그인 CPU 비용의 대부분)와 회원 조회가 시도 수와 무관하게 허용 실패 수 근처에서 멈추는지 검증
+ */
+@DisplayName("AuthService 로그인 공격 모의 테스트")
+class AuthServiceLoginAttackTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 100;
+
+    private final AtomicInteger hashes = new AtomicInteger();
+    private MemberRepository memberRepository;
+    private LoginAttemptProperties properties;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(10);
+        String encoded = bcrypt.encode("correct-password");
+        PasswordEncoder countingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return bcrypt.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                hashes.incrementAndGet();
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+        };
+
+        memberRepository = mock(MemberRepository.class);
+        given(memberRepository.findByLoginId(anyString())).willAnswer(invocation -> Optional.of(Member.builder()
+                .id(1L)
+                .loginId(invocation.getArgument(0))
+                .password(encoded)
+                .status(Member.MemberStatus.ACTIVE)
+                .build()));
+
+        properties = new LoginAttemptProperties();
+        authService = new AuthService(mock(AdminRepository.class), memberRepository, mock(MemberService.class),
+                countingEncoder, mock(JwtUtil.class), mock(RefreshTokenStore.class), mock(AccountStatusCache.class),
+                new LoginAttemptTracker(properties));
+    }
+
+    @Test
+    @DisplayName("한 계정에 여러 IP 로 몰려도 BCrypt 비교는 로그인 ID 허용 실패 수 + 동시 요청 수 이내")
+    void singleAccountAttackIsBounded() throws Exception {
+        Result result = attack(thread -> "victim", thread -> "10.0.0." + thread);
+
+        assertThat(hashes.get()).isLessThanOrEqualTo(properties.getMaxFailuresPerLoginId() + THREADS);
+        assertThat(result.locked()).isGreaterThanOrEqualTo(THREADS * ATTEMPTS_PER_THREAD - properties.getMaxFailuresPerLoginId() - THREADS);
+        verify(memberRepository, atMost(properties.getMaxFailuresPerLoginId() + THREADS)).findByLoginId(anyString());
+    }
+
+    @Test
+    @DisplayName("한 IP 가 여러 계정을 돌려 시도해도 BCrypt 비교는 IP 허용 실패 수 + 동시 요청 수 이내")
+    void credentialStuffingFromOneIpIsBounded() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        attack(thread -> "user" + sequence.incrementAndGet(), thread -> "198.51.100.7");
+
+        assertThat(hashes.get()).isLessThanOrEqualTo(properties.getMaxFailuresPerIp() + THREADS);
+    }
+
+    private Result attack(KeySource loginIds, KeySource ips) throws Exception {
+        AtomicInteger locked = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        LoginRequest request = new LoginRequest();
+                        request.setLoginId(loginIds.next(thread));
+                        request.setPassword("wrong-password-" + i);
+                        try {
+                            authService.login(request, ips.next(thread));
+                        } catch (LoginLockedException e) {
+                            locked.incrementAndGet();
+                        } catch (IllegalArgumentException e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(locked.get() + failed.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD);
+        return new Result(locked.get(), failed.get());
+    }
+
+    private interface KeySource {
+        String next(int thread);
+    }
+
+    private record Result(int locked, int failed) {
+    }
+}
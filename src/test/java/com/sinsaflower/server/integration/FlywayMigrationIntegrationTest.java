@@ -0,0 +1,60 @@
+package com.sinsaflower.server.integration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션 검증
+ * 임베디드 DB(H2, PostgreSQL 호환 모드)에 마이그레이션을 적용한 뒤 Hibernate validate로 엔티티 매핑과 비교한다.
+ * 스키마와 엔티티가 어긋나면 컨텍스트 기동 단계에서 실패한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:flywaydb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    // 운영과 같은 방언으로 검증 (H2Dialect는 enum을 네이티브 enum 타입으로 매핑함)
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+    "region.import.on-startup=false"
+})
+@DisplayName("Flyway 마이그레이션 통합 테스트")
+class FlywayMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("모든 마이그레이션이 적용되고 대기 중인 마이그레이션이 없음")
+    void migrationsApplied() {
+        MigrationInfo[] applied = flyway.info().applied();
+        MigrationInfo[] pending = flyway.info().pending();
+
+        assertThat(applied).isNotEmpty();
+        assertThat(applied[0].getVersion().getVersion()).isEqualTo("1");
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기준 스키마의 주요 테이블이 생성됨")
+    void baselineTablesCreated() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_name IN " +
+                "('admin', 'member', 'member_business_profile', 'member_product_price', 'region', 'orders', 'order_option')",
+                Integer.class);
+
+        assertThat(count).isEqualTo(7);
+    }
+}
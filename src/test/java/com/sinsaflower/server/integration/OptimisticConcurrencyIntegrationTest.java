@@ -0,0 +1,177 @@
+package com.sinsaflower.server.integration;
+
+import com.sinsaflower.server.domain.member.dto.MemberResponse;
+import com.sinsaflower.server.domain.member.repository.MemberRepository;
+import com.sinsaflower.server.domain.member.service.MemberService;
+import com.sinsaflower.server.domain.order.dto.OrderStatusSnapshot;
+import com.sinsaflower.server.domain.order.entity.Order;
+import com.sinsaflower.server.domain.order.entity.Order.OrderStatus;
+import com.sinsaflower.server.domain.order.service.OrderService;
+import com.sinsaflower.server.domain.product.entity.MemberProductPrice;
+import com.sinsaflower.server.domain.product.repository.MemberProductPriceRepository;
+import com.sinsaflower.server.global.concurrency.OptimisticLockRetry;
+import com.sinsaflower.server.global.config.OptimisticLockProperties;
+import com.sinsaflower.server.global.exception.ConcurrentUpdateException;
+import com.sinsaflower.server.testutil.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 낙관적 락 동시성 검증
+ * 여러 스레드가 같은 주문/가격을 동시에 바꿀 때 조건부 UPDATE 는 정확히 한 요청만 통과시키고,
+ * 버전 충돌 재시도를 거친 읽기-수정-쓰기는 갱신을 잃지 않는지 확인한다.
+ * 스레드마다 별도 트랜잭션이 필요하므로 테스트 트랜잭션(@Transactional)을 쓰지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:concurrency;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("낙관적 락 동시성 통합 테스트")
+class OptimisticConcurrencyIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MemberProductPriceRepository memberProductPriceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        long timestamp = System.nanoTime();
+        MemberResponse member = memberService.signUp(TestDataFactory.createSignupRequest(
+                "lock_" + timestamp % 1_000_000_000L, "동시성화환", String.format("777-66-%05d", timestamp % 100000)));
+        memberId = member.getId();
+    }
+
+    @Test
+    @DisplayName("같은 주문을 expectedStatus=PENDING 으로 동시에 확인하면 한 요청만 성공하고 나머지는 현재 상태와 함께 충돌")
+    void conditionalTransitionAllowsExactlyOneWinner() throws Exception {
+        Long orderId = createOrder();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        List<Boolean> results = runConcurrently(() -> {
+            try {
+                orderService.updateOrderStatus(orderId, OrderStatus.PENDING, OrderStatus.CONFIRMED);
+                return true;
+            } catch (ConcurrentUpdateException e) {
+                assertThat(e.getCurrentState()).isInstanceOfSatisfying(OrderStatusSnapshot.class,
+                        snapshot -> assertThat(snapshot.orderStatus()).isEqualTo(OrderStatus.CONFIRMED));
+                conflicts.incrementAndGet();
+                return false;
+            }
+        });
+
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+        assertThat(conflicts).hasValue(THREADS - 1);
+
+        OrderStatusSnapshot snapshot = orderService.getStatusSnapshot(orderId);
+        assertThat(snapshot.orderStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(snapshot.version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 가격을 동시에 읽고 올려도 버전 충돌 재시도로 갱신이 하나도 사라지지 않음")
+    void retriedReadModifyWriteLosesNoUpdates() throws Exception {
+        Long priceId = transactionTemplate.execute(status -> memberProductPriceRepository.save(MemberProductPrice.builder()
+                .member(memberRepository.getReferenceById(memberId))
+                .sido("서울특별시")
+                .sigungu("강남구")
+                .categoryName("축하")
+                .price(new BigDecimal("50"))
+                .isAvailable(true)
+                .build()).getId());
+
+        OptimisticLockProperties properties = new OptimisticLockProperties();
+        properties.setMaxAttempts(100);
+        properties.setInitialBackoffMillis(1);
+        properties.setMaxBackoffMillis(20);
+        OptimisticLockRetry retry = new OptimisticLockRetry(properties);
+
+        runConcurrently(() -> retry.execute("가격 변경", () -> transactionTemplate.execute(status -> {
+            MemberProductPrice price = memberProductPriceRepository.findById(priceId).orElseThrow();
+            price.setPrice(price.getPrice().add(BigDecimal.ONE));
+            return price.getPrice();
+        }), null));
+
+        MemberProductPrice price = memberProductPriceRepository.findById(priceId).orElseThrow();
+        assertThat(price.getPrice()).isEqualByComparingTo(new BigDecimal(50 + THREADS));
+        assertThat(price.getVersion()).isEqualTo((long) THREADS);
+    }
+
+    private Long createOrder() {
+        return orderService.createOrder(memberId, Order.builder()
+                .shopName("동시성꽃집")
+                .phone("0212345678")
+                .productName("축하화환")
+                .quantity(1)
+                .price(new BigDecimal("50000"))
+                .payment(new BigDecimal("50000"))
+                .orderCustomerName("주문자")
+                .orderCustomerMobile("01012345678")
+                .receiverName("수령자")
+                .deliveryDate(LocalDate.now().plusDays(1))
+                .deliveryPlace("서울특별시 강남구")
+                .build()).getId();
+    }
+
+    // 모든 스레드를 동시에 출발시켜 작업 결과를 모음
+    private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}